@@ -4,13 +4,17 @@ import com.br.klaus.readium.annotations.application.command.AnnotationCommandSer
 import com.br.klaus.readium.annotations.application.query.AnnotationQueryService;
 import com.br.klaus.readium.annotations.api.dto.AnnotationRequestDTO;
 import com.br.klaus.readium.annotations.api.dto.AnnotationResponseDTO;
+import com.br.klaus.readium.annotations.api.dto.AnnotationSearchHitDTO;
 import com.br.klaus.readium.annotations.api.dto.UpdateAnnotationRequestDTO;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +26,7 @@ public class AnnotationController {
 
     private final AnnotationCommandService commandService;
     private final AnnotationQueryService queryService;
+    private final LibraryRevisionService revisions;
 
     @PostMapping("/annotations")
     public ResponseEntity<AnnotationResponseDTO> create(
@@ -34,16 +39,37 @@ public class AnnotationController {
     @GetMapping("/annotations")
     public ResponseEntity<List<AnnotationResponseDTO>> findAll(
             @RequestParam(defaultValue = "0") int resultPage,
-            @RequestParam(defaultValue = "200") int size) {
+            @RequestParam(defaultValue = "200") int size,
+            WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.ANNOTATIONS))) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.findAll(resultPage, size));
     }
 
+    @GetMapping("/annotations/search")
+    public ResponseEntity<List<AnnotationSearchHitDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long bookId,
+            @RequestParam(defaultValue = "0") int resultPage,
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.ANNOTATIONS))) {
+            return null;
+        }
+        return ResponseEntity.ok(queryService.search(query, bookId, resultPage, size));
+    }
+
     @GetMapping("/annotations/book/{bookId}/page/{page}")
     public ResponseEntity<List<AnnotationResponseDTO>> findByBookAndPage(
             @PathVariable Long bookId,
             @PathVariable int page,
             @RequestParam(defaultValue = "0") int resultPage,
-            @RequestParam(defaultValue = "200") int size) {
+            @RequestParam(defaultValue = "200") int size,
+            WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.ANNOTATIONS))) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.findByBookAndPage(bookId, page, resultPage, size));
     }
     
@@ -51,7 +77,11 @@ public class AnnotationController {
     public ResponseEntity<List<AnnotationResponseDTO>> findByBook(
             @PathVariable Long bookId,
             @RequestParam(defaultValue = "0") int resultPage,
-            @RequestParam(defaultValue = "200") int size) {
+            @RequestParam(defaultValue = "200") int size,
+            WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.ANNOTATIONS))) {
+            return null;
+        }
         List<AnnotationResponseDTO> response = queryService.findByBookId(bookId, resultPage, size);
         log.debug("Returning {} annotations for book {}", response.size(), bookId);
         return ResponseEntity.ok(response);
@@ -0,0 +1,21 @@
+package com.br.klaus.readium.annotations.api;
+
+import com.br.klaus.readium.annotations.api.dto.AnnotationSearchHitDTO;
+import com.br.klaus.readium.annotations.domain.model.AnnotationSearchHit;
+
+public final class AnnotationSearchHitMapper {
+
+    private AnnotationSearchHitMapper() {
+    }
+
+    public static AnnotationSearchHitDTO toResponse(AnnotationSearchHit hit) {
+        return new AnnotationSearchHitDTO(
+                hit.annotationId(),
+                hit.bookId(),
+                hit.page(),
+                hit.color(),
+                hit.selectedTextSnippet(),
+                hit.noteSnippet()
+        );
+    }
+}
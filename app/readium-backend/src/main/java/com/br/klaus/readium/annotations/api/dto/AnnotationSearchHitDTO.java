@@ -0,0 +1,11 @@
+package com.br.klaus.readium.annotations.api.dto;
+
+public record AnnotationSearchHitDTO(
+        Long annotationId,
+        Long bookId,
+        int page,
+        String color,
+        String selectedTextSnippet,
+        String noteSnippet
+) {
+}
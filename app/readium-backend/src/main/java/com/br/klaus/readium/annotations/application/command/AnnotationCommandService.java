@@ -7,11 +7,16 @@ import com.br.klaus.readium.annotations.api.dto.AnnotationRequestDTO;
 import com.br.klaus.readium.annotations.api.dto.AnnotationResponseDTO;
 import com.br.klaus.readium.annotations.api.dto.UpdateAnnotationRequestDTO;
 import com.br.klaus.readium.annotations.domain.port.AnnotationRepositoryPort;
+import com.br.klaus.readium.annotations.domain.port.AnnotationSearchIndexPort;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.book.events.BookDeletedEvent;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
 import com.br.klaus.readium.exception.AnnotationNotFoundException;
 import com.br.klaus.readium.exception.BookNotFoundException;
+import com.br.klaus.readium.persistence.SqliteWriteQueue;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
 import com.br.klaus.readium.sync.application.OperationIdempotencyService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
@@ -27,12 +32,18 @@ public class AnnotationCommandService {
     private static final String DELETE_OPERATION_SCOPE = "annotation-delete";
 
     private final AnnotationRepositoryPort repository;
+    private final AnnotationSearchIndexPort searchIndex;
     private final BookExistenceService bookExistenceService;
     private final OperationIdempotencyService operationIdempotencyService;
+    private final LibraryRevisionService revisions;
+    private final SqliteWriteQueue writeQueue;
 
-    @Transactional
     @EvictAnnotationCaches
     public AnnotationResponseDTO create(AnnotationRequestDTO req, String operationId) {
+        return writeQueue.execute(() -> createAnnotation(req, operationId));
+    }
+
+    private AnnotationResponseDTO createAnnotation(AnnotationRequestDTO req, String operationId) {
         OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
                 CREATE_OPERATION_SCOPE,
                 operationId
@@ -54,13 +65,18 @@ public class AnnotationCommandService {
                 req.note()
         );
         repository.save(annotation);
+        searchIndex.index(annotation);
+        revisions.bump(RevisionAggregate.ANNOTATIONS);
         operationIdempotencyService.attachResourceId(claim, annotation.getId());
         return AnnotationResponseMapper.toResponse(annotation);
     }
 
-    @Transactional
     @EvictAnnotationCaches
     public AnnotationResponseDTO update(Long id, UpdateAnnotationRequestDTO req, String operationId) {
+        return writeQueue.execute(() -> updateAnnotation(id, req, operationId));
+    }
+
+    private AnnotationResponseDTO updateAnnotation(Long id, UpdateAnnotationRequestDTO req, String operationId) {
         OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
                 UPDATE_OPERATION_SCOPE,
                 operationId
@@ -76,12 +92,17 @@ public class AnnotationCommandService {
 
         annotation.update(req.color(), req.note());
         repository.save(annotation);
+        searchIndex.index(annotation);
+        revisions.bump(RevisionAggregate.ANNOTATIONS);
         return AnnotationResponseMapper.toResponse(annotation);
     }
 
-    @Transactional
     @EvictAnnotationCaches
     public void delete(Long id, String operationId) {
+        writeQueue.run(() -> deleteAnnotation(id, operationId));
+    }
+
+    private void deleteAnnotation(Long id, String operationId) {
         OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
                 DELETE_OPERATION_SCOPE,
                 operationId
@@ -93,6 +114,8 @@ public class AnnotationCommandService {
         Annotation annotation = repository.findById(id)
                 .orElseThrow(() -> new AnnotationNotFoundException("Anotacao com ID " + id + " nao encontrada para delecao."));
         repository.delete(annotation);
+        searchIndex.remove(id);
+        revisions.bump(RevisionAggregate.ANNOTATIONS);
     }
 
     @EventListener
@@ -100,7 +123,24 @@ public class AnnotationCommandService {
     @EvictAnnotationCaches
     public void onBookDeleted(BookDeletedEvent event) {
         List<Annotation> annotations = repository.findByBookId(event.id());
+        if (annotations.isEmpty()) {
+            return;
+        }
         repository.deleteAll(annotations);
+        searchIndex.removeAll(annotations.stream().map(Annotation::getId).toList());
+        revisions.bump(RevisionAggregate.ANNOTATIONS);
+    }
+
+    @EventListener
+    @Transactional
+    @EvictAnnotationCaches
+    public void onBooksDeleted(BooksDeletedEvent event) {
+        List<Long> deletedIds = repository.deleteByBookIds(event.ids());
+        if (deletedIds.isEmpty()) {
+            return;
+        }
+        searchIndex.removeAll(deletedIds);
+        revisions.bump(RevisionAggregate.ANNOTATIONS);
     }
 
     private List<Rect> toRects(AnnotationRequestDTO req) {
@@ -1,11 +1,15 @@
 package com.br.klaus.readium.annotations.application.query;
 
 import com.br.klaus.readium.annotations.api.AnnotationResponseMapper;
+import com.br.klaus.readium.annotations.api.AnnotationSearchHitMapper;
 import com.br.klaus.readium.annotations.api.dto.AnnotationResponseDTO;
+import com.br.klaus.readium.annotations.api.dto.AnnotationSearchHitDTO;
 import com.br.klaus.readium.annotations.domain.port.AnnotationRepositoryPort;
+import com.br.klaus.readium.annotations.domain.port.AnnotationSearchIndexPort;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.config.CacheNames;
 import com.br.klaus.readium.exception.BookNotFoundException;
+import com.br.klaus.readium.persistence.FullTextQueryFormatter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
@@ -22,7 +26,10 @@ public class AnnotationQueryService {
     private static final int DEFAULT_PAGE_SIZE = 200;
     private static final int MAX_PAGE_SIZE = 500;
 
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 50;
+
     private final AnnotationRepositoryPort repository;
+    private final AnnotationSearchIndexPort searchIndex;
     private final BookExistenceService bookExistenceService;
 
     @Transactional(readOnly = true)
@@ -56,6 +63,20 @@ public class AnnotationQueryService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<AnnotationSearchHitDTO> search(String query, Long bookId, int resultPage, int size) {
+        String matchExpression = FullTextQueryFormatter.toPrefixMatchExpression(query)
+                .orElseThrow(() -> new IllegalArgumentException("Informe ao menos um termo para busca."));
+        if (bookId != null) {
+            requireBookExists(bookId);
+        }
+
+        Pageable pageable = buildPageRequest(resultPage, size <= 0 ? DEFAULT_SEARCH_PAGE_SIZE : size);
+        return searchIndex.search(matchExpression, bookId, pageable).stream()
+                .map(AnnotationSearchHitMapper::toResponse)
+                .toList();
+    }
+
     private void requireBookExists(Long bookId) {
         if (!bookExistenceService.existsById(bookId)) {
             throw new BookNotFoundException("Livro com ID " + bookId + " nao encontrado.");
@@ -0,0 +1,35 @@
+package com.br.klaus.readium.annotations.application.query;
+
+import com.br.klaus.readium.annotations.api.AnnotationResponseMapper;
+import com.br.klaus.readium.annotations.domain.model.Annotation;
+import com.br.klaus.readium.annotations.domain.port.AnnotationRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(40)
+@RequiredArgsConstructor
+public class AnnotationSnapshotContributor implements SyncSnapshotContributor {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final AnnotationRepositoryPort repository;
+
+    @Override
+    public void writeTo(SyncSnapshotWriter writer) {
+        long afterId = 0;
+        List<Annotation> batch;
+        do {
+            batch = repository.findAfterId(afterId, BATCH_SIZE);
+            for (Annotation annotation : batch) {
+                writer.write("ANNOTATION", AnnotationResponseMapper.toResponse(annotation));
+                afterId = annotation.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
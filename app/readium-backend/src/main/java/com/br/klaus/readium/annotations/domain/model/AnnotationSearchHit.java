@@ -0,0 +1,12 @@
+package com.br.klaus.readium.annotations.domain.model;
+
+public record AnnotationSearchHit(
+        Long annotationId,
+        Long bookId,
+        int page,
+        String color,
+        String selectedTextSnippet,
+        String noteSnippet,
+        double rank
+) {
+}
@@ -4,6 +4,7 @@ import com.br.klaus.readium.annotations.domain.model.Annotation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +25,11 @@ public interface AnnotationRepositoryPort {
     void delete(Annotation annotation);
 
     void deleteAll(List<Annotation> annotations);
+
+    /**
+     * Remove as anotacoes dos livros informados e devolve os ids removidos.
+     */
+    List<Long> deleteByBookIds(Collection<Long> bookIds);
+
+    List<Annotation> findAfterId(long afterId, int limit);
 }
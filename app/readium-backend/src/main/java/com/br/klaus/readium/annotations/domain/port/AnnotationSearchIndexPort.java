@@ -0,0 +1,19 @@
+package com.br.klaus.readium.annotations.domain.port;
+
+import com.br.klaus.readium.annotations.domain.model.Annotation;
+import com.br.klaus.readium.annotations.domain.model.AnnotationSearchHit;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AnnotationSearchIndexPort {
+
+    void index(Annotation annotation);
+
+    void remove(Long annotationId);
+
+    void removeAll(Collection<Long> annotationIds);
+
+    List<AnnotationSearchHit> search(String matchExpression, Long bookId, Pageable pageable);
+}
@@ -4,7 +4,11 @@ import com.br.klaus.readium.annotations.domain.model.Annotation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AnnotationJpaRepository extends JpaRepository<Annotation, Long> {
@@ -14,4 +18,13 @@ public interface AnnotationJpaRepository extends JpaRepository<Annotation, Long>
     List<Annotation> findByBookId(Long bookId);
 
     Page<Annotation> findByBookId(Long bookId, Pageable pageable);
+
+    List<Annotation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select annotation.id, annotation.bookId from Annotation annotation where annotation.bookId in :bookIds")
+    List<Object[]> findIdPairsByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Annotation annotation where annotation.bookId in :bookIds")
+    int deleteByBookIds(@Param("bookIds") Collection<Long> bookIds);
 }
@@ -2,12 +2,19 @@ package com.br.klaus.readium.annotations.infrastructure.persistence;
 
 import com.br.klaus.readium.annotations.domain.model.Annotation;
 import com.br.klaus.readium.annotations.domain.port.AnnotationRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -15,6 +22,7 @@ import java.util.Optional;
 public class JpaAnnotationRepositoryAdapter implements AnnotationRepositoryPort {
 
     private final AnnotationJpaRepository repository;
+    private final SyncChangeLogService changeLog;
 
     @Override
     public Page<Annotation> findAll(Pageable pageable) {
@@ -43,16 +51,44 @@ public class JpaAnnotationRepositoryAdapter implements AnnotationRepositoryPort
 
     @Override
     public Annotation save(Annotation annotation) {
-        return repository.save(annotation);
+        Annotation saved = repository.save(annotation);
+        changeLog.recordUpsert(SyncEntityType.ANNOTATION, saved.getId(), saved.getBookId());
+        return saved;
     }
 
     @Override
     public void delete(Annotation annotation) {
         repository.delete(annotation);
+        changeLog.recordDelete(SyncEntityType.ANNOTATION, annotation.getId(), annotation.getBookId());
     }
 
     @Override
     public void deleteAll(List<Annotation> annotations) {
         repository.deleteAll(annotations);
+        annotations.forEach(annotation ->
+                changeLog.recordDelete(SyncEntityType.ANNOTATION, annotation.getId(), annotation.getBookId()));
+    }
+
+    @Override
+    public List<Long> deleteByBookIds(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Long>> idsByBook = new LinkedHashMap<>();
+        for (Object[] row : repository.findIdPairsByBookIds(bookIds)) {
+            idsByBook.computeIfAbsent(((Number) row[1]).longValue(), ignored -> new ArrayList<>())
+                    .add(((Number) row[0]).longValue());
+        }
+        if (idsByBook.isEmpty()) {
+            return List.of();
+        }
+        repository.deleteByBookIds(bookIds);
+        idsByBook.forEach((bookId, ids) -> changeLog.recordDeletes(SyncEntityType.ANNOTATION, ids, bookId));
+        return idsByBook.values().stream().flatMap(List::stream).toList();
+    }
+
+    @Override
+    public List<Annotation> findAfterId(long afterId, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, Math.max(limit, 1)));
     }
 }
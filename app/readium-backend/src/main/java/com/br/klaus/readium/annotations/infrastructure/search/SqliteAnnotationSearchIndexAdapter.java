@@ -0,0 +1,112 @@
+package com.br.klaus.readium.annotations.infrastructure.search;
+
+import com.br.klaus.readium.annotations.domain.model.Annotation;
+import com.br.klaus.readium.annotations.domain.model.AnnotationSearchHit;
+import com.br.klaus.readium.annotations.domain.port.AnnotationSearchIndexPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SqliteAnnotationSearchIndexAdapter implements AnnotationSearchIndexPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void index(Annotation annotation) {
+        if (annotation.getId() == null) {
+            return;
+        }
+
+        remove(annotation.getId());
+        String selectedText = Objects.requireNonNullElse(annotation.getSelectedText(), "");
+        String note = Objects.requireNonNullElse(annotation.getNote(), "");
+        if (selectedText.isBlank() && note.isBlank()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO annotation_fts (rowid, selected_text, note) VALUES (?, ?, ?)",
+                annotation.getId(),
+                selectedText,
+                note
+        );
+    }
+
+    @Override
+    public void remove(Long annotationId) {
+        jdbcTemplate.update("DELETE FROM annotation_fts WHERE rowid = ?", annotationId);
+    }
+
+    @Override
+    public void removeAll(Collection<Long> annotationIds) {
+        if (annotationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM annotation_fts WHERE rowid = ?",
+                annotationIds.stream().map(id -> new Object[]{id}).toList()
+        );
+    }
+
+    @Override
+    public List<AnnotationSearchHit> search(String matchExpression, Long bookId, Pageable pageable) {
+        return jdbcTemplate.query("""
+                SELECT a.id AS annotation_id,
+                       a.book_id AS book_id,
+                       a.page AS page,
+                       a.color AS color,
+                       snippet(annotation_fts, 0, '[[', ']]', '...', 16) AS selected_text_snippet,
+                       snippet(annotation_fts, 1, '[[', ']]', '...', 16) AS note_snippet,
+                       bm25(annotation_fts) AS rank
+                FROM annotation_fts f
+                JOIN annotation a ON a.id = f.rowid
+                WHERE annotation_fts MATCH ? AND (? IS NULL OR a.book_id = ?)
+                ORDER BY rank, a.id
+                LIMIT ? OFFSET ?
+                """,
+                (rs, rowNum) -> new AnnotationSearchHit(
+                        rs.getLong("annotation_id"),
+                        rs.getLong("book_id"),
+                        rs.getInt("page"),
+                        rs.getString("color"),
+                        rs.getString("selected_text_snippet"),
+                        rs.getString("note_snippet"),
+                        rs.getDouble("rank")
+                ),
+                matchExpression,
+                bookId,
+                bookId,
+                pageable.getPageSize(),
+                pageable.getOffset()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        int removed = jdbcTemplate.update(
+                "DELETE FROM annotation_fts WHERE rowid NOT IN (SELECT id FROM annotation)"
+        );
+        int added = jdbcTemplate.update("""
+                INSERT INTO annotation_fts (rowid, selected_text, note)
+                SELECT a.id, COALESCE(a.selected_text, ''), COALESCE(a.note, '')
+                FROM annotation a
+                WHERE (COALESCE(a.selected_text, '') <> '' OR COALESCE(a.note, '') <> '')
+                  AND a.id NOT IN (SELECT rowid FROM annotation_fts)
+                """);
+        if (added > 0 || removed > 0) {
+            log.info("Indice de busca em anotacoes reconciliado ({} alteracao(oes) de insercao, {} de remocao).", added, removed);
+        }
+    }
+}
@@ -4,6 +4,7 @@
                 "book::api",
                 "book::events",
                 "exception",
+                "persistence",
                 "sync::api"
         }
 )
@@ -0,0 +1,45 @@
+package com.br.klaus.readium.autocomplete.api;
+
+import com.br.klaus.readium.autocomplete.api.dto.AutocompleteSuggestionDTO;
+import com.br.klaus.readium.autocomplete.application.AutocompleteService;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@ConditionalOnWebApplication
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping
+    public ResponseEntity<List<AutocompleteSuggestionDTO>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "8") int limit,
+            @RequestParam(value = "types", required = false) List<SuggestionType> types
+    ) {
+        Set<SuggestionType> allowedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SuggestionType.class)
+                : EnumSet.copyOf(types);
+        int effectiveLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<AutocompleteSuggestionDTO> suggestions = autocompleteService.suggest(query, effectiveLimit, allowedTypes)
+                .stream()
+                .map(AutocompleteSuggestionMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.klaus.readium.autocomplete.api;
+
+import com.br.klaus.readium.autocomplete.api.dto.AutocompleteSuggestionDTO;
+import com.br.klaus.readium.autocomplete.domain.model.Suggestion;
+
+public final class AutocompleteSuggestionMapper {
+
+    private AutocompleteSuggestionMapper() {
+    }
+
+    public static AutocompleteSuggestionDTO toResponse(Suggestion suggestion) {
+        return new AutocompleteSuggestionDTO(suggestion.type().name(), suggestion.id(), suggestion.label());
+    }
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.autocomplete.api.dto;
+
+public record AutocompleteSuggestionDTO(String type, Long id, String label) {
+}
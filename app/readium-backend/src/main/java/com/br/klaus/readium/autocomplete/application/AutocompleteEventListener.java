@@ -0,0 +1,66 @@
+package com.br.klaus.readium.autocomplete.application;
+
+import com.br.klaus.readium.book.events.BookCreatedEvent;
+import com.br.klaus.readium.book.events.BookDeletedEvent;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import com.br.klaus.readium.book.events.BookMetadataUpdatedEvent;
+import com.br.klaus.readium.book.events.BookProgressUpdatedEvent;
+import com.br.klaus.readium.category.events.CategoryCatalogChangedEvent;
+import com.br.klaus.readium.collection.events.ReadingCollectionCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@ConditionalOnWebApplication
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteEventListener {
+
+    private final AutocompleteService autocompleteService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        autocompleteService.rebuildAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookCreated(BookCreatedEvent event) {
+        autocompleteService.refreshBook(event.id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookMetadataUpdated(BookMetadataUpdatedEvent event) {
+        autocompleteService.refreshBook(event.bookId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        autocompleteService.removeBook(event.id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBooksDeleted(BooksDeletedEvent event) {
+        event.ids().forEach(autocompleteService::removeBook);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookProgressUpdated(BookProgressUpdatedEvent event) {
+        autocompleteService.recordBookActivity(event.bookId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryCatalogChanged(CategoryCatalogChangedEvent event) {
+        autocompleteService.refreshCategories(event.categoryIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReadingCollectionCatalogChanged(ReadingCollectionCatalogChangedEvent event) {
+        autocompleteService.refreshCollections(event.collectionIds());
+    }
+}
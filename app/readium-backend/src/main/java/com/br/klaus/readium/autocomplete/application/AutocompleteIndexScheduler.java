@@ -0,0 +1,32 @@
+package com.br.klaus.readium.autocomplete.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnWebApplication
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteIndexScheduler {
+
+    private final AutocompleteService autocompleteService;
+
+    @Scheduled(fixedDelayString = "${app.autocomplete.compaction-delay-ms:30000}")
+    public void compactPendingChanges() {
+        int merged = autocompleteService.compact();
+        if (merged > 0) {
+            log.debug("Autocomplete consolidou {} alteracao(oes) pendente(s).", merged);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.autocomplete.full-refresh-ms:1800000}",
+            fixedDelayString = "${app.autocomplete.full-refresh-ms:1800000}"
+    )
+    public void refreshFromSources() {
+        autocompleteService.rebuildAll();
+    }
+}
@@ -0,0 +1,390 @@
+package com.br.klaus.readium.autocomplete.application;
+
+import com.br.klaus.readium.autocomplete.domain.model.Suggestion;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionKey;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionType;
+import com.br.klaus.readium.autocomplete.domain.service.PrefixSuggestionIndex;
+import com.br.klaus.readium.autocomplete.domain.service.SuggestionNormalizer;
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.book.api.BookInsightsDataService;
+import com.br.klaus.readium.category.api.CategoryCatalogEntry;
+import com.br.klaus.readium.category.api.CategoryCatalogService;
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogEntry;
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Autocomplete em memoria. Leituras usam uma {@link View} imutavel (um indice de prefixos por tipo mais as
+ * alteracoes ainda nao consolidadas) trocada atomicamente; alteracoes incrementais passam pelo catalogo
+ * sob {@code mutationLock}. A recarga completa monta catalogo e indice novos fora do lock e, na troca,
+ * reaplica o que mudou durante a carga para nao sobrescrever atualizacoes mais recentes.
+ */
+@Service
+@ConditionalOnWebApplication
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteService {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingDouble(Suggestion::popularity).reversed()
+            .thenComparing(Suggestion::label, String.CASE_INSENSITIVE_ORDER);
+
+    private final BookInsightsDataService bookData;
+    private final CategoryCatalogService categoryCatalog;
+    private final ReadingCollectionCatalogService collectionCatalog;
+
+    private final Object mutationLock = new Object();
+    private final Object rebuildLock = new Object();
+    private final Map<Long, Integer> bookActivity = new ConcurrentHashMap<>();
+
+    private volatile View view = View.build(List.of());
+    private Catalog catalog = new Catalog(view);
+    private Set<SuggestionKey> changedDuringRebuild;
+
+    public List<Suggestion> suggest(String query, int limit, Set<SuggestionType> types) {
+        String prefix = SuggestionNormalizer.normalize(query);
+        if (prefix.isEmpty() || limit <= 0 || types.isEmpty()) {
+            return List.of();
+        }
+
+        View current = view;
+        Map<SuggestionKey, Suggestion> merged = new LinkedHashMap<>();
+        for (SuggestionType type : types) {
+            for (Suggestion suggestion : current.index(type).search(prefix, limit, current.pending()::containsKey)) {
+                merged.putIfAbsent(suggestion.key(), suggestion);
+            }
+        }
+        for (Suggestion suggestion : current.pending().values()) {
+            if (types.contains(suggestion.type()) && matchesPrefix(suggestion.label(), prefix)) {
+                merged.put(suggestion.key(), suggestion);
+            }
+        }
+
+        return merged.values().stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .toList();
+    }
+
+    public void rebuildAll() {
+        synchronized (rebuildLock) {
+            synchronized (mutationLock) {
+                changedDuringRebuild = new HashSet<>();
+            }
+            try {
+                List<BookInsightSnapshot> bookSnapshots = bookData.findAllSnapshots();
+                List<CategoryCatalogEntry> categories = categoryCatalog.findAllEntries();
+                List<ReadingCollectionCatalogEntry> collections = collectionCatalog.findAllEntries();
+
+                Catalog rebuilt = new Catalog(null);
+                bookSnapshots.forEach(rebuilt::applyBook);
+                categories.forEach(rebuilt::applyCategory);
+                collections.forEach(rebuilt::applyCollection);
+                View rebuiltView = View.build(rebuilt.entries.values());
+
+                int replayed;
+                synchronized (mutationLock) {
+                    rebuilt.attach(rebuiltView);
+                    replayed = changedDuringRebuild.size();
+                    changedDuringRebuild.forEach(key -> rebuilt.copyFrom(catalog, key));
+                    catalog = rebuilt;
+                    view = rebuiltView;
+                }
+                log.info(
+                        "Indice de autocomplete reconstruido: {} livro(s), {} autor(es), {} categoria(s), {} colecao(oes); "
+                                + "{} alteracao(oes) concorrente(s) reaplicada(s).",
+                        bookSnapshots.size(),
+                        rebuilt.authors.size(),
+                        categories.size(),
+                        collections.size(),
+                        replayed
+                );
+            } finally {
+                synchronized (mutationLock) {
+                    changedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public void refreshBook(Long bookId) {
+        Optional<BookInsightSnapshot> snapshotOfBook = bookData.findSnapshot(bookId);
+        synchronized (mutationLock) {
+            markChanged(SuggestionKey.of(SuggestionType.BOOK, bookId));
+            snapshotOfBook.ifPresentOrElse(catalog::applyBook, () -> catalog.removeBook(bookId));
+        }
+    }
+
+    public void removeBook(Long bookId) {
+        synchronized (mutationLock) {
+            markChanged(SuggestionKey.of(SuggestionType.BOOK, bookId));
+            bookActivity.remove(bookId);
+            catalog.removeBook(bookId);
+        }
+    }
+
+    public void recordBookActivity(Long bookId) {
+        bookActivity.merge(bookId, 1, Integer::sum);
+        synchronized (mutationLock) {
+            markChanged(SuggestionKey.of(SuggestionType.BOOK, bookId));
+            catalog.refreshBookPopularity(bookId);
+        }
+    }
+
+    public void refreshCategories(Collection<Long> categoryIds) {
+        List<CategoryCatalogEntry> found = categoryCatalog.findEntries(categoryIds);
+        synchronized (mutationLock) {
+            categoryIds.forEach(id -> {
+                SuggestionKey key = SuggestionKey.of(SuggestionType.CATEGORY, id);
+                markChanged(key);
+                catalog.removeEntry(key);
+            });
+            found.forEach(catalog::applyCategory);
+        }
+    }
+
+    public void refreshCollections(Collection<Long> collectionIds) {
+        List<ReadingCollectionCatalogEntry> found = collectionCatalog.findEntries(collectionIds);
+        synchronized (mutationLock) {
+            collectionIds.forEach(id -> {
+                SuggestionKey key = SuggestionKey.of(SuggestionType.COLLECTION, id);
+                markChanged(key);
+                catalog.removeEntry(key);
+            });
+            found.forEach(catalog::applyCollection);
+        }
+    }
+
+    public int compact() {
+        if (view.pending().isEmpty()) {
+            return 0;
+        }
+        synchronized (mutationLock) {
+            int merged = view.pending().size();
+            View compacted = View.build(catalog.entries.values());
+            catalog.attach(compacted);
+            view = compacted;
+            return merged;
+        }
+    }
+
+    private void markChanged(SuggestionKey key) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(key);
+        }
+    }
+
+    private static double basePopularity(BookInsightSnapshot book) {
+        double status = switch (book.status() == null ? "" : book.status()) {
+            case "READING" -> 3;
+            case "READ" -> 1;
+            default -> 0;
+        };
+        boolean started = book.lastReadPage() != null && book.lastReadPage() > 1;
+        return status + (started ? 1 : 0);
+    }
+
+    private static boolean sameAuthor(String left, String right) {
+        return SuggestionNormalizer.normalize(left).equals(SuggestionNormalizer.normalize(right));
+    }
+
+    private static boolean matchesPrefix(String label, String prefix) {
+        String normalized = SuggestionNormalizer.normalize(label);
+        return normalized.startsWith(prefix) || normalized.contains(" " + prefix);
+    }
+
+    /**
+     * Entradas de origem do autocomplete. Quando ligado a uma {@link View}, cada alteracao e publicada
+     * nela: so popularidade muda no indice, rotulos novos vao para {@code pending} ate a consolidacao.
+     */
+    private final class Catalog {
+
+        private final Map<SuggestionKey, Suggestion> entries = new HashMap<>();
+        private final Map<Long, BookEntry> books = new HashMap<>();
+        private final Map<String, AuthorEntry> authors = new HashMap<>();
+        private View published;
+
+        private Catalog(View published) {
+            this.published = published;
+        }
+
+        private void attach(View view) {
+            this.published = view;
+        }
+
+        private void copyFrom(Catalog source, SuggestionKey key) {
+            if (key.type() == SuggestionType.BOOK) {
+                Long bookId = Long.valueOf(key.ref());
+                BookEntry entry = source.books.get(bookId);
+                if (entry == null) {
+                    removeBook(bookId);
+                } else {
+                    applyBook(bookId, entry);
+                }
+                return;
+            }
+            Suggestion current = source.entries.get(key);
+            if (current == null) {
+                removeEntry(key);
+            } else {
+                upsertEntry(current);
+            }
+        }
+
+        private void applyBook(BookInsightSnapshot book) {
+            applyBook(book.id(), new BookEntry(book.title(), book.author(), basePopularity(book)));
+        }
+
+        private void applyBook(Long bookId, BookEntry entry) {
+            BookEntry previous = books.put(bookId, entry);
+            if (previous != null && !sameAuthor(previous.author(), entry.author())) {
+                detachAuthor(bookId, previous);
+            }
+            applyBookEntry(bookId, entry);
+        }
+
+        private void removeBook(Long bookId) {
+            BookEntry previous = books.remove(bookId);
+            removeEntry(SuggestionKey.of(SuggestionType.BOOK, bookId));
+            if (previous != null) {
+                detachAuthor(bookId, previous);
+            }
+        }
+
+        private void refreshBookPopularity(Long bookId) {
+            BookEntry current = books.get(bookId);
+            if (current != null) {
+                applyBookEntry(bookId, current);
+            }
+        }
+
+        private void applyBookEntry(Long bookId, BookEntry entry) {
+            double popularity = entry.basePopularity() + bookActivity.getOrDefault(bookId, 0);
+            if (StringUtils.hasText(entry.title())) {
+                upsertEntry(new Suggestion(SuggestionKey.of(SuggestionType.BOOK, bookId), bookId, entry.title(), popularity));
+            } else {
+                removeEntry(SuggestionKey.of(SuggestionType.BOOK, bookId));
+            }
+
+            String authorKey = SuggestionNormalizer.normalize(entry.author());
+            if (authorKey.isEmpty()) {
+                return;
+            }
+            AuthorEntry author = authors.computeIfAbsent(authorKey, ignored -> new AuthorEntry(entry.author().trim()));
+            author.bookPopularity().put(bookId, 1 + popularity);
+            upsertAuthor(authorKey, author);
+        }
+
+        private void detachAuthor(Long bookId, BookEntry previous) {
+            String authorKey = SuggestionNormalizer.normalize(previous.author());
+            AuthorEntry author = authors.get(authorKey);
+            if (author == null) {
+                return;
+            }
+            author.bookPopularity().remove(bookId);
+            if (author.bookPopularity().isEmpty()) {
+                authors.remove(authorKey);
+                removeEntry(new SuggestionKey(SuggestionType.AUTHOR, authorKey));
+                return;
+            }
+            upsertAuthor(authorKey, author);
+        }
+
+        private void upsertAuthor(String authorKey, AuthorEntry author) {
+            double popularity = author.bookPopularity().values().stream().mapToDouble(Double::doubleValue).sum();
+            upsertEntry(new Suggestion(new SuggestionKey(SuggestionType.AUTHOR, authorKey), null, author.label(), popularity));
+        }
+
+        private void applyCategory(CategoryCatalogEntry category) {
+            upsertEntry(new Suggestion(
+                    SuggestionKey.of(SuggestionType.CATEGORY, category.id()),
+                    category.id(),
+                    category.name(),
+                    category.bookCount()
+            ));
+        }
+
+        private void applyCollection(ReadingCollectionCatalogEntry collection) {
+            upsertEntry(new Suggestion(
+                    SuggestionKey.of(SuggestionType.COLLECTION, collection.id()),
+                    collection.id(),
+                    collection.name(),
+                    collection.bookCount()
+            ));
+        }
+
+        private void upsertEntry(Suggestion suggestion) {
+            Suggestion previous = entries.put(suggestion.key(), suggestion);
+            if (published == null) {
+                return;
+            }
+            boolean sameLabel = previous != null && previous.label().equals(suggestion.label());
+            if (sameLabel && !published.pending().containsKey(suggestion.key())
+                    && published.updatePopularity(suggestion.key(), suggestion.popularity())) {
+                return;
+            }
+            published.remove(suggestion.key());
+            published.pending().put(suggestion.key(), suggestion);
+        }
+
+        private void removeEntry(SuggestionKey key) {
+            entries.remove(key);
+            if (published != null) {
+                published.pending().remove(key);
+                published.remove(key);
+            }
+        }
+    }
+
+    private record View(Map<SuggestionType, PrefixSuggestionIndex> indexes, Map<SuggestionKey, Suggestion> pending) {
+
+        private static View build(Collection<Suggestion> suggestions) {
+            Map<SuggestionType, List<Suggestion>> byType = suggestions.stream()
+                    .collect(Collectors.groupingBy(Suggestion::type, () -> new EnumMap<>(SuggestionType.class), Collectors.toList()));
+            Map<SuggestionType, PrefixSuggestionIndex> indexes = new EnumMap<>(SuggestionType.class);
+            for (SuggestionType type : SuggestionType.values()) {
+                indexes.put(type, PrefixSuggestionIndex.build(byType.getOrDefault(type, List.of())));
+            }
+            return new View(indexes, new ConcurrentHashMap<>());
+        }
+
+        private PrefixSuggestionIndex index(SuggestionType type) {
+            return indexes.get(type);
+        }
+
+        private boolean updatePopularity(SuggestionKey key, double popularity) {
+            return index(key.type()).updatePopularity(key, popularity);
+        }
+
+        private void remove(SuggestionKey key) {
+            index(key.type()).remove(key);
+        }
+    }
+
+    private record BookEntry(String title, String author, double basePopularity) {
+    }
+
+    private record AuthorEntry(String label, Map<Long, Double> bookPopularity) {
+
+        private AuthorEntry(String label) {
+            this(label, new HashMap<>());
+        }
+    }
+}
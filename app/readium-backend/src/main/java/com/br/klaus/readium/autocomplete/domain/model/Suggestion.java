@@ -0,0 +1,12 @@
+package com.br.klaus.readium.autocomplete.domain.model;
+
+public record Suggestion(SuggestionKey key, Long id, String label, double popularity) {
+
+    public SuggestionType type() {
+        return key.type();
+    }
+
+    public Suggestion withPopularity(double value) {
+        return new Suggestion(key, id, label, value);
+    }
+}
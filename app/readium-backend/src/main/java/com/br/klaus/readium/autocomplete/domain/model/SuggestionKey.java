@@ -0,0 +1,8 @@
+package com.br.klaus.readium.autocomplete.domain.model;
+
+public record SuggestionKey(SuggestionType type, String ref) {
+
+    public static SuggestionKey of(SuggestionType type, Long id) {
+        return new SuggestionKey(type, String.valueOf(id));
+    }
+}
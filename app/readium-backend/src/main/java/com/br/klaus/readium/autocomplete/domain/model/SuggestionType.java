@@ -0,0 +1,8 @@
+package com.br.klaus.readium.autocomplete.domain.model;
+
+public enum SuggestionType {
+    BOOK,
+    AUTHOR,
+    CATEGORY,
+    COLLECTION
+}
@@ -0,0 +1,295 @@
+package com.br.klaus.readium.autocomplete.domain.service;
+
+import com.br.klaus.readium.autocomplete.domain.model.Suggestion;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Indice imutavel de prefixos: cada palavra de cada rotulo vira uma chave (sufixo do rotulo normalizado
+ * a partir daquela palavra) em arrays primitivos ordenados. Um prefixo resolve para um intervalo continuo
+ * de chaves e uma arvore de segmentos sobre a popularidade devolve o top-K do intervalo sem varre-lo.
+ * Apenas popularidade e remocao sao mutaveis; rotulos novos exigem reconstruir o indice.
+ */
+public final class PrefixSuggestionIndex {
+
+    private static final int MAX_WORDS_PER_ENTRY = 16;
+    private static final int NO_KEY = -1;
+
+    private final Suggestion[] entries;
+    private final String[] normalizedLabels;
+    private final float[] popularity;
+    private final int[] keyEntry;
+    private final int[] keyOffset;
+    private final int[][] entryKeys;
+    private final int[] tree;
+    private final int leafBase;
+    private final Map<SuggestionKey, Integer> slots;
+
+    private PrefixSuggestionIndex(
+            Suggestion[] entries,
+            String[] normalizedLabels,
+            int[] keyEntry,
+            int[] keyOffset,
+            int[][] entryKeys,
+            Map<SuggestionKey, Integer> slots
+    ) {
+        this.entries = entries;
+        this.normalizedLabels = normalizedLabels;
+        this.keyEntry = keyEntry;
+        this.keyOffset = keyOffset;
+        this.entryKeys = entryKeys;
+        this.slots = slots;
+        this.popularity = new float[entries.length];
+        for (int index = 0; index < entries.length; index++) {
+            popularity[index] = (float) entries[index].popularity();
+        }
+
+        int base = 1;
+        while (base < Math.max(keyEntry.length, 1)) {
+            base <<= 1;
+        }
+        this.leafBase = base;
+        this.tree = new int[base * 2];
+        Arrays.fill(tree, NO_KEY);
+        for (int key = 0; key < keyEntry.length; key++) {
+            tree[base + key] = key;
+        }
+        for (int node = base - 1; node > 0; node--) {
+            tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+        }
+    }
+
+    public static PrefixSuggestionIndex empty() {
+        return build(List.of());
+    }
+
+    public static PrefixSuggestionIndex build(Collection<Suggestion> suggestions) {
+        Suggestion[] entries = suggestions.toArray(Suggestion[]::new);
+        String[] normalizedLabels = new String[entries.length];
+        Map<SuggestionKey, Integer> slots = new HashMap<>(entries.length * 2);
+
+        List<int[]> keys = new ArrayList<>();
+        for (int entry = 0; entry < entries.length; entry++) {
+            String normalized = SuggestionNormalizer.normalize(entries[entry].label());
+            normalizedLabels[entry] = normalized;
+            slots.put(entries[entry].key(), entry);
+
+            int words = 0;
+            for (int offset = 0; offset < normalized.length() && words < MAX_WORDS_PER_ENTRY; offset++) {
+                if (offset == 0 || normalized.charAt(offset - 1) == ' ') {
+                    keys.add(new int[]{entry, offset});
+                    words++;
+                }
+            }
+        }
+
+        int[][] sortedKeys = keys.toArray(int[][]::new);
+        Arrays.parallelSort(sortedKeys, (left, right) -> compareSuffixes(normalizedLabels, left, right));
+
+        int[] keyEntry = new int[sortedKeys.length];
+        int[] keyOffset = new int[sortedKeys.length];
+        int[] keysPerEntry = new int[entries.length];
+        for (int key = 0; key < sortedKeys.length; key++) {
+            keyEntry[key] = sortedKeys[key][0];
+            keyOffset[key] = sortedKeys[key][1];
+            keysPerEntry[keyEntry[key]]++;
+        }
+
+        int[][] entryKeys = new int[entries.length][];
+        for (int entry = 0; entry < entries.length; entry++) {
+            entryKeys[entry] = new int[keysPerEntry[entry]];
+            keysPerEntry[entry] = 0;
+        }
+        for (int key = 0; key < keyEntry.length; key++) {
+            int entry = keyEntry[key];
+            entryKeys[entry][keysPerEntry[entry]++] = key;
+        }
+
+        return new PrefixSuggestionIndex(entries, normalizedLabels, keyEntry, keyOffset, entryKeys, slots);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public boolean contains(SuggestionKey key) {
+        Integer slot = slots.get(key);
+        return slot != null && !Float.isInfinite(popularity[slot]);
+    }
+
+    public synchronized boolean updatePopularity(SuggestionKey key, double value) {
+        Integer slot = slots.get(key);
+        if (slot == null || Float.isInfinite(popularity[slot])) {
+            return false;
+        }
+        setPopularity(slot, (float) value);
+        return true;
+    }
+
+    public synchronized void remove(SuggestionKey key) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            setPopularity(slot, Float.NEGATIVE_INFINITY);
+        }
+    }
+
+    public List<Suggestion> search(String normalizedPrefix, int limit, Predicate<SuggestionKey> excluded) {
+        if (normalizedPrefix == null || normalizedPrefix.isEmpty() || limit <= 0 || keyEntry.length == 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(normalizedPrefix);
+        int to = upperBound(normalizedPrefix, from);
+        if (from >= to) {
+            return List.of();
+        }
+
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((left, right) -> compareKeys(right[2], left[2]));
+        ranges.add(new int[]{from, to, rangeBest(from, to)});
+
+        List<Suggestion> results = new ArrayList<>(limit);
+        Set<Integer> seenEntries = new HashSet<>();
+        int budget = limit * 32;
+        while (!ranges.isEmpty() && results.size() < limit && budget-- > 0) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (best == NO_KEY) {
+                continue;
+            }
+
+            int entry = keyEntry[best];
+            float score = popularity[entry];
+            if (Float.isInfinite(score)) {
+                break;
+            }
+            if (seenEntries.add(entry) && !excluded.test(entries[entry].key())) {
+                results.add(entries[entry].withPopularity(score));
+            }
+
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, rangeBest(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], rangeBest(best + 1, range[1])});
+            }
+        }
+        return results;
+    }
+
+    private void setPopularity(int entry, float value) {
+        popularity[entry] = value;
+        for (int key : entryKeys[entry]) {
+            int node = (leafBase + key) >> 1;
+            while (node > 0) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+                node >>= 1;
+            }
+        }
+    }
+
+    private int rangeBest(int from, int to) {
+        int best = NO_KEY;
+        int left = from + leafBase;
+        int right = to + leafBase;
+        while (left < right) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+            left >>= 1;
+            right >>= 1;
+        }
+        return best;
+    }
+
+    private int better(int left, int right) {
+        return compareKeys(left, right) >= 0 ? left : right;
+    }
+
+    private int compareKeys(int left, int right) {
+        if (left == right) {
+            return 0;
+        }
+        if (left == NO_KEY) {
+            return -1;
+        }
+        if (right == NO_KEY) {
+            return 1;
+        }
+        int byPopularity = Float.compare(popularity[keyEntry[left]], popularity[keyEntry[right]]);
+        if (byPopularity != 0) {
+            return byPopularity;
+        }
+        return Integer.compare(right, left);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keyEntry.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKeyToPrefix(middle, prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = keyEntry.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKeyToPrefix(middle, prefix) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareKeyToPrefix(int key, String prefix) {
+        String label = normalizedLabels[keyEntry[key]];
+        int offset = keyOffset[key];
+        for (int index = 0; index < prefix.length(); index++) {
+            if (offset + index >= label.length()) {
+                return -1;
+            }
+            int difference = label.charAt(offset + index) - prefix.charAt(index);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private static int compareSuffixes(String[] labels, int[] left, int[] right) {
+        String leftLabel = labels[left[0]];
+        String rightLabel = labels[right[0]];
+        int leftOffset = left[1];
+        int rightOffset = right[1];
+        int length = Math.min(leftLabel.length() - leftOffset, rightLabel.length() - rightOffset);
+        for (int index = 0; index < length; index++) {
+            int difference = leftLabel.charAt(leftOffset + index) - rightLabel.charAt(rightOffset + index);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (leftLabel.length() - leftOffset) - (rightLabel.length() - rightOffset);
+    }
+}
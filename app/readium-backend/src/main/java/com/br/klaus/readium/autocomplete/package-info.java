@@ -0,0 +1,12 @@
+@org.springframework.modulith.ApplicationModule(
+        displayName = "Autocomplete",
+        allowedDependencies = {
+                "book::api",
+                "book::events",
+                "category::api",
+                "category::events",
+                "collection::api",
+                "collection::events"
+        }
+)
+package com.br.klaus.readium.autocomplete;
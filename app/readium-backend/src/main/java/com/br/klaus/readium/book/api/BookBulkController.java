@@ -0,0 +1,35 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BulkBookDeleteRequestDTO;
+import com.br.klaus.readium.book.api.dto.BulkBookStatusRequestDTO;
+import com.br.klaus.readium.book.application.command.BookBulkCommandService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/books/bulk")
+@RequiredArgsConstructor
+public class BookBulkController {
+
+    private final BookBulkCommandService bulkCommandService;
+
+    @PostMapping("/status")
+    public ResponseEntity<BookBulkResult> changeStatus(
+            @RequestHeader(value = "X-Operation-Id", required = false) String operationId,
+            @RequestBody @Valid BulkBookStatusRequestDTO req) {
+        return ResponseEntity.ok(bulkCommandService.changeStatus(req, operationId));
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<BookBulkResult> delete(
+            @RequestHeader(value = "X-Operation-Id", required = false) String operationId,
+            @RequestBody @Valid BulkBookDeleteRequestDTO req) {
+        return ResponseEntity.ok(bulkCommandService.delete(req, operationId));
+    }
+}
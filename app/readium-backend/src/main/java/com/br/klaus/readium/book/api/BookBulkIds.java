@@ -0,0 +1,31 @@
+package com.br.klaus.readium.book.api;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class BookBulkIds {
+
+    public static final int MAX_BOOKS = 500;
+
+    private BookBulkIds() {
+    }
+
+    public static List<Long> normalize(List<Long> bookIds) {
+        Set<Long> normalized = new LinkedHashSet<>();
+        if (bookIds != null) {
+            for (Long bookId : bookIds) {
+                if (bookId != null && bookId > 0) {
+                    normalized.add(bookId);
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um livro para a operacao em lote.");
+        }
+        if (normalized.size() > MAX_BOOKS) {
+            throw new IllegalArgumentException("Operacao em lote aceita no maximo " + MAX_BOOKS + " livros.");
+        }
+        return List.copyOf(normalized);
+    }
+}
@@ -0,0 +1,53 @@
+package com.br.klaus.readium.book.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public record BookBulkResult(
+        String operationId,
+        boolean replayed,
+        int requested,
+        int changed,
+        List<Item> items
+) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        DELETED,
+        NOT_FOUND
+    }
+
+    public record Item(Long bookId, Outcome outcome) {
+    }
+
+    public static BookBulkResult replayed(String operationId) {
+        return new BookBulkResult(operationId, true, 0, 0, List.of());
+    }
+
+    public static BookBulkResult of(
+            String operationId,
+            Collection<Long> bookIds,
+            Set<Long> existingIds,
+            Set<Long> changedIds,
+            Outcome changedOutcome
+    ) {
+        List<Item> items = new ArrayList<>(bookIds.size());
+        int changed = 0;
+        for (Long bookId : bookIds) {
+            Outcome outcome;
+            if (!existingIds.contains(bookId)) {
+                outcome = Outcome.NOT_FOUND;
+            } else if (changedIds.contains(bookId)) {
+                outcome = changedOutcome;
+                changed++;
+            } else {
+                outcome = Outcome.UNCHANGED;
+            }
+            items.add(new Item(bookId, outcome));
+        }
+        return new BookBulkResult(operationId, false, bookIds.size(), changed, List.copyOf(items));
+    }
+}
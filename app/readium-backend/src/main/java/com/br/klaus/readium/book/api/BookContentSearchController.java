@@ -0,0 +1,29 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookContentSearchHitDTO;
+import com.br.klaus.readium.book.api.dto.PagedResponseDTO;
+import com.br.klaus.readium.book.application.query.BookContentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/books/content-search")
+@RequiredArgsConstructor
+public class BookContentSearchController {
+
+    private final BookContentSearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<PagedResponseDTO<BookContentSearchHitDTO>> search(
+            @RequestParam("q") String query,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        return ResponseEntity.ok(PagedResponseDTO.fromPage(searchService.search(query, pageable)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookContentSearchHitDTO;
+import com.br.klaus.readium.book.domain.model.BookContentHit;
+
+public final class BookContentSearchHitMapper {
+
+    private BookContentSearchHitMapper() {
+    }
+
+    public static BookContentSearchHitDTO toResponse(BookContentHit hit) {
+        return new BookContentSearchHitDTO(
+                hit.bookId(),
+                hit.title(),
+                hit.author(),
+                hit.page(),
+                hit.snippet()
+        );
+    }
+}
@@ -6,9 +6,12 @@ import com.br.klaus.readium.book.api.dto.BookFilterDTO;
 import com.br.klaus.readium.book.api.dto.BookOcrStatusResponseDTO;
 import com.br.klaus.readium.book.api.dto.BookResponseDTO;
 import com.br.klaus.readium.book.api.dto.BookTextLayerQualityResponseDTO;
+import com.br.klaus.readium.book.api.dto.CursorPageResponseDTO;
 import com.br.klaus.readium.book.api.dto.PagedResponseDTO;
 import com.br.klaus.readium.book.api.dto.UpdateBookStatusRequestDTO;
 import com.br.klaus.readium.book.api.dto.UpdateProgressRequestDTO;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,9 +23,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/books")
@@ -32,6 +38,7 @@ public class BookController {
 
     private final BookCommandService commandService;
     private final BookQueryService queryService;
+    private final LibraryRevisionService revisions;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BookResponseDTO> uploadBook(@RequestParam("file") MultipartFile file) throws IOException {
@@ -41,21 +48,55 @@ public class BookController {
     }
 
     @GetMapping
-    public ResponseEntity<PagedResponseDTO<BookResponseDTO>> findAll(
+    public ResponseEntity<PagedResponseDTO<?>> findAll(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long collectionId,
-            @PageableDefault(size = 12) Pageable pageable) {
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String order,
+            @PageableDefault(size = 12) Pageable pageable,
+            WebRequest request) {
         
+        BookFieldSelection selection = BookFieldSelection.parse(fields);
+        if (request.checkNotModified(listEtag(categoryId, collectionId))) {
+            return null;
+        }
         log.info("Listando livros. Status: {}, Query: {}, Category: {}, Collection: {}, Page: {}",
                 status, query, categoryId, collectionId, pageable.getPageNumber());
         
         BookFilterDTO filter = new BookFilterDTO(status, query, categoryId, collectionId);
-        Page<BookResponseDTO> result = queryService.findAll(filter, pageable);
+        Page<BookResponseDTO> result = queryService.findAll(filter, order, pageable);
         
         log.info("Livros encontrados: {}", result.getTotalElements());
-        return ResponseEntity.ok(PagedResponseDTO.fromPage(result));
+        if (selection.isAll()) {
+            return ResponseEntity.ok(PagedResponseDTO.fromPage(result));
+        }
+        return ResponseEntity.ok(PagedResponseDTO.fromPage(result.map(selection::apply)));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDTO<?>> scroll(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long collectionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String order,
+            WebRequest request) {
+        BookFieldSelection selection = BookFieldSelection.parse(fields);
+        if (request.checkNotModified(listEtag(categoryId, collectionId))) {
+            return null;
+        }
+        BookFilterDTO filter = new BookFilterDTO(status, query, categoryId, collectionId);
+        CursorPageResponseDTO<BookResponseDTO> page = queryService.scroll(filter, order, cursor, size, includeTotal);
+        if (selection.isAll()) {
+            return ResponseEntity.ok(page);
+        }
+        return ResponseEntity.ok(page.map(selection::apply));
     }
 
     @GetMapping("/{id}")
@@ -115,4 +156,16 @@ public class BookController {
     public ResponseEntity<BookTextLayerQualityResponseDTO> getTextLayerQuality(@PathVariable Long id) {
         return ResponseEntity.ok(queryService.getTextLayerQuality(id));
     }
+
+    private String listEtag(Long categoryId, Long collectionId) {
+        List<RevisionAggregate> aggregates = new ArrayList<>(3);
+        aggregates.add(RevisionAggregate.BOOKS);
+        if (categoryId != null) {
+            aggregates.add(RevisionAggregate.CATEGORIES);
+        }
+        if (collectionId != null) {
+            aggregates.add(RevisionAggregate.COLLECTIONS);
+        }
+        return revisions.etag(aggregates.toArray(RevisionAggregate[]::new));
+    }
 }
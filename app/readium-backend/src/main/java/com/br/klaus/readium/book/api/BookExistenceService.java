@@ -1,6 +1,11 @@
 package com.br.klaus.readium.book.api;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface BookExistenceService {
 
     boolean existsById(Long bookId);
+
+    Set<Long> findExistingIds(Collection<Long> bookIds);
 }
@@ -0,0 +1,66 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookResponseDTO;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class BookFieldSelection {
+
+    private static final Map<String, Function<BookResponseDTO, Object>> FIELDS = orderedFields();
+
+    private final Set<String> fields;
+
+    private BookFieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static BookFieldSelection parse(String rawFields) {
+        if (rawFields == null || rawFields.isBlank()) {
+            return new BookFieldSelection(Set.of());
+        }
+
+        Set<String> selected = new HashSet<>();
+        for (String token : rawFields.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException("Campo invalido em fields: " + field + ". Use: " + String.join(",", FIELDS.keySet()));
+            }
+            selected.add(field);
+        }
+        return new BookFieldSelection(Set.copyOf(selected));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public Map<String, Object> apply(BookResponseDTO book) {
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        FIELDS.forEach((name, accessor) -> {
+            if (fields.contains(name)) {
+                sparse.put(name, accessor.apply(book));
+            }
+        });
+        return sparse;
+    }
+
+    private static Map<String, Function<BookResponseDTO, Object>> orderedFields() {
+        Map<String, Function<BookResponseDTO, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", BookResponseDTO::id);
+        fields.put("title", BookResponseDTO::title);
+        fields.put("author", BookResponseDTO::author);
+        fields.put("pages", BookResponseDTO::pages);
+        fields.put("lastReadPage", BookResponseDTO::lastReadPage);
+        fields.put("format", BookResponseDTO::format);
+        fields.put("status", BookResponseDTO::status);
+        fields.put("coverUrl", BookResponseDTO::coverUrl);
+        return fields;
+    }
+}
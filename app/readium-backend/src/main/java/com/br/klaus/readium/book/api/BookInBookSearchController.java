@@ -0,0 +1,56 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.application.query.BookInBookSearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookInBookSearchController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BookInBookSearchService searchService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @GetMapping("/{id}/search")
+    public ResponseEntity<StreamingResponseBody> search(
+            @PathVariable Long id,
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        BookInBookSearchService.InBookSearch search = searchService.prepare(id, query, limit);
+
+        StreamingResponseBody body = output -> {
+            try {
+                searchService.stream(search, match -> {
+                    try {
+                        output.write(objectMapper.writeValueAsBytes(BookTextMatchMapper.toResponse(match)));
+                        output.write('\n');
+                        output.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -1,9 +1,15 @@
 package com.br.klaus.readium.book.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookInsightsDataService {
 
     List<BookInsightSnapshot> findAllSnapshots();
+
+    List<BookInsightSnapshot> findSnapshots(Collection<Long> bookIds);
+
+    Optional<BookInsightSnapshot> findSnapshot(Long bookId);
 }
 
@@ -0,0 +1,30 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookPageTextDTO;
+import com.br.klaus.readium.book.application.query.BookPageTextQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookPageTextController {
+
+    private static final String EXTRACTION_RETRY_AFTER_SECONDS = "2";
+
+    private final BookPageTextQueryService queryService;
+
+    @GetMapping("/{id}/pages/{page}/text")
+    public ResponseEntity<BookPageTextDTO> getPageText(@PathVariable Long id, @PathVariable int page) {
+        return queryService.getPageText(id, page)
+                .map(pageText -> ResponseEntity.ok(BookPageTextMapper.toResponse(pageText)))
+                .orElseGet(() -> ResponseEntity.accepted()
+                        .header(HttpHeaders.RETRY_AFTER, EXTRACTION_RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
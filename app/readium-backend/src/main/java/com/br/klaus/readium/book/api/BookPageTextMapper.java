@@ -0,0 +1,14 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookPageTextDTO;
+import com.br.klaus.readium.book.domain.model.BookPageText;
+
+public final class BookPageTextMapper {
+
+    private BookPageTextMapper() {
+    }
+
+    public static BookPageTextDTO toResponse(BookPageText pageText) {
+        return new BookPageTextDTO(pageText.bookId(), pageText.page(), pageText.totalPages(), pageText.text());
+    }
+}
@@ -1,8 +1,12 @@
 package com.br.klaus.readium.book.api;
 
 import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSlice;
+import com.br.klaus.readium.book.domain.service.BookCursorCodec;
 import com.br.klaus.readium.book.domain.service.BookTitleFormatter;
 import com.br.klaus.readium.book.api.dto.BookResponseDTO;
+import com.br.klaus.readium.book.api.dto.CursorPageResponseDTO;
 
 public final class BookResponseMapper {
 
@@ -27,5 +31,31 @@ public final class BookResponseMapper {
                 coverUrl
         );
     }
-}
 
+    public static BookResponseDTO toResponse(BookListItem item) {
+        if (item == null) {
+            return null;
+        }
+
+        return new BookResponseDTO(
+                item.id(),
+                BookTitleFormatter.normalize(item.title()),
+                item.author(),
+                item.pages(),
+                item.lastReadPage(),
+                item.bookFormat() != null ? item.bookFormat().name() : "PDF",
+                item.bookStatus() != null ? item.bookStatus().name() : "TO_READ",
+                item.hasCover() ? "/api/books/" + item.id() + "/cover" : null
+        );
+    }
+
+    public static CursorPageResponseDTO<BookResponseDTO> toCursorPage(BookSlice slice, int size) {
+        return new CursorPageResponseDTO<>(
+                slice.books().stream().map(BookResponseMapper::toResponse).toList(),
+                slice.hasNext() ? BookCursorCodec.encode(slice.nextCursor()) : null,
+                slice.hasNext(),
+                size,
+                slice.totalElements()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookTextMatchDTO;
+import com.br.klaus.readium.book.api.dto.HighlightRectDTO;
+import com.br.klaus.readium.book.domain.model.BookTextMatch;
+
+public final class BookTextMatchMapper {
+
+    private BookTextMatchMapper() {
+    }
+
+    public static BookTextMatchDTO toResponse(BookTextMatch match) {
+        return new BookTextMatchDTO(
+                match.page(),
+                match.snippet(),
+                match.rects().stream()
+                        .map(rect -> new HighlightRectDTO(rect.x(), rect.y(), rect.width(), rect.height()))
+                        .toList()
+        );
+    }
+}
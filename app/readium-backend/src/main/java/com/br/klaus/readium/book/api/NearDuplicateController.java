@@ -0,0 +1,39 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.NearDuplicateGroupDTO;
+import com.br.klaus.readium.book.api.dto.NearDuplicateMatchDTO;
+import com.br.klaus.readium.book.application.query.NearDuplicateQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class NearDuplicateController {
+
+    private final NearDuplicateQueryService queryService;
+
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<NearDuplicateGroupDTO>> findGroups(
+            @RequestParam(value = "minSimilarity", required = false) Double minSimilarity
+    ) {
+        return ResponseEntity.ok(queryService.findGroups(minSimilarity));
+    }
+
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<List<NearDuplicateMatchDTO>> findSimilar(
+            @PathVariable Long id,
+            @RequestParam(value = "minSimilarity", required = false) Double minSimilarity
+    ) {
+        return ResponseEntity.ok(queryService.findSimilar(id, minSimilarity));
+    }
+}
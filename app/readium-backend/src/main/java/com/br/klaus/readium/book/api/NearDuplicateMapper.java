@@ -0,0 +1,48 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.NearDuplicateBookDTO;
+import com.br.klaus.readium.book.api.dto.NearDuplicateGroupDTO;
+import com.br.klaus.readium.book.api.dto.NearDuplicateMatchDTO;
+import com.br.klaus.readium.book.api.dto.NearDuplicatePairDTO;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.NearDuplicateGroup;
+import com.br.klaus.readium.book.domain.model.NearDuplicatePair;
+
+import java.util.Map;
+
+public final class NearDuplicateMapper {
+
+    private NearDuplicateMapper() {
+    }
+
+    public static NearDuplicateGroupDTO toGroupResponse(NearDuplicateGroup group, Map<Long, Book> books) {
+        return new NearDuplicateGroupDTO(
+                group.bookIds().stream()
+                        .filter(books::containsKey)
+                        .map(bookId -> toBookResponse(books.get(bookId)))
+                        .toList(),
+                group.maxSimilarity(),
+                group.pairs().stream()
+                        .filter(pair -> books.containsKey(pair.leftBookId()) && books.containsKey(pair.rightBookId()))
+                        .map(NearDuplicateMapper::toPairResponse)
+                        .toList()
+        );
+    }
+
+    public static NearDuplicateMatchDTO toMatchResponse(NearDuplicatePair pair, Book book) {
+        return new NearDuplicateMatchDTO(toBookResponse(book), pair.similarity());
+    }
+
+    private static NearDuplicatePairDTO toPairResponse(NearDuplicatePair pair) {
+        return new NearDuplicatePairDTO(pair.leftBookId(), pair.rightBookId(), pair.similarity());
+    }
+
+    private static NearDuplicateBookDTO toBookResponse(Book book) {
+        return new NearDuplicateBookDTO(
+                book.getId(),
+                book.getTitle(),
+                book.getAuthor(),
+                book.getBookFormat() != null ? book.getBookFormat().name() : null
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record BookContentSearchHitDTO(
+        Long bookId,
+        String title,
+        String author,
+        int page,
+        String snippet
+) {
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record BookPageTextDTO(Long bookId, int page, int totalPages, String text) {
+}
@@ -0,0 +1,6 @@
+package com.br.klaus.readium.book.api.dto;
+
+import java.util.List;
+
+public record BookTextMatchDTO(int page, String snippet, List<HighlightRectDTO> rects) {
+}
@@ -0,0 +1,11 @@
+package com.br.klaus.readium.book.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BulkBookDeleteRequestDTO(
+        @NotEmpty
+        List<Long> bookIds
+) {
+}
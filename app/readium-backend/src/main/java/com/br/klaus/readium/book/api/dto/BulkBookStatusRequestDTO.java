@@ -0,0 +1,16 @@
+package com.br.klaus.readium.book.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+public record BulkBookStatusRequestDTO(
+        @NotEmpty
+        List<Long> bookIds,
+        @NotBlank
+        @Pattern(regexp = "TO_READ|READING|READ")
+        String status
+) {
+}
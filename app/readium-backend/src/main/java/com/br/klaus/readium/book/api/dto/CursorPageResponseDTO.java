@@ -0,0 +1,22 @@
+package com.br.klaus.readium.book.api.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size,
+        Long totalElements
+) {
+    public <R> CursorPageResponseDTO<R> map(Function<T, R> mapper) {
+        return new CursorPageResponseDTO<>(
+                content.stream().map(mapper).toList(),
+                nextCursor,
+                hasNext,
+                size,
+                totalElements
+        );
+    }
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record HighlightRectDTO(double x, double y, double width, double height) {
+}
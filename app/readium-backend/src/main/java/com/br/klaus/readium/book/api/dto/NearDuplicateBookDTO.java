@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record NearDuplicateBookDTO(Long id, String title, String author, String format) {
+}
@@ -0,0 +1,6 @@
+package com.br.klaus.readium.book.api.dto;
+
+import java.util.List;
+
+public record NearDuplicateGroupDTO(List<NearDuplicateBookDTO> books, double maxSimilarity, List<NearDuplicatePairDTO> pairs) {
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record NearDuplicateMatchDTO(NearDuplicateBookDTO book, double similarity) {
+}
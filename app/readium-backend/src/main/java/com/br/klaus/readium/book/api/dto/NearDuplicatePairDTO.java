@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.api.dto;
+
+public record NearDuplicatePairDTO(Long leftBookId, Long rightBookId, double similarity) {
+}
@@ -0,0 +1,88 @@
+package com.br.klaus.readium.book.application.command;
+
+import com.br.klaus.readium.book.api.BookBulkIds;
+import com.br.klaus.readium.book.api.BookBulkResult;
+import com.br.klaus.readium.book.api.dto.BulkBookDeleteRequestDTO;
+import com.br.klaus.readium.book.api.dto.BulkBookStatusRequestDTO;
+import com.br.klaus.readium.book.application.support.BookResourceReleaseService;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import com.br.klaus.readium.sync.application.OperationIdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookBulkCommandService {
+    private static final String STATUS_OPERATION_SCOPE = "book-bulk-status";
+    private static final String DELETE_OPERATION_SCOPE = "book-bulk-delete";
+
+    private final BookRepositoryPort repository;
+    private final BookResourceReleaseService resourceReleaseService;
+    private final OperationIdempotencyService operationIdempotencyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BookBulkResult changeStatus(BulkBookStatusRequestDTO req, String operationId) {
+        List<Long> bookIds = BookBulkIds.normalize(req.bookIds());
+        Book.BookStatus status = parseStatus(req.status());
+
+        OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
+                STATUS_OPERATION_SCOPE,
+                operationId
+        );
+        if (!claim.shouldProcess()) {
+            return BookBulkResult.replayed(claim.operationId());
+        }
+
+        Set<Long> existingIds = new HashSet<>(repository.findExistingIds(bookIds));
+        Set<Long> changedIds = new HashSet<>(existingIds);
+        changedIds.removeAll(repository.findIdsWithStatus(bookIds, status));
+        int updated = repository.updateStatus(changedIds, status);
+
+        log.info("Status {} aplicado em lote a {} livro(s).", status, updated);
+        return BookBulkResult.of(claim.operationId(), bookIds, existingIds, changedIds, BookBulkResult.Outcome.UPDATED);
+    }
+
+    @Transactional
+    public BookBulkResult delete(BulkBookDeleteRequestDTO req, String operationId) {
+        List<Long> bookIds = BookBulkIds.normalize(req.bookIds());
+
+        OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
+                DELETE_OPERATION_SCOPE,
+                operationId
+        );
+        if (!claim.shouldProcess()) {
+            return BookBulkResult.replayed(claim.operationId());
+        }
+
+        List<Book> books = repository.findAllById(bookIds);
+        Set<Long> deletedIds = new HashSet<>();
+        books.forEach(book -> deletedIds.add(book.getId()));
+        if (!deletedIds.isEmpty()) {
+            resourceReleaseService.releaseAll(books);
+            repository.deleteAllById(deletedIds);
+            eventPublisher.publishEvent(new BooksDeletedEvent(List.copyOf(deletedIds)));
+        }
+
+        log.info("Exclusao em lote removeu {} livro(s).", deletedIds.size());
+        return BookBulkResult.of(claim.operationId(), bookIds, deletedIds, deletedIds, BookBulkResult.Outcome.DELETED);
+    }
+
+    private static Book.BookStatus parseStatus(String status) {
+        try {
+            return Book.BookStatus.valueOf(status);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Status invalido: " + status);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.br.klaus.readium.book.application.command;
 import com.br.klaus.readium.book.domain.model.Book;
 import com.br.klaus.readium.book.domain.service.BookTitleFormatter;
 import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.BookResourceReleaseService;
 import com.br.klaus.readium.book.application.support.OcrRunningRecoveryService;
 import com.br.klaus.readium.book.api.BookResponseMapper;
 import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
@@ -15,6 +16,7 @@ import com.br.klaus.readium.book.events.BookDeletedEvent;
 import com.br.klaus.readium.book.events.BookOcrRequestedEvent;
 import com.br.klaus.readium.book.events.BookProgressUpdatedEvent;
 import com.br.klaus.readium.exception.UnsupportedFileFormatException;
+import com.br.klaus.readium.persistence.SqliteWriteQueue;
 import com.br.klaus.readium.sync.application.OperationIdempotencyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +44,8 @@ public class BookCommandService {
     private final BookLookupService bookLookupService;
     private final OcrRunningRecoveryService ocrRunningRecoveryService;
     private final OperationIdempotencyService operationIdempotencyService;
+    private final BookResourceReleaseService resourceReleaseService;
+    private final SqliteWriteQueue writeQueue;
 
     @Transactional
     public BookResponseDTO upload(MultipartFile file) {
@@ -88,14 +92,7 @@ public class BookCommandService {
     public void deleteById(Long id) {
         Book book = bookLookupService.loadOrThrow(id);
 
-        storageService.delete(book.getFilePath());
-        if (book.getCoverPath() != null) {
-            storageService.delete(book.getCoverPath());
-        }
-        if (book.getOcrFilePath() != null && !book.getOcrFilePath().equals(book.getFilePath())) {
-            storageService.delete(book.getOcrFilePath());
-        }
-
+        resourceReleaseService.release(book);
         repository.deleteById(id);
         eventPublisher.publishEvent(new BookDeletedEvent(id));
     }
@@ -121,8 +118,11 @@ public class BookCommandService {
         }
     }
 
-    @Transactional
     public void updateProgress(Long bookId, UpdateProgressRequestDTO req, String operationId) {
+        writeQueue.run(() -> applyProgress(bookId, req, operationId));
+    }
+
+    private void applyProgress(Long bookId, UpdateProgressRequestDTO req, String operationId) {
         OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
                 PROGRESS_OPERATION_SCOPE,
                 operationId
@@ -135,12 +135,14 @@ public class BookCommandService {
 
         Integer previousPage = book.getLastReadPage();
         Book.BookStatus previousStatus = book.getBookStatus();
+        LocalDateTime readAt = LocalDateTime.now();
 
         if (req.resolvedMode() == UpdateProgressRequestDTO.ProgressUpdateMode.EXACT) {
             book.setReadingProgressExactly(req.page());
         } else {
             book.updateReadingProgress(req.page());
         }
+        book.setLastReadAt(readAt);
         repository.save(book);
 
         if (!Objects.equals(previousPage, book.getLastReadPage()) || previousStatus != book.getBookStatus()) {
@@ -149,7 +151,7 @@ public class BookCommandService {
                     previousPage,
                     book.getLastReadPage(),
                     book.getBookStatus() != null ? book.getBookStatus().name() : null,
-                    LocalDateTime.now()
+                    readAt
             ));
         }
     }
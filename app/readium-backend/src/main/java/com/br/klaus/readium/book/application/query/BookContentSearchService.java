@@ -0,0 +1,27 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.api.BookContentSearchHitMapper;
+import com.br.klaus.readium.book.api.dto.BookContentSearchHitDTO;
+import com.br.klaus.readium.book.domain.port.BookContentIndexPort;
+import com.br.klaus.readium.persistence.FullTextQueryFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BookContentSearchService {
+
+    private final BookContentIndexPort contentIndex;
+
+    @Transactional(readOnly = true)
+    public Page<BookContentSearchHitDTO> search(String query, Pageable pageable) {
+        String matchExpression = FullTextQueryFormatter.toMatchExpression(query)
+                .orElseThrow(() -> new IllegalArgumentException("Informe ao menos um termo para busca."));
+
+        return contentIndex.search(matchExpression, pageable)
+                .map(BookContentSearchHitMapper::toResponse);
+    }
+}
@@ -6,6 +6,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class BookExistenceServiceImpl implements BookExistenceService {
@@ -17,4 +21,13 @@ public class BookExistenceServiceImpl implements BookExistenceService {
     public boolean existsById(Long bookId) {
         return repository.existsById(bookId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingIds(Collection<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repository.findExistingIds(bookIds));
+    }
 }
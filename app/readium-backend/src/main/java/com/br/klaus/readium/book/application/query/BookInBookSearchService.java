@@ -0,0 +1,185 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.BookTextStoreService;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookTextMatch;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import com.br.klaus.readium.book.domain.model.PageLayoutIndexState;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutIndexPort;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutPort;
+import com.br.klaus.readium.book.domain.service.PageTextMatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Busca dentro do livro. Com o indice de layout completo as ocorrencias trazem retangulos; enquanto ele
+ * e construido em segundo plano, as paginas ainda nao indexadas sao lidas do armazenamento de texto e
+ * as ocorrencias saem sem retangulos.
+ */
+@Service
+@Slf4j
+public class BookInBookSearchService {
+
+    private static final int STORED_PAGES_CHUNK = 32;
+
+    private final BookLookupService bookLookupService;
+    private final BookPageLayoutPort pageLayout;
+    private final BookPageLayoutIndexPort layoutIndex;
+    private final BookTextStoreService textStore;
+    private final Executor layoutIndexExecutor;
+
+    private final Set<Long> buildsInProgress = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.search.in-book.max-hits:500}")
+    private int maxHits;
+
+    public BookInBookSearchService(
+            BookLookupService bookLookupService,
+            BookPageLayoutPort pageLayout,
+            BookPageLayoutIndexPort layoutIndex,
+            BookTextStoreService textStore,
+            @Qualifier("layoutIndexTaskExecutor") Executor layoutIndexExecutor
+    ) {
+        this.bookLookupService = bookLookupService;
+        this.pageLayout = pageLayout;
+        this.layoutIndex = layoutIndex;
+        this.textStore = textStore;
+        this.layoutIndexExecutor = layoutIndexExecutor;
+    }
+
+    public InBookSearch prepare(Long bookId, String query, Integer limit) {
+        Book book = bookLookupService.loadOrThrow(bookId);
+        String needle = PageTextMatcher.normalizeQuery(query)
+                .orElseThrow(() -> new IllegalArgumentException("Informe ao menos dois caracteres para busca."));
+        int effectiveLimit = limit == null || limit <= 0 ? maxHits : Math.min(limit, maxHits);
+        return new InBookSearch(book, needle, effectiveLimit);
+    }
+
+    public void stream(InBookSearch search, Consumer<BookTextMatch> sink) {
+        Long bookId = search.book().getId();
+        String sourcePath = search.book().resolveReadableFilePath();
+        HitBudget budget = new HitBudget(search, sink);
+
+        Optional<PageLayoutIndexState> state = layoutIndex.findState(bookId)
+                .filter(current -> current.matchesSource(sourcePath));
+        if (state.isPresent() && state.get().complete()) {
+            emitStoredPages(bookId, 1, Integer.MAX_VALUE, budget);
+            return;
+        }
+
+        scheduleBuild(search.book(), sourcePath);
+        int indexedPages = state.map(PageLayoutIndexState::pagesIndexed).orElse(0);
+        int nextPage = emitStoredPages(bookId, 1, indexedPages, budget);
+        if (budget.exhausted()) {
+            return;
+        }
+
+        List<String> pages = textStore.pages(search.book());
+        for (int page = nextPage; page <= pages.size() && !budget.exhausted(); page++) {
+            budget.emit(PageGlyphLayout.textOnly(page, pages.get(page - 1)));
+        }
+    }
+
+    private void scheduleBuild(Book book, String sourcePath) {
+        Long bookId = book.getId();
+        if (!buildsInProgress.add(bookId)) {
+            return;
+        }
+
+        try {
+            layoutIndexExecutor.execute(() -> {
+                try {
+                    build(book, sourcePath);
+                } catch (RuntimeException ex) {
+                    log.warn("Falha ao construir indice de layout do livro {}.", bookId, ex);
+                } finally {
+                    buildsInProgress.remove(bookId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            buildsInProgress.remove(bookId);
+            log.debug("Fila de indices de layout cheia; livro {} sera indexado numa proxima busca.", bookId);
+        }
+    }
+
+    private void build(Book book, String sourcePath) {
+        Long bookId = book.getId();
+        Optional<PageLayoutIndexState> state = layoutIndex.findState(bookId)
+                .filter(current -> current.matchesSource(sourcePath));
+        if (state.isPresent() && state.get().complete()) {
+            return;
+        }
+        if (state.isEmpty()) {
+            layoutIndex.reset(bookId, sourcePath);
+        }
+
+        int nextPage = state.map(current -> current.pagesIndexed() + 1).orElse(1);
+        boolean completed = pageLayout.extractLayouts(book, nextPage, layout -> {
+            layoutIndex.savePage(bookId, layout);
+            return true;
+        });
+        if (completed) {
+            layoutIndex.markComplete(bookId);
+            log.info("Indice de layout do livro {} concluido a partir de {}.", bookId, sourcePath);
+        }
+    }
+
+    private int emitStoredPages(Long bookId, int fromPage, int lastPage, HitBudget budget) {
+        int nextPage = fromPage;
+        while (nextPage <= lastPage) {
+            List<PageGlyphLayout> chunk = layoutIndex.findPages(bookId, nextPage, STORED_PAGES_CHUNK);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (PageGlyphLayout layout : chunk) {
+                if (layout.page() > lastPage) {
+                    return nextPage;
+                }
+                nextPage = layout.page() + 1;
+                if (!budget.emit(layout)) {
+                    return nextPage;
+                }
+            }
+        }
+        return nextPage;
+    }
+
+    public record InBookSearch(Book book, String needle, int limit) {
+    }
+
+    private static final class HitBudget {
+
+        private final InBookSearch search;
+        private final Consumer<BookTextMatch> sink;
+        private int remaining;
+
+        private HitBudget(InBookSearch search, Consumer<BookTextMatch> sink) {
+            this.search = search;
+            this.sink = sink;
+            this.remaining = search.limit();
+        }
+
+        boolean emit(PageGlyphLayout layout) {
+            for (BookTextMatch match : PageTextMatcher.findMatches(layout, search.needle(), remaining)) {
+                sink.accept(match);
+                remaining--;
+            }
+            return remaining > 0;
+        }
+
+        boolean exhausted() {
+            return remaining <= 0;
+        }
+    }
+}
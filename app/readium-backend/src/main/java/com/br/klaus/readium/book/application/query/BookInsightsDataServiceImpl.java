@@ -9,7 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +27,23 @@ public class BookInsightsDataServiceImpl implements BookInsightsDataService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookInsightSnapshot> findSnapshots(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+        return bookRepository.findAllById(bookIds).stream()
+                .map(this::toSnapshot)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BookInsightSnapshot> findSnapshot(Long bookId) {
+        return bookRepository.findById(bookId).map(this::toSnapshot);
+    }
+
     private BookInsightSnapshot toSnapshot(Book book) {
         String coverUrl = book.isHasCover() ? "/api/books/" + book.getId() + "/cover" : null;
         String format = book.getBookFormat() != null ? book.getBookFormat().name() : "PDF";
@@ -0,0 +1,40 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.BookTextStoreService;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookPageText;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class BookPageTextQueryService {
+
+    private final BookLookupService bookLookupService;
+    private final BookTextStoreService textStoreService;
+
+    /**
+     * Vazio enquanto o texto do livro ainda esta sendo extraido em segundo plano.
+     */
+    public Optional<BookPageText> getPageText(Long bookId, int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("Pagina deve ser maior que zero.");
+        }
+
+        Book book = bookLookupService.loadOrThrow(bookId);
+        if (!textStoreService.prepare(book)) {
+            return Optional.empty();
+        }
+
+        int totalPages = textStoreService.pageCount(book);
+        if (page > totalPages) {
+            throw new IllegalArgumentException("Pagina " + page + " fora do intervalo do livro (1-" + totalPages + ").");
+        }
+
+        String text = textStoreService.pageText(book, page).orElse("");
+        return Optional.of(new BookPageText(bookId, page, totalPages, text));
+    }
+}
@@ -1,17 +1,23 @@
 package com.br.klaus.readium.book.application.query;
 
 import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSlice;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import com.br.klaus.readium.book.domain.service.BookCursorCodec;
 import com.br.klaus.readium.book.application.support.BookLookupService;
 import com.br.klaus.readium.book.application.support.OcrRunningRecoveryService;
 import com.br.klaus.readium.book.api.BookOcrStatusResponseMapper;
 import com.br.klaus.readium.book.api.BookResponseMapper;
 import com.br.klaus.readium.book.api.BookTextLayerQualityResponseMapper;
-import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.domain.port.BookListReadPort;
 import com.br.klaus.readium.book.domain.port.BookStoragePort;
 import com.br.klaus.readium.book.api.dto.BookFilterDTO;
 import com.br.klaus.readium.book.api.dto.BookOcrStatusResponseDTO;
 import com.br.klaus.readium.book.api.dto.BookResponseDTO;
 import com.br.klaus.readium.book.api.dto.BookTextLayerQualityResponseDTO;
+import com.br.klaus.readium.book.api.dto.CursorPageResponseDTO;
 import com.br.klaus.readium.exception.BookNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
@@ -20,30 +26,64 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class BookQueryService {
 
-    private final BookRepositoryPort repository;
+    private static final int DEFAULT_SCROLL_SIZE = 12;
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private final BookListReadPort listReader;
     private final BookStoragePort storageService;
     private final BookLookupService bookLookupService;
     private final OcrRunningRecoveryService ocrRunningRecoveryService;
 
     @Transactional(readOnly = true)
-    public Page<BookResponseDTO> findAll(BookFilterDTO filter, Pageable pageable) {
-        Book.BookStatus status = null;
-        if (filter.status() != null && !filter.status().isBlank() && !filter.status().equals("ALL")) {
-            try {
-                status = Book.BookStatus.valueOf(filter.status().toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Ignore invalid status filter.
-            }
-        }
-
-        return repository.findAll(status, filter.query(), filter.categoryId(), filter.collectionId(), pageable)
+    public Page<BookResponseDTO> findAll(BookFilterDTO filter, String order, Pageable pageable) {
+        Book.BookStatus status = parseStatusFilter(filter.status());
+        BookSortMode sortMode = BookSortMode.parse(order);
+        return listReader.findPage(status, filter.query(), filter.categoryId(), filter.collectionId(), sortMode, pageable)
                 .map(BookResponseMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<BookResponseDTO> scroll(
+            BookFilterDTO filter,
+            String order,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        Book.BookStatus status = parseStatusFilter(filter.status());
+        BookSortMode sortMode = BookSortMode.parse(order);
+        BookCursor after = BookCursorCodec.decode(cursor);
+        if (after != null && after.sortMode() != sortMode) {
+            throw new IllegalArgumentException("Cursor de paginacao nao corresponde a ordenacao " + sortMode + ".");
+        }
+        int limit = size <= 0 ? DEFAULT_SCROLL_SIZE : Math.min(size, MAX_SCROLL_SIZE);
+
+        List<BookListItem> books = listReader.findAfter(
+                status,
+                filter.query(),
+                filter.categoryId(),
+                filter.collectionId(),
+                sortMode,
+                after,
+                limit + 1
+        );
+        boolean hasNext = books.size() > limit;
+        List<BookListItem> content = hasNext ? books.subList(0, limit) : books;
+        BookListItem last = content.isEmpty() ? null : content.get(content.size() - 1);
+        BookCursor next = hasNext ? new BookCursor(last.id(), sortMode, last.sortKey()) : null;
+        Long total = includeTotal && after == null
+                ? listReader.count(status, filter.query(), filter.categoryId(), filter.collectionId())
+                : null;
+
+        return BookResponseMapper.toCursorPage(new BookSlice(content, next, total), limit);
+    }
+
     @Transactional(readOnly = true)
     public BookResponseDTO findById(Long id) {
         return BookResponseMapper.toResponse(bookLookupService.loadOrThrow(id));
@@ -53,14 +93,7 @@ public class BookQueryService {
     public Resource getBookFile(Long id) {
         Book book = bookLookupService.loadOrThrow(id);
 
-        String filePath = book.getFilePath();
-        if (book.getOcrStatus() == Book.OcrStatus.DONE
-                && book.getOcrFilePath() != null
-                && !book.getOcrFilePath().isBlank()) {
-            filePath = book.getOcrFilePath();
-        }
-
-        return storageService.load(filePath);
+        return storageService.load(book.resolveReadableFilePath());
     }
 
     @Transactional(readOnly = true)
@@ -88,5 +121,16 @@ public class BookQueryService {
 
         return BookTextLayerQualityResponseMapper.toResponse(book);
     }
-}
 
+    private static Book.BookStatus parseStatusFilter(String status) {
+        if (status == null || status.isBlank() || status.equals("ALL")) {
+            return null;
+        }
+        try {
+            return Book.BookStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            // Ignore invalid status filter.
+            return null;
+        }
+    }
+}
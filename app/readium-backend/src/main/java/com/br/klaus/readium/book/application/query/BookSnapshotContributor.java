@@ -0,0 +1,37 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.api.BookResponseMapper;
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import com.br.klaus.readium.book.domain.port.BookListReadPort;
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class BookSnapshotContributor implements SyncSnapshotContributor {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BookListReadPort listReader;
+
+    @Override
+    public void writeTo(SyncSnapshotWriter writer) {
+        BookCursor after = null;
+        List<BookListItem> batch;
+        do {
+            batch = listReader.findAfter(null, null, null, null, BookSortMode.DEFAULT, after, BATCH_SIZE);
+            for (BookListItem book : batch) {
+                writer.write("BOOK", BookResponseMapper.toResponse(book));
+                after = new BookCursor(book.id());
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
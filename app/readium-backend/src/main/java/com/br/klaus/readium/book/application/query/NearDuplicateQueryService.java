@@ -0,0 +1,78 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.api.NearDuplicateMapper;
+import com.br.klaus.readium.book.api.dto.NearDuplicateGroupDTO;
+import com.br.klaus.readium.book.api.dto.NearDuplicateMatchDTO;
+import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.NearDuplicateIndexService;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.NearDuplicateGroup;
+import com.br.klaus.readium.book.domain.model.NearDuplicatePair;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnWebApplication
+@RequiredArgsConstructor
+public class NearDuplicateQueryService {
+
+    private final NearDuplicateIndexService duplicateIndex;
+    private final BookLookupService bookLookupService;
+    private final BookRepositoryPort bookRepository;
+
+    @Value("${app.duplicates.min-similarity:0.6}")
+    private double defaultMinSimilarity;
+
+    @Transactional(readOnly = true)
+    public List<NearDuplicateGroupDTO> findGroups(Double minSimilarity) {
+        List<NearDuplicateGroup> groups = duplicateIndex.findGroups(resolveMinSimilarity(minSimilarity));
+        Set<Long> bookIds = new HashSet<>();
+        groups.forEach(group -> bookIds.addAll(group.bookIds()));
+        Map<Long, Book> books = loadBooks(bookIds);
+
+        return groups.stream()
+                .filter(group -> group.bookIds().stream().filter(books::containsKey).count() > 1)
+                .map(group -> NearDuplicateMapper.toGroupResponse(group, books))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearDuplicateMatchDTO> findSimilar(Long bookId, Double minSimilarity) {
+        bookLookupService.loadOrThrow(bookId);
+        List<NearDuplicatePair> pairs = duplicateIndex.findSimilar(bookId, resolveMinSimilarity(minSimilarity));
+        Map<Long, Book> books = loadBooks(pairs.stream().map(NearDuplicatePair::rightBookId).toList());
+
+        return pairs.stream()
+                .filter(pair -> books.containsKey(pair.rightBookId()))
+                .map(pair -> NearDuplicateMapper.toMatchResponse(pair, books.get(pair.rightBookId())))
+                .toList();
+    }
+
+    private Map<Long, Book> loadBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+        return bookRepository.findAllById(bookIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+    }
+
+    private double resolveMinSimilarity(Double requested) {
+        double value = requested == null ? defaultMinSimilarity : requested;
+        if (value <= 0 || value > 1) {
+            throw new IllegalArgumentException("Similaridade minima deve estar entre 0 e 1.");
+        }
+        return value;
+    }
+}
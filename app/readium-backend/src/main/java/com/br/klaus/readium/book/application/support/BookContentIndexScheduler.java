@@ -0,0 +1,36 @@
+package com.br.klaus.readium.book.application.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookContentIndexScheduler {
+
+    private final BookContentIndexService indexService;
+
+    @Value("${app.search.content.indexing.enabled:true}")
+    private boolean indexingEnabled;
+
+    @Value("${app.search.content.indexing.batch-size:5}")
+    private int batchSize;
+
+    @Value("${app.jobs.mode:EMBEDDED}")
+    private BookJobsMode jobsMode;
+
+    @Scheduled(fixedDelayString = "${app.search.content.indexing.fixed-delay-ms:10000}")
+    public void indexPendingBooks() {
+        if (!indexingEnabled || jobsMode == BookJobsMode.ENQUEUE_ONLY) {
+            return;
+        }
+
+        int indexed = indexService.indexPendingBatch(Math.max(batchSize, 1));
+        if (indexed > 0) {
+            log.debug("Indexacao de conteudo processou {} livro(s).", indexed);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookContentIndexPort;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutIndexPort;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookContentIndexService {
+
+    private final BookRepositoryPort bookRepository;
+    private final BookContentIndexPort contentIndex;
+    private final BookTextStoreService textStore;
+    private final BookTextSignatureService textSignatures;
+    private final BookPageLayoutIndexPort pageLayoutIndex;
+
+    public void requestReindex(Long bookId) {
+        contentIndex.markPending(bookId);
+    }
+
+    public void remove(Long bookId) {
+        contentIndex.removeBook(bookId);
+        pageLayoutIndex.removeBook(bookId);
+    }
+
+    public void removeAll(Collection<Long> bookIds) {
+        contentIndex.removeBooks(bookIds);
+        pageLayoutIndex.removeBooks(bookIds);
+    }
+
+    public int indexPendingBatch(int batchSize) {
+        List<Long> pending = contentIndex.findBooksPendingIndex(batchSize);
+        int indexed = 0;
+        for (Long bookId : pending) {
+            if (indexBook(bookId)) {
+                indexed++;
+            }
+        }
+        return indexed;
+    }
+
+    public boolean indexBook(Long bookId) {
+        Book book = bookRepository.findById(bookId).orElse(null);
+        if (book == null) {
+            contentIndex.removeBook(bookId);
+            return false;
+        }
+
+        String sourcePath = book.resolveReadableFilePath();
+        Instant startedAt = Instant.now();
+        try {
+            List<String> pages = textStore.pages(book);
+            contentIndex.replaceBookPages(bookId, sourcePath, pages);
+            textSignatures.record(book, pages);
+            log.info(
+                    "Conteudo do livro {} indexado ({} pagina(s)) em {}ms.",
+                    bookId,
+                    pages.size(),
+                    Duration.between(startedAt, Instant.now()).toMillis()
+            );
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao indexar conteudo do livro {} a partir de {}.", bookId, sourcePath, ex);
+            contentIndex.markFailed(bookId, sourcePath);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@ConditionalOnProperty(name = "app.jobs.mode", havingValue = "WORKER")
+@Slf4j
+public class BookJobWorker {
+
+    private final BookRepositoryPort repository;
+    private final OcrJobProcessor ocrJobProcessor;
+    private final BookMetadataProcessor metadataProcessor;
+    private final OcrActivityTracker activityTracker;
+    private final OcrBacklogGate backlogGate;
+    private final OcrWorkerIdentity workerIdentity;
+    private final Executor ocrTaskExecutor;
+    private final Executor metadataTaskExecutor;
+    private final AtomicInteger ocrInFlight = new AtomicInteger();
+    private final AtomicInteger ingestInFlight = new AtomicInteger();
+
+    @Value("${app.worker.ocr.max-in-flight:2}")
+    private int maxOcrInFlight;
+
+    @Value("${app.worker.ingest.max-in-flight:2}")
+    private int maxIngestInFlight;
+
+    @Value("${app.worker.ingest.lease-seconds:600}")
+    private long ingestLeaseSeconds;
+
+    public BookJobWorker(
+            BookRepositoryPort repository,
+            OcrJobProcessor ocrJobProcessor,
+            BookMetadataProcessor metadataProcessor,
+            OcrActivityTracker activityTracker,
+            OcrBacklogGate backlogGate,
+            OcrWorkerIdentity workerIdentity,
+            @Qualifier("ocrTaskExecutor") Executor ocrTaskExecutor,
+            @Qualifier("metadataTaskExecutor") Executor metadataTaskExecutor
+    ) {
+        this.repository = repository;
+        this.ocrJobProcessor = ocrJobProcessor;
+        this.metadataProcessor = metadataProcessor;
+        this.activityTracker = activityTracker;
+        this.backlogGate = backlogGate;
+        this.workerIdentity = workerIdentity;
+        this.ocrTaskExecutor = ocrTaskExecutor;
+        this.metadataTaskExecutor = metadataTaskExecutor;
+        log.info("Worker de jobs iniciado (id={}).", workerIdentity.id());
+    }
+
+    @Scheduled(fixedDelayString = "${app.worker.poll-interval-ms:2000}")
+    public void poll() {
+        claimIngestJobs();
+        claimOcrJobs(Book.OcrPriority.INTERACTIVE, freeOcrSlots());
+        claimOcrJobs(Book.OcrPriority.BACKGROUND, Math.min(freeOcrSlots(), backlogGate.availableSlots()));
+    }
+
+    private void claimIngestJobs() {
+        int freeSlots = Math.max(maxIngestInFlight, 1) - ingestInFlight.get();
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = repository.findIngestJobCandidateIds(now, freeSlots);
+        for (Long bookId : candidates) {
+            LocalDateTime leaseExpiresAt = now.plusSeconds(Math.max(ingestLeaseSeconds, 30));
+            if (!repository.claimIngestJob(bookId, workerIdentity.id(), now, leaseExpiresAt)) {
+                continue;
+            }
+
+            ingestInFlight.incrementAndGet();
+            metadataTaskExecutor.execute(() -> {
+                try {
+                    metadataProcessor.process(bookId);
+                } catch (RuntimeException ex) {
+                    log.error("Falha no job de ingestao do livro {}.", bookId, ex);
+                } finally {
+                    ingestInFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void claimOcrJobs(Book.OcrPriority priority, int freeSlots) {
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        List<Long> candidates = priority == Book.OcrPriority.BACKGROUND
+                ? repository.findOcrBacklog(freeSlots).stream().map(Book::getId).toList()
+                : repository.findOcrJobCandidateIds(priority, freeSlots);
+        for (Long bookId : candidates) {
+            if (!repository.claimOcrJob(bookId, workerIdentity.id(), LocalDateTime.now())) {
+                continue;
+            }
+
+            log.info("Worker {} assumiu OCR do livro {} (prioridade={}).", workerIdentity.id(), bookId, priority);
+            dispatchOcr(bookId, priority);
+        }
+    }
+
+    private void dispatchOcr(Long bookId, Book.OcrPriority priority) {
+        boolean interactive = priority == Book.OcrPriority.INTERACTIVE;
+        ocrInFlight.incrementAndGet();
+        if (interactive) {
+            activityTracker.interactiveStarted();
+        } else {
+            activityTracker.backgroundStarted();
+        }
+
+        try {
+            ocrTaskExecutor.execute(() -> {
+                try {
+                    ocrJobProcessor.process(bookId);
+                } finally {
+                    finishOcr(interactive);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            finishOcr(interactive);
+            log.error("Fila OCR local saturada; lease do livro {} sera recuperado pelo watchdog.", bookId, ex);
+        }
+    }
+
+    private void finishOcr(boolean interactive) {
+        ocrInFlight.decrementAndGet();
+        if (interactive) {
+            activityTracker.interactiveFinished();
+        } else {
+            activityTracker.backgroundFinished();
+        }
+    }
+
+    private int freeOcrSlots() {
+        return Math.max(maxOcrInFlight, 1) - ocrInFlight.get();
+    }
+}
@@ -0,0 +1,11 @@
+package com.br.klaus.readium.book.application.support;
+
+public enum BookJobsMode {
+    EMBEDDED,
+    ENQUEUE_ONLY,
+    WORKER;
+
+    public boolean runsEventDrivenJobs() {
+        return this == EMBEDDED;
+    }
+}
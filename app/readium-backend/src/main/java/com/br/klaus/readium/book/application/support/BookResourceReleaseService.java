@@ -0,0 +1,52 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookStoragePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BookResourceReleaseService {
+
+    private final BookStoragePort storageService;
+    private final OcrArtifactCacheService ocrArtifactCache;
+    private final BookContentIndexService contentIndexService;
+    private final BookTextStoreService textStoreService;
+    private final BookTextSignatureService textSignatureService;
+
+    public void release(Book book) {
+        releaseFiles(book);
+        contentIndexService.remove(book.getId());
+        textSignatureService.remove(book.getId());
+    }
+
+    /**
+     * Apaga os arquivos livro a livro e os indices de todos os livros com um comando por tabela.
+     */
+    public void releaseAll(Collection<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        books.forEach(this::releaseFiles);
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+        contentIndexService.removeAll(bookIds);
+        textSignatureService.removeAll(bookIds);
+    }
+
+    private void releaseFiles(Book book) {
+        storageService.delete(book.getFilePath());
+        if (book.getCoverPath() != null) {
+            storageService.delete(book.getCoverPath());
+        }
+        if (book.getOcrArtifactId() != null) {
+            ocrArtifactCache.release(book);
+        } else if (book.getOcrFilePath() != null && !book.getOcrFilePath().equals(book.getFilePath())) {
+            storageService.delete(book.getOcrFilePath());
+        }
+        textStoreService.remove(book);
+    }
+}
@@ -0,0 +1,36 @@
+package com.br.klaus.readium.book.application.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookTextSignatureBackfillScheduler {
+
+    private final BookTextSignatureService signatureService;
+
+    @Value("${app.duplicates.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${app.duplicates.backfill.batch-size:10}")
+    private int batchSize;
+
+    @Value("${app.jobs.mode:EMBEDDED}")
+    private BookJobsMode jobsMode;
+
+    @Scheduled(fixedDelayString = "${app.duplicates.backfill.fixed-delay-ms:60000}")
+    public void backfillSignatures() {
+        if (!backfillEnabled || jobsMode == BookJobsMode.ENQUEUE_ONLY) {
+            return;
+        }
+
+        int recorded = signatureService.backfillBatch(Math.max(batchSize, 1));
+        if (recorded > 0) {
+            log.debug("Backfill de assinaturas de texto processou {} livro(s).", recorded);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.domain.port.BookTextSignaturePort;
+import com.br.klaus.readium.book.domain.service.MinHashSignatureCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookTextSignatureService {
+
+    private final BookRepositoryPort bookRepository;
+    private final BookTextSignaturePort signatures;
+    private final BookTextStoreService textStore;
+
+    private final ThreadLocal<MinHashSignatureCalculator> calculators =
+            ThreadLocal.withInitial(MinHashSignatureCalculator::new);
+
+    public void record(Book book, List<String> pages) {
+        try {
+            MinHashSignature signature = calculators.get().compute(pages);
+            signatures.save(book.getId(), book.resolveTextLayerVersion(), signature);
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao calcular assinatura de texto do livro {}.", book.getId(), ex);
+        }
+    }
+
+    public int backfillBatch(int batchSize) {
+        List<Long> missing = signatures.findBooksWithoutSignature(batchSize);
+        int recorded = 0;
+        for (Long bookId : missing) {
+            Book book = bookRepository.findById(bookId).orElse(null);
+            if (book == null) {
+                continue;
+            }
+            try {
+                record(book, textStore.pages(book));
+                recorded++;
+            } catch (RuntimeException ex) {
+                log.warn("Texto do livro {} indisponivel para assinatura; nova tentativa mais tarde.", bookId, ex);
+                signatures.markFailed(bookId);
+            }
+        }
+        return recorded;
+    }
+
+    public void remove(Long bookId) {
+        signatures.removeBook(bookId);
+    }
+
+    public void removeAll(Collection<Long> bookIds) {
+        signatures.removeBooks(bookIds);
+    }
+}
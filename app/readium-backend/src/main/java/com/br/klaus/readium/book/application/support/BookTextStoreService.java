@@ -0,0 +1,149 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookPageTextPort;
+import com.br.klaus.readium.book.domain.port.BookTextStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Texto paginado dos livros, extraido uma vez por arquivo e camada de texto. Extracoes concorrentes da
+ * mesma camada compartilham um unico futuro, descartado assim que termina.
+ */
+@Service
+@Slf4j
+public class BookTextStoreService {
+
+    private final BookTextStorePort textStore;
+    private final BookPageTextPort pageText;
+    private final Executor extractionExecutor;
+
+    private final Map<String, CompletableFuture<List<String>>> extractions = new ConcurrentHashMap<>();
+
+    public BookTextStoreService(
+            BookTextStorePort textStore,
+            BookPageTextPort pageText,
+            @Qualifier("textStoreTaskExecutor") Executor extractionExecutor
+    ) {
+        this.textStore = textStore;
+        this.pageText = pageText;
+        this.extractionExecutor = extractionExecutor;
+    }
+
+    public List<String> pages(Book book) {
+        String storeKey = storeKey(book);
+        String layerVersion = book.resolveTextLayerVersion();
+        if (textStore.pageCount(storeKey, layerVersion).isPresent()) {
+            return textStore.readPages(storeKey, layerVersion);
+        }
+        return await(extraction(book, storeKey, layerVersion, Runnable::run));
+    }
+
+    /**
+     * Retorna {@code true} quando o texto da camada atual ja esta armazenado; caso contrario agenda a
+     * extracao em segundo plano e retorna {@code false}.
+     */
+    public boolean prepare(Book book) {
+        String storeKey = storeKey(book);
+        String layerVersion = book.resolveTextLayerVersion();
+        if (textStore.pageCount(storeKey, layerVersion).isPresent()) {
+            return true;
+        }
+        extraction(book, storeKey, layerVersion, extractionExecutor).whenComplete((pages, ex) -> {
+            if (ex instanceof RejectedExecutionException) {
+                log.debug("Fila de extracao de texto cheia; livro {} sera extraido numa proxima requisicao.", book.getId());
+            } else if (ex != null) {
+                log.warn("Falha ao extrair texto do livro {} em segundo plano.", book.getId(), ex);
+            }
+        });
+        return false;
+    }
+
+    public int pageCount(Book book) {
+        OptionalInt stored = textStore.pageCount(storeKey(book), book.resolveTextLayerVersion());
+        return stored.isPresent() ? stored.getAsInt() : pages(book).size();
+    }
+
+    public Optional<String> pageText(Book book, int page) {
+        String storeKey = storeKey(book);
+        String layerVersion = book.resolveTextLayerVersion();
+        if (textStore.pageCount(storeKey, layerVersion).isEmpty()) {
+            pages(book);
+        }
+        return textStore.readPage(storeKey, layerVersion, page);
+    }
+
+    public void remove(Book book) {
+        textStore.delete(storeKey(book));
+    }
+
+    private CompletableFuture<List<String>> extraction(Book book, String storeKey, String layerVersion, Executor executor) {
+        String extractionKey = storeKey + "/" + layerVersion;
+        CompletableFuture<List<String>> created = new CompletableFuture<>();
+        CompletableFuture<List<String>> running = extractions.putIfAbsent(extractionKey, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(textStore.pageCount(storeKey, layerVersion).isPresent()
+                            ? textStore.readPages(storeKey, layerVersion)
+                            : extractAndStore(book, storeKey, layerVersion));
+                } catch (RuntimeException ex) {
+                    created.completeExceptionally(ex);
+                } finally {
+                    extractions.remove(extractionKey, created);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            extractions.remove(extractionKey, created);
+            created.completeExceptionally(ex);
+        }
+        return created;
+    }
+
+    private List<String> extractAndStore(Book book, String storeKey, String layerVersion) {
+        Instant startedAt = Instant.now();
+        List<String> pages = pageText.extractPages(book);
+        textStore.write(storeKey, layerVersion, pages);
+        log.info(
+                "Texto do livro {} extraido e armazenado (camada {}, {} pagina(s)) em {}ms.",
+                book.getId(),
+                layerVersion,
+                pages.size(),
+                Duration.between(startedAt, Instant.now()).toMillis()
+        );
+        return pages;
+    }
+
+    private static List<String> await(CompletableFuture<List<String>> extraction) {
+        try {
+            return extraction.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static String storeKey(Book book) {
+        return StringUtils.hasText(book.getFileHash()) ? book.getFileHash() : "book-" + book.getId();
+    }
+}
@@ -0,0 +1,80 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.BookTextSignature;
+import com.br.klaus.readium.book.domain.model.NearDuplicateGroup;
+import com.br.klaus.readium.book.domain.model.NearDuplicatePair;
+import com.br.klaus.readium.book.domain.port.BookTextSignaturePort;
+import com.br.klaus.readium.book.domain.service.NearDuplicateLshIndex;
+import com.br.klaus.readium.book.events.BookDeletedEvent;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Service
+@ConditionalOnWebApplication
+@Slf4j
+public class NearDuplicateIndexService {
+
+    private static final int REFRESH_PAGE_SIZE = 500;
+
+    private final BookTextSignaturePort signatures;
+    private final NearDuplicateLshIndex index;
+
+    private long lastRevision;
+
+    public NearDuplicateIndexService(
+            BookTextSignaturePort signatures,
+            @Value("${app.duplicates.min-shingles:50}") int minShingles
+    ) {
+        this.signatures = signatures;
+        this.index = new NearDuplicateLshIndex(minShingles);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        int loaded = refresh();
+        log.info("Indice de duplicatas carregado com {} assinatura(s) ({} livro(s) indexavel(is)).", loaded, index.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.duplicates.refresh-ms:30000}")
+    public synchronized int refresh() {
+        int applied = 0;
+        List<BookTextSignature> changed = signatures.findUpdatedAfter(lastRevision, REFRESH_PAGE_SIZE);
+        while (!changed.isEmpty()) {
+            for (BookTextSignature signature : changed) {
+                index.put(signature.bookId(), signature.signature());
+                lastRevision = Math.max(lastRevision, signature.revision());
+            }
+            applied += changed.size();
+            changed = signatures.findUpdatedAfter(lastRevision, REFRESH_PAGE_SIZE);
+        }
+        return applied;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        index.remove(event.id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBooksDeleted(BooksDeletedEvent event) {
+        event.ids().forEach(index::remove);
+    }
+
+    public List<NearDuplicateGroup> findGroups(double minSimilarity) {
+        return index.findGroups(minSimilarity);
+    }
+
+    public List<NearDuplicatePair> findSimilar(Long bookId, double minSimilarity) {
+        return index.findSimilar(bookId, minSimilarity);
+    }
+}
@@ -0,0 +1,54 @@
+package com.br.klaus.readium.book.application.support;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OcrActivityTracker {
+
+    private final AtomicInteger interactiveInFlight = new AtomicInteger();
+    private final AtomicInteger backgroundInFlight = new AtomicInteger();
+    private final Clock clock;
+    private volatile Instant lastInteractiveActivityAt = Instant.EPOCH;
+
+    public OcrActivityTracker() {
+        this(Clock.systemUTC());
+    }
+
+    OcrActivityTracker(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void interactiveStarted() {
+        interactiveInFlight.incrementAndGet();
+        lastInteractiveActivityAt = clock.instant();
+    }
+
+    public void interactiveFinished() {
+        interactiveInFlight.updateAndGet(current -> Math.max(0, current - 1));
+        lastInteractiveActivityAt = clock.instant();
+    }
+
+    public void backgroundStarted() {
+        backgroundInFlight.incrementAndGet();
+    }
+
+    public void backgroundFinished() {
+        backgroundInFlight.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    public int backgroundInFlight() {
+        return backgroundInFlight.get();
+    }
+
+    public boolean isInteractiveActive(Duration cooldown) {
+        if (interactiveInFlight.get() > 0) {
+            return true;
+        }
+        return lastInteractiveActivityAt.plus(cooldown).isAfter(clock.instant());
+    }
+}
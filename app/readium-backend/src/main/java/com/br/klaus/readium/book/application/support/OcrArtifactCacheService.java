@@ -0,0 +1,182 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrArtifact;
+import com.br.klaus.readium.book.domain.model.OcrEngineProfile;
+import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.domain.port.BookStoragePort;
+import com.br.klaus.readium.book.domain.port.OcrArtifactRepositoryPort;
+import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
+import com.br.klaus.readium.exception.StorageException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OcrArtifactCacheService {
+
+    private final OcrArtifactRepositoryPort repository;
+    private final BookRepositoryPort bookRepository;
+    private final OcrGatewayPort ocrGateway;
+    private final BookStoragePort storageService;
+
+    @Value("${app.ocr.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Transactional
+    public Optional<OcrGatewayResult> applyCached(Book book) {
+        if (!isCacheable(book)) {
+            return Optional.empty();
+        }
+
+        OcrEngineProfile profile = ocrGateway.profile();
+        OcrArtifact artifact = findByKey(book.getFileHash(), profile).orElse(null);
+        if (artifact == null) {
+            return Optional.empty();
+        }
+
+        if (!outputAvailable(artifact)) {
+            log.warn("Artefato OCR {} aponta para arquivo inexistente ({}). Reprocessando.",
+                    artifact.getId(), artifact.getArtifactPath());
+            return Optional.empty();
+        }
+
+        attach(book, artifact.getId());
+        return Optional.of(new OcrGatewayResult(artifact.getArtifactPath(), artifact.getScore()));
+    }
+
+    /**
+     * Registra o resultado do OCR e devolve o arquivo que o livro deve usar. Um artefato com arquivo valido
+     * nunca e sobrescrito: quem perde a corrida pela mesma chave adota o do vencedor e descarta a propria
+     * saida. So um artefato cujo arquivo sumiu recebe o novo caminho, e os livros que o usam sao reapontados.
+     */
+    @Transactional
+    public OcrGatewayResult store(Book book, OcrGatewayResult result) {
+        if (!isCacheable(book) || result == null) {
+            return result;
+        }
+
+        OcrEngineProfile profile = ocrGateway.profile();
+        OcrArtifact artifact = findByKey(book.getFileHash(), profile).orElse(null);
+        if (artifact == null) {
+            repository.insertIfAbsent(OcrArtifact.create(
+                    book.getFileHash(),
+                    profile,
+                    result.processedFilePath(),
+                    result.score()
+            ));
+            artifact = findByKey(book.getFileHash(), profile)
+                    .orElseThrow(() -> new IllegalStateException("Artefato OCR nao encontrado apos registro."));
+        }
+
+        if (!Objects.equals(artifact.getArtifactPath(), result.processedFilePath())) {
+            if (outputAvailable(artifact)) {
+                discardOutput(book, result.processedFilePath());
+            } else {
+                relocate(artifact, result);
+            }
+        }
+
+        attach(book, artifact.getId());
+        return new OcrGatewayResult(artifact.getArtifactPath(), artifact.getScore());
+    }
+
+    @Transactional
+    public void release(Book book) {
+        if (book.getOcrArtifactId() == null) {
+            return;
+        }
+
+        repository.release(book.getOcrArtifactId());
+        book.setOcrArtifactId(null);
+    }
+
+    @Transactional
+    public int purgeUnreferencedOlderThanDays(long retentionDays) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("Retencao invalida para cache de OCR. Use pelo menos 1 dia.");
+        }
+
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        List<OcrArtifact> unreferenced = repository.findUnreferencedUsedBefore(threshold);
+        int purged = 0;
+        for (OcrArtifact artifact : unreferenced) {
+            try {
+                storageService.delete(artifact.getArtifactPath());
+            } catch (StorageException ex) {
+                log.warn("Falha ao remover arquivo do artefato OCR {} ({}). Mantendo registro para nova tentativa.",
+                        artifact.getId(), artifact.getArtifactPath(), ex);
+                continue;
+            }
+            repository.delete(artifact);
+            purged++;
+        }
+        return purged;
+    }
+
+    private void attach(Book book, Long artifactId) {
+        if (Objects.equals(book.getOcrArtifactId(), artifactId)) {
+            return;
+        }
+        if (book.getOcrArtifactId() != null) {
+            repository.release(book.getOcrArtifactId());
+        }
+        repository.acquire(artifactId);
+        book.setOcrArtifactId(artifactId);
+    }
+
+    private void relocate(OcrArtifact artifact, OcrGatewayResult result) {
+        String previousPath = artifact.getArtifactPath();
+        artifact.replaceOutput(result.processedFilePath(), result.score());
+        repository.save(artifact);
+        int repointed = bookRepository.repointOcrArtifact(artifact.getId(), artifact.getArtifactPath());
+        deleteQuietly(previousPath);
+        log.info("Artefato OCR {} substituido ({} -> {}); {} livro(s) reapontado(s).",
+                artifact.getId(), previousPath, artifact.getArtifactPath(), repointed);
+    }
+
+    private void discardOutput(Book book, String outputPath) {
+        if (Objects.equals(outputPath, book.getFilePath())) {
+            return;
+        }
+        deleteQuietly(outputPath);
+    }
+
+    private void deleteQuietly(String path) {
+        if (!StringUtils.hasText(path)) {
+            return;
+        }
+        try {
+            storageService.delete(path);
+        } catch (StorageException ex) {
+            log.warn("Falha ao remover saida de OCR descartada ({}).", path, ex);
+        }
+    }
+
+    private static boolean outputAvailable(OcrArtifact artifact) {
+        return !StringUtils.hasText(artifact.getArtifactPath()) || Files.exists(Paths.get(artifact.getArtifactPath()));
+    }
+
+    private Optional<OcrArtifact> findByKey(String fileHash, OcrEngineProfile profile) {
+        return repository.findByKey(fileHash, profile.engine(), profile.languages(), profile.version());
+    }
+
+    private boolean isCacheable(Book book) {
+        return cacheEnabled
+                && book.getBookFormat() == Book.BookFormat.PDF
+                && StringUtils.hasText(book.getFileHash());
+    }
+}
@@ -0,0 +1,33 @@
+package com.br.klaus.readium.book.application.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrArtifactGarbageCollector {
+
+    private final OcrArtifactCacheService cacheService;
+
+    @Value("${app.ocr.cache.gc.enabled:true}")
+    private boolean gcEnabled;
+
+    @Value("${app.ocr.cache.unreferenced-retention-days:30}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${app.ocr.cache.gc.fixed-delay-ms:21600000}")
+    public void purgeUnreferencedArtifacts() {
+        if (!gcEnabled) {
+            return;
+        }
+
+        int purged = cacheService.purgeUnreferencedOlderThanDays(retentionDays);
+        if (purged > 0) {
+            log.info("GC de cache OCR removeu {} artefato(s) sem referencia ha mais de {} dia(s).", purged, retentionDays);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import com.br.klaus.readium.book.domain.service.OcrOffPeakWindows;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.OptionalDouble;
+
+/**
+ * Decide quantos jobs de backlog podem comecar. Alem dos contadores deste processo, consulta os leases
+ * gravados em {@code book}, que refletem os jobs de todos os workers que compartilham o banco.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrBacklogGate {
+
+    private final BookRepositoryPort repository;
+    private final HostLoadPort hostLoad;
+    private final OcrActivityTracker activityTracker;
+
+    @Value("${app.ocr.backlog.enabled:true}")
+    private boolean backlogEnabled;
+
+    @Value("${app.ocr.backlog.windows:01:00-06:00}")
+    private String offPeakWindows;
+
+    @Value("${app.ocr.backlog.max-load-per-core:0.5}")
+    private double maxLoadPerCore;
+
+    @Value("${app.ocr.backlog.max-concurrent:1}")
+    private int maxConcurrent;
+
+    @Value("${app.ocr.backlog.interactive-cooldown-seconds:300}")
+    private long interactiveCooldownSeconds;
+
+    public int availableSlots() {
+        if (!backlogEnabled) {
+            return 0;
+        }
+
+        if (!OcrOffPeakWindows.parse(offPeakWindows).contains(LocalTime.now())) {
+            return 0;
+        }
+
+        if (isInteractiveActive()) {
+            log.debug("Backlog de OCR pausado: ha OCR interativo em andamento ou recente.");
+            return 0;
+        }
+
+        long backgroundRunning = Math.max(
+                activityTracker.backgroundInFlight(),
+                repository.countRunningOcrJobs(Book.OcrPriority.BACKGROUND)
+        );
+        int availableSlots = (int) (Math.max(maxConcurrent, 1) - backgroundRunning);
+        if (availableSlots <= 0 || !isWithinLoadBudget()) {
+            return 0;
+        }
+        return availableSlots;
+    }
+
+    public boolean isInteractiveActive() {
+        Duration cooldown = interactiveCooldown();
+        return activityTracker.isInteractiveActive(cooldown)
+                || repository.countRunningOcrJobs(Book.OcrPriority.INTERACTIVE) > 0
+                || repository.existsOcrActivitySince(Book.OcrPriority.INTERACTIVE, LocalDateTime.now().minus(cooldown));
+    }
+
+    private Duration interactiveCooldown() {
+        return Duration.ofSeconds(Math.max(interactiveCooldownSeconds, 0));
+    }
+
+    private boolean isWithinLoadBudget() {
+        OptionalDouble loadAverage = hostLoad.loadAverage();
+        if (loadAverage.isEmpty()) {
+            return true;
+        }
+
+        double loadPerCore = loadAverage.getAsDouble() / hostLoad.availableProcessors();
+        if (loadPerCore > maxLoadPerCore) {
+            log.debug("Backlog de OCR pausado: carga por nucleo {} acima do limite {}.", loadPerCore, maxLoadPerCore);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.events.BookOcrRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrBacklogScheduler {
+
+    private final BookRepositoryPort repository;
+    private final OcrBacklogGate backlogGate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.jobs.mode:EMBEDDED}")
+    private BookJobsMode jobsMode;
+
+    @Scheduled(fixedDelayString = "${app.ocr.backlog.fixed-delay-ms:60000}")
+    @Transactional
+    public void dispatchBacklog() {
+        if (!jobsMode.runsEventDrivenJobs()) {
+            return;
+        }
+
+        int availableSlots = backlogGate.availableSlots();
+        if (availableSlots <= 0) {
+            return;
+        }
+
+        List<Book> backlog = repository.findOcrBacklog(availableSlots);
+        for (Book book : backlog) {
+            log.info("Despachando OCR em segundo plano para livro {} (score={})", book.getId(), book.getOcrScore());
+            eventPublisher.publishEvent(BookOcrRequestedEvent.background(book.getId()));
+        }
+    }
+}
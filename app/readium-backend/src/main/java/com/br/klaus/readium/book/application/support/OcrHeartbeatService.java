@@ -0,0 +1,73 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.persistence.SqliteWriteQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrHeartbeatService {
+
+    private final BookRepositoryPort repository;
+    private final OcrWorkerIdentity workerIdentity;
+    private final SqliteWriteQueue writeQueue;
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ocr-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.ocr.heartbeat.interval-seconds:10}")
+    private long heartbeatIntervalSeconds;
+
+    public String leaseOwner() {
+        return workerIdentity.id();
+    }
+
+    public Heartbeat start(Long bookId) {
+        long interval = Math.max(heartbeatIntervalSeconds, 1);
+        ScheduledFuture<?> task = heartbeatScheduler.scheduleAtFixedRate(
+                () -> beat(bookId),
+                interval,
+                interval,
+                TimeUnit.SECONDS
+        );
+        return () -> task.cancel(false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    private void beat(Long bookId) {
+        try {
+            int updated = writeQueue.execute(
+                    () -> repository.touchOcrHeartbeat(bookId, workerIdentity.id(), LocalDateTime.now())
+            );
+            if (updated == 0) {
+                log.warn("Heartbeat OCR do livro {} nao encontrou lease ativo para o worker {}.", bookId, workerIdentity.id());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao registrar heartbeat OCR do livro {}.", bookId, ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Heartbeat extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,155 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
+import com.br.klaus.readium.exception.OcrCapacityUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OcrJobProcessor {
+
+    private static final String OCR_DEFERRED_DETAILS = "Aguardando vaga de OCR. Nova tentativa em instantes.";
+
+    private final BookRepositoryPort bookRepository;
+    private final OcrGatewayPort ocrGateway;
+    private final OcrArtifactCacheService ocrArtifactCache;
+    private final OcrHeartbeatService heartbeatService;
+    private final BookContentIndexService contentIndexService;
+
+    /**
+     * @return {@code false} quando nao houve vaga de OCR e o livro voltou para a fila como PENDING.
+     */
+    public boolean process(Long bookId) {
+        Book book = bookRepository.findById(bookId).orElse(null);
+        if (book == null) {
+            log.warn("Livro {} nao encontrado para processamento OCR.", bookId);
+            return true;
+        }
+        return run(book);
+    }
+
+    public boolean run(Book book) {
+        Instant startedAt = Instant.now();
+        Optional<OcrGatewayResult> cached = ocrArtifactCache.applyCached(book);
+        if (cached.isPresent()) {
+            book.markOcrDone(cached.get().score(), cached.get().processedFilePath());
+            bookRepository.save(book);
+            requestReindexIfTextLayerChanged(book);
+            log.info("OCR reaproveitado do cache para livro {} (hash={})", book.getId(), book.getFileHash());
+            return true;
+        }
+
+        log.info("Iniciando OCR para livro {} (titulo='{}')", book.getId(), book.getTitle());
+        try (RunningLease lease = new RunningLease(book)) {
+            OcrGatewayResult result = cacheResult(book, ocrGateway.process(book, lease::begin));
+            book.markOcrDone(result.score(), result.processedFilePath());
+            long elapsedSeconds = Duration.between(startedAt, Instant.now()).toSeconds();
+            log.info("OCR finalizado para livro {} com score {} em {}s", book.getId(), result.score(), elapsedSeconds);
+        } catch (OcrCapacityUnavailableException ex) {
+            book.markOcrDeferred(OCR_DEFERRED_DETAILS);
+            bookRepository.save(book);
+            log.warn("Sem vaga de OCR para livro {}; processamento adiado.", book.getId());
+            return false;
+        } catch (Exception ex) {
+            String details = resolveFailureDetails(ex);
+            book.markOcrFailed(details);
+            log.error("Falha no OCR do livro {}", book.getId(), ex);
+        }
+
+        bookRepository.save(book);
+        requestReindexIfTextLayerChanged(book);
+        return true;
+    }
+
+    private void requestReindexIfTextLayerChanged(Book book) {
+        if (book.getOcrStatus() != Book.OcrStatus.DONE || Objects.equals(book.resolveReadableFilePath(), book.getFilePath())) {
+            return;
+        }
+
+        try {
+            contentIndexService.requestReindex(book.getId());
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao agendar reindexacao de conteudo do livro {}.", book.getId(), ex);
+        }
+    }
+
+    private boolean isLeasedByThisWorker(Book book) {
+        return book.getOcrStatus() == Book.OcrStatus.RUNNING
+                && Objects.equals(book.getOcrLeaseOwner(), heartbeatService.leaseOwner());
+    }
+
+    private OcrGatewayResult cacheResult(Book book, OcrGatewayResult result) {
+        try {
+            return ocrArtifactCache.store(book, result);
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao registrar artefato OCR em cache para livro {}.", book.getId(), ex);
+            return result;
+        }
+    }
+
+    private String resolveFailureDetails(Exception ex) {
+        Throwable current = ex;
+        while (current.getCause() != null) {
+            current = current.getCause();
+        }
+
+        String message = current.getMessage();
+        if (message == null || message.isBlank()) {
+            return "Falha ao processar OCR.";
+        }
+
+        String normalized = message.trim().toLowerCase(Locale.ROOT);
+        if (normalized.contains("timeout")) {
+            return "OCR excedeu o tempo limite de processamento.";
+        }
+        if (normalized.contains("codigo")) {
+            return "OCR finalizou com erro.";
+        }
+        return "Falha ao processar OCR.";
+    }
+
+    /**
+     * Marca o livro como RUNNING e inicia o heartbeat apenas quando o gateway obtem a vaga; livros ja
+     * reivindicados por este worker mantem o lease desde o inicio.
+     */
+    private final class RunningLease implements AutoCloseable {
+
+        private final Book book;
+        private OcrHeartbeatService.Heartbeat heartbeat;
+
+        private RunningLease(Book book) {
+            this.book = book;
+            if (isLeasedByThisWorker(book)) {
+                heartbeat = heartbeatService.start(book.getId());
+            }
+        }
+
+        private void begin() {
+            if (heartbeat != null) {
+                return;
+            }
+            book.markOcrRunning(heartbeatService.leaseOwner());
+            bookRepository.save(book);
+            heartbeat = heartbeatService.start(book.getId());
+        }
+
+        @Override
+        public void close() {
+            if (heartbeat != null) {
+                heartbeat.close();
+            }
+        }
+    }
+}
@@ -14,10 +14,13 @@ import java.time.LocalDateTime;
 @Slf4j
 public class OcrRunningRecoveryService {
 
+    private static final String STALE_LEASE_DETAILS =
+            "Worker de OCR parou de enviar heartbeat; job marcado como FAILED automaticamente.";
+
     private final BookRepositoryPort repository;
 
-    @Value("${app.ocr.running-timeout-seconds:2400}")
-    private long ocrRunningTimeoutSeconds;
+    @Value("${app.ocr.heartbeat.stale-after-seconds:45}")
+    private long staleAfterSeconds;
 
     public void recoverIfStale(Book book) {
         if (!isStale(book)) {
@@ -25,27 +28,32 @@ public class OcrRunningRecoveryService {
         }
 
         log.warn(
-                "OCR em estado RUNNING estagnado para livro {} (updatedAt={}). Marcando como FAILED para permitir novo processamento.",
+                "OCR em estado RUNNING sem heartbeat para livro {} (heartbeatAt={}, worker={}). Marcando como FAILED para permitir novo processamento.",
                 book.getId(),
-                book.getOcrUpdatedAt()
+                book.getOcrHeartbeatAt(),
+                book.getOcrLeaseOwner()
         );
 
-        book.markOcrFailed("OCR ficou em RUNNING por tempo excedido e foi marcado como FAILED automaticamente.");
+        book.markOcrFailed(STALE_LEASE_DETAILS);
         repository.save(book);
     }
 
+    public int recoverStaleLeases() {
+        return repository.failStaleOcrLeases(staleThreshold(), STALE_LEASE_DETAILS);
+    }
+
     private boolean isStale(Book book) {
         if (book.getOcrStatus() != Book.OcrStatus.RUNNING) {
             return false;
         }
 
-        if (book.getOcrUpdatedAt() == null) {
+        if (book.getOcrHeartbeatAt() == null) {
             return true;
         }
+        return book.getOcrHeartbeatAt().isBefore(staleThreshold());
+    }
 
-        long timeoutSeconds = Math.max(ocrRunningTimeoutSeconds, 60);
-        LocalDateTime staleThreshold = LocalDateTime.now().minusSeconds(timeoutSeconds);
-        return book.getOcrUpdatedAt().isBefore(staleThreshold);
+    private LocalDateTime staleThreshold() {
+        return LocalDateTime.now().minusSeconds(Math.max(staleAfterSeconds, 5));
     }
 }
-
@@ -0,0 +1,36 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class OcrTriageService {
+
+    @Value("${app.ocr.triage.enabled:true}")
+    private boolean triageEnabled;
+
+    @Value("${app.ocr.triage.score-threshold:60}")
+    private double scoreThreshold;
+
+    public boolean triage(Book book, double textLayerScore) {
+        if (!triageEnabled || book.getBookFormat() != Book.BookFormat.PDF || !book.isOcrUntriaged()) {
+            return false;
+        }
+
+        if (textLayerScore >= scoreThreshold) {
+            return false;
+        }
+
+        book.markOcrBacklogged(textLayerScore);
+        log.info(
+                "Livro {} com score de camada de texto {} abaixo de {}; OCR agendado em segundo plano.",
+                book.getId(),
+                textLayerScore,
+                scoreThreshold
+        );
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.br.klaus.readium.book.application.support;
+
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+@Component
+public class OcrWorkerIdentity {
+
+    private final String id;
+
+    public OcrWorkerIdentity() {
+        this.id = resolveHostName() + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "unknown-host";
+        }
+    }
+}
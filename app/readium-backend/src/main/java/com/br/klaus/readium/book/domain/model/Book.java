@@ -2,18 +2,29 @@ package com.br.klaus.readium.book.domain.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.Locale;
+import java.util.Objects;
 
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_book_status", columnList = "book_status"),
-        @Index(name = "idx_book_title", columnList = "title"),
         @Index(name = "idx_book_author", columnList = "author"),
         @Index(name = "idx_book_ocr_status", columnList = "ocr_status"),
-        @Index(name = "idx_book_file_hash", columnList = "file_hash", unique = true)
+        @Index(name = "idx_book_ocr_backlog", columnList = "ocr_status, ocr_priority, ocr_score"),
+        @Index(name = "idx_book_ocr_lease", columnList = "ocr_status, ocr_heartbeat_at"),
+        @Index(name = "idx_book_ocr_activity", columnList = "ocr_priority, ocr_updated_at"),
+        @Index(name = "idx_book_ingest_queue", columnList = "ingest_status, ingest_lease_expires_at"),
+        @Index(name = "idx_book_file_hash", columnList = "file_hash", unique = true),
+        @Index(name = "idx_book_list", columnList = "id, title, author, pages, last_read_page, book_format, book_status, has_cover"),
+        @Index(name = "idx_book_list_title", columnList = "title, id, author, pages, last_read_page, book_format, book_status, has_cover"),
+        @Index(name = "idx_book_list_status", columnList = "book_status, id, title, author, pages, last_read_page, book_format, has_cover")
 })
 @Data
 public class Book {
@@ -30,6 +41,8 @@ public class Book {
 
     private Integer lastReadPage = 0;
 
+    private LocalDateTime lastReadAt;
+
     @JsonIgnore
     private String coverPath;
 
@@ -45,6 +58,9 @@ public class Book {
     @JsonIgnore
     private String ocrFilePath;
 
+    @JsonIgnore
+    private Long ocrArtifactId;
+
     @Enumerated(EnumType.STRING)
     private BookFormat bookFormat;
 
@@ -54,6 +70,10 @@ public class Book {
     @Enumerated(EnumType.STRING)
     private OcrStatus ocrStatus = OcrStatus.PENDING;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private OcrPriority ocrPriority;
+
     private Double ocrScore;
 
     @Column(length = 2000)
@@ -61,6 +81,36 @@ public class Book {
 
     private LocalDateTime ocrUpdatedAt;
 
+    @JsonIgnore
+    @Column(length = 128)
+    private String ocrLeaseOwner;
+
+    @JsonIgnore
+    private LocalDateTime ocrHeartbeatAt;
+
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private IngestStatus ingestStatus;
+
+    @JsonIgnore
+    @Column(length = 128)
+    private String ingestLeaseOwner;
+
+    @JsonIgnore
+    private LocalDateTime ingestLeaseExpiresAt;
+
+    /**
+     * Titulo e autor como estao no indice de busca; {@code null} enquanto o livro nunca foi indexado.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String indexedSearchFields;
+
     public enum BookFormat {
         PDF,
         EPUB,
@@ -79,6 +129,30 @@ public class Book {
         FAILED
     }
 
+    public enum IngestStatus {
+        PENDING,
+        DONE,
+        FAILED
+    }
+
+    public enum OcrPriority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    public boolean hasUnindexedSearchFields() {
+        return !Objects.equals(indexedSearchFields, searchFields());
+    }
+
+    @PostLoad
+    public void markSearchFieldsIndexed() {
+        this.indexedSearchFields = searchFields();
+    }
+
+    private String searchFields() {
+        return Objects.requireNonNullElse(title, "") + '\u0000' + Objects.requireNonNullElse(author, "");
+    }
+
     public static Book create(String title, String filePath, String originalFilename) {
         Book book = new Book();
         String normalizedFilename = originalFilename == null ? "" : originalFilename.toLowerCase(Locale.ROOT);
@@ -90,18 +164,61 @@ public class Book {
         book.setLastReadPage(0);
         book.setOcrStatus(OcrStatus.PENDING);
         book.setOcrUpdatedAt(LocalDateTime.now());
+        book.setIngestStatus(IngestStatus.PENDING);
         return book;
     }
 
+    public void markIngestDone() {
+        this.ingestStatus = IngestStatus.DONE;
+        this.ingestLeaseOwner = null;
+        this.ingestLeaseExpiresAt = null;
+    }
+
+    public void markIngestFailed() {
+        this.ingestStatus = IngestStatus.FAILED;
+        this.ingestLeaseOwner = null;
+        this.ingestLeaseExpiresAt = null;
+    }
+
     public void markOcrQueued() {
         this.ocrStatus = OcrStatus.PENDING;
+        this.ocrPriority = OcrPriority.INTERACTIVE;
         this.ocrDetails = null;
         this.ocrUpdatedAt = LocalDateTime.now();
     }
 
-    public void markOcrRunning() {
+    public void markOcrBacklogged(double textLayerScore) {
+        this.ocrStatus = OcrStatus.PENDING;
+        this.ocrPriority = OcrPriority.BACKGROUND;
+        this.ocrScore = textLayerScore;
+        this.ocrDetails = "OCR agendado automaticamente para janela de baixa demanda.";
+        this.ocrUpdatedAt = LocalDateTime.now();
+    }
+
+    public boolean isOcrBacklogged() {
+        return this.ocrStatus == OcrStatus.PENDING && this.ocrPriority == OcrPriority.BACKGROUND;
+    }
+
+    public boolean isOcrUntriaged() {
+        return (this.ocrStatus == null || this.ocrStatus == OcrStatus.PENDING) && this.ocrPriority == null;
+    }
+
+    public void markOcrRunning(String leaseOwner) {
+        LocalDateTime now = LocalDateTime.now();
         this.ocrStatus = OcrStatus.RUNNING;
         this.ocrDetails = "OCR em andamento.";
+        this.ocrLeaseOwner = leaseOwner;
+        this.ocrHeartbeatAt = now;
+        this.ocrUpdatedAt = now;
+    }
+
+    public void markOcrDeferred(String details) {
+        this.ocrStatus = OcrStatus.PENDING;
+        if (this.ocrPriority == null) {
+            this.ocrPriority = OcrPriority.INTERACTIVE;
+        }
+        this.ocrDetails = details;
+        this.ocrLeaseOwner = null;
         this.ocrUpdatedAt = LocalDateTime.now();
     }
 
@@ -109,6 +226,7 @@ public class Book {
         this.ocrStatus = OcrStatus.DONE;
         this.ocrScore = score;
         this.ocrDetails = "OCR concluido com sucesso.";
+        this.ocrLeaseOwner = null;
         if (processedFilePath != null && !processedFilePath.isBlank()) {
             this.ocrFilePath = processedFilePath;
         }
@@ -121,6 +239,7 @@ public class Book {
 
     public void markOcrFailed(String details) {
         this.ocrStatus = OcrStatus.FAILED;
+        this.ocrLeaseOwner = null;
         if (details == null || details.isBlank()) {
             this.ocrDetails = "Falha ao processar OCR.";
         } else {
@@ -129,6 +248,23 @@ public class Book {
         this.ocrUpdatedAt = LocalDateTime.now();
     }
 
+    public String resolveReadableFilePath() {
+        if (this.ocrStatus == OcrStatus.DONE && this.ocrFilePath != null && !this.ocrFilePath.isBlank()) {
+            return this.ocrFilePath;
+        }
+        return this.filePath;
+    }
+
+    public String resolveTextLayerVersion() {
+        if (this.ocrStatus != OcrStatus.DONE || this.ocrFilePath == null || this.ocrFilePath.isBlank()) {
+            return "original";
+        }
+        if (this.ocrArtifactId != null) {
+            return "ocr-a" + this.ocrArtifactId;
+        }
+        return "ocr-" + Integer.toHexString(this.ocrFilePath.hashCode());
+    }
+
     public void updateReadingProgress(int newPage) {
         validateProgressPage(newPage);
         int currentPage = this.lastReadPage == null ? 0 : this.lastReadPage;
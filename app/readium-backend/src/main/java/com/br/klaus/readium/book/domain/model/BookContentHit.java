@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record BookContentHit(Long bookId, String title, String author, int page, String snippet, double rank) {
+}
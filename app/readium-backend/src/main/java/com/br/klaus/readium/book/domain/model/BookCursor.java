@@ -0,0 +1,16 @@
+package com.br.klaus.readium.book.domain.model;
+
+/**
+ * Posicao da paginacao por cursor. {@code sortKey} e o valor opaco da chave de ordenacao do ultimo livro
+ * entregue; na ordem padrao o id basta.
+ */
+public record BookCursor(long lastId, BookSortMode sortMode, String sortKey) {
+
+    public BookCursor {
+        sortMode = sortMode == null ? BookSortMode.DEFAULT : sortMode;
+    }
+
+    public BookCursor(long lastId) {
+        this(lastId, BookSortMode.DEFAULT, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record BookListItem(
+        Long id,
+        String title,
+        String author,
+        Integer pages,
+        Integer lastReadPage,
+        Book.BookFormat bookFormat,
+        Book.BookStatus bookStatus,
+        boolean hasCover,
+        String sortKey
+) {
+}
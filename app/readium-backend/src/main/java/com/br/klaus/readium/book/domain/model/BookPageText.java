@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record BookPageText(Long bookId, int page, int totalPages, String text) {
+}
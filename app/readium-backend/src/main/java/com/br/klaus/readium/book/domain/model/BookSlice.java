@@ -0,0 +1,10 @@
+package com.br.klaus.readium.book.domain.model;
+
+import java.util.List;
+
+public record BookSlice(List<BookListItem> books, BookCursor nextCursor, Long totalElements) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
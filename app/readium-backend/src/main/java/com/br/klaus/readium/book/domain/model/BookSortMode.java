@@ -0,0 +1,22 @@
+package com.br.klaus.readium.book.domain.model;
+
+import java.util.Locale;
+
+public enum BookSortMode {
+    DEFAULT,
+    RECENTLY_READ,
+    RECENTLY_ADDED,
+    PROGRESS,
+    REMAINING_PAGES;
+
+    public static BookSortMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Ordenacao nao suportada: " + value);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.br.klaus.readium.book.domain.model;
+
+import java.util.List;
+
+public record BookTextMatch(int page, String snippet, List<HighlightRect> rects) {
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record BookTextSignature(Long bookId, String textLayer, MinHashSignature signature, long revision) {
+}
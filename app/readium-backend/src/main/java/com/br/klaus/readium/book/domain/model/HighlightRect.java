@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record HighlightRect(double x, double y, double width, double height) {
+}
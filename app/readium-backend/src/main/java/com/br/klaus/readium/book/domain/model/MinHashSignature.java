@@ -0,0 +1,17 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record MinHashSignature(int[] hashes, int shingleCount) {
+
+    public double similarity(MinHashSignature other) {
+        if (other == null || hashes.length != other.hashes.length || hashes.length == 0) {
+            return 0;
+        }
+        int equal = 0;
+        for (int index = 0; index < hashes.length; index++) {
+            if (hashes[index] == other.hashes[index]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes.length;
+    }
+}
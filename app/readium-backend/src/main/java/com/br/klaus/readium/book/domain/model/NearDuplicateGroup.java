@@ -0,0 +1,10 @@
+package com.br.klaus.readium.book.domain.model;
+
+import java.util.List;
+
+public record NearDuplicateGroup(List<Long> bookIds, List<NearDuplicatePair> pairs) {
+
+    public double maxSimilarity() {
+        return pairs.stream().mapToDouble(NearDuplicatePair::similarity).max().orElse(0);
+    }
+}
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record NearDuplicatePair(Long leftBookId, Long rightBookId, double similarity) {
+}
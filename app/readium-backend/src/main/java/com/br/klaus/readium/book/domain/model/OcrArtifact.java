@@ -0,0 +1,78 @@
+package com.br.klaus.readium.book.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "ocr_artifact",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_ocr_artifact_key",
+                        columnNames = {"file_hash", "engine", "languages", "engine_version"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_ocr_artifact_unreferenced", columnList = "ref_count,last_used_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OcrArtifact {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_hash", nullable = false, length = 64)
+    private String fileHash;
+
+    @Column(name = "engine", nullable = false, length = 32)
+    private String engine;
+
+    @Column(name = "languages", nullable = false, length = 120)
+    private String languages;
+
+    @Column(name = "engine_version", nullable = false, length = 64)
+    private String engineVersion;
+
+    @Column(name = "artifact_path", length = 1024)
+    private String artifactPath;
+
+    @Column(name = "score")
+    private Double score;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    public static OcrArtifact create(String fileHash, OcrEngineProfile profile, String artifactPath, Double score) {
+        OcrArtifact artifact = new OcrArtifact();
+        LocalDateTime now = LocalDateTime.now();
+        artifact.fileHash = fileHash;
+        artifact.engine = profile.engine();
+        artifact.languages = profile.languages();
+        artifact.engineVersion = profile.version();
+        artifact.artifactPath = artifactPath;
+        artifact.score = score;
+        artifact.refCount = 0;
+        artifact.createdAt = now;
+        artifact.lastUsedAt = now;
+        return artifact;
+    }
+
+    public void replaceOutput(String artifactPath, Double score) {
+        this.artifactPath = artifactPath;
+        this.score = score;
+        this.lastUsedAt = LocalDateTime.now();
+    }
+}
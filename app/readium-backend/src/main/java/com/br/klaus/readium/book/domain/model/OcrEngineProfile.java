@@ -0,0 +1,8 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record OcrEngineProfile(
+        String engine,
+        String languages,
+        String version
+) {
+}
@@ -0,0 +1,46 @@
+package com.br.klaus.readium.book.domain.model;
+
+/**
+ * Texto de uma pagina com a caixa de cada caractere, normalizada em fracoes (0..1) da largura e
+ * altura da pagina com origem no canto superior esquerdo, o mesmo espaco usado pelos Rect das anotacoes.
+ * Caracteres sem geometria (separadores, EPUB) ficam com coordenadas NaN.
+ */
+public record PageGlyphLayout(int page, String text, float[] boxes) {
+
+    public static final int BOX_STRIDE = 4;
+
+    public PageGlyphLayout {
+        text = text == null ? "" : text;
+        if (boxes != null && boxes.length != text.length() * BOX_STRIDE) {
+            throw new IllegalArgumentException("Quantidade de caixas incompativel com o texto da pagina " + page + ".");
+        }
+    }
+
+    public static PageGlyphLayout textOnly(int page, String text) {
+        return new PageGlyphLayout(page, text, null);
+    }
+
+    public boolean hasGeometry() {
+        return boxes != null;
+    }
+
+    public boolean hasBox(int charIndex) {
+        return boxes != null && !Float.isNaN(boxes[charIndex * BOX_STRIDE]);
+    }
+
+    public float x(int charIndex) {
+        return boxes[charIndex * BOX_STRIDE];
+    }
+
+    public float y(int charIndex) {
+        return boxes[charIndex * BOX_STRIDE + 1];
+    }
+
+    public float width(int charIndex) {
+        return boxes[charIndex * BOX_STRIDE + 2];
+    }
+
+    public float height(int charIndex) {
+        return boxes[charIndex * BOX_STRIDE + 3];
+    }
+}
@@ -0,0 +1,8 @@
+package com.br.klaus.readium.book.domain.model;
+
+public record PageLayoutIndexState(String sourcePath, int pagesIndexed, boolean complete) {
+
+    public boolean matchesSource(String path) {
+        return sourcePath != null && sourcePath.equals(path);
+    }
+}
@@ -0,0 +1,25 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.BookContentHit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookContentIndexPort {
+
+    void replaceBookPages(Long bookId, String sourcePath, List<String> pages);
+
+    void markPending(Long bookId);
+
+    void markFailed(Long bookId, String sourcePath);
+
+    void removeBook(Long bookId);
+
+    void removeBooks(Collection<Long> bookIds);
+
+    List<Long> findBooksPendingIndex(int limit);
+
+    Page<BookContentHit> search(String matchExpression, Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface BookListReadPort {
+
+    Page<BookListItem> findPage(
+            Book.BookStatus status,
+            String query,
+            Long categoryId,
+            Long collectionId,
+            BookSortMode sortMode,
+            Pageable pageable
+    );
+
+    List<BookListItem> findAfter(
+            Book.BookStatus status,
+            String query,
+            Long categoryId,
+            Long collectionId,
+            BookSortMode sortMode,
+            BookCursor after,
+            int limit
+    );
+
+    long count(Book.BookStatus status, String query, Long categoryId, Long collectionId);
+}
@@ -0,0 +1,25 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import com.br.klaus.readium.book.domain.model.PageLayoutIndexState;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookPageLayoutIndexPort {
+
+    Optional<PageLayoutIndexState> findState(Long bookId);
+
+    void reset(Long bookId, String sourcePath);
+
+    void savePage(Long bookId, PageGlyphLayout layout);
+
+    void markComplete(Long bookId);
+
+    List<PageGlyphLayout> findPages(Long bookId, int fromPage, int limit);
+
+    void removeBook(Long bookId);
+
+    void removeBooks(Collection<Long> bookIds);
+}
@@ -0,0 +1,15 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+
+import java.util.function.Predicate;
+
+public interface BookPageLayoutPort {
+
+    /**
+     * Extrai as paginas a partir de {@code fromPage} em ordem, entregando cada uma ao consumidor.
+     * Retorna {@code true} quando o livro foi percorrido ate o fim e {@code false} quando o consumidor interrompeu.
+     */
+    boolean extractLayouts(Book book, int fromPage, Predicate<PageGlyphLayout> consumer);
+}
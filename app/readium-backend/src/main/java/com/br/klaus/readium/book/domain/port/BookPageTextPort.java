@@ -0,0 +1,10 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.Book;
+
+import java.util.List;
+
+public interface BookPageTextPort {
+
+    List<String> extractPages(Book book);
+}
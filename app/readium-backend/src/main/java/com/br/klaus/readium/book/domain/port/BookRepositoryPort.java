@@ -1,9 +1,9 @@
 package com.br.klaus.readium.book.domain.port;
 
 import com.br.klaus.readium.book.domain.model.Book;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,17 +11,46 @@ public interface BookRepositoryPort {
 
     List<Book> findAll();
 
-    Page<Book> findAll(Book.BookStatus status, String query, Long categoryId, Long collectionId, Pageable pageable);
-
     Optional<Book> findById(Long id);
 
+    List<Book> findAllById(Collection<Long> ids);
+
     boolean existsById(Long id);
 
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    List<Long> findIdsWithStatus(Collection<Long> ids, Book.BookStatus status);
+
+    /**
+     * Atualiza o status dos livros informados, que o chamador ja filtrou para os que de fato mudam.
+     */
+    int updateStatus(Collection<Long> ids, Book.BookStatus status);
+
     Optional<Book> findByFileHash(String fileHash);
 
-    List<Book> findByOcrStatus(Book.OcrStatus status);
+    List<Book> findOcrBacklog(int limit);
+
+    long countRunningOcrJobs(Book.OcrPriority priority);
+
+    boolean existsOcrActivitySince(Book.OcrPriority priority, LocalDateTime since);
+
+    int touchOcrHeartbeat(Long bookId, String leaseOwner, LocalDateTime heartbeatAt);
+
+    int failStaleOcrLeases(LocalDateTime staleBefore, String details);
+
+    int repointOcrArtifact(Long artifactId, String ocrFilePath);
+
+    List<Long> findOcrJobCandidateIds(Book.OcrPriority priority, int limit);
+
+    boolean claimOcrJob(Long bookId, String leaseOwner, LocalDateTime claimedAt);
+
+    List<Long> findIngestJobCandidateIds(LocalDateTime now, int limit);
+
+    boolean claimIngestJob(Long bookId, String leaseOwner, LocalDateTime now, LocalDateTime leaseExpiresAt);
 
     Book save(Book book);
 
     void deleteById(Long id);
+
+    void deleteAllById(Collection<Long> ids);
 }
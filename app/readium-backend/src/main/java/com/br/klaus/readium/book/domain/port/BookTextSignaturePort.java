@@ -0,0 +1,22 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.BookTextSignature;
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookTextSignaturePort {
+
+    void save(Long bookId, String textLayer, MinHashSignature signature);
+
+    List<BookTextSignature> findUpdatedAfter(long revision, int limit);
+
+    List<Long> findBooksWithoutSignature(int limit);
+
+    void markFailed(Long bookId);
+
+    void removeBook(Long bookId);
+
+    void removeBooks(Collection<Long> bookIds);
+}
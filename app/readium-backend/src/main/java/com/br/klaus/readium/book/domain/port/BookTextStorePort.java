@@ -0,0 +1,18 @@
+package com.br.klaus.readium.book.domain.port;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public interface BookTextStorePort {
+
+    OptionalInt pageCount(String storeKey, String layerVersion);
+
+    Optional<String> readPage(String storeKey, String layerVersion, int page);
+
+    List<String> readPages(String storeKey, String layerVersion);
+
+    void write(String storeKey, String layerVersion, List<String> pages);
+
+    void delete(String storeKey);
+}
@@ -0,0 +1,13 @@
+package com.br.klaus.readium.book.domain.port;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+public interface HostLoadPort {
+
+    int availableProcessors();
+
+    OptionalDouble loadAverage();
+
+    OptionalLong availableMemoryBytes();
+}
@@ -0,0 +1,26 @@
+package com.br.klaus.readium.book.domain.port;
+
+import com.br.klaus.readium.book.domain.model.OcrArtifact;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OcrArtifactRepositoryPort {
+
+    Optional<OcrArtifact> findByKey(String fileHash, String engine, String languages, String engineVersion);
+
+    Optional<OcrArtifact> findById(Long id);
+
+    OcrArtifact save(OcrArtifact artifact);
+
+    boolean insertIfAbsent(OcrArtifact artifact);
+
+    void acquire(Long artifactId);
+
+    void release(Long artifactId);
+
+    List<OcrArtifact> findUnreferencedUsedBefore(LocalDateTime threshold);
+
+    void delete(OcrArtifact artifact);
+}
@@ -1,9 +1,16 @@
 package com.br.klaus.readium.book.domain.port;
 
 import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrEngineProfile;
 import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
 
 public interface OcrGatewayPort {
 
-    OcrGatewayResult process(Book book);
+    /**
+     * Processa o OCR do livro. {@code onStarted} e chamado quando o trabalho realmente comeca, depois de
+     * obtida a vaga de processamento; enquanto espera, o livro continua na fila.
+     */
+    OcrGatewayResult process(Book book, Runnable onStarted);
+
+    OcrEngineProfile profile();
 }
@@ -0,0 +1,9 @@
+package com.br.klaus.readium.book.domain.port;
+
+import java.io.File;
+import java.io.IOException;
+
+public interface TextLayerScorePort {
+
+    double score(File pdf, int samplePages) throws IOException;
+}
@@ -0,0 +1,59 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class BookCursorCodec {
+
+    private static final String VERSION_PREFIX = "v1:";
+    private static final String SORTED_VERSION_PREFIX = "v2:";
+
+    private BookCursorCodec() {
+    }
+
+    public static String encode(BookCursor cursor) {
+        String raw = cursor.sortMode() == BookSortMode.DEFAULT
+                ? VERSION_PREFIX + cursor.lastId()
+                : SORTED_VERSION_PREFIX + cursor.sortMode().name() + ":" + cursor.lastId() + ":"
+                + (cursor.sortKey() == null ? "" : cursor.sortKey());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (raw.startsWith(VERSION_PREFIX)) {
+                return new BookCursor(parseId(raw.substring(VERSION_PREFIX.length())));
+            }
+            if (!raw.startsWith(SORTED_VERSION_PREFIX)) {
+                throw new IllegalArgumentException("Cursor de paginacao invalido.");
+            }
+            String[] parts = raw.substring(SORTED_VERSION_PREFIX.length()).split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Cursor de paginacao invalido.");
+            }
+            return new BookCursor(
+                    parseId(parts[1]),
+                    BookSortMode.valueOf(parts[0]),
+                    parts[2].isEmpty() ? null : parts[2]
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginacao invalido.", e);
+        }
+    }
+
+    private static long parseId(String value) {
+        long lastId = Long.parseLong(value);
+        if (lastId < 0) {
+            throw new IllegalArgumentException("Cursor de paginacao invalido.");
+        }
+        return lastId;
+    }
+}
@@ -0,0 +1,132 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Calcula MinHash sobre shingles de palavras sem criar strings: cada palavra vira um hash FNV-1a
+ * dobrado (minusculas, sem acentos), os ultimos {@value #SHINGLE_WORDS} hashes formam o shingle
+ * e cada permutacao e um hash multiplicativo. Instancias reaproveitam buffers e nao sao thread-safe.
+ */
+public final class MinHashSignatureCalculator {
+
+    public static final int SIGNATURE_SIZE = 128;
+    static final int SHINGLE_WORDS = 5;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SHINGLE_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final char FOLD_FIRST = '\u00C0';
+    private static final char[] FOLD_TABLE = buildFoldTable('\u024F');
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_SIZE];
+    private static final long[] OFFSETS = new long[SIGNATURE_SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int index = 0; index < SIGNATURE_SIZE; index++) {
+            MULTIPLIERS[index] = random.nextLong() | 1L;
+            OFFSETS[index] = random.nextLong();
+        }
+    }
+
+    private final long[] recentWords = new long[SHINGLE_WORDS];
+    private final int[] minimums = new int[SIGNATURE_SIZE];
+    private long wordCount;
+    private int shingleCount;
+    private long currentWord;
+    private boolean inWord;
+
+    public MinHashSignature compute(Iterable<? extends CharSequence> pages) {
+        Arrays.fill(minimums, Integer.MAX_VALUE);
+        wordCount = 0;
+        shingleCount = 0;
+        inWord = false;
+
+        for (CharSequence page : pages) {
+            if (page == null) {
+                continue;
+            }
+            for (int index = 0; index < page.length(); index++) {
+                char folded = fold(page.charAt(index));
+                if (folded == 0) {
+                    endWord();
+                    continue;
+                }
+                if (!inWord) {
+                    currentWord = FNV_OFFSET;
+                    inWord = true;
+                }
+                currentWord = (currentWord ^ folded) * FNV_PRIME;
+            }
+            endWord();
+        }
+
+        if (wordCount > 0 && wordCount < SHINGLE_WORDS) {
+            addShingle((int) wordCount);
+        }
+        return new MinHashSignature(minimums.clone(), shingleCount);
+    }
+
+    private void endWord() {
+        if (!inWord) {
+            return;
+        }
+        inWord = false;
+        recentWords[(int) (wordCount % SHINGLE_WORDS)] = currentWord;
+        wordCount++;
+        if (wordCount >= SHINGLE_WORDS) {
+            addShingle(SHINGLE_WORDS);
+        }
+    }
+
+    private void addShingle(int words) {
+        long shingle = 0;
+        for (int offset = words; offset > 0; offset--) {
+            shingle = shingle * SHINGLE_MULTIPLIER + recentWords[(int) ((wordCount - offset) % SHINGLE_WORDS)];
+        }
+        shingle = mix(shingle);
+
+        for (int index = 0; index < SIGNATURE_SIZE; index++) {
+            int value = (int) ((MULTIPLIERS[index] * shingle + OFFSETS[index]) >>> 33);
+            if (value < minimums[index]) {
+                minimums[index] = value;
+            }
+        }
+        shingleCount++;
+    }
+
+    private static char fold(char current) {
+        if (current < 128) {
+            if (current >= 'a' && current <= 'z' || current >= '0' && current <= '9') {
+                return current;
+            }
+            return current >= 'A' && current <= 'Z' ? (char) (current + ('a' - 'A')) : 0;
+        }
+        if (current >= FOLD_FIRST && current - FOLD_FIRST < FOLD_TABLE.length) {
+            return FOLD_TABLE[current - FOLD_FIRST];
+        }
+        return Character.isLetterOrDigit(current) ? Character.toLowerCase(current) : 0;
+    }
+
+    private static char[] buildFoldTable(char last) {
+        char[] table = new char[last - FOLD_FIRST + 1];
+        for (char current = FOLD_FIRST; current <= last; current++) {
+            if (!Character.isLetterOrDigit(current)) {
+                continue;
+            }
+            String decomposed = Normalizer.normalize(String.valueOf(current), Normalizer.Form.NFD);
+            char base = Character.toLowerCase(decomposed.charAt(0));
+            table[current - FOLD_FIRST] = base;
+        }
+        return table;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,164 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.book.domain.model.NearDuplicateGroup;
+import com.br.klaus.readium.book.domain.model.NearDuplicatePair;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indice LSH por bandas: a assinatura e dividida em {@value #BANDS} bandas de {@value #ROWS_PER_BAND}
+ * linhas e livros que coincidem em alguma banda viram candidatos. Candidatos sao confirmados pela
+ * similaridade estimada da assinatura completa.
+ */
+public final class NearDuplicateLshIndex {
+
+    static final int BANDS = 32;
+    static final int ROWS_PER_BAND = MinHashSignatureCalculator.SIGNATURE_SIZE / BANDS;
+
+    private final int minShingles;
+    private final Map<Long, MinHashSignature> signatures = new HashMap<>();
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+    public NearDuplicateLshIndex(int minShingles) {
+        this.minShingles = Math.max(minShingles, 1);
+    }
+
+    public synchronized int size() {
+        return signatures.size();
+    }
+
+    public synchronized void put(Long bookId, MinHashSignature signature) {
+        remove(bookId);
+        if (signature == null || signature.shingleCount() < minShingles
+                || signature.hashes().length != MinHashSignatureCalculator.SIGNATURE_SIZE) {
+            return;
+        }
+
+        signatures.put(bookId, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), ignored -> new ArrayList<>(2)).add(bookId);
+        }
+    }
+
+    public synchronized void remove(Long bookId) {
+        MinHashSignature previous = signatures.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(previous, band);
+            List<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(bookId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized List<NearDuplicatePair> findSimilar(Long bookId, double minSimilarity) {
+        MinHashSignature signature = signatures.get(bookId);
+        if (signature == null) {
+            return List.of();
+        }
+
+        List<NearDuplicatePair> pairs = new ArrayList<>();
+        for (Long candidate : candidates(bookId, signature)) {
+            double similarity = signature.similarity(signatures.get(candidate));
+            if (similarity >= minSimilarity) {
+                pairs.add(new NearDuplicatePair(bookId, candidate, similarity));
+            }
+        }
+        pairs.sort(Comparator.comparingDouble(NearDuplicatePair::similarity).reversed()
+                .thenComparing(NearDuplicatePair::rightBookId));
+        return pairs;
+    }
+
+    public synchronized List<NearDuplicateGroup> findGroups(double minSimilarity) {
+        Map<Long, Long> parents = new HashMap<>();
+        List<NearDuplicatePair> pairs = new ArrayList<>();
+        for (Map.Entry<Long, MinHashSignature> entry : signatures.entrySet()) {
+            Long bookId = entry.getKey();
+            for (Long candidate : candidates(bookId, entry.getValue())) {
+                if (candidate <= bookId) {
+                    continue;
+                }
+                double similarity = entry.getValue().similarity(signatures.get(candidate));
+                if (similarity >= minSimilarity) {
+                    pairs.add(new NearDuplicatePair(bookId, candidate, similarity));
+                    union(parents, bookId, candidate);
+                }
+            }
+        }
+
+        Map<Long, List<NearDuplicatePair>> pairsByRoot = new TreeMap<>();
+        Map<Long, TreeSet<Long>> membersByRoot = new HashMap<>();
+        for (NearDuplicatePair pair : pairs) {
+            Long root = find(parents, pair.leftBookId());
+            pairsByRoot.computeIfAbsent(root, ignored -> new ArrayList<>()).add(pair);
+            TreeSet<Long> members = membersByRoot.computeIfAbsent(root, ignored -> new TreeSet<>());
+            members.add(pair.leftBookId());
+            members.add(pair.rightBookId());
+        }
+
+        List<NearDuplicateGroup> groups = new ArrayList<>(pairsByRoot.size());
+        pairsByRoot.forEach((root, groupPairs) -> {
+            groupPairs.sort(Comparator.comparingDouble(NearDuplicatePair::similarity).reversed());
+            groups.add(new NearDuplicateGroup(List.copyOf(membersByRoot.get(root)), List.copyOf(groupPairs)));
+        });
+        groups.sort(Comparator.comparingDouble(NearDuplicateGroup::maxSimilarity).reversed());
+        return groups;
+    }
+
+    private TreeSet<Long> candidates(Long bookId, MinHashSignature signature) {
+        TreeSet<Long> candidates = new TreeSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            List<Long> bucket = buckets.get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(bookId);
+        return candidates;
+    }
+
+    private static long bandKey(MinHashSignature signature, int band) {
+        long key = band;
+        int start = band * ROWS_PER_BAND;
+        for (int row = start; row < start + ROWS_PER_BAND; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature.hashes()[row];
+        }
+        return key;
+    }
+
+    private static Long find(Map<Long, Long> parents, Long bookId) {
+        Long root = bookId;
+        while (parents.containsKey(root) && !parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        Long current = bookId;
+        while (!current.equals(root)) {
+            Long next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    private static void union(Map<Long, Long> parents, Long left, Long right) {
+        Long leftRoot = find(parents, left);
+        Long rightRoot = find(parents, right);
+        if (!leftRoot.equals(rightRoot)) {
+            parents.put(Math.max(leftRoot, rightRoot), Math.min(leftRoot, rightRoot));
+            parents.putIfAbsent(Math.min(leftRoot, rightRoot), Math.min(leftRoot, rightRoot));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.br.klaus.readium.book.domain.service;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OcrOffPeakWindows {
+
+    private final List<Window> windows;
+
+    private OcrOffPeakWindows(List<Window> windows) {
+        this.windows = List.copyOf(windows);
+    }
+
+    public static OcrOffPeakWindows parse(String rawWindows) {
+        if (rawWindows == null || rawWindows.isBlank()) {
+            return new OcrOffPeakWindows(List.of());
+        }
+
+        List<Window> parsed = new ArrayList<>();
+        for (String rawWindow : rawWindows.split(",")) {
+            String trimmed = rawWindow.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            String[] bounds = trimmed.split("-");
+            if (bounds.length != 2) {
+                throw new IllegalArgumentException("Janela de OCR invalida: " + trimmed + ". Use o formato HH:mm-HH:mm.");
+            }
+
+            try {
+                parsed.add(new Window(LocalTime.parse(bounds[0].trim()), LocalTime.parse(bounds[1].trim())));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Janela de OCR invalida: " + trimmed + ". Use o formato HH:mm-HH:mm.");
+            }
+        }
+        return new OcrOffPeakWindows(parsed);
+    }
+
+    public boolean isUnrestricted() {
+        return windows.isEmpty();
+    }
+
+    public boolean contains(LocalTime time) {
+        if (windows.isEmpty()) {
+            return true;
+        }
+        return windows.stream().anyMatch(window -> window.contains(time));
+    }
+
+    private record Window(LocalTime start, LocalTime end) {
+
+        boolean contains(LocalTime time) {
+            if (start.equals(end)) {
+                return true;
+            }
+            if (start.isBefore(end)) {
+                return !time.isBefore(start) && time.isBefore(end);
+            }
+            return !time.isBefore(start) || time.isBefore(end);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.BookTextMatch;
+import com.br.klaus.readium.book.domain.model.HighlightRect;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public final class PageTextMatcher {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int SNIPPET_CONTEXT = 40;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PageTextMatcher() {
+    }
+
+    public static Optional<String> normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return Optional.empty();
+        }
+
+        String folded = fold(rawQuery).value().trim();
+        if (folded.length() < MIN_QUERY_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.of(folded.length() > MAX_QUERY_LENGTH ? folded.substring(0, MAX_QUERY_LENGTH) : folded);
+    }
+
+    public static List<BookTextMatch> findMatches(PageGlyphLayout layout, String needle, int maxMatches) {
+        if (needle == null || needle.isEmpty() || maxMatches <= 0 || layout.text().isEmpty()) {
+            return List.of();
+        }
+
+        FoldedText haystack = fold(layout.text());
+        List<BookTextMatch> matches = new ArrayList<>();
+        int position = haystack.value().indexOf(needle);
+        while (position >= 0 && matches.size() < maxMatches) {
+            int start = haystack.sourceIndex()[position];
+            int end = haystack.sourceIndex()[position + needle.length() - 1] + 1;
+            matches.add(new BookTextMatch(layout.page(), snippet(layout.text(), start, end), rects(layout, start, end)));
+            position = haystack.value().indexOf(needle, position + needle.length());
+        }
+        return matches;
+    }
+
+    static FoldedText fold(String text) {
+        StringBuilder value = new StringBuilder(text.length());
+        int[] sourceIndex = new int[text.length() + 8];
+        boolean lastWasSpace = true;
+
+        for (int index = 0; index < text.length(); index++) {
+            char current = text.charAt(index);
+            if (Character.isWhitespace(current) || Character.isSpaceChar(current)) {
+                if (!lastWasSpace) {
+                    sourceIndex = append(value, sourceIndex, ' ', index);
+                    lastWasSpace = true;
+                }
+                continue;
+            }
+
+            String folded = foldChar(current);
+            for (int offset = 0; offset < folded.length(); offset++) {
+                sourceIndex = append(value, sourceIndex, folded.charAt(offset), index);
+            }
+            if (!folded.isEmpty()) {
+                lastWasSpace = false;
+            }
+        }
+        return new FoldedText(value.toString(), sourceIndex);
+    }
+
+    private static int[] append(StringBuilder value, int[] sourceIndex, char folded, int source) {
+        int[] target = value.length() < sourceIndex.length
+                ? sourceIndex
+                : Arrays.copyOf(sourceIndex, sourceIndex.length * 2);
+        target[value.length()] = source;
+        value.append(folded);
+        return target;
+    }
+
+    private static String foldChar(char current) {
+        if (current < 128) {
+            return String.valueOf(Character.toLowerCase(current));
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(current), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static String snippet(String text, int start, int end) {
+        int from = Math.max(0, start - SNIPPET_CONTEXT);
+        int to = Math.min(text.length(), end + SNIPPET_CONTEXT);
+
+        String snippet = (from > 0 ? "..." : "")
+                + text.substring(from, start)
+                + "[[" + text.substring(start, end) + "]]"
+                + text.substring(end, to)
+                + (to < text.length() ? "..." : "");
+        return WHITESPACE.matcher(snippet).replaceAll(" ").trim();
+    }
+
+    private static List<HighlightRect> rects(PageGlyphLayout layout, int start, int end) {
+        if (!layout.hasGeometry()) {
+            return List.of();
+        }
+
+        List<HighlightRect> rects = new ArrayList<>();
+        double left = 0;
+        double top = 0;
+        double right = 0;
+        double bottom = 0;
+        boolean open = false;
+
+        for (int index = start; index < end; index++) {
+            if (!layout.hasBox(index)) {
+                continue;
+            }
+            double x = layout.x(index);
+            double y = layout.y(index);
+            double width = layout.width(index);
+            double height = layout.height(index);
+
+            if (open && sameLine(top, bottom, y, y + height)) {
+                left = Math.min(left, x);
+                top = Math.min(top, y);
+                right = Math.max(right, x + width);
+                bottom = Math.max(bottom, y + height);
+                continue;
+            }
+
+            if (open) {
+                rects.add(new HighlightRect(left, top, right - left, bottom - top));
+            }
+            left = x;
+            top = y;
+            right = x + width;
+            bottom = y + height;
+            open = true;
+        }
+
+        if (open) {
+            rects.add(new HighlightRect(left, top, right - left, bottom - top));
+        }
+        return rects;
+    }
+
+    private static boolean sameLine(double top, double bottom, double otherTop, double otherBottom) {
+        double center = (top + bottom) / 2;
+        double otherCenter = (otherTop + otherBottom) / 2;
+        double tolerance = Math.max(Math.max(bottom - top, otherBottom - otherTop) / 2, 1e-4);
+        return Math.abs(center - otherCenter) <= tolerance;
+    }
+
+    record FoldedText(String value, int[] sourceIndex) {
+    }
+}
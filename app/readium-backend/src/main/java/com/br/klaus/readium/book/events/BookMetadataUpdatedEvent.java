@@ -0,0 +1,4 @@
+package com.br.klaus.readium.book.events;
+
+public record BookMetadataUpdatedEvent(Long bookId) {
+}
@@ -1,4 +1,12 @@
 package com.br.klaus.readium.book.events;
 
-public record BookOcrRequestedEvent(Long bookId) {
+public record BookOcrRequestedEvent(Long bookId, boolean background) {
+
+    public BookOcrRequestedEvent(Long bookId) {
+        this(bookId, false);
+    }
+
+    public static BookOcrRequestedEvent background(Long bookId) {
+        return new BookOcrRequestedEvent(bookId, true);
+    }
 }
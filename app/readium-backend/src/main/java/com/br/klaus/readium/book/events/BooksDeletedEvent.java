@@ -0,0 +1,6 @@
+package com.br.klaus.readium.book.events;
+
+import java.util.List;
+
+public record BooksDeletedEvent(List<Long> ids) {
+}
@@ -1,19 +1,19 @@
 package com.br.klaus.readium.book.events.listener;
 
+import com.br.klaus.readium.book.application.support.BookJobsMode;
+import com.br.klaus.readium.book.application.support.OcrActivityTracker;
+import com.br.klaus.readium.book.application.support.OcrBacklogGate;
+import com.br.klaus.readium.book.application.support.OcrJobProcessor;
 import com.br.klaus.readium.book.domain.model.Book;
-import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
 import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
-import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
 import com.br.klaus.readium.book.events.BookOcrRequestedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -23,52 +23,91 @@ public class BookOcrListener {
     private static final String OCR_QUEUE_FULL_DETAILS = "Fila de OCR lotada. Tente novamente em instantes.";
 
     private final BookRepositoryPort bookRepository;
-    private final OcrGatewayPort ocrGateway;
+    private final OcrJobProcessor ocrJobProcessor;
+    private final OcrActivityTracker activityTracker;
+    private final OcrBacklogGate backlogGate;
     private final Executor ocrTaskExecutor;
 
+    @Value("${app.jobs.mode:EMBEDDED}")
+    private BookJobsMode jobsMode;
+
     public BookOcrListener(
             BookRepositoryPort bookRepository,
-            OcrGatewayPort ocrGateway,
+            OcrJobProcessor ocrJobProcessor,
+            OcrActivityTracker activityTracker,
+            OcrBacklogGate backlogGate,
             @Qualifier("ocrTaskExecutor") Executor ocrTaskExecutor
     ) {
         this.bookRepository = bookRepository;
-        this.ocrGateway = ocrGateway;
+        this.ocrJobProcessor = ocrJobProcessor;
+        this.activityTracker = activityTracker;
+        this.backlogGate = backlogGate;
         this.ocrTaskExecutor = ocrTaskExecutor;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBookOcrRequested(BookOcrRequestedEvent event) {
-        try {
-            ocrTaskExecutor.execute(() -> processBookOcr(event.bookId()));
-        } catch (RejectedExecutionException ex) {
-            handleQueueRejection(event.bookId(), ex);
+        if (!jobsMode.runsEventDrivenJobs()) {
+            log.debug("OCR do livro {} enfileirado para processamento por worker dedicado.", event.bookId());
+            return;
         }
-    }
 
-    private void processBookOcr(Long bookId) {
-        Instant startedAt = Instant.now();
-        Book book = bookRepository.findById(bookId).orElse(null);
-        if (book == null) {
-            log.warn("Livro {} nao encontrado para processamento OCR.", bookId);
+        if (event.background()) {
+            dispatchBackground(event.bookId());
             return;
         }
 
-        log.info("Iniciando OCR para livro {} (titulo='{}')", book.getId(), book.getTitle());
-        book.markOcrRunning();
-        bookRepository.save(book);
+        dispatchInteractive(event.bookId());
+    }
 
+    private void dispatchInteractive(Long bookId) {
+        activityTracker.interactiveStarted();
         try {
-            OcrGatewayResult result = ocrGateway.process(book);
-            book.markOcrDone(result.score(), result.processedFilePath());
-            long elapsedSeconds = Duration.between(startedAt, Instant.now()).toSeconds();
-            log.info("OCR finalizado para livro {} com score {} em {}s", book.getId(), result.score(), elapsedSeconds);
-        } catch (Exception ex) {
-            String details = resolveFailureDetails(ex);
-            book.markOcrFailed(details);
-            log.error("Falha no OCR do livro {}", book.getId(), ex);
+            ocrTaskExecutor.execute(() -> {
+                boolean finished = true;
+                try {
+                    finished = ocrJobProcessor.process(bookId);
+                } finally {
+                    activityTracker.interactiveFinished();
+                }
+                if (!finished) {
+                    // Sem vaga de OCR: o livro voltou para PENDING e entra novamente no fim da fila.
+                    dispatchInteractive(bookId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            activityTracker.interactiveFinished();
+            handleQueueRejection(bookId, ex);
         }
+    }
 
-        bookRepository.save(book);
+    private void dispatchBackground(Long bookId) {
+        activityTracker.backgroundStarted();
+        try {
+            ocrTaskExecutor.execute(() -> {
+                try {
+                    processBacklogOcr(bookId);
+                } finally {
+                    activityTracker.backgroundFinished();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            activityTracker.backgroundFinished();
+            log.debug("Fila OCR ocupada; livro {} permanece no backlog.", bookId);
+        }
+    }
+
+    private void processBacklogOcr(Long bookId) {
+        if (backlogGate.isInteractiveActive()) {
+            log.debug("OCR em segundo plano do livro {} adiado por atividade interativa.", bookId);
+            return;
+        }
+
+        Book book = bookRepository.findById(bookId).orElse(null);
+        if (book == null || !book.isOcrBacklogged()) {
+            return;
+        }
+        ocrJobProcessor.run(book);
     }
 
     private void handleQueueRejection(Long bookId, RuntimeException exception) {
@@ -86,25 +125,4 @@ public class BookOcrListener {
         book.markOcrFailed(OCR_QUEUE_FULL_DETAILS);
         bookRepository.save(book);
     }
-
-    private String resolveFailureDetails(Exception ex) {
-        Throwable current = ex;
-        while (current.getCause() != null) {
-            current = current.getCause();
-        }
-
-        String message = current.getMessage();
-        if (message == null || message.isBlank()) {
-            return "Falha ao processar OCR.";
-        }
-
-        String normalized = message.trim().toLowerCase(Locale.ROOT);
-        if (normalized.contains("timeout")) {
-            return "OCR excedeu o tempo limite de processamento.";
-        }
-        if (normalized.contains("codigo")) {
-            return "OCR finalizou com erro.";
-        }
-        return "Falha ao processar OCR.";
-    }
 }
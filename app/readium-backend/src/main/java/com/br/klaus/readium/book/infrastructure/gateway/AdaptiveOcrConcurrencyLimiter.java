@@ -0,0 +1,162 @@
+package com.br.klaus.readium.book.infrastructure.gateway;
+
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import com.br.klaus.readium.exception.OcrCapacityUnavailableException;
+import com.br.klaus.readium.exception.StorageException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class AdaptiveOcrConcurrencyLimiter {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    private final HostLoadPort hostLoad;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+
+    private int activeJobs;
+    private volatile int currentLimit = 1;
+    private long lastComputedAtNanos;
+    private boolean computedOnce;
+
+    @Value("${app.ocr.concurrency.adaptive:true}")
+    private boolean adaptive;
+
+    @Value("${app.ocr.concurrency.min-jobs:1}")
+    private int minJobs;
+
+    @Value("${app.ocr.concurrency.max-jobs:0}")
+    private int maxJobs;
+
+    @Value("${app.ocr.concurrency.cpus-per-job:2}")
+    private int cpusPerJob;
+
+    @Value("${app.ocr.concurrency.memory-per-job-mb:1024}")
+    private long memoryPerJobMb;
+
+    @Value("${app.ocr.concurrency.max-load-per-core:1.0}")
+    private double maxLoadPerCore;
+
+    @Value("${app.ocr.concurrency.recompute-interval-ms:5000}")
+    private long recomputeIntervalMs;
+
+    public AdaptiveOcrConcurrencyLimiter(HostLoadPort hostLoad, MeterRegistry meterRegistry) {
+        this.hostLoad = hostLoad;
+        Gauge.builder("readium.ocr.concurrency.limit", this, AdaptiveOcrConcurrencyLimiter::refreshAndGetLimit)
+                .description("Limite atual de processos OCR externos simultaneos")
+                .register(meterRegistry);
+        Gauge.builder("readium.ocr.concurrency.active", this, AdaptiveOcrConcurrencyLimiter::activeJobs)
+                .description("Processos OCR externos em execucao")
+                .register(meterRegistry);
+    }
+
+    public void acquire(Duration timeout) {
+        long remainingNanos = timeout.toNanos();
+        long waitSliceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(recomputeIntervalMs, 100));
+
+        lock.lock();
+        try {
+            while (activeJobs >= refreshLimit()) {
+                if (remainingNanos <= 0) {
+                    throw new OcrCapacityUnavailableException("Tempo de espera por vaga de OCR excedido.");
+                }
+                long slice = Math.min(remainingNanos, waitSliceNanos);
+                long unused = slotReleased.awaitNanos(slice);
+                remainingNanos -= slice - Math.max(unused, 0);
+            }
+            activeJobs++;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Processamento OCR interrompido.", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            activeJobs = Math.max(0, activeJobs - 1);
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int cpusPerJob() {
+        return Math.max(cpusPerJob, 1);
+    }
+
+    double activeJobs() {
+        lock.lock();
+        try {
+            return activeJobs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double refreshAndGetLimit() {
+        lock.lock();
+        try {
+            return refreshLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int computeLimit(int cores, OptionalDouble loadAverage, OptionalLong availableMemoryBytes, int runningJobs) {
+        int ceiling = maxJobs > 0 ? maxJobs : Math.max(1, cores / cpusPerJob());
+        int floor = Math.min(Math.max(minJobs, 1), ceiling);
+        if (!adaptive) {
+            return ceiling;
+        }
+
+        int limit = ceiling;
+        if (loadAverage.isPresent()) {
+            // A carga observada ja inclui os jobs em execucao; eles nao devem reduzir o proprio limite.
+            double externalLoad = Math.max(0.0, loadAverage.getAsDouble() - (double) runningJobs * cpusPerJob());
+            double headroom = cores * maxLoadPerCore - externalLoad;
+            limit = Math.min(limit, (int) Math.floor(headroom / cpusPerJob()));
+        }
+        if (availableMemoryBytes.isPresent() && memoryPerJobMb > 0) {
+            long memoryPerJob = memoryPerJobMb * MEGABYTE;
+            long usableMemory = availableMemoryBytes.getAsLong() + runningJobs * memoryPerJob;
+            limit = (int) Math.min(limit, usableMemory / memoryPerJob);
+        }
+        return Math.max(floor, limit);
+    }
+
+    private int refreshLimit() {
+        long now = System.nanoTime();
+        if (computedOnce && now - lastComputedAtNanos < TimeUnit.MILLISECONDS.toNanos(recomputeIntervalMs)) {
+            return currentLimit;
+        }
+
+        int limit = computeLimit(
+                hostLoad.availableProcessors(),
+                hostLoad.loadAverage(),
+                hostLoad.availableMemoryBytes(),
+                activeJobs
+        );
+        if (limit != currentLimit) {
+            log.info("Limite de concorrencia OCR ajustado de {} para {} (ativos={}).", currentLimit, limit, activeJobs);
+        }
+        currentLimit = limit;
+        lastComputedAtNanos = now;
+        computedOnce = true;
+        return limit;
+    }
+}
@@ -0,0 +1,20 @@
+package com.br.klaus.readium.book.infrastructure.gateway;
+
+import com.br.klaus.readium.book.domain.port.TextLayerScorePort;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+
+@Component
+public class PdfTextLayerScoreAdapter implements TextLayerScorePort {
+
+    @Override
+    public double score(File pdf, int samplePages) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return PdfTextLayerScorer.score(document, samplePages);
+        }
+    }
+}
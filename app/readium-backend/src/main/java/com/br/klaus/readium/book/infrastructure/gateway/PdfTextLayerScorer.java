@@ -0,0 +1,38 @@
+package com.br.klaus.readium.book.infrastructure.gateway;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.IOException;
+
+public final class PdfTextLayerScorer {
+
+    private static final int MIN_CHARS_PER_TEXT_PAGE = 20;
+
+    private PdfTextLayerScorer() {
+    }
+
+    public static double score(PDDocument document, int samplePages) throws IOException {
+        int totalPages = document.getNumberOfPages();
+        if (totalPages <= 0) {
+            return 0.0;
+        }
+
+        int pagesToInspect = Math.min(Math.max(samplePages, 1), totalPages);
+        int pagesWithText = 0;
+        PDFTextStripper stripper = new PDFTextStripper();
+
+        for (int page = 1; page <= pagesToInspect; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            String pageText = stripper.getText(document);
+            int textLength = pageText == null ? 0 : pageText.replaceAll("\\s+", "").length();
+            if (textLength >= MIN_CHARS_PER_TEXT_PAGE) {
+                pagesWithText++;
+            }
+        }
+
+        double score = ((double) pagesWithText / pagesToInspect) * 100.0;
+        return Math.round(score * 100.0) / 100.0;
+    }
+}
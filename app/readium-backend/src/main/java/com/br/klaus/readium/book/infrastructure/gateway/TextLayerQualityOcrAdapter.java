@@ -1,13 +1,14 @@
 package com.br.klaus.readium.book.infrastructure.gateway;
 
 import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrEngineProfile;
 import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
 import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
 import com.br.klaus.readium.exception.StorageException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -22,18 +23,25 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
 
     private static final int MIN_OCR_TIMEOUT_SECONDS = 60;
     private static final int MAX_PROCESS_OUTPUT_CHARS = 12000;
+    private static final int VERSION_PROBE_TIMEOUT_SECONDS = 15;
+    private static final String UNKNOWN_ENGINE_VERSION = "unknown";
+
+    private final AdaptiveOcrConcurrencyLimiter concurrencyLimiter;
 
     @Value("${app.ocr.sample-pages:10}")
     private int samplePages;
@@ -50,11 +58,23 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
     @Value("${app.ocr.ocrmypdf.timeout-seconds:1800}")
     private long ocrmypdfTimeoutSeconds;
 
+    @Value("${app.ocr.engine-version:}")
+    private String configuredEngineVersion;
+
+    @Value("${app.ocr.process.nice:10}")
+    private int processNice;
+
+    @Value("${app.ocr.process.ionice-class:idle}")
+    private String processIoniceClass;
+
     @Value("${app.storage.path:data/books}")
     private String storagePath;
 
+    private volatile String detectedOcrmypdfVersion;
+    private volatile List<String> processPriorityPrefix;
+
     @Override
-    public OcrGatewayResult process(Book book) {
+    public OcrGatewayResult process(Book book, Runnable onStarted) {
         if (book.getBookFormat() == Book.BookFormat.EPUB) {
             return new OcrGatewayResult(null, 100.0);
         }
@@ -71,16 +91,106 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
         String processedFilePath = null;
         String scoreFilePath = book.getFilePath();
 
-        if ("OCRMYPDF".equalsIgnoreCase(ocrEngine)) {
-            processedFilePath = runOcrmypdf(inputFile.toPath());
+        if (isOcrmypdfEngine()) {
+            processedFilePath = runOcrmypdf(inputFile.toPath(), onStarted);
             scoreFilePath = processedFilePath;
+        } else {
+            onStarted.run();
         }
 
         double score = computePdfTextLayerScore(scoreFilePath);
         return new OcrGatewayResult(processedFilePath, score);
     }
 
-    private String runOcrmypdf(Path inputPath) {
+    @Override
+    public OcrEngineProfile profile() {
+        if (!isOcrmypdfEngine()) {
+            return new OcrEngineProfile("HEURISTIC", "none", "heuristic-" + Math.max(samplePages, 1));
+        }
+        return new OcrEngineProfile("OCRMYPDF", normalizeLanguages(ocrmypdfLanguages), resolveOcrmypdfVersion());
+    }
+
+    private boolean isOcrmypdfEngine() {
+        return "OCRMYPDF".equalsIgnoreCase(ocrEngine);
+    }
+
+    private String normalizeLanguages(String rawLanguages) {
+        if (rawLanguages == null || rawLanguages.isBlank()) {
+            return "default";
+        }
+
+        return Arrays.stream(rawLanguages.split("\\+"))
+                .map(language -> language.trim().toLowerCase(Locale.ROOT))
+                .filter(language -> !language.isEmpty())
+                .distinct()
+                .sorted()
+                .reduce((left, right) -> left + "+" + right)
+                .orElse("default");
+    }
+
+    private String resolveOcrmypdfVersion() {
+        if (configuredEngineVersion != null && !configuredEngineVersion.isBlank()) {
+            return configuredEngineVersion.trim();
+        }
+
+        String cached = detectedOcrmypdfVersion;
+        if (cached != null) {
+            return cached;
+        }
+
+        String detected = probeOcrmypdfVersion();
+        if (!UNKNOWN_ENGINE_VERSION.equals(detected)) {
+            detectedOcrmypdfVersion = detected;
+        }
+        return detected;
+    }
+
+    private String probeOcrmypdfVersion() {
+        List<String> command = new ArrayList<>(tokenizeCommand(ocrmypdfCommand));
+        if (command.isEmpty()) {
+            command.add("ocrmypdf");
+        }
+        command.add("--version");
+
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String firstLine;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                firstLine = reader.readLine();
+            }
+
+            if (!process.waitFor(VERSION_PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return UNKNOWN_ENGINE_VERSION;
+            }
+            if (process.exitValue() != 0 || firstLine == null || firstLine.isBlank()) {
+                return UNKNOWN_ENGINE_VERSION;
+            }
+
+            String version = firstLine.trim();
+            return version.length() > 64 ? version.substring(0, 64) : version;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN_ENGINE_VERSION;
+        } catch (IOException e) {
+            log.warn("Nao foi possivel detectar a versao do OCRmyPDF: {}", e.getMessage());
+            return UNKNOWN_ENGINE_VERSION;
+        }
+    }
+
+    private String runOcrmypdf(Path inputPath, Runnable onStarted) {
+        long timeoutSeconds = Math.max(ocrmypdfTimeoutSeconds, MIN_OCR_TIMEOUT_SECONDS);
+        concurrencyLimiter.acquire(Duration.ofSeconds(timeoutSeconds));
+        try {
+            onStarted.run();
+            return executeOcrmypdf(inputPath, timeoutSeconds);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private String executeOcrmypdf(Path inputPath, long timeoutSeconds) {
         Instant start = Instant.now();
         try {
             Path outputDir = Paths.get(storagePath, "ocr");
@@ -89,7 +199,6 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
             Path outputPath = outputDir.resolve(UUID.randomUUID() + ".pdf");
             List<String> command = buildOcrmypdfCommand(inputPath, outputPath);
 
-            long timeoutSeconds = Math.max(ocrmypdfTimeoutSeconds, MIN_OCR_TIMEOUT_SECONDS);
             log.info("Executando OCRmyPDF para {} com timeout={}s e idiomas='{}'", inputPath, timeoutSeconds, ocrmypdfLanguages);
             log.debug("Comando OCRmyPDF: {}", command);
 
@@ -133,11 +242,16 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
     }
 
     private List<String> buildOcrmypdfCommand(Path inputPath, Path outputPath) {
-        List<String> command = new ArrayList<>(tokenizeCommand(ocrmypdfCommand));
-        if (command.isEmpty()) {
+        List<String> command = new ArrayList<>(resolveProcessPriorityPrefix());
+        List<String> ocrmypdf = tokenizeCommand(ocrmypdfCommand);
+        if (ocrmypdf.isEmpty()) {
             command.add("ocrmypdf");
+        } else {
+            command.addAll(ocrmypdf);
         }
 
+        command.add("--jobs");
+        command.add(String.valueOf(concurrencyLimiter.cpusPerJob()));
         command.add("--skip-text");
         command.add("--rotate-pages");
         command.add("--deskew");
@@ -152,6 +266,48 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
         return command;
     }
 
+    private List<String> resolveProcessPriorityPrefix() {
+        List<String> cached = processPriorityPrefix;
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> prefix = new ArrayList<>();
+        String ioniceClass = processIoniceClass == null ? "" : processIoniceClass.trim().toLowerCase(Locale.ROOT);
+        if (("idle".equals(ioniceClass) || "best-effort".equals(ioniceClass)) && isExecutableOnPath("ionice")) {
+            prefix.add("ionice");
+            prefix.add("-c");
+            if ("idle".equals(ioniceClass)) {
+                prefix.add("3");
+            } else {
+                prefix.add("2");
+                prefix.add("-n");
+                prefix.add("7");
+            }
+        }
+        if (processNice > 0 && isExecutableOnPath("nice")) {
+            prefix.add("nice");
+            prefix.add("-n");
+            prefix.add(String.valueOf(Math.min(processNice, 19)));
+        }
+
+        List<String> resolved = List.copyOf(prefix);
+        processPriorityPrefix = resolved;
+        return resolved;
+    }
+
+    private boolean isExecutableOnPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null || path.isBlank()) {
+            return false;
+        }
+
+        return Arrays.stream(path.split(File.pathSeparator))
+                .filter(directory -> !directory.isBlank())
+                .map(directory -> Paths.get(directory, executable))
+                .anyMatch(Files::isExecutable);
+    }
+
     private Thread startOutputReader(Process process, StringBuilder outputBuffer) {
         Thread reader = new Thread(() -> {
             try (BufferedReader bufferedReader = new BufferedReader(
@@ -209,37 +365,13 @@ public class TextLayerQualityOcrAdapter implements OcrGatewayPort {
         }
 
         try (PDDocument document = Loader.loadPDF(file)) {
-            int totalPages = document.getNumberOfPages();
-            if (totalPages <= 0) {
-                return 0.0;
-            }
-
-            int pagesToInspect = Math.min(Math.max(samplePages, 1), totalPages);
-            int pagesWithText = 0;
-            PDFTextStripper stripper = new PDFTextStripper();
-
-            for (int page = 1; page <= pagesToInspect; page++) {
-                stripper.setStartPage(page);
-                stripper.setEndPage(page);
-                String pageText = stripper.getText(document);
-                int textLength = pageText == null ? 0 : pageText.replaceAll("\\s+", "").length();
-                if (textLength >= 20) {
-                    pagesWithText++;
-                }
-            }
-
-            double score = ((double) pagesWithText / pagesToInspect) * 100.0;
-            return round(score);
+            return PdfTextLayerScorer.score(document, samplePages);
         } catch (IOException e) {
             log.error("Falha ao calcular score de qualidade de texto para PDF {}", pdfPath, e);
             throw new StorageException("Erro ao analisar PDF para OCR", e);
         }
     }
 
-    private double round(double value) {
-        return Math.round(value * 100.0) / 100.0;
-    }
-
     private List<String> tokenizeCommand(String rawCommand) {
         List<String> tokens = new ArrayList<>();
         if (rawCommand == null || rawCommand.isBlank()) {
@@ -1,13 +1,16 @@
 package com.br.klaus.readium.book.infrastructure.persistence;
 
 import com.br.klaus.readium.book.domain.model.Book;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -15,83 +18,157 @@ public interface BookJpaRepository extends JpaRepository<Book, Long>, JpaSpecifi
 
     Optional<Book> findByFileHash(String fileHash);
 
-    List<Book> findByOcrStatus(Book.OcrStatus ocrStatus);
-
-    @Query(
-            value = """
-                    SELECT b.*
-                    FROM book b
-                    LEFT JOIN book_category bc ON bc.book_id = b.id
-                    LEFT JOIN book_reading_collection brc ON brc.book_id = b.id
-                    WHERE (:status IS NULL OR b.book_status = :status)
-                      AND (
-                            :categoryId IS NULL
-                            OR bc.category_id IN (
-                                WITH RECURSIVE category_tree(id) AS (
-                                    SELECT id
-                                    FROM category
-                                    WHERE id = :categoryId
-                                    UNION ALL
-                                    SELECT c.id
-                                    FROM category c
-                                    JOIN category_tree ct ON c.parent_id = ct.id
-                                )
-                                SELECT id
-                                FROM category_tree
-                            )
-                      )
-                      AND (
-                            :collectionId IS NULL
-                            OR brc.collection_id = :collectionId
-                      )
-                      AND (
-                            :query IS NULL
-                            OR :query = ''
-                            OR LOWER(COALESCE(b.title, '')) LIKE LOWER('%' || :query || '%')
-                            OR LOWER(COALESCE(b.author, '')) LIKE LOWER('%' || :query || '%')
-                          )
-                    GROUP BY b.id
-                    """,
-            countQuery = """
-                    SELECT COUNT(DISTINCT b.id)
-                    FROM book b
-                    LEFT JOIN book_category bc ON bc.book_id = b.id
-                    LEFT JOIN book_reading_collection brc ON brc.book_id = b.id
-                    WHERE (:status IS NULL OR b.book_status = :status)
-                      AND (
-                            :categoryId IS NULL
-                            OR bc.category_id IN (
-                                WITH RECURSIVE category_tree(id) AS (
-                                    SELECT id
-                                    FROM category
-                                    WHERE id = :categoryId
-                                    UNION ALL
-                                    SELECT c.id
-                                    FROM category c
-                                    JOIN category_tree ct ON c.parent_id = ct.id
-                                )
-                                SELECT id
-                                FROM category_tree
-                            )
-                      )
-                      AND (
-                            :collectionId IS NULL
-                            OR brc.collection_id = :collectionId
-                      )
-                      AND (
-                            :query IS NULL
-                            OR :query = ''
-                            OR LOWER(COALESCE(b.title, '')) LIKE LOWER('%' || :query || '%')
-                            OR LOWER(COALESCE(b.author, '')) LIKE LOWER('%' || :query || '%')
-                          )
-                    """,
-            nativeQuery = true
-    )
-    Page<Book> findAllByFilters(
-            @Param("status") String status,
-            @Param("query") String query,
-            @Param("categoryId") Long categoryId,
-            @Param("collectionId") Long collectionId,
+    @Query("select book.id from Book book where book.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select book.id from Book book where book.id in :ids and book.bookStatus = :status")
+    List<Long> findIdsWithStatus(@Param("ids") Collection<Long> ids, @Param("status") Book.BookStatus status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Book book
+            set book.bookStatus = :status,
+                book.version = book.version + 1
+            where book.id in :ids
+              and (book.bookStatus is null or book.bookStatus <> :status)
+            """)
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") Book.BookStatus status);
+
+    List<Book> findByOcrStatusAndOcrPriorityOrderByOcrScoreAscIdAsc(
+            Book.OcrStatus ocrStatus,
+            Book.OcrPriority ocrPriority,
             Pageable pageable
     );
+
+    long countByOcrStatusAndOcrPriority(Book.OcrStatus ocrStatus, Book.OcrPriority ocrPriority);
+
+    boolean existsByOcrPriorityAndOcrUpdatedAtGreaterThanEqual(Book.OcrPriority ocrPriority, LocalDateTime since);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book book
+            set book.ocrHeartbeatAt = :heartbeatAt
+            where book.id = :bookId
+              and book.ocrStatus = :status
+              and book.ocrLeaseOwner = :leaseOwner
+            """)
+    int touchOcrHeartbeat(
+            @Param("bookId") Long bookId,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("status") Book.OcrStatus status,
+            @Param("heartbeatAt") LocalDateTime heartbeatAt
+    );
+
+    @Query("""
+            select book.id
+            from Book book
+            where book.ocrStatus = :runningStatus
+              and (book.ocrHeartbeatAt is null or book.ocrHeartbeatAt < :staleBefore)
+            """)
+    List<Long> findStaleOcrLeaseIds(
+            @Param("runningStatus") Book.OcrStatus runningStatus,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book book
+            set book.ocrStatus = :failedStatus,
+                book.ocrDetails = :details,
+                book.ocrLeaseOwner = null,
+                book.ocrUpdatedAt = :now
+            where book.ocrStatus = :runningStatus
+              and (book.ocrHeartbeatAt is null or book.ocrHeartbeatAt < :staleBefore)
+            """)
+    int failStaleOcrLeases(
+            @Param("runningStatus") Book.OcrStatus runningStatus,
+            @Param("failedStatus") Book.OcrStatus failedStatus,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("details") String details,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("""
+            select book.id
+            from Book book
+            where book.ocrArtifactId = :artifactId
+              and (book.ocrFilePath is null or book.ocrFilePath <> :ocrFilePath)
+            """)
+    List<Long> findIdsToRepoint(@Param("artifactId") Long artifactId, @Param("ocrFilePath") String ocrFilePath);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book book
+            set book.ocrFilePath = :ocrFilePath
+            where book.id in :ids
+            """)
+    int repointOcrFilePath(@Param("ids") Collection<Long> ids, @Param("ocrFilePath") String ocrFilePath);
+
+    @Query("""
+            select book.id
+            from Book book
+            where book.ocrStatus = :status
+              and book.ocrPriority = :priority
+            order by book.ocrUpdatedAt asc, book.id asc
+            """)
+    List<Long> findOcrJobCandidateIds(
+            @Param("status") Book.OcrStatus status,
+            @Param("priority") Book.OcrPriority priority,
+            Pageable pageable
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book book
+            set book.ocrStatus = :runningStatus,
+                book.ocrDetails = :details,
+                book.ocrLeaseOwner = :leaseOwner,
+                book.ocrHeartbeatAt = :claimedAt,
+                book.ocrUpdatedAt = :claimedAt
+            where book.id = :bookId
+              and book.ocrStatus = :pendingStatus
+            """)
+    int claimOcrJob(
+            @Param("bookId") Long bookId,
+            @Param("pendingStatus") Book.OcrStatus pendingStatus,
+            @Param("runningStatus") Book.OcrStatus runningStatus,
+            @Param("details") String details,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("claimedAt") LocalDateTime claimedAt
+    );
+
+    @Query("""
+            select book.id
+            from Book book
+            where book.ingestStatus = :status
+              and (book.ingestLeaseExpiresAt is null or book.ingestLeaseExpiresAt < :now)
+            order by book.id asc
+            """)
+    List<Long> findIngestJobCandidateIds(
+            @Param("status") Book.IngestStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Book book
+            set book.ingestLeaseOwner = :leaseOwner,
+                book.ingestLeaseExpiresAt = :leaseExpiresAt
+            where book.id = :bookId
+              and book.ingestStatus = :status
+              and (book.ingestLeaseExpiresAt is null or book.ingestLeaseExpiresAt < :now)
+            """)
+    int claimIngestJob(
+            @Param("bookId") Long bookId,
+            @Param("status") Book.IngestStatus status,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
 }
@@ -0,0 +1,79 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSearchIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void sync(Book book) {
+        if (book.getId() == null) {
+            return;
+        }
+
+        remove(book.getId());
+        jdbcTemplate.update(
+                "INSERT INTO book_search_fts (rowid, title, author) VALUES (?, ?, ?)",
+                book.getId(),
+                Objects.requireNonNullElse(book.getTitle(), ""),
+                Objects.requireNonNullElse(book.getAuthor(), "")
+        );
+    }
+
+    public void remove(Long bookId) {
+        jdbcTemplate.update("DELETE FROM book_search_fts WHERE rowid = ?", bookId);
+    }
+
+    public void removeAll(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM book_search_fts WHERE rowid IN (" + placeholders + ")", bookIds.toArray());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        int removed = jdbcTemplate.update(
+                "DELETE FROM book_search_fts WHERE rowid NOT IN (SELECT id FROM book)"
+        );
+        int stale = jdbcTemplate.update("""
+                DELETE FROM book_search_fts
+                WHERE rowid IN (
+                    SELECT f.rowid
+                    FROM book_search_fts f
+                    JOIN book b ON b.id = f.rowid
+                    WHERE f.title <> COALESCE(b.title, '') OR f.author <> COALESCE(b.author, '')
+                )
+                """);
+        int added = jdbcTemplate.update("""
+                INSERT INTO book_search_fts (rowid, title, author)
+                SELECT b.id, COALESCE(b.title, ''), COALESCE(b.author, '')
+                FROM book b
+                WHERE b.id NOT IN (SELECT rowid FROM book_search_fts)
+                """);
+        if (added > 0 || removed > 0) {
+            log.info(
+                    "Indice de busca por titulo/autor reconciliado: {} inserido(s), {} desatualizado(s), {} removido(s).",
+                    added - stale,
+                    stale,
+                    removed
+            );
+        }
+    }
+}
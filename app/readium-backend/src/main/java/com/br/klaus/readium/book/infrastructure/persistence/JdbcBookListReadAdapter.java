@@ -0,0 +1,285 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import com.br.klaus.readium.book.domain.port.BookListReadPort;
+import com.br.klaus.readium.persistence.FullTextQueryFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcBookListReadAdapter implements BookListReadPort {
+
+    private static final String COLUMNS = """
+            SELECT b.id, b.title, b.author, b.pages, b.last_read_page, b.book_format, b.book_status, b.has_cover,
+                   %s AS sort_key
+            FROM book b
+            """;
+
+    static final String LAST_READ_AT_KEY = "COALESCE(b.last_read_at, 0)";
+    static final String PROGRESS_KEY =
+            "(CASE WHEN b.pages > 0 THEN COALESCE(b.last_read_page, 0) * 1.0 / b.pages ELSE 0 END)";
+    static final String REMAINING_PAGES_KEY =
+            "(CASE WHEN b.pages > 0 THEN MAX(b.pages - COALESCE(b.last_read_page, 0), 0) ELSE 2147483647 END)";
+
+    private static final Map<BookSortMode, SortOrder> SORT_MODES = Map.of(
+            BookSortMode.DEFAULT, new SortOrder(null, false),
+            BookSortMode.RECENTLY_ADDED, new SortOrder(null, true),
+            BookSortMode.RECENTLY_READ, new SortOrder(LAST_READ_AT_KEY, true),
+            BookSortMode.PROGRESS, new SortOrder(PROGRESS_KEY, true),
+            BookSortMode.REMAINING_PAGES, new SortOrder(REMAINING_PAGES_KEY, false)
+    );
+
+    private static final String CATEGORY_FILTER = """
+             AND EXISTS (
+                SELECT 1
+                FROM book_category bc
+                WHERE bc.book_id = b.id
+                  AND bc.category_id IN (
+                      SELECT descendant_id
+                      FROM category_closure
+                      WHERE ancestor_id = :categoryId
+                  )
+            )
+            """;
+    private static final String COLLECTION_FILTER = """
+             AND EXISTS (
+                SELECT 1
+                FROM book_reading_collection brc
+                WHERE brc.book_id = b.id
+                  AND brc.collection_id = :collectionId
+            )
+            """;
+    private static final String TEXT_FILTER =
+            " AND b.id IN (SELECT rowid FROM book_search_fts WHERE book_search_fts MATCH :textMatch)";
+    private static final String SHORT_QUERY_FILTER = """
+             AND (
+                LOWER(COALESCE(b.title, '')) LIKE LOWER('%' || :shortQuery || '%')
+                OR LOWER(COALESCE(b.author, '')) LIKE LOWER('%' || :shortQuery || '%')
+            )
+            """;
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "b.id",
+            "title", "b.title",
+            "author", "b.author",
+            "pages", "b.pages",
+            "lastReadPage", "b.last_read_page",
+            "status", "b.book_status",
+            "lastReadAt", LAST_READ_AT_KEY,
+            "progress", PROGRESS_KEY,
+            "remainingPages", REMAINING_PAGES_KEY
+    );
+
+    private static final RowMapper<BookListItem> ROW_MAPPER = (rs, rowNum) -> {
+        String format = rs.getString("book_format");
+        String status = rs.getString("book_status");
+        return new BookListItem(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("author"),
+                nullableInt(rs, "pages"),
+                nullableInt(rs, "last_read_page"),
+                format != null ? Book.BookFormat.valueOf(format) : null,
+                status != null ? Book.BookStatus.valueOf(status) : null,
+                rs.getBoolean("has_cover"),
+                encodeSortKey(rs.getObject("sort_key"))
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<BookListItem> findPage(
+            Book.BookStatus status,
+            String query,
+            Long categoryId,
+            Long collectionId,
+            BookSortMode sortMode,
+            Pageable pageable
+    ) {
+        Filter filter = filter(status, query, categoryId, collectionId);
+        MapSqlParameterSource params = filter.params();
+        SortOrder order = sortOrder(sortMode);
+        String orderBy = sortMode == null || sortMode == BookSortMode.DEFAULT
+                ? orderBy(pageable.getSort())
+                : order.orderBy();
+        String sql = COLUMNS.formatted(order.selectKey()) + filter.where() + orderBy;
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+
+        List<BookListItem> content = jdbcTemplate.query(sql, params, ROW_MAPPER);
+        return PageableExecutionUtils.getPage(
+                content,
+                pageable,
+                () -> count(status, query, categoryId, collectionId)
+        );
+    }
+
+    @Override
+    public List<BookListItem> findAfter(
+            Book.BookStatus status,
+            String query,
+            Long categoryId,
+            Long collectionId,
+            BookSortMode sortMode,
+            BookCursor after,
+            int limit
+    ) {
+        SortOrder order = sortOrder(sortMode);
+        Filter filter = filter(status, query, categoryId, collectionId);
+        MapSqlParameterSource params = filter.params().addValue("limit", Math.max(limit, 1));
+        String keyset = "";
+        if (after != null) {
+            params.addValue("afterId", after.lastId());
+            keyset = order.keyset();
+            if (order.keyExpression() != null) {
+                params.addValue("sortKey", decodeSortKey(after.sortKey()));
+            }
+        }
+        return jdbcTemplate.query(
+                COLUMNS.formatted(order.selectKey()) + filter.where() + keyset + order.orderBy() + " LIMIT :limit",
+                params,
+                ROW_MAPPER
+        );
+    }
+
+    @Override
+    public long count(Book.BookStatus status, String query, Long categoryId, Long collectionId) {
+        Filter filter = filter(status, query, categoryId, collectionId);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book b" + filter.where(), filter.params(), Long.class);
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * Monta apenas as condicoes dos filtros informados. Um predicado como {@code :status IS NULL OR ...}
+     * impede o SQLite de usar indices, porque o plano e preparado sem conhecer o valor do parametro.
+     */
+    private static Filter filter(Book.BookStatus status, String query, Long categoryId, Long collectionId) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (status != null) {
+            where.append(" AND b.book_status = :status");
+            params.addValue("status", status.name());
+        }
+        if (categoryId != null) {
+            where.append(CATEGORY_FILTER);
+            params.addValue("categoryId", categoryId);
+        }
+        if (collectionId != null) {
+            where.append(COLLECTION_FILTER);
+            params.addValue("collectionId", collectionId);
+        }
+        String textMatch = FullTextQueryFormatter.toSubstringPhrase(query).orElse(null);
+        if (textMatch != null) {
+            where.append(TEXT_FILTER);
+            params.addValue("textMatch", textMatch);
+        } else if (StringUtils.hasText(query)) {
+            where.append(SHORT_QUERY_FILTER);
+            params.addValue("shortQuery", query.trim());
+        }
+        return new Filter(where.toString(), params);
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static SortOrder sortOrder(BookSortMode sortMode) {
+        return SORT_MODES.get(sortMode == null ? BookSortMode.DEFAULT : sortMode);
+    }
+
+    private static String encodeSortKey(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return "i" + ((Number) value).longValue();
+        }
+        if (value instanceof Number number) {
+            return "d" + number.doubleValue();
+        }
+        return "s" + value;
+    }
+
+    private static Object decodeSortKey(String sortKey) {
+        if (sortKey == null || sortKey.isEmpty()) {
+            throw new IllegalArgumentException("Cursor de paginacao invalido.");
+        }
+        String value = sortKey.substring(1);
+        try {
+            return switch (sortKey.charAt(0)) {
+                case 'i' -> Long.parseLong(value);
+                case 'd' -> Double.parseDouble(value);
+                case 's' -> value;
+                default -> throw new IllegalArgumentException("Cursor de paginacao invalido.");
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginacao invalido.", e);
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder order = new StringBuilder(" ORDER BY ");
+        for (Sort.Order item : sort) {
+            String column = SORT_COLUMNS.get(item.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Ordenacao nao suportada: " + item.getProperty());
+            }
+            order.append(column).append(item.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        return order.append("b.id").toString();
+    }
+
+    private record Filter(String where, MapSqlParameterSource params) {
+    }
+
+    /**
+     * Chave de ordenacao e sentido de um modo. A chave repete exatamente a expressao dos indices
+     * da migracao V23, para que o SQLite percorra o indice de cobertura sem ordenar em memoria.
+     * O predicado do cursor e escrito como {@code chave <= x AND (chave < x OR id < y)} porque so a primeira
+     * parte vira busca no indice.
+     */
+    private record SortOrder(String keyExpression, boolean descending) {
+
+        String selectKey() {
+            return keyExpression == null ? "NULL" : keyExpression;
+        }
+
+        String orderBy() {
+            String direction = descending ? " DESC" : " ASC";
+            return keyExpression == null
+                    ? " ORDER BY b.id" + direction
+                    : " ORDER BY " + keyExpression + direction + ", b.id" + direction;
+        }
+
+        String keyset() {
+            String strict = descending ? " < " : " > ";
+            if (keyExpression == null) {
+                return " AND b.id" + strict + ":afterId";
+            }
+            String inclusive = descending ? " <= " : " >= ";
+            return " AND " + keyExpression + inclusive + ":sortKey"
+                    + " AND (" + keyExpression + strict + ":sortKey OR b.id" + strict + ":afterId)";
+        }
+    }
+}
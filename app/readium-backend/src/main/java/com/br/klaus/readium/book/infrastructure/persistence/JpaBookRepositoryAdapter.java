@@ -2,11 +2,17 @@ package com.br.klaus.readium.book.infrastructure.persistence;
 
 import com.br.klaus.readium.book.domain.model.Book;
 import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,9 @@ import java.util.Optional;
 public class JpaBookRepositoryAdapter implements BookRepositoryPort {
 
     private final BookJpaRepository repository;
+    private final BookSearchIndex searchIndex;
+    private final LibraryRevisionService revisions;
+    private final SyncChangeLogService changeLog;
 
     @Override
     public List<Book> findAll() {
@@ -22,19 +31,13 @@ public class JpaBookRepositoryAdapter implements BookRepositoryPort {
     }
 
     @Override
-    public Page<Book> findAll(Book.BookStatus status, String query, Long categoryId, Long collectionId, Pageable pageable) {
-        return repository.findAllByFilters(
-                status != null ? status.name() : null,
-                query,
-                categoryId,
-                collectionId,
-                pageable
-        );
+    public Optional<Book> findById(Long id) {
+        return repository.findById(id);
     }
 
     @Override
-    public Optional<Book> findById(Long id) {
-        return repository.findById(id);
+    public List<Book> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids);
     }
 
     @Override
@@ -42,23 +45,173 @@ public class JpaBookRepositoryAdapter implements BookRepositoryPort {
         return repository.existsById(id);
     }
 
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : repository.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Long> findIdsWithStatus(Collection<Long> ids, Book.BookStatus status) {
+        return ids.isEmpty() ? List.of() : repository.findIdsWithStatus(ids, status);
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<Long> ids, Book.BookStatus status) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = repository.updateStatus(ids, status);
+        if (updated > 0) {
+            changeLog.recordUpserts(SyncEntityType.BOOK, ids);
+            revisions.bump(RevisionAggregate.BOOKS);
+        }
+        return updated;
+    }
+
     @Override
     public Optional<Book> findByFileHash(String fileHash) {
         return repository.findByFileHash(fileHash);
     }
 
     @Override
-    public List<Book> findByOcrStatus(Book.OcrStatus status) {
-        return repository.findByOcrStatus(status);
+    public List<Book> findOcrBacklog(int limit) {
+        return repository.findByOcrStatusAndOcrPriorityOrderByOcrScoreAscIdAsc(
+                Book.OcrStatus.PENDING,
+                Book.OcrPriority.BACKGROUND,
+                PageRequest.of(0, Math.max(limit, 1))
+        );
+    }
+
+    @Override
+    public long countRunningOcrJobs(Book.OcrPriority priority) {
+        return repository.countByOcrStatusAndOcrPriority(Book.OcrStatus.RUNNING, priority);
+    }
+
+    @Override
+    public boolean existsOcrActivitySince(Book.OcrPriority priority, LocalDateTime since) {
+        return repository.existsByOcrPriorityAndOcrUpdatedAtGreaterThanEqual(priority, since);
+    }
+
+    @Override
+    public int touchOcrHeartbeat(Long bookId, String leaseOwner, LocalDateTime heartbeatAt) {
+        return repository.touchOcrHeartbeat(bookId, leaseOwner, Book.OcrStatus.RUNNING, heartbeatAt);
     }
 
     @Override
+    @Transactional
+    public int failStaleOcrLeases(LocalDateTime staleBefore, String details) {
+        List<Long> staleIds = repository.findStaleOcrLeaseIds(Book.OcrStatus.RUNNING, staleBefore);
+        if (staleIds.isEmpty()) {
+            return 0;
+        }
+        int failed = repository.failStaleOcrLeases(
+                Book.OcrStatus.RUNNING,
+                Book.OcrStatus.FAILED,
+                staleBefore,
+                details,
+                LocalDateTime.now()
+        );
+        if (failed > 0) {
+            changeLog.recordUpserts(SyncEntityType.BOOK, staleIds);
+            revisions.bump(RevisionAggregate.BOOKS);
+        }
+        return failed;
+    }
+
+    @Override
+    @Transactional
+    public int repointOcrArtifact(Long artifactId, String ocrFilePath) {
+        List<Long> ids = repository.findIdsToRepoint(artifactId, ocrFilePath);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int repointed = repository.repointOcrFilePath(ids, ocrFilePath);
+        changeLog.recordUpserts(SyncEntityType.BOOK, ids);
+        revisions.bump(RevisionAggregate.BOOKS);
+        return repointed;
+    }
+
+    @Override
+    public List<Long> findOcrJobCandidateIds(Book.OcrPriority priority, int limit) {
+        return repository.findOcrJobCandidateIds(
+                Book.OcrStatus.PENDING,
+                priority,
+                PageRequest.of(0, Math.max(limit, 1))
+        );
+    }
+
+    @Override
+    @Transactional
+    public boolean claimOcrJob(Long bookId, String leaseOwner, LocalDateTime claimedAt) {
+        int claimed = repository.claimOcrJob(
+                bookId,
+                Book.OcrStatus.PENDING,
+                Book.OcrStatus.RUNNING,
+                "OCR em andamento.",
+                leaseOwner,
+                claimedAt
+        );
+        if (claimed > 0) {
+            changeLog.recordUpsert(SyncEntityType.BOOK, bookId);
+            revisions.bump(RevisionAggregate.BOOKS);
+        }
+        return claimed == 1;
+    }
+
+    @Override
+    public List<Long> findIngestJobCandidateIds(LocalDateTime now, int limit) {
+        return repository.findIngestJobCandidateIds(
+                Book.IngestStatus.PENDING,
+                now,
+                PageRequest.of(0, Math.max(limit, 1))
+        );
+    }
+
+    @Override
+    public boolean claimIngestJob(Long bookId, String leaseOwner, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        return repository.claimIngestJob(
+                bookId,
+                Book.IngestStatus.PENDING,
+                leaseOwner,
+                now,
+                leaseExpiresAt
+        ) == 1;
+    }
+
+    @Override
+    @Transactional
     public Book save(Book book) {
-        return repository.save(book);
+        boolean searchFieldsChanged = book.hasUnindexedSearchFields();
+        Book saved = repository.save(book);
+        if (searchFieldsChanged) {
+            searchIndex.sync(saved);
+        }
+        book.markSearchFieldsIndexed();
+        saved.markSearchFieldsIndexed();
+        changeLog.recordUpsert(SyncEntityType.BOOK, saved.getId());
+        revisions.bump(RevisionAggregate.BOOKS);
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         repository.deleteById(id);
+        searchIndex.remove(id);
+        changeLog.recordDelete(SyncEntityType.BOOK, id);
+        revisions.bump(RevisionAggregate.BOOKS);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.deleteAllByIdInBatch(ids);
+        searchIndex.removeAll(ids);
+        changeLog.recordDeletes(SyncEntityType.BOOK, ids);
+        revisions.bump(RevisionAggregate.BOOKS);
     }
 }
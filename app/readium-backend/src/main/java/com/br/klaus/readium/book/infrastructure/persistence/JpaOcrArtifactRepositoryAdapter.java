@@ -0,0 +1,65 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.OcrArtifact;
+import com.br.klaus.readium.book.domain.port.OcrArtifactRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class JpaOcrArtifactRepositoryAdapter implements OcrArtifactRepositoryPort {
+
+    private final OcrArtifactJpaRepository repository;
+
+    @Override
+    public Optional<OcrArtifact> findByKey(String fileHash, String engine, String languages, String engineVersion) {
+        return repository.findByFileHashAndEngineAndLanguagesAndEngineVersion(fileHash, engine, languages, engineVersion);
+    }
+
+    @Override
+    public Optional<OcrArtifact> findById(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public OcrArtifact save(OcrArtifact artifact) {
+        return repository.save(artifact);
+    }
+
+    @Override
+    public boolean insertIfAbsent(OcrArtifact artifact) {
+        return repository.insertIfAbsent(
+                artifact.getFileHash(),
+                artifact.getEngine(),
+                artifact.getLanguages(),
+                artifact.getEngineVersion(),
+                artifact.getArtifactPath(),
+                artifact.getScore(),
+                artifact.getCreatedAt()
+        ) > 0;
+    }
+
+    @Override
+    public void acquire(Long artifactId) {
+        repository.incrementRefCount(artifactId, LocalDateTime.now());
+    }
+
+    @Override
+    public void release(Long artifactId) {
+        repository.decrementRefCount(artifactId, LocalDateTime.now());
+    }
+
+    @Override
+    public List<OcrArtifact> findUnreferencedUsedBefore(LocalDateTime threshold) {
+        return repository.findUnreferencedUsedBefore(threshold);
+    }
+
+    @Override
+    public void delete(OcrArtifact artifact) {
+        repository.delete(artifact);
+    }
+}
@@ -0,0 +1,64 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.OcrArtifact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OcrArtifactJpaRepository extends JpaRepository<OcrArtifact, Long> {
+
+    Optional<OcrArtifact> findByFileHashAndEngineAndLanguagesAndEngineVersion(
+            String fileHash,
+            String engine,
+            String languages,
+            String engineVersion
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO ocr_artifact (
+                file_hash, engine, languages, engine_version, artifact_path, score, ref_count, created_at, last_used_at
+            )
+            VALUES (:fileHash, :engine, :languages, :engineVersion, :artifactPath, :score, 0, :now, :now)
+            ON CONFLICT (file_hash, engine, languages, engine_version) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("fileHash") String fileHash,
+            @Param("engine") String engine,
+            @Param("languages") String languages,
+            @Param("engineVersion") String engineVersion,
+            @Param("artifactPath") String artifactPath,
+            @Param("score") Double score,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OcrArtifact artifact
+            set artifact.refCount = artifact.refCount + 1,
+                artifact.lastUsedAt = :now
+            where artifact.id = :id
+            """)
+    int incrementRefCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OcrArtifact artifact
+            set artifact.refCount = artifact.refCount - 1,
+                artifact.lastUsedAt = :now
+            where artifact.id = :id and artifact.refCount > 0
+            """)
+    int decrementRefCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("""
+            select artifact
+            from OcrArtifact artifact
+            where artifact.refCount <= 0 and artifact.lastUsedAt < :threshold
+            """)
+    List<OcrArtifact> findUnreferencedUsedBefore(@Param("threshold") LocalDateTime threshold);
+}
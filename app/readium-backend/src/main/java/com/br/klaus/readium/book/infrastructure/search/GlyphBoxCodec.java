@@ -0,0 +1,60 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+final class GlyphBoxCodec {
+
+    private static final int SCALE = Short.MAX_VALUE;
+    private static final short MISSING = -1;
+
+    private GlyphBoxCodec() {
+    }
+
+    static byte[] encode(float[] boxes) {
+        if (boxes == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(boxes.length);
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(buffer))) {
+            for (float value : boxes) {
+                output.writeShort(quantize(value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static float[] decode(byte[] encoded, int valueCount) {
+        if (encoded == null) {
+            return null;
+        }
+
+        float[] boxes = new float[valueCount];
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(encoded)))) {
+            for (int index = 0; index < valueCount; index++) {
+                short value = input.readShort();
+                boxes[index] = value == MISSING ? Float.NaN : (float) value / SCALE;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return boxes;
+    }
+
+    private static short quantize(float value) {
+        if (Float.isNaN(value)) {
+            return MISSING;
+        }
+        float clamped = Math.max(0f, Math.min(1f, value));
+        return (short) Math.round(clamped * SCALE);
+    }
+}
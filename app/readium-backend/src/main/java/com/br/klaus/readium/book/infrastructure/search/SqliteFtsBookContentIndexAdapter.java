@@ -0,0 +1,213 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import com.br.klaus.readium.book.domain.model.BookContentHit;
+import com.br.klaus.readium.book.domain.port.BookContentIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SqliteFtsBookContentIndexAdapter implements BookContentIndexPort {
+
+    static final long PAGE_SLOTS_PER_BOOK = 100_000L;
+    static final int MAX_COUNTED_HITS_AHEAD = 1_000;
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_DONE = "DONE";
+    private static final String STATUS_FAILED = "FAILED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.content.indexing.retry-base-minutes:15}")
+    private long retryBaseMinutes;
+
+    @Value("${app.search.content.indexing.max-attempts:6}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional
+    public void replaceBookPages(Long bookId, String sourcePath, List<String> pages) {
+        deletePages(bookId);
+
+        List<Object[]> rows = new ArrayList<>();
+        int pageLimit = (int) Math.min(pages.size(), PAGE_SLOTS_PER_BOOK - 1);
+        for (int index = 0; index < pageLimit; index++) {
+            String content = pages.get(index);
+            if (content == null || content.isBlank()) {
+                continue;
+            }
+            rows.add(new Object[]{pageKey(bookId, index + 1), content});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO book_page_fts (rowid, content) VALUES (?, ?)", rows);
+        }
+
+        upsertState(bookId, STATUS_DONE, sourcePath, rows.size());
+    }
+
+    @Override
+    public void markPending(Long bookId) {
+        jdbcTemplate.update("""
+                INSERT INTO book_content_index (book_id, status, pages_indexed, attempts, updated_at)
+                VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    status = excluded.status,
+                    attempts = 0,
+                    updated_at = excluded.updated_at
+                """, bookId, STATUS_PENDING);
+    }
+
+    @Override
+    public void markFailed(Long bookId, String sourcePath) {
+        jdbcTemplate.update("""
+                INSERT INTO book_content_index (book_id, status, source_path, pages_indexed, attempts, updated_at)
+                VALUES (?, ?, ?, 0, 1, CURRENT_TIMESTAMP)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    status = excluded.status,
+                    source_path = excluded.source_path,
+                    pages_indexed = 0,
+                    attempts = book_content_index.attempts + 1,
+                    updated_at = excluded.updated_at
+                """, bookId, STATUS_FAILED, sourcePath);
+    }
+
+    @Override
+    @Transactional
+    public void removeBook(Long bookId) {
+        deletePages(bookId);
+        jdbcTemplate.update("DELETE FROM book_content_index WHERE book_id = ?", bookId);
+    }
+
+    @Override
+    @Transactional
+    public void removeBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM book_page_fts WHERE rowid >= ? AND rowid < ?",
+                bookIds.stream().map(bookId -> new Object[]{pageKey(bookId, 0), pageKey(bookId + 1, 0)}).toList()
+        );
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM book_content_index WHERE book_id IN (" + placeholders + ")", bookIds.toArray());
+    }
+
+    /**
+     * Livros sem indice ou pendentes vem primeiro; falhas voltam a fila com espera que dobra a cada
+     * tentativa ({@code retry-base-minutes}, 2x, 4x...) ate {@code max-attempts}.
+     */
+    @Override
+    public List<Long> findBooksPendingIndex(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT b.id
+                FROM book b
+                LEFT JOIN book_content_index s ON s.book_id = b.id
+                WHERE s.book_id IS NULL
+                   OR s.status = ?
+                   OR (s.status = ?
+                       AND s.attempts < ?
+                       AND s.updated_at <= datetime('now', '-' || (? * (1 << MIN(MAX(s.attempts - 1, 0), 16))) || ' minutes'))
+                ORDER BY CASE WHEN s.status = ? THEN 1 ELSE 0 END, b.id
+                LIMIT ?
+                """,
+                Long.class,
+                STATUS_PENDING,
+                STATUS_FAILED,
+                Math.max(maxAttempts, 1),
+                Math.max(retryBaseMinutes, 1),
+                STATUS_FAILED,
+                Math.max(limit, 1)
+        );
+    }
+
+    @Override
+    public Page<BookContentHit> search(String matchExpression, Pageable pageable) {
+        List<BookContentHit> hits = jdbcTemplate.query("""
+                SELECT f.rowid AS page_key,
+                       b.id AS book_id,
+                       b.title AS title,
+                       b.author AS author,
+                       snippet(book_page_fts, 0, '[[', ']]', '...', 16) AS snippet,
+                       bm25(book_page_fts) AS rank
+                FROM book_page_fts f
+                JOIN book b ON b.id = f.rowid / ?
+                WHERE book_page_fts MATCH ?
+                ORDER BY rank, f.rowid
+                LIMIT ? OFFSET ?
+                """,
+                (rs, rowNum) -> new BookContentHit(
+                        rs.getLong("book_id"),
+                        rs.getString("title"),
+                        rs.getString("author"),
+                        (int) (rs.getLong("page_key") % PAGE_SLOTS_PER_BOOK),
+                        rs.getString("snippet"),
+                        rs.getDouble("rank")
+                ),
+                PAGE_SLOTS_PER_BOOK,
+                matchExpression,
+                pageable.getPageSize(),
+                pageable.getOffset()
+        );
+
+        return PageableExecutionUtils.getPage(hits, pageable, () -> countHits(matchExpression, pageable));
+    }
+
+    /**
+     * O total so e contado quando a pagina nao revela o fim dos resultados, e no maximo
+     * {@link #MAX_COUNTED_HITS_AHEAD} ocorrencias alem da pagina atual.
+     */
+    private long countHits(String matchExpression, Pageable pageable) {
+        Long total = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM (
+                    SELECT 1
+                    FROM book_page_fts f
+                    JOIN book b ON b.id = f.rowid / ?
+                    WHERE book_page_fts MATCH ?
+                    LIMIT ?
+                )
+                """,
+                Long.class,
+                PAGE_SLOTS_PER_BOOK,
+                matchExpression,
+                pageable.getOffset() + pageable.getPageSize() + MAX_COUNTED_HITS_AHEAD
+        );
+        return total == null ? 0 : total;
+    }
+
+    private void deletePages(Long bookId) {
+        jdbcTemplate.update(
+                "DELETE FROM book_page_fts WHERE rowid >= ? AND rowid < ?",
+                pageKey(bookId, 0),
+                pageKey(bookId + 1, 0)
+        );
+    }
+
+    private void upsertState(Long bookId, String status, String sourcePath, int pagesIndexed) {
+        jdbcTemplate.update("""
+                INSERT INTO book_content_index (book_id, status, source_path, pages_indexed, attempts, updated_at)
+                VALUES (?, ?, ?, ?, 0, CURRENT_TIMESTAMP)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    status = excluded.status,
+                    source_path = excluded.source_path,
+                    pages_indexed = excluded.pages_indexed,
+                    attempts = 0,
+                    updated_at = excluded.updated_at
+                """, bookId, status, sourcePath, pagesIndexed);
+    }
+
+    private static long pageKey(Long bookId, int page) {
+        return bookId * PAGE_SLOTS_PER_BOOK + page;
+    }
+}
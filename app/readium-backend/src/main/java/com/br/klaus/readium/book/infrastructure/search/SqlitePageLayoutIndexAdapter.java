@@ -0,0 +1,115 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import com.br.klaus.readium.book.domain.model.PageLayoutIndexState;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SqlitePageLayoutIndexAdapter implements BookPageLayoutIndexPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<PageLayoutIndexState> findState(Long bookId) {
+        return jdbcTemplate.query(
+                "SELECT source_path, pages_indexed, complete FROM book_page_layout_state WHERE book_id = ?",
+                (rs, rowNum) -> new PageLayoutIndexState(
+                        rs.getString("source_path"),
+                        rs.getInt("pages_indexed"),
+                        rs.getBoolean("complete")
+                ),
+                bookId
+        ).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void reset(Long bookId, String sourcePath) {
+        jdbcTemplate.update("DELETE FROM book_page_layout WHERE book_id = ?", bookId);
+        jdbcTemplate.update("""
+                INSERT INTO book_page_layout_state (book_id, source_path, pages_indexed, complete, updated_at)
+                VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    source_path = excluded.source_path,
+                    pages_indexed = 0,
+                    complete = 0,
+                    updated_at = excluded.updated_at
+                """, bookId, sourcePath);
+    }
+
+    @Override
+    @Transactional
+    public void savePage(Long bookId, PageGlyphLayout layout) {
+        jdbcTemplate.update("""
+                INSERT INTO book_page_layout (book_id, page, text, glyph_boxes)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (book_id, page) DO UPDATE SET
+                    text = excluded.text,
+                    glyph_boxes = excluded.glyph_boxes
+                """, bookId, layout.page(), layout.text(), GlyphBoxCodec.encode(layout.boxes()));
+        jdbcTemplate.update("""
+                UPDATE book_page_layout_state
+                SET pages_indexed = MAX(pages_indexed, ?), updated_at = CURRENT_TIMESTAMP
+                WHERE book_id = ?
+                """, layout.page(), bookId);
+    }
+
+    @Override
+    public void markComplete(Long bookId) {
+        jdbcTemplate.update(
+                "UPDATE book_page_layout_state SET complete = 1, updated_at = CURRENT_TIMESTAMP WHERE book_id = ?",
+                bookId
+        );
+    }
+
+    @Override
+    public List<PageGlyphLayout> findPages(Long bookId, int fromPage, int limit) {
+        return jdbcTemplate.query("""
+                SELECT page, text, glyph_boxes
+                FROM book_page_layout
+                WHERE book_id = ? AND page >= ?
+                ORDER BY page
+                LIMIT ?
+                """,
+                (rs, rowNum) -> {
+                    String text = rs.getString("text");
+                    return new PageGlyphLayout(
+                            rs.getInt("page"),
+                            text,
+                            GlyphBoxCodec.decode(rs.getBytes("glyph_boxes"), text.length() * PageGlyphLayout.BOX_STRIDE)
+                    );
+                },
+                bookId,
+                fromPage,
+                Math.max(limit, 1)
+        );
+    }
+
+    @Override
+    @Transactional
+    public void removeBook(Long bookId) {
+        jdbcTemplate.update("DELETE FROM book_page_layout WHERE book_id = ?", bookId);
+        jdbcTemplate.update("DELETE FROM book_page_layout_state WHERE book_id = ?", bookId);
+    }
+
+    @Override
+    @Transactional
+    public void removeBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM book_page_layout WHERE book_id IN (" + placeholders + ")", bookIds.toArray());
+        jdbcTemplate.update("DELETE FROM book_page_layout_state WHERE book_id IN (" + placeholders + ")", bookIds.toArray());
+    }
+}
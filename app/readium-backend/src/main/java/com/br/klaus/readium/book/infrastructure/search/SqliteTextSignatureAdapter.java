@@ -0,0 +1,139 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import com.br.klaus.readium.book.domain.model.BookTextSignature;
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.book.domain.port.BookTextSignaturePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SqliteTextSignatureAdapter implements BookTextSignaturePort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.duplicates.backfill.retry-base-minutes:15}")
+    private long retryBaseMinutes;
+
+    @Value("${app.duplicates.backfill.max-attempts:6}")
+    private int maxAttempts;
+
+    /**
+     * A revisao vem de um contador proprio, nunca reaproveitado mesmo que a assinatura mais recente seja
+     * removida, para que {@link #findUpdatedAfter} nao perca gravacoes posteriores.
+     */
+    @Override
+    @Transactional
+    public void save(Long bookId, String textLayer, MinHashSignature signature) {
+        Long revision = jdbcTemplate.queryForObject(
+                "UPDATE book_text_signature_sequence SET revision = revision + 1 WHERE id = 1 RETURNING revision",
+                Long.class
+        );
+        jdbcTemplate.update("""
+                INSERT INTO book_text_signature (book_id, text_layer, shingle_count, minhash, revision)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    text_layer = excluded.text_layer,
+                    shingle_count = excluded.shingle_count,
+                    minhash = excluded.minhash,
+                    revision = excluded.revision
+                """, bookId, textLayer, signature.shingleCount(), encode(signature.hashes()), revision);
+        jdbcTemplate.update("DELETE FROM book_text_signature_failure WHERE book_id = ?", bookId);
+    }
+
+    @Override
+    @Transactional
+    public void removeBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM book_text_signature WHERE book_id IN (" + placeholders + ")", bookIds.toArray());
+        jdbcTemplate.update(
+                "DELETE FROM book_text_signature_failure WHERE book_id IN (" + placeholders + ")",
+                bookIds.toArray()
+        );
+    }
+
+    @Override
+    public List<BookTextSignature> findUpdatedAfter(long revision, int limit) {
+        return jdbcTemplate.query("""
+                SELECT book_id, text_layer, shingle_count, minhash, revision
+                FROM book_text_signature
+                WHERE revision > ?
+                ORDER BY revision
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new BookTextSignature(
+                        rs.getLong("book_id"),
+                        rs.getString("text_layer"),
+                        new MinHashSignature(decode(rs.getBytes("minhash")), rs.getInt("shingle_count")),
+                        rs.getLong("revision")
+                ),
+                revision,
+                Math.max(limit, 1)
+        );
+    }
+
+    /**
+     * Livros nunca tentados vem primeiro; falhas voltam com espera que dobra a cada tentativa
+     * ({@code retry-base-minutes}, 2x, 4x...) ate {@code max-attempts}.
+     */
+    @Override
+    public List<Long> findBooksWithoutSignature(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT b.id
+                FROM book b
+                LEFT JOIN book_text_signature s ON s.book_id = b.id
+                LEFT JOIN book_text_signature_failure f ON f.book_id = b.id
+                WHERE s.book_id IS NULL
+                  AND (f.book_id IS NULL
+                       OR (f.attempts < ?
+                           AND f.failed_at <= datetime('now', '-' || (? * (1 << MIN(MAX(f.attempts - 1, 0), 16))) || ' minutes')))
+                ORDER BY CASE WHEN f.book_id IS NULL THEN 0 ELSE 1 END, b.id
+                LIMIT ?
+                """,
+                Long.class,
+                Math.max(maxAttempts, 1),
+                Math.max(retryBaseMinutes, 1),
+                Math.max(limit, 1)
+        );
+    }
+
+    @Override
+    public void markFailed(Long bookId) {
+        jdbcTemplate.update("""
+                INSERT INTO book_text_signature_failure (book_id, attempts, failed_at)
+                VALUES (?, 1, CURRENT_TIMESTAMP)
+                ON CONFLICT (book_id) DO UPDATE SET
+                    attempts = book_text_signature_failure.attempts + 1,
+                    failed_at = CURRENT_TIMESTAMP
+                """, bookId);
+    }
+
+    @Override
+    public void removeBook(Long bookId) {
+        jdbcTemplate.update("DELETE FROM book_text_signature WHERE book_id = ?", bookId);
+        jdbcTemplate.update("DELETE FROM book_text_signature_failure WHERE book_id = ?", bookId);
+    }
+
+    private static byte[] encode(int[] hashes) {
+        ByteBuffer buffer = ByteBuffer.allocate(hashes.length * Integer.BYTES);
+        buffer.asIntBuffer().put(hashes);
+        return buffer.array();
+    }
+
+    private static int[] decode(byte[] encoded) {
+        int[] hashes = new int[encoded.length / Integer.BYTES];
+        ByteBuffer.wrap(encoded).asIntBuffer().get(hashes);
+        return hashes;
+    }
+}
@@ -0,0 +1,195 @@
+package com.br.klaus.readium.book.infrastructure.storage;
+
+import com.br.klaus.readium.book.domain.port.BookTextStorePort;
+import com.br.klaus.readium.exception.StorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+public class FileSystemBookTextStoreAdapter implements BookTextStorePort {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,127}");
+    private static final String FILE_EXTENSION = ".rtxt";
+
+    private final Path root;
+    private final Map<Path, ByteBuffer> mappedFiles;
+
+    public FileSystemBookTextStoreAdapter(
+            @Value("${app.storage.path:data/books}") String storagePath,
+            @Value("${app.text-store.mapped-files:64}") int mappedFilesLimit
+    ) {
+        this.root = Paths.get(storagePath).resolve("text-store").normalize().toAbsolutePath();
+        int limit = Math.max(mappedFilesLimit, 1);
+        this.mappedFiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, ByteBuffer> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    @Override
+    public OptionalInt pageCount(String storeKey, String layerVersion) {
+        Path file = resolveFile(storeKey, layerVersion);
+        try {
+            Optional<ByteBuffer> mapped = map(file);
+            return mapped.isPresent() ? OptionalInt.of(PageTextBlockFile.pageCount(mapped.get())) : OptionalInt.empty();
+        } catch (IOException e) {
+            discardCorrupted(file, e);
+            return OptionalInt.empty();
+        }
+    }
+
+    @Override
+    public Optional<String> readPage(String storeKey, String layerVersion, int page) {
+        Path file = resolveFile(storeKey, layerVersion);
+        try {
+            Optional<ByteBuffer> mapped = map(file);
+            if (mapped.isEmpty() || page < 1 || page > PageTextBlockFile.pageCount(mapped.get())) {
+                return Optional.empty();
+            }
+            return Optional.of(PageTextBlockFile.readPage(mapped.get(), page));
+        } catch (IOException e) {
+            throw new StorageException("Falha ao ler texto armazenado da pagina " + page, e);
+        }
+    }
+
+    @Override
+    public List<String> readPages(String storeKey, String layerVersion) {
+        Path file = resolveFile(storeKey, layerVersion);
+        try {
+            Optional<ByteBuffer> mapped = map(file);
+            if (mapped.isEmpty()) {
+                return List.of();
+            }
+            int pageCount = PageTextBlockFile.pageCount(mapped.get());
+            List<String> pages = new ArrayList<>(pageCount);
+            for (int page = 1; page <= pageCount; page++) {
+                pages.add(PageTextBlockFile.readPage(mapped.get(), page));
+            }
+            return pages;
+        } catch (IOException e) {
+            throw new StorageException("Falha ao ler texto armazenado do livro", e);
+        }
+    }
+
+    @Override
+    public void write(String storeKey, String layerVersion, List<String> pages) {
+        Path file = resolveFile(storeKey, layerVersion);
+        Path directory = file.getParent();
+        Path temporary = directory.resolve(UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            PageTextBlockFile.write(temporary, pages);
+            evict(file);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteOtherLayers(directory, file);
+        } catch (IOException e) {
+            throw new StorageException("Falha ao gravar texto paginado em " + file, e);
+        } finally {
+            deleteQuietly(temporary);
+        }
+    }
+
+    @Override
+    public void delete(String storeKey) {
+        Path directory = resolveDirectory(storeKey);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            deleteOtherLayers(directory, null);
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Falha ao remover texto armazenado em {}.", directory, e);
+        }
+    }
+
+    private Optional<ByteBuffer> map(Path file) throws IOException {
+        synchronized (mappedFiles) {
+            ByteBuffer cached = mappedFiles.get(file);
+            if (cached != null) {
+                return Optional.of(cached.duplicate());
+            }
+        }
+
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+
+        synchronized (mappedFiles) {
+            mappedFiles.put(file, mapped);
+        }
+        return Optional.of(mapped.duplicate());
+    }
+
+    private void evict(Path file) {
+        synchronized (mappedFiles) {
+            mappedFiles.remove(file);
+        }
+    }
+
+    private void deleteOtherLayers(Path directory, Path keep) throws IOException {
+        try (DirectoryStream<Path> layers = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for (Path layer : layers) {
+                if (!layer.equals(keep)) {
+                    evict(layer);
+                    deleteQuietly(layer);
+                }
+            }
+        }
+    }
+
+    private void discardCorrupted(Path file, IOException cause) {
+        log.warn("Texto armazenado invalido em {}; sera extraido novamente.", file, cause);
+        evict(file);
+        deleteQuietly(file);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Nao foi possivel remover {}.", file, e);
+        }
+    }
+
+    private Path resolveFile(String storeKey, String layerVersion) {
+        return resolveDirectory(storeKey).resolve(requireSafeName(layerVersion) + FILE_EXTENSION);
+    }
+
+    private Path resolveDirectory(String storeKey) {
+        return root.resolve(requireSafeName(storeKey));
+    }
+
+    private static String requireSafeName(String name) {
+        if (name == null || !SAFE_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Identificador de texto armazenado invalido.");
+        }
+        return name;
+    }
+}
@@ -0,0 +1,150 @@
+package com.br.klaus.readium.book.infrastructure.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Formato: cabecalho (magic, versao, paginas), tabela de offsets absolutos (paginas + 1 longs),
+ * tamanhos descomprimidos (paginas ints) e um bloco deflate por pagina. A tabela permite
+ * ler qualquer pagina direto do arquivo mapeado sem tocar nas demais.
+ */
+final class PageTextBlockFile {
+
+    static final int MAGIC = 0x52545854;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_BYTES = 12;
+    private static final int CHUNK_BYTES = 16 * 1024;
+
+    private PageTextBlockFile() {
+    }
+
+    static void write(Path target, List<String> pages) throws IOException {
+        int pageCount = pages.size();
+        long[] offsets = new long[pageCount + 1];
+        int[] rawLengths = new int[pageCount];
+        long dataStart = HEADER_BYTES + (long) Long.BYTES * (pageCount + 1) + (long) Integer.BYTES * pageCount;
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        try (FileChannel channel = FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            channel.position(dataStart);
+            for (int index = 0; index < pageCount; index++) {
+                offsets[index] = channel.position();
+                String text = pages.get(index);
+                if (text == null || text.isEmpty()) {
+                    continue;
+                }
+
+                byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+                rawLengths[index] = raw.length;
+                deflater.reset();
+                deflater.setInput(raw);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    chunk.clear();
+                    deflater.deflate(chunk);
+                    chunk.flip();
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+            offsets[pageCount] = channel.position();
+
+            ByteBuffer header = ByteBuffer.allocate((int) dataStart);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(pageCount);
+            for (long offset : offsets) {
+                header.putLong(offset);
+            }
+            for (int rawLength : rawLengths) {
+                header.putInt(rawLength);
+            }
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(false);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static int pageCount(ByteBuffer file) throws IOException {
+        if (file.limit() < HEADER_BYTES || file.getInt(0) != MAGIC) {
+            throw new IOException("Arquivo de texto paginado invalido.");
+        }
+        if (file.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Versao de arquivo de texto paginado nao suportada: " + file.getInt(4));
+        }
+
+        int pageCount = file.getInt(8);
+        long tablesEnd = HEADER_BYTES + (long) Long.BYTES * (pageCount + 1) + (long) Integer.BYTES * pageCount;
+        if (pageCount < 0 || tablesEnd > file.limit()) {
+            throw new IOException("Arquivo de texto paginado truncado.");
+        }
+        return pageCount;
+    }
+
+    static String readPage(ByteBuffer file, int page) throws IOException {
+        int pageCount = pageCount(file);
+        if (page < 1 || page > pageCount) {
+            throw new IndexOutOfBoundsException("Pagina fora do intervalo: " + page);
+        }
+
+        int index = page - 1;
+        long start = file.getLong(offsetPosition(index));
+        long end = file.getLong(offsetPosition(index + 1));
+        int rawLength = file.getInt(rawLengthPosition(pageCount, index));
+        if (rawLength == 0) {
+            return "";
+        }
+        if (start < 0 || end < start || end > file.limit()) {
+            throw new IOException("Bloco de texto da pagina " + page + " corrompido.");
+        }
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(file.slice((int) start, (int) (end - start)));
+            int filled = 0;
+            while (filled < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, filled, rawLength - filled);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                filled += inflated;
+            }
+            if (filled != rawLength) {
+                throw new IOException("Bloco de texto da pagina " + page + " incompleto.");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Bloco de texto da pagina " + page + " corrompido.", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private static int offsetPosition(int index) {
+        return HEADER_BYTES + Long.BYTES * index;
+    }
+
+    private static int rawLengthPosition(int pageCount, int index) {
+        return HEADER_BYTES + Long.BYTES * (pageCount + 1) + Integer.BYTES * index;
+    }
+}
@@ -0,0 +1,71 @@
+package com.br.klaus.readium.book.infrastructure.system;
+
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import com.sun.management.OperatingSystemMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+@Component
+@Slf4j
+public class ProcHostLoadAdapter implements HostLoadPort {
+
+    private static final Path PROC_LOADAVG = Paths.get("/proc/loadavg");
+    private static final Path PROC_MEMINFO = Paths.get("/proc/meminfo");
+    private static final String MEM_AVAILABLE_PREFIX = "MemAvailable:";
+
+    @Override
+    public int availableProcessors() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public OptionalDouble loadAverage() {
+        if (Files.isReadable(PROC_LOADAVG)) {
+            try {
+                String content = Files.readString(PROC_LOADAVG, StandardCharsets.US_ASCII).trim();
+                int separator = content.indexOf(' ');
+                String oneMinute = separator > 0 ? content.substring(0, separator) : content;
+                return OptionalDouble.of(Double.parseDouble(oneMinute));
+            } catch (IOException | NumberFormatException ex) {
+                log.debug("Falha ao ler /proc/loadavg: {}", ex.getMessage());
+            }
+        }
+
+        double systemLoad = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        return systemLoad >= 0 ? OptionalDouble.of(systemLoad) : OptionalDouble.empty();
+    }
+
+    @Override
+    public OptionalLong availableMemoryBytes() {
+        if (Files.isReadable(PROC_MEMINFO)) {
+            try {
+                List<String> lines = Files.readAllLines(PROC_MEMINFO, StandardCharsets.US_ASCII);
+                for (String line : lines) {
+                    if (!line.startsWith(MEM_AVAILABLE_PREFIX)) {
+                        continue;
+                    }
+                    String[] parts = line.substring(MEM_AVAILABLE_PREFIX.length()).trim().split("\\s+");
+                    return OptionalLong.of(Long.parseLong(parts[0]) * 1024L);
+                }
+            } catch (IOException | NumberFormatException ex) {
+                log.debug("Falha ao ler /proc/meminfo: {}", ex.getMessage());
+            }
+        }
+
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof OperatingSystemMXBean osBean) {
+            long freeMemory = osBean.getFreeMemorySize();
+            return freeMemory >= 0 ? OptionalLong.of(freeMemory) : OptionalLong.empty();
+        }
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,217 @@
+package com.br.klaus.readium.book.infrastructure.text;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutPort;
+import com.br.klaus.readium.book.domain.port.BookPageTextPort;
+import com.br.klaus.readium.exception.StorageException;
+import io.documentnode.epub4j.domain.SpineReference;
+import io.documentnode.epub4j.epub.EpubReader;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+@Component
+public class PdfEpubBookPageTextAdapter implements BookPageTextPort, BookPageLayoutPort {
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern HTML_TAG = Pattern.compile("(?s)<[^>]+>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public List<String> extractPages(Book book) {
+        File file = resolveSourceFile(book);
+        try {
+            if (book.getBookFormat() == Book.BookFormat.EPUB) {
+                return extractEpubSpine(file);
+            }
+            return extractPdfPages(file);
+        } catch (IOException e) {
+            throw new StorageException("Falha ao extrair texto do livro " + book.getId(), e);
+        }
+    }
+
+    @Override
+    public boolean extractLayouts(Book book, int fromPage, Predicate<PageGlyphLayout> consumer) {
+        File file = resolveSourceFile(book);
+        try {
+            if (book.getBookFormat() == Book.BookFormat.EPUB) {
+                return extractEpubLayouts(file, fromPage, consumer);
+            }
+            return extractPdfLayouts(file, fromPage, consumer);
+        } catch (IOException e) {
+            throw new StorageException("Falha ao extrair layout de texto do livro " + book.getId(), e);
+        }
+    }
+
+    private File resolveSourceFile(Book book) {
+        String sourcePath = book.resolveReadableFilePath();
+        File file = new File(sourcePath);
+        if (!file.exists()) {
+            throw new StorageException("Arquivo do livro nao encontrado para extracao de texto: " + sourcePath);
+        }
+        return file;
+    }
+
+    private boolean extractPdfLayouts(File file, int fromPage, Predicate<PageGlyphLayout> consumer) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file)) {
+            int totalPages = document.getNumberOfPages();
+            GlyphCollectingStripper stripper = new GlyphCollectingStripper();
+            for (int page = Math.max(fromPage, 1); page <= totalPages; page++) {
+                if (!consumer.test(stripper.extractPage(document, page))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private boolean extractEpubLayouts(File file, int fromPage, Predicate<PageGlyphLayout> consumer) throws IOException {
+        List<String> pages = extractEpubSpine(file);
+        for (int page = Math.max(fromPage, 1); page <= pages.size(); page++) {
+            if (!consumer.test(PageGlyphLayout.textOnly(page, pages.get(page - 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> extractPdfPages(File file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file)) {
+            int totalPages = document.getNumberOfPages();
+            List<String> pages = new ArrayList<>(totalPages);
+            PDFTextStripper stripper = new PDFTextStripper();
+            for (int page = 1; page <= totalPages; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                pages.add(normalizeWhitespace(stripper.getText(document)));
+            }
+            return pages;
+        }
+    }
+
+    private List<String> extractEpubSpine(File file) throws IOException {
+        io.documentnode.epub4j.domain.Book epub;
+        try (FileInputStream stream = new FileInputStream(file)) {
+            epub = new EpubReader().readEpub(stream);
+        }
+
+        List<String> pages = new ArrayList<>();
+        for (SpineReference reference : epub.getSpine().getSpineReferences()) {
+            byte[] data = reference.getResource() == null ? null : reference.getResource().getData();
+            pages.add(data == null ? "" : htmlToText(new String(data, StandardCharsets.UTF_8)));
+        }
+        return pages;
+    }
+
+    private String htmlToText(String html) {
+        String withoutScripts = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        String withoutTags = HTML_TAG.matcher(withoutScripts).replaceAll(" ");
+        String decoded = withoutTags
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        return normalizeWhitespace(decoded);
+    }
+
+    private String normalizeWhitespace(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static final class GlyphCollectingStripper extends PDFTextStripper {
+
+        private final StringBuilder text = new StringBuilder();
+        private float[] boxes = new float[1024];
+        private float pageWidth;
+        private float pageHeight;
+
+        PageGlyphLayout extractPage(PDDocument document, int page) throws IOException {
+            text.setLength(0);
+            setStartPage(page);
+            setEndPage(page);
+            writeText(document, Writer.nullWriter());
+            return new PageGlyphLayout(
+                    page,
+                    text.toString(),
+                    Arrays.copyOf(boxes, text.length() * PageGlyphLayout.BOX_STRIDE)
+            );
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            super.startPage(page);
+            PDRectangle cropBox = page.getCropBox();
+            boolean rotated = page.getRotation() % 180 != 0;
+            pageWidth = rotated ? cropBox.getHeight() : cropBox.getWidth();
+            pageHeight = rotated ? cropBox.getWidth() : cropBox.getHeight();
+        }
+
+        @Override
+        protected void writeString(String string, List<TextPosition> textPositions) {
+            for (TextPosition position : textPositions) {
+                String unicode = position.getUnicode();
+                if (unicode == null || unicode.isEmpty()) {
+                    continue;
+                }
+
+                float x = position.getXDirAdj() / pageWidth;
+                float top = (position.getYDirAdj() - position.getHeightDir()) / pageHeight;
+                float width = position.getWidthDirAdj() / pageWidth;
+                float height = position.getHeightDir() / pageHeight;
+                float charWidth = width / unicode.length();
+                for (int offset = 0; offset < unicode.length(); offset++) {
+                    append(unicode.charAt(offset), x + charWidth * offset, top, charWidth, height);
+                }
+            }
+        }
+
+        @Override
+        protected void writeWordSeparator() {
+            appendSeparator();
+        }
+
+        @Override
+        protected void writeLineSeparator() {
+            appendSeparator();
+        }
+
+        private void appendSeparator() {
+            if (!text.isEmpty() && text.charAt(text.length() - 1) != ' ') {
+                append(' ', Float.NaN, Float.NaN, Float.NaN, Float.NaN);
+            }
+        }
+
+        private void append(char value, float x, float y, float width, float height) {
+            int offset = text.length() * PageGlyphLayout.BOX_STRIDE;
+            if (offset + PageGlyphLayout.BOX_STRIDE > boxes.length) {
+                boxes = Arrays.copyOf(boxes, boxes.length * 2);
+            }
+            boxes[offset] = x;
+            boxes[offset + 1] = y;
+            boxes[offset + 2] = width;
+            boxes[offset + 3] = height;
+            text.append(value);
+        }
+    }
+}
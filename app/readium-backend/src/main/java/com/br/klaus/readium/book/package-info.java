@@ -2,6 +2,7 @@
         displayName = "Books",
         allowedDependencies = {
                 "exception",
+                "persistence",
                 "storage",
                 "sync::api"
         }
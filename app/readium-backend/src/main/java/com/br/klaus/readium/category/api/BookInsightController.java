@@ -2,17 +2,22 @@ package com.br.klaus.readium.category.api;
 
 import com.br.klaus.readium.category.api.dto.BookMetricsResponseDTO;
 import com.br.klaus.readium.category.api.dto.BookRecommendationResponseDTO;
+import com.br.klaus.readium.category.api.dto.InsightDashboardResponseDTO;
 import com.br.klaus.readium.category.api.dto.ReadingEvolutionPointResponseDTO;
 import com.br.klaus.readium.category.api.dto.SmartCollectionResponseDTO;
 import com.br.klaus.readium.category.application.query.CategoryInsightQueryService;
 import com.br.klaus.readium.category.application.query.ReadingEvolutionQueryService;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,28 +27,60 @@ public class BookInsightController {
 
     private final CategoryInsightQueryService queryService;
     private final ReadingEvolutionQueryService readingEvolutionQueryService;
+    private final LibraryRevisionService revisions;
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<InsightDashboardResponseDTO> getDashboard(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer days,
+            WebRequest request
+    ) {
+        String etag = revisions.etag(LocalDate.now().toString(), RevisionAggregate.BOOKS, RevisionAggregate.CATEGORIES);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(queryService.getDashboard(limit, days));
+    }
 
     @GetMapping("/metrics")
-    public ResponseEntity<BookMetricsResponseDTO> getMetrics() {
+    public ResponseEntity<BookMetricsResponseDTO> getMetrics(WebRequest request) {
+        if (request.checkNotModified(insightsEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.getMetrics());
     }
 
     @GetMapping("/smart-collections")
-    public ResponseEntity<List<SmartCollectionResponseDTO>> getSmartCollections() {
+    public ResponseEntity<List<SmartCollectionResponseDTO>> getSmartCollections(WebRequest request) {
+        if (request.checkNotModified(insightsEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.getSmartCollections());
     }
 
     @GetMapping("/recommendations")
     public ResponseEntity<List<BookRecommendationResponseDTO>> getRecommendations(
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
     ) {
+        if (request.checkNotModified(insightsEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.getRecommendations(limit));
     }
 
     @GetMapping("/evolution")
     public ResponseEntity<List<ReadingEvolutionPointResponseDTO>> getEvolution(
-            @RequestParam(required = false) Integer days
+            @RequestParam(required = false) Integer days,
+            WebRequest request
     ) {
+        if (request.checkNotModified(revisions.etag(LocalDate.now().toString(), RevisionAggregate.BOOKS))) {
+            return null;
+        }
         return ResponseEntity.ok(readingEvolutionQueryService.getEvolution(days));
     }
+
+    private String insightsEtag() {
+        return revisions.etag(RevisionAggregate.BOOKS, RevisionAggregate.CATEGORIES);
+    }
 }
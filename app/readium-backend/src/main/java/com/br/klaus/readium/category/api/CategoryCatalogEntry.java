@@ -0,0 +1,4 @@
+package com.br.klaus.readium.category.api;
+
+public record CategoryCatalogEntry(Long id, String name, long bookCount) {
+}
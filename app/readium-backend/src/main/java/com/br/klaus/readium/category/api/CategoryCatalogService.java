@@ -0,0 +1,11 @@
+package com.br.klaus.readium.category.api;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryCatalogService {
+
+    List<CategoryCatalogEntry> findAllEntries();
+
+    List<CategoryCatalogEntry> findEntries(Collection<Long> categoryIds);
+}
@@ -1,17 +1,24 @@
 package com.br.klaus.readium.category.api;
 
+import com.br.klaus.readium.book.api.BookBulkResult;
+import com.br.klaus.readium.category.api.dto.BulkBookCategoriesRequestDTO;
 import com.br.klaus.readium.category.api.dto.CategoryResponseDTO;
+import com.br.klaus.readium.category.api.dto.CategoryTreeNodeResponseDTO;
 import com.br.klaus.readium.category.api.dto.CreateCategoryRequestDTO;
 import com.br.klaus.readium.category.api.dto.MoveCategoryRequestDTO;
 import com.br.klaus.readium.category.api.dto.UpdateBookCategoriesRequestDTO;
 import com.br.klaus.readium.category.api.dto.UpdateCategoryRequestDTO;
 import com.br.klaus.readium.category.application.command.CategoryCommandService;
 import com.br.klaus.readium.category.application.query.CategoryQueryService;
+import com.br.klaus.readium.category.application.query.CategoryTreeQueryService;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,13 +29,27 @@ public class CategoryController {
 
     private final CategoryCommandService commandService;
     private final CategoryQueryService queryService;
+    private final CategoryTreeQueryService treeQueryService;
+    private final LibraryRevisionService revisions;
 
     @GetMapping("/categories")
     public ResponseEntity<List<CategoryResponseDTO>> findAll(
-            @RequestParam(required = false) String query) {
+            @RequestParam(required = false) String query,
+            WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.CATEGORIES))) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.findAll(query));
     }
 
+    @GetMapping("/categories/tree")
+    public ResponseEntity<List<CategoryTreeNodeResponseDTO>> findTree(WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.CATEGORIES))) {
+            return null;
+        }
+        return ResponseEntity.ok(treeQueryService.getTree());
+    }
+
     @PostMapping("/categories")
     public ResponseEntity<CategoryResponseDTO> create(
             @RequestBody @Valid CreateCategoryRequestDTO req) {
@@ -66,4 +87,11 @@ public class CategoryController {
             @RequestBody @Valid UpdateBookCategoriesRequestDTO req) {
         return ResponseEntity.ok(commandService.updateBookCategories(bookId, req));
     }
+
+    @PostMapping("/books/bulk/categories")
+    public ResponseEntity<BookBulkResult> bulkUpdateBookCategories(
+            @RequestHeader(value = "X-Operation-Id", required = false) String operationId,
+            @RequestBody @Valid BulkBookCategoriesRequestDTO req) {
+        return ResponseEntity.ok(commandService.bulkUpdateBookCategories(req, operationId));
+    }
 }
@@ -1,7 +1,11 @@
 package com.br.klaus.readium.category.api;
 
 import com.br.klaus.readium.category.api.dto.CategoryResponseDTO;
+import com.br.klaus.readium.category.api.dto.CategoryTreeNodeResponseDTO;
 import com.br.klaus.readium.category.domain.model.Category;
+import com.br.klaus.readium.category.domain.model.CategoryTreeNode;
+
+import java.util.List;
 
 public final class CategoryResponseMapper {
 
@@ -19,4 +23,20 @@ public final class CategoryResponseMapper {
                 booksCount
         );
     }
+
+    public static List<CategoryTreeNodeResponseDTO> toTreeResponse(List<CategoryTreeNode> nodes) {
+        return nodes.stream()
+                .map(node -> new CategoryTreeNodeResponseDTO(
+                        node.id(),
+                        node.name(),
+                        node.slug(),
+                        node.color(),
+                        node.parentId(),
+                        node.sortOrder(),
+                        node.booksCount(),
+                        node.subtreeBooksCount(),
+                        toTreeResponse(node.children())
+                ))
+                .toList();
+    }
 }
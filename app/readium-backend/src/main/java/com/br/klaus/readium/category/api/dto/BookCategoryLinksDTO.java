@@ -0,0 +1,6 @@
+package com.br.klaus.readium.category.api.dto;
+
+import java.util.List;
+
+public record BookCategoryLinksDTO(Long bookId, List<Long> categoryIds) {
+}
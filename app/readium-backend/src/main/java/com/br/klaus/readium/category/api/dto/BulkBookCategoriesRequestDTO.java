@@ -0,0 +1,13 @@
+package com.br.klaus.readium.category.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BulkBookCategoriesRequestDTO(
+        @NotEmpty
+        List<Long> bookIds,
+        List<Long> addCategoryIds,
+        List<Long> removeCategoryIds
+) {
+}
@@ -0,0 +1,16 @@
+package com.br.klaus.readium.category.api.dto;
+
+import java.util.List;
+
+public record CategoryTreeNodeResponseDTO(
+        Long id,
+        String name,
+        String slug,
+        String color,
+        Long parentId,
+        int sortOrder,
+        long booksCount,
+        long subtreeBooksCount,
+        List<CategoryTreeNodeResponseDTO> children
+) {
+}
@@ -0,0 +1,11 @@
+package com.br.klaus.readium.category.api.dto;
+
+import java.util.List;
+
+public record InsightDashboardResponseDTO(
+        BookMetricsResponseDTO metrics,
+        List<SmartCollectionResponseDTO> smartCollections,
+        List<BookRecommendationResponseDTO> recommendations,
+        List<ReadingEvolutionPointResponseDTO> evolution
+) {
+}
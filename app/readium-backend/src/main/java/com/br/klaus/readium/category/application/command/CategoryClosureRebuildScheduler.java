@@ -0,0 +1,32 @@
+package com.br.klaus.readium.category.application.command;
+
+import com.br.klaus.readium.category.domain.port.CategoryClosurePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryClosureRebuildScheduler {
+
+    private final CategoryClosurePort categoryClosure;
+
+    @Value("${app.categories.closure.rebuild.enabled:true}")
+    private boolean rebuildEnabled;
+
+    @Scheduled(
+            initialDelayString = "${app.categories.closure.rebuild.fixed-delay-ms:21600000}",
+            fixedDelayString = "${app.categories.closure.rebuild.fixed-delay-ms:21600000}"
+    )
+    public void rebuildClosure() {
+        if (!rebuildEnabled) {
+            return;
+        }
+
+        int rows = categoryClosure.rebuild();
+        log.debug("Tabela de fechamento de categorias reconstruida com {} relacao(oes).", rows);
+    }
+}
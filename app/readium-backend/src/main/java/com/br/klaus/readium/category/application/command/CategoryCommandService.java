@@ -1,7 +1,11 @@
 package com.br.klaus.readium.category.application.command;
 
+import com.br.klaus.readium.book.api.BookBulkIds;
+import com.br.klaus.readium.book.api.BookBulkResult;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.book.events.BookDeletedEvent;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import com.br.klaus.readium.category.api.dto.BulkBookCategoriesRequestDTO;
 import com.br.klaus.readium.category.api.dto.CategoryResponseDTO;
 import com.br.klaus.readium.category.api.dto.CreateCategoryRequestDTO;
 import com.br.klaus.readium.category.api.dto.MoveCategoryRequestDTO;
@@ -11,11 +15,19 @@ import com.br.klaus.readium.category.application.query.CategoryQueryService;
 import com.br.klaus.readium.category.domain.model.BookCategory;
 import com.br.klaus.readium.category.domain.model.Category;
 import com.br.klaus.readium.category.domain.port.BookCategoryRepositoryPort;
+import com.br.klaus.readium.category.domain.port.CategoryClosurePort;
 import com.br.klaus.readium.category.domain.port.CategoryRepositoryPort;
 import com.br.klaus.readium.category.domain.service.CategorySlugService;
+import com.br.klaus.readium.category.events.CategoryCatalogChangedEvent;
 import com.br.klaus.readium.exception.BookNotFoundException;
 import com.br.klaus.readium.exception.CategoryNotFoundException;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.OperationIdempotencyService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +39,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CategoryCommandService {
 
+    private static final String BULK_OPERATION_SCOPE = "book-bulk-categories";
     private static final String[] COLOR_PALETTE = {
             "#2563EB", "#0EA5E9", "#14B8A6", "#22C55E",
             "#EAB308", "#F97316", "#EF4444", "#EC4899", "#8B5CF6"
@@ -34,8 +47,13 @@ public class CategoryCommandService {
 
     private final CategoryRepositoryPort categoryRepository;
     private final BookCategoryRepositoryPort bookCategoryRepository;
+    private final CategoryClosurePort categoryClosure;
     private final BookExistenceService bookExistenceService;
     private final CategoryQueryService categoryQueryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationIdempotencyService operationIdempotencyService;
+    private final LibraryRevisionService revisions;
+    private final SyncChangeLogService changeLog;
 
     @Transactional
     public CategoryResponseDTO create(CreateCategoryRequestDTO req) {
@@ -47,6 +65,8 @@ public class CategoryCommandService {
         int sortOrder = calculateNextSortOrder(parentId);
 
         Category saved = categoryRepository.save(Category.create(name, slug, color, parentId, sortOrder));
+        categoryClosure.insertLeaf(saved.getId(), parentId);
+        publishCatalogChanged(Set.of(saved.getId()));
         return categoryQueryService.toResponse(saved);
     }
 
@@ -67,13 +87,18 @@ public class CategoryCommandService {
         category.setColor(color);
         category.setParentId(nextParentId);
 
-        if (!Objects.equals(previousParentId, nextParentId)) {
+        boolean parentChanged = !Objects.equals(previousParentId, nextParentId);
+        if (parentChanged) {
             category.setSortOrder(calculateNextSortOrder(nextParentId));
         }
 
         Category saved = categoryRepository.save(category);
+        if (parentChanged) {
+            categoryClosure.moveSubtree(categoryId, nextParentId);
+        }
         normalizeSiblingSort(previousParentId);
         normalizeSiblingSort(nextParentId);
+        publishCatalogChanged(Set.of(categoryId));
 
         return categoryQueryService.toResponse(saved);
     }
@@ -90,11 +115,16 @@ public class CategoryCommandService {
             child.setParentId(deletedParentId);
             child.setSortOrder(calculateNextSortOrder(deletedParentId));
             categoryRepository.save(child);
+            categoryClosure.moveSubtree(child.getId(), deletedParentId);
         }
 
+        List<Long> linkedBookIds = bookCategoryRepository.findBookIdsByCategoryId(categoryId);
         bookCategoryRepository.deleteByCategoryId(categoryId);
+        changeLog.recordUpserts(SyncEntityType.BOOK_CATEGORIES, linkedBookIds);
         categoryRepository.deleteById(categoryId);
+        categoryClosure.remove(categoryId);
         normalizeSiblingSort(deletedParentId);
+        publishCatalogChanged(Set.of(categoryId));
     }
 
     @Transactional
@@ -113,9 +143,11 @@ public class CategoryCommandService {
         category.setParentId(targetParentId);
         category.setSortOrder(calculateNextSortOrder(targetParentId));
         Category saved = categoryRepository.save(category);
+        categoryClosure.moveSubtree(categoryId, targetParentId);
 
         normalizeSiblingSort(previousParentId);
         normalizeSiblingSort(targetParentId);
+        publishCatalogChanged(Set.of(categoryId));
 
         return categoryQueryService.toResponse(saved);
     }
@@ -125,17 +157,10 @@ public class CategoryCommandService {
         requireBookExists(bookId);
 
         Set<Long> requestedCategoryIds = sanitizeCategoryIds(req.categoryIds());
-        List<Category> categories = requestedCategoryIds.isEmpty()
-                ? List.of()
-                : categoryRepository.findAllById(requestedCategoryIds);
+        List<Category> categories = requireAllCategoriesExist(requestedCategoryIds);
 
-        if (categories.size() != requestedCategoryIds.size()) {
-            Set<Long> foundIds = categories.stream().map(Category::getId).collect(java.util.stream.Collectors.toSet());
-            List<Long> missingIds = requestedCategoryIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new CategoryNotFoundException("Categorias nao encontradas para os IDs: " + missingIds);
-        }
+        Set<Long> affectedCategoryIds = linkedCategoryIds(bookId);
+        affectedCategoryIds.addAll(requestedCategoryIds);
 
         bookCategoryRepository.deleteByBookId(bookId);
         if (!categories.isEmpty()) {
@@ -144,14 +169,110 @@ public class CategoryCommandService {
                     .toList();
             bookCategoryRepository.saveAll(links);
         }
+        recordLinkChanges(Set.of(bookId), affectedCategoryIds);
+        publishCatalogChanged(affectedCategoryIds);
 
         return categoryQueryService.findByBookId(bookId);
     }
 
+    @Transactional
+    public BookBulkResult bulkUpdateBookCategories(BulkBookCategoriesRequestDTO req, String operationId) {
+        List<Long> bookIds = BookBulkIds.normalize(req.bookIds());
+        Set<Long> addIds = sanitizeCategoryIds(req.addCategoryIds());
+        Set<Long> removeIds = sanitizeCategoryIds(req.removeCategoryIds());
+        if (addIds.isEmpty() && removeIds.isEmpty()) {
+            throw new IllegalArgumentException("Informe categorias para adicionar ou remover.");
+        }
+        if (!Collections.disjoint(addIds, removeIds)) {
+            throw new IllegalArgumentException("Uma categoria nao pode ser adicionada e removida na mesma operacao.");
+        }
+        Set<Long> targetIds = new LinkedHashSet<>(addIds);
+        targetIds.addAll(removeIds);
+        requireAllCategoriesExist(targetIds);
+
+        OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
+                BULK_OPERATION_SCOPE,
+                operationId
+        );
+        if (!claim.shouldProcess()) {
+            return BookBulkResult.replayed(claim.operationId());
+        }
+
+        Set<Long> existingIds = bookExistenceService.findExistingIds(bookIds);
+        Set<Long> changedIds = new HashSet<>();
+        if (!addIds.isEmpty()) {
+            Map<Long, Long> linked = bookCategoryRepository.countLinksByBook(existingIds, addIds);
+            existingIds.stream()
+                    .filter(bookId -> linked.getOrDefault(bookId, 0L) < addIds.size())
+                    .forEach(changedIds::add);
+            bookCategoryRepository.insertLinks(existingIds, addIds);
+        }
+        if (!removeIds.isEmpty()) {
+            changedIds.addAll(bookCategoryRepository.countLinksByBook(existingIds, removeIds).keySet());
+            bookCategoryRepository.deleteLinks(existingIds, removeIds);
+        }
+        if (!changedIds.isEmpty()) {
+            recordLinkChanges(changedIds, targetIds);
+            publishCatalogChanged(targetIds);
+        }
+
+        return BookBulkResult.of(claim.operationId(), bookIds, existingIds, changedIds, BookBulkResult.Outcome.UPDATED);
+    }
+
     @EventListener
     @Transactional
     public void onBookDeleted(BookDeletedEvent event) {
+        Set<Long> affectedCategoryIds = linkedCategoryIds(event.id());
         bookCategoryRepository.deleteByBookId(event.id());
+        changeLog.recordUpserts(SyncEntityType.CATEGORY, affectedCategoryIds);
+        publishCatalogChanged(affectedCategoryIds);
+    }
+
+    @EventListener
+    @Transactional
+    public void onBooksDeleted(BooksDeletedEvent event) {
+        Set<Long> affectedCategoryIds = new LinkedHashSet<>();
+        bookCategoryRepository.findCategoryIdsByBooks(event.ids()).values().forEach(affectedCategoryIds::addAll);
+        bookCategoryRepository.deleteByBookIds(event.ids());
+        changeLog.recordUpserts(SyncEntityType.CATEGORY, affectedCategoryIds);
+        publishCatalogChanged(affectedCategoryIds);
+    }
+
+    private Set<Long> linkedCategoryIds(Long bookId) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (BookCategory link : bookCategoryRepository.findByBookId(bookId)) {
+            if (link.getCategory() != null) {
+                categoryIds.add(link.getCategory().getId());
+            }
+        }
+        return categoryIds;
+    }
+
+    private void recordLinkChanges(Collection<Long> bookIds, Set<Long> categoryIds) {
+        changeLog.recordUpserts(SyncEntityType.BOOK_CATEGORIES, bookIds);
+        changeLog.recordUpserts(SyncEntityType.CATEGORY, categoryIds);
+    }
+
+    private void publishCatalogChanged(Set<Long> categoryIds) {
+        if (!categoryIds.isEmpty()) {
+            revisions.bump(RevisionAggregate.CATEGORIES);
+            eventPublisher.publishEvent(new CategoryCatalogChangedEvent(Set.copyOf(categoryIds)));
+        }
+    }
+
+    private List<Category> requireAllCategoriesExist(Set<Long> categoryIds) {
+        List<Category> categories = categoryIds.isEmpty()
+                ? List.of()
+                : categoryRepository.findAllById(categoryIds);
+
+        if (categories.size() != categoryIds.size()) {
+            Set<Long> foundIds = categories.stream().map(Category::getId).collect(java.util.stream.Collectors.toSet());
+            List<Long> missingIds = categoryIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+            throw new CategoryNotFoundException("Categorias nao encontradas para os IDs: " + missingIds);
+        }
+        return categories;
     }
 
     private void requireBookExists(Long bookId) {
@@ -215,25 +336,18 @@ public class CategoryCommandService {
             return;
         }
 
-        Category parent = categoryRepository.findById(parentId)
-                .orElseThrow(() -> new CategoryNotFoundException("Categoria pai com ID " + parentId + " nao encontrada."));
+        if (!categoryRepository.existsById(parentId)) {
+            throw new CategoryNotFoundException("Categoria pai com ID " + parentId + " nao encontrada.");
+        }
 
         if (categoryId == null) {
             return;
         }
-        if (Objects.equals(categoryId, parent.getId())) {
+        if (Objects.equals(categoryId, parentId)) {
             throw new IllegalArgumentException("Uma categoria nao pode ser pai dela mesma.");
         }
-
-        Long cursor = parent.getParentId();
-        while (cursor != null) {
-            if (Objects.equals(cursor, categoryId)) {
-                throw new IllegalArgumentException("Nao e permitido criar ciclo na hierarquia de categorias.");
-            }
-            Long currentCursor = cursor;
-            Category cursorCategory = categoryRepository.findById(currentCursor)
-                    .orElseThrow(() -> new CategoryNotFoundException("Categoria pai com ID " + currentCursor + " nao encontrada."));
-            cursor = cursorCategory.getParentId();
+        if (categoryClosure.isAncestorOrSelf(categoryId, parentId)) {
+            throw new IllegalArgumentException("Nao e permitido criar ciclo na hierarquia de categorias.");
         }
     }
 
@@ -3,13 +3,13 @@ package com.br.klaus.readium.category.application.command;
 import com.br.klaus.readium.book.events.BookProgressUpdatedEvent;
 import com.br.klaus.readium.category.domain.model.ReadingProgressEvent;
 import com.br.klaus.readium.category.domain.port.ReadingProgressEventRepositoryPort;
+import com.br.klaus.readium.persistence.SqliteWriteQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Component
@@ -17,9 +17,9 @@ import java.time.LocalDateTime;
 public class ReadingProgressEventCollector {
 
     private final ReadingProgressEventRepositoryPort repository;
+    private final SqliteWriteQueue writeQueue;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleProgressUpdated(BookProgressUpdatedEvent event) {
         int previousPage = normalizePage(event.previousLastReadPage());
         int currentPage = normalizePage(event.currentLastReadPage());
@@ -30,13 +30,8 @@ public class ReadingProgressEventCollector {
         }
 
         LocalDateTime eventTime = event.updatedAt() != null ? event.updatedAt() : LocalDateTime.now();
-        ReadingProgressEvent progressEvent = ReadingProgressEvent.create(
-                event.bookId(),
-                eventTime.toLocalDate(),
-                delta,
-                eventTime
-        );
-        repository.save(progressEvent);
+        LocalDate eventDate = eventTime.toLocalDate();
+        writeQueue.submit(() -> repository.record(ReadingProgressEvent.create(event.bookId(), eventDate, delta, eventTime)));
     }
 
     private int normalizePage(Integer page) {
@@ -0,0 +1,54 @@
+package com.br.klaus.readium.category.application.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadingStatsMaintenanceScheduler {
+
+    private final ReadingStatsMaintenanceService maintenanceService;
+
+    @Value("${app.reading-stats.compaction.enabled:true}")
+    private boolean compactionEnabled;
+
+    @Value("${app.reading-stats.compaction.raw-retention-days:365}")
+    private long rawRetentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int days = maintenanceService.backfill();
+            if (days > 0) {
+                log.info("Consolidado diario de leitura preenchido a partir do historico para {} dia(s).", days);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao preencher o consolidado diario de leitura; nova tentativa na proxima compactacao.", ex);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.reading-stats.compaction.fixed-delay-ms:21600000}",
+            fixedDelayString = "${app.reading-stats.compaction.fixed-delay-ms:21600000}"
+    )
+    public void compactRawEvents() {
+        if (!compactionEnabled) {
+            return;
+        }
+
+        int purged = maintenanceService.compact(rawRetentionDays);
+        if (purged > 0) {
+            log.info(
+                    "Compactacao removeu {} evento(s) de progresso com mais de {} dia(s); o consolidado diario foi mantido.",
+                    purged,
+                    rawRetentionDays
+            );
+        }
+    }
+}
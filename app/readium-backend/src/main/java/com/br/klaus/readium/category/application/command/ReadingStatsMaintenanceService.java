@@ -0,0 +1,35 @@
+package com.br.klaus.readium.category.application.command;
+
+import com.br.klaus.readium.category.domain.port.ReadingProgressEventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Manutencao do consolidado diario de leitura: preenche dias que so existem nos eventos brutos
+ * (historico anterior ao consolidado) e descarta eventos brutos antigos, ja refletidos em
+ * {@code reading_daily_stats}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReadingStatsMaintenanceService {
+
+    private final ReadingProgressEventRepositoryPort repository;
+
+    @Transactional
+    public int backfill() {
+        return repository.backfillDailyStats();
+    }
+
+    @Transactional
+    public int compact(long rawEventRetentionDays) {
+        if (rawEventRetentionDays < 1) {
+            throw new IllegalArgumentException("Retencao invalida para eventos de progresso. Use pelo menos 1 dia.");
+        }
+        // Dias ainda sem consolidado sao preenchidos antes que os eventos brutos deixem de existir.
+        repository.backfillDailyStats();
+        return repository.purgeEventsBefore(LocalDate.now().minusDays(rawEventRetentionDays));
+    }
+}
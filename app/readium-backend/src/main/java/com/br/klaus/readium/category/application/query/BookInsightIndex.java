@@ -0,0 +1,354 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.category.api.dto.BookMetricsResponseDTO;
+import com.br.klaus.readium.category.api.dto.BookRecommendationResponseDTO;
+import com.br.klaus.readium.category.api.dto.SmartCollectionResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Agregados do painel de insights mantidos incrementalmente. Cada livro entra ou sai dos contadores e
+ * das colecoes ordenadas em O(log n); metricas e previas sao lidas em O(1)/O(k). Recomendacoes percorrem
+ * os candidatos pela pontuacao sem afinidade e param quando nem o bonus maximo de afinidade alcancaria
+ * o pior resultado ja escolhido.
+ */
+final class BookInsightIndex {
+
+    static final int PREVIEW_SIZE = 4;
+
+    private static final double MAX_AFFINITY_BONUS = 40d;
+    private static final double SCORE_EPSILON = 1e-9;
+
+    private static final Comparator<Entry> BY_ID_DESCENDING = Comparator.comparingLong(Entry::id).reversed();
+    private static final Comparator<Entry> BY_PROGRESS_DESCENDING = Comparator.comparingDouble(Entry::progress).reversed()
+            .thenComparing(BY_ID_DESCENDING);
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Integer> categoryAffinity = new HashMap<>();
+
+    private final NavigableSet<Entry> continueReading = new TreeSet<>(BY_PROGRESS_DESCENDING);
+    private final NavigableSet<Entry> almostFinished = new TreeSet<>(BY_PROGRESS_DESCENDING);
+    private final NavigableSet<Entry> uncategorized = new TreeSet<>(
+            Comparator.comparingInt(Entry::readingPriority).thenComparing(BY_ID_DESCENDING)
+    );
+    private final NavigableSet<Entry> ocrAttention = new TreeSet<>(BY_ID_DESCENDING);
+    private final NavigableSet<Entry> quickWins = new TreeSet<>(
+            Comparator.comparingInt(Entry::pages).thenComparing(BY_ID_DESCENDING)
+    );
+    private final NavigableSet<Entry> candidates = new TreeSet<>(
+            Comparator.comparingDouble(Entry::baseScore).reversed().thenComparing(BY_ID_DESCENDING)
+    );
+
+    private long toReadBooks;
+    private long readingBooks;
+    private long readBooks;
+    private long categorizedBooks;
+    private long totalPagesKnown;
+    private long pagesRead;
+    private double progressSum;
+    private long progressCount;
+
+    synchronized void upsert(BookInsightSnapshot book, Collection<Long> categoryIds) {
+        if (book == null || book.id() == null) {
+            return;
+        }
+        remove(book.id());
+        Entry entry = Entry.of(book, categoryIds == null ? List.of() : List.copyOf(categoryIds));
+        entries.put(entry.id(), entry);
+        apply(entry, 1);
+    }
+
+    synchronized void remove(Long bookId) {
+        Entry previous = bookId == null ? null : entries.remove(bookId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized BookMetricsResponseDTO metrics() {
+        long totalBooks = entries.size();
+        int averageProgressPercent = progressCount == 0
+                ? 0
+                : (int) Math.round((progressSum / progressCount) * 100d);
+        return new BookMetricsResponseDTO(
+                totalBooks,
+                toReadBooks,
+                readingBooks,
+                readBooks,
+                categorizedBooks,
+                Math.max(0L, totalBooks - categorizedBooks),
+                totalPagesKnown,
+                pagesRead,
+                averageProgressPercent,
+                percent(readBooks, totalBooks)
+        );
+    }
+
+    synchronized List<SmartCollectionResponseDTO> smartCollections() {
+        return List.of(
+                collection(
+                        "continue-reading",
+                        "Continuar lendo",
+                        "Livros com leitura em andamento para manter ritmo.",
+                        continueReading
+                ),
+                collection(
+                        "almost-finished",
+                        "Quase finalizados",
+                        "Livros acima de 80% para concluir rapidamente.",
+                        almostFinished
+                ),
+                collection(
+                        "uncategorized",
+                        "Sem categoria",
+                        "Livros que ainda nao foram organizados por categoria.",
+                        uncategorized
+                ),
+                collection(
+                        "ocr-attention",
+                        "OCR pendente",
+                        "PDFs que ainda nao finalizaram processamento OCR.",
+                        ocrAttention
+                ),
+                collection(
+                        "quick-wins",
+                        "Leituras rapidas",
+                        "Titulos curtos para manter consistencia de leitura.",
+                        quickWins
+                )
+        );
+    }
+
+    /**
+     * Metricas, colecoes e recomendacoes lidas sob o mesmo lock, para que o painel nunca misture
+     * estados de antes e depois de uma atualizacao.
+     */
+    synchronized Dashboard dashboard(int recommendationLimit) {
+        return new Dashboard(metrics(), smartCollections(), recommendations(recommendationLimit));
+    }
+
+    synchronized List<BookRecommendationResponseDTO> recommendations(int limit) {
+        Comparator<Scored> ranking = Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(scored -> scored.entry().id(), Comparator.reverseOrder());
+        PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+        for (Entry entry : candidates) {
+            if (best.size() == limit && entry.baseScore() + MAX_AFFINITY_BONUS + SCORE_EPSILON < best.peek().score()) {
+                break;
+            }
+            int affinityMatches = affinityMatches(entry);
+            best.add(new Scored(entry, score(entry, affinityMatches), affinityMatches));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        return best.stream()
+                .sorted(ranking)
+                .map(scored -> new BookRecommendationResponseDTO(
+                        scored.entry().book(),
+                        recommendationReason(scored.entry(), scored.affinityMatches()),
+                        round(scored.score())
+                ))
+                .toList();
+    }
+
+    private void apply(Entry entry, int sign) {
+        if (entry.toRead()) {
+            toReadBooks += sign;
+        }
+        if (entry.reading()) {
+            readingBooks += sign;
+        }
+        if (entry.read()) {
+            readBooks += sign;
+        }
+        if (!entry.categoryIds().isEmpty()) {
+            categorizedBooks += sign;
+        }
+        totalPagesKnown += (long) sign * entry.pages();
+        pagesRead += (long) sign * entry.estimatedReadPages();
+        if (entry.pages() > 0) {
+            progressSum += sign * entry.progress();
+            progressCount += sign;
+        }
+        if (entry.engaged()) {
+            for (Long categoryId : entry.categoryIds()) {
+                categoryAffinity.merge(categoryId, sign, (current, delta) -> current + delta == 0 ? null : current + delta);
+            }
+        }
+
+        track(continueReading, entry, entry.reading(), sign);
+        track(almostFinished, entry, entry.reading() && entry.progress() >= 0.8d && entry.progress() < 1d, sign);
+        track(uncategorized, entry, entry.categoryIds().isEmpty(), sign);
+        track(ocrAttention, entry, "PDF".equals(entry.book().format()) && !"DONE".equals(entry.book().ocrStatus()), sign);
+        track(quickWins, entry, entry.quickWin(), sign);
+        track(candidates, entry, !entry.read(), sign);
+    }
+
+    private static void track(NavigableSet<Entry> set, Entry entry, boolean member, int sign) {
+        if (!member) {
+            return;
+        }
+        if (sign > 0) {
+            set.add(entry);
+        } else {
+            set.remove(entry);
+        }
+    }
+
+    private static SmartCollectionResponseDTO collection(
+            String id,
+            String name,
+            String description,
+            NavigableSet<Entry> members
+    ) {
+        List<BookInsightSnapshot> previewBooks = new ArrayList<>(PREVIEW_SIZE);
+        Iterator<Entry> iterator = members.iterator();
+        while (iterator.hasNext() && previewBooks.size() < PREVIEW_SIZE) {
+            previewBooks.add(iterator.next().book());
+        }
+        return new SmartCollectionResponseDTO(id, name, description, members.size(), List.copyOf(previewBooks));
+    }
+
+    private int affinityMatches(Entry entry) {
+        int matches = 0;
+        for (Long categoryId : entry.categoryIds()) {
+            matches += categoryAffinity.getOrDefault(categoryId, 0);
+        }
+        return matches;
+    }
+
+    private static double score(Entry entry, int affinityMatches) {
+        double score = 0d;
+        if (entry.reading()) {
+            score += 80d;
+        } else if (entry.toRead()) {
+            score += 34d;
+        }
+        score += entry.progress() * 35d;
+        if (entry.quickWin()) {
+            score += 15d;
+        }
+        if (affinityMatches > 0) {
+            score += Math.min(MAX_AFFINITY_BONUS, affinityMatches * 6d);
+        }
+        if (entry.categoryIds().isEmpty()) {
+            score -= 4d;
+        }
+        if (entry.pages() > 550) {
+            score -= 6d;
+        }
+        if ("DONE".equals(entry.book().ocrStatus())) {
+            score += 3d;
+        } else if ("FAILED".equals(entry.book().ocrStatus())) {
+            score -= 5d;
+        }
+        score += (entry.id() % 7) * 0.1d;
+        return score;
+    }
+
+    private static String recommendationReason(Entry entry, int affinityMatches) {
+        if (entry.reading() && entry.progress() >= 0.8d) {
+            return "Voce esta perto de concluir este livro.";
+        }
+        if (entry.reading()) {
+            return "Voce ja iniciou este livro e manter ritmo acelera a conclusao.";
+        }
+        if (affinityMatches > 0) {
+            return "Este titulo combina com categorias em que voce mais avanca.";
+        }
+        if (entry.quickWin()) {
+            return "Leitura curta para gerar tracao rapida na rotina.";
+        }
+        if (entry.categoryIds().isEmpty()) {
+            return "Boa opcao para ler e depois classificar na sua estrutura.";
+        }
+        return "Boa opcao para a sua fila de leitura atual.";
+    }
+
+    private static int percent(long numerator, long denominator) {
+        if (denominator <= 0L) {
+            return 0;
+        }
+        return (int) Math.round((numerator * 100d) / denominator);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10d) / 10d;
+    }
+
+    record Dashboard(
+            BookMetricsResponseDTO metrics,
+            List<SmartCollectionResponseDTO> smartCollections,
+            List<BookRecommendationResponseDTO> recommendations
+    ) {
+    }
+
+    private record Scored(Entry entry, double score, int affinityMatches) {
+    }
+
+    private record Entry(
+            long id,
+            BookInsightSnapshot book,
+            List<Long> categoryIds,
+            int pages,
+            int lastReadPage,
+            double progress,
+            double baseScore
+    ) {
+
+        private static Entry of(BookInsightSnapshot book, List<Long> categoryIds) {
+            int pages = book.pages() == null || book.pages() <= 0 ? 0 : book.pages();
+            int lastReadPage = book.lastReadPage() == null || book.lastReadPage() < 0 ? 0 : book.lastReadPage();
+            double progress = pages <= 0 ? 0d : Math.min(1d, lastReadPage / (double) pages);
+            Entry entry = new Entry(book.id(), book, categoryIds, pages, lastReadPage, progress, 0d);
+            return new Entry(book.id(), book, categoryIds, pages, lastReadPage, progress, score(entry, 0));
+        }
+
+        private boolean read() {
+            return "READ".equals(book.status());
+        }
+
+        private boolean reading() {
+            return "READING".equals(book.status());
+        }
+
+        private boolean toRead() {
+            return "TO_READ".equals(book.status());
+        }
+
+        private boolean engaged() {
+            return read() || reading() || lastReadPage > 0;
+        }
+
+        private boolean quickWin() {
+            return toRead() && pages > 0 && pages <= 220;
+        }
+
+        private int readingPriority() {
+            if (reading()) {
+                return 0;
+            }
+            return toRead() ? 1 : 2;
+        }
+
+        private long estimatedReadPages() {
+            return pages <= 0 ? lastReadPage : Math.min(lastReadPage, pages);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.br.klaus.readium.category.application.query;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnWebApplication
+@RequiredArgsConstructor
+@Slf4j
+public class BookInsightIndexScheduler {
+
+    private final BookInsightIndexService indexService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexService.rebuildAll();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.insights.full-refresh-ms:3600000}",
+            fixedDelayString = "${app.insights.full-refresh-ms:3600000}"
+    )
+    public void refreshFromSources() {
+        try {
+            indexService.rebuildAll();
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao recarregar o indice de insights.", ex);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.book.api.BookInsightsDataService;
+import com.br.klaus.readium.category.domain.port.BookCategoryRepositoryPort;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mantem o {@link BookInsightIndex} carregado. A leitura so vai ao banco quando as revisoes de livros ou
+ * categorias avancaram; nesse caso segue o registro de alteracoes e recarrega apenas os livros tocados
+ * (progresso, status, OCR, metadados e vinculos com categorias), inclusive os alterados pelo worker.
+ */
+@Service
+@Slf4j
+public class BookInsightIndexService {
+
+    private static final int CHANGE_BATCH_SIZE = SyncChangeLogService.MAX_LIMIT;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final BookInsightsDataService bookInsightsDataService;
+    private final BookCategoryRepositoryPort bookCategoryRepository;
+    private final SyncChangeLogService changeLog;
+    private final LibraryRevisionService revisions;
+    private final TransactionTemplate readTransaction;
+
+    private final Object mutationLock = new Object();
+    private volatile BookInsightIndex index;
+    private volatile long seenBooksRevision = -1;
+    private volatile long seenCategoriesRevision = -1;
+    private long appliedChangeRevision;
+
+    public BookInsightIndexService(
+            BookInsightsDataService bookInsightsDataService,
+            BookCategoryRepositoryPort bookCategoryRepository,
+            SyncChangeLogService changeLog,
+            LibraryRevisionService revisions,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.bookInsightsDataService = bookInsightsDataService;
+        this.bookCategoryRepository = bookCategoryRepository;
+        this.changeLog = changeLog;
+        this.revisions = revisions;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    BookInsightIndex current() {
+        if (index == null) {
+            rebuildAll();
+        } else if (revisions.current(RevisionAggregate.BOOKS) != seenBooksRevision
+                || revisions.current(RevisionAggregate.CATEGORIES) != seenCategoriesRevision) {
+            catchUp();
+        }
+        return index;
+    }
+
+    public void rebuildAll() {
+        synchronized (mutationLock) {
+            long booksRevision = revisions.current(RevisionAggregate.BOOKS);
+            long categoriesRevision = revisions.current(RevisionAggregate.CATEGORIES);
+            readTransaction.executeWithoutResult(status -> rebuildLocked());
+            seenBooksRevision = booksRevision;
+            seenCategoriesRevision = categoriesRevision;
+        }
+    }
+
+    public void catchUp() {
+        synchronized (mutationLock) {
+            if (index == null) {
+                rebuildAll();
+                return;
+            }
+            long booksRevision = revisions.current(RevisionAggregate.BOOKS);
+            long categoriesRevision = revisions.current(RevisionAggregate.CATEGORIES);
+            if (booksRevision == seenBooksRevision && categoriesRevision == seenCategoriesRevision) {
+                return;
+            }
+            readTransaction.executeWithoutResult(status -> applyChangesLocked());
+            seenBooksRevision = booksRevision;
+            seenCategoriesRevision = categoriesRevision;
+        }
+    }
+
+    private void rebuildLocked() {
+        long headRevision = changeLog.headRevision();
+        Map<Long, List<Long>> categoryIdsByBook = bookCategoryRepository.findCategoryIdsByBook();
+        BookInsightIndex rebuilt = new BookInsightIndex();
+        for (BookInsightSnapshot book : bookInsightsDataService.findAllSnapshots()) {
+            rebuilt.upsert(book, categoryIdsByBook.getOrDefault(book.id(), List.of()));
+        }
+        index = rebuilt;
+        appliedChangeRevision = headRevision;
+        log.debug("Indice de insights reconstruido com {} livro(s) na revisao {}.", rebuilt.size(), headRevision);
+    }
+
+    private void applyChangesLocked() {
+        Set<Long> touchedBookIds = new LinkedHashSet<>();
+        long since = appliedChangeRevision;
+        SyncChangeLogService.EntityChangeBatch batch;
+        do {
+            batch = changeLog.findEntityChanges(since, CHANGE_BATCH_SIZE);
+            if (batch.resetRequired()) {
+                rebuildLocked();
+                return;
+            }
+            for (SyncChangeLogService.EntityChange change : batch.changes()) {
+                if (change.type() == SyncEntityType.BOOK || change.type() == SyncEntityType.BOOK_CATEGORIES) {
+                    touchedBookIds.add(change.entityId());
+                }
+            }
+            since = batch.nextSince();
+        } while (batch.hasMore());
+
+        List<Long> pending = new ArrayList<>(touchedBookIds);
+        for (int start = 0; start < pending.size(); start += REFRESH_BATCH_SIZE) {
+            refreshBooks(pending.subList(start, Math.min(pending.size(), start + REFRESH_BATCH_SIZE)));
+        }
+        appliedChangeRevision = since;
+        if (!touchedBookIds.isEmpty()) {
+            log.debug("Indice de insights atualizou {} livro(s) ate a revisao {}.", touchedBookIds.size(), since);
+        }
+    }
+
+    private void refreshBooks(List<Long> bookIds) {
+        Map<Long, List<Long>> categoryIdsByBook = bookCategoryRepository.findCategoryIdsByBooks(bookIds);
+        Set<Long> missing = new HashSet<>(bookIds);
+        for (BookInsightSnapshot book : bookInsightsDataService.findSnapshots(bookIds)) {
+            index.upsert(book, categoryIdsByBook.getOrDefault(book.id(), List.of()));
+            missing.remove(book.id());
+        }
+        missing.forEach(index::remove);
+    }
+}
@@ -0,0 +1,46 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.category.api.CategoryCatalogEntry;
+import com.br.klaus.readium.category.api.CategoryCatalogService;
+import com.br.klaus.readium.category.domain.model.CategoryBookCount;
+import com.br.klaus.readium.category.domain.port.CategoryRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CategoryCatalogServiceImpl implements CategoryCatalogService {
+
+    private final CategoryRepositoryPort categoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryCatalogEntry> findAllEntries() {
+        return categoryRepository.findAllWithBookCount(null).stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryCatalogEntry> findEntries(Collection<Long> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return categoryRepository.findAllWithBookCountById(categoryIds).stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    private CategoryCatalogEntry toEntry(CategoryBookCount counted) {
+        return new CategoryCatalogEntry(
+                counted.category().getId(),
+                counted.category().getName(),
+                counted.booksCount()
+        );
+    }
+}
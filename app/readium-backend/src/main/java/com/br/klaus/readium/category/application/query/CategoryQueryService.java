@@ -3,8 +3,8 @@ package com.br.klaus.readium.category.application.query;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.category.api.CategoryResponseMapper;
 import com.br.klaus.readium.category.api.dto.CategoryResponseDTO;
-import com.br.klaus.readium.category.domain.model.BookCategory;
 import com.br.klaus.readium.category.domain.model.Category;
+import com.br.klaus.readium.category.domain.model.CategoryBookCount;
 import com.br.klaus.readium.category.domain.port.BookCategoryRepositoryPort;
 import com.br.klaus.readium.category.domain.port.CategoryRepositoryPort;
 import com.br.klaus.readium.exception.BookNotFoundException;
@@ -12,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -25,9 +24,9 @@ public class CategoryQueryService {
 
     @Transactional(readOnly = true)
     public List<CategoryResponseDTO> findAll(String query) {
-        return categoryRepository.findAll(query)
+        return categoryRepository.findAllWithBookCount(query)
                 .stream()
-                .map(this::toResponse)
+                .map(CategoryQueryService::toResponse)
                 .toList();
     }
 
@@ -35,11 +34,9 @@ public class CategoryQueryService {
     public List<CategoryResponseDTO> findByBookId(Long bookId) {
         requireBookExists(bookId);
 
-        return bookCategoryRepository.findByBookId(bookId)
+        return categoryRepository.findWithBookCountByBookId(bookId)
                 .stream()
-                .map(BookCategory::getCategory)
-                .sorted(Comparator.comparing(Category::getName, String.CASE_INSENSITIVE_ORDER))
-                .map(this::toResponse)
+                .map(CategoryQueryService::toResponse)
                 .toList();
     }
 
@@ -48,6 +45,10 @@ public class CategoryQueryService {
         return CategoryResponseMapper.toResponse(category, count);
     }
 
+    private static CategoryResponseDTO toResponse(CategoryBookCount counted) {
+        return CategoryResponseMapper.toResponse(counted.category(), counted.booksCount());
+    }
+
     private void requireBookExists(Long bookId) {
         if (!bookExistenceService.existsById(bookId)) {
             throw new BookNotFoundException("Livro com ID " + bookId + " nao encontrado.");
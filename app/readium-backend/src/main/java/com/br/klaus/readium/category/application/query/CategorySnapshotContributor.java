@@ -0,0 +1,25 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.category.api.dto.BookCategoryLinksDTO;
+import com.br.klaus.readium.category.domain.port.BookCategoryRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class CategorySnapshotContributor implements SyncSnapshotContributor {
+
+    private final CategoryQueryService queryService;
+    private final BookCategoryRepositoryPort bookCategoryRepository;
+
+    @Override
+    public void writeTo(SyncSnapshotWriter writer) {
+        queryService.findAll(null).forEach(category -> writer.write("CATEGORY", category));
+        bookCategoryRepository.findCategoryIdsByBook().forEach((bookId, categoryIds) ->
+                writer.write("BOOK_CATEGORIES", new BookCategoryLinksDTO(bookId, categoryIds)));
+    }
+}
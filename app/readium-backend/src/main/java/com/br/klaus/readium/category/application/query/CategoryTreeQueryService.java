@@ -0,0 +1,61 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.category.api.CategoryResponseMapper;
+import com.br.klaus.readium.category.api.dto.CategoryTreeNodeResponseDTO;
+import com.br.klaus.readium.category.domain.port.CategoryTreeReadPort;
+import com.br.klaus.readium.category.domain.service.CategoryTreeBuilder;
+import com.br.klaus.readium.category.events.CategoryCatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Mantem a arvore de categorias com contagens em memoria. Qualquer escrita em categoria ou vinculo
+ * descarta o snapshot apos o commit; uma carga iniciada antes da invalidacao nao e publicada.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeQueryService {
+
+    private final CategoryTreeReadPort treeReader;
+
+    private final Object lock = new Object();
+    private long generation;
+    private volatile List<CategoryTreeNodeResponseDTO> snapshot;
+
+    public List<CategoryTreeNodeResponseDTO> getTree() {
+        List<CategoryTreeNodeResponseDTO> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long observed;
+        synchronized (lock) {
+            observed = generation;
+        }
+        List<CategoryTreeNodeResponseDTO> loaded = CategoryResponseMapper.toTreeResponse(
+                CategoryTreeBuilder.build(treeReader.findAllNodes())
+        );
+        synchronized (lock) {
+            if (generation == observed) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate() {
+        synchronized (lock) {
+            generation++;
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryCatalogChanged(CategoryCatalogChangedEvent event) {
+        invalidate();
+    }
+}
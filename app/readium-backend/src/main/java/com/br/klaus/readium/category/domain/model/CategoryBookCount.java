@@ -0,0 +1,4 @@
+package com.br.klaus.readium.category.domain.model;
+
+public record CategoryBookCount(Category category, long booksCount) {
+}
@@ -0,0 +1,26 @@
+package com.br.klaus.readium.category.domain.model;
+
+import java.util.List;
+
+public record CategoryTreeNode(
+        Long id,
+        String name,
+        String slug,
+        String color,
+        Long parentId,
+        int sortOrder,
+        long booksCount,
+        long subtreeBooksCount,
+        List<CategoryTreeNode> children
+) {
+
+    public CategoryTreeNode {
+        children = children == null ? List.of() : List.copyOf(children);
+    }
+
+    public CategoryTreeNode withChildren(List<CategoryTreeNode> nextChildren) {
+        return new CategoryTreeNode(
+                id, name, slug, color, parentId, sortOrder, booksCount, subtreeBooksCount, nextChildren
+        );
+    }
+}
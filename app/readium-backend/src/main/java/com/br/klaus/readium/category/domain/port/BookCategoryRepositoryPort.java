@@ -4,6 +4,7 @@ import com.br.klaus.readium.category.domain.model.BookCategory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BookCategoryRepositoryPort {
 
@@ -13,9 +14,23 @@ public interface BookCategoryRepositoryPort {
 
     long countByCategoryId(Long categoryId);
 
+    List<Long> findBookIdsByCategoryId(Long categoryId);
+
     void deleteByBookId(Long bookId);
 
+    int deleteByBookIds(Collection<Long> bookIds);
+
     void deleteByCategoryId(Long categoryId);
 
     void saveAll(Collection<BookCategory> links);
+
+    Map<Long, List<Long>> findCategoryIdsByBook();
+
+    Map<Long, List<Long>> findCategoryIdsByBooks(Collection<Long> bookIds);
+
+    Map<Long, Long> countLinksByBook(Collection<Long> bookIds, Collection<Long> categoryIds);
+
+    int insertLinks(Collection<Long> bookIds, Collection<Long> categoryIds);
+
+    int deleteLinks(Collection<Long> bookIds, Collection<Long> categoryIds);
 }
@@ -0,0 +1,14 @@
+package com.br.klaus.readium.category.domain.port;
+
+public interface CategoryClosurePort {
+
+    void insertLeaf(Long categoryId, Long parentId);
+
+    void moveSubtree(Long categoryId, Long newParentId);
+
+    void remove(Long categoryId);
+
+    boolean isAncestorOrSelf(Long ancestorId, Long descendantId);
+
+    int rebuild();
+}
@@ -1,6 +1,7 @@
 package com.br.klaus.readium.category.domain.port;
 
 import com.br.klaus.readium.category.domain.model.Category;
+import com.br.klaus.readium.category.domain.model.CategoryBookCount;
 
 import java.util.Collection;
 import java.util.List;
@@ -10,12 +11,20 @@ public interface CategoryRepositoryPort {
 
     List<Category> findAll(String query);
 
+    List<CategoryBookCount> findAllWithBookCount(String query);
+
+    List<CategoryBookCount> findAllWithBookCountById(Collection<Long> ids);
+
+    List<CategoryBookCount> findWithBookCountByBookId(Long bookId);
+
     List<Category> findByParentId(Long parentId);
 
     List<Category> findAllById(Collection<Long> ids);
 
     Optional<Category> findById(Long id);
 
+    boolean existsById(Long id);
+
     Optional<Category> findBySlug(String slug);
 
     long countByParentId(Long parentId);
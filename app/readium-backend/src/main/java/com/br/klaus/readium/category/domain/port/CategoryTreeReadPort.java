@@ -0,0 +1,10 @@
+package com.br.klaus.readium.category.domain.port;
+
+import com.br.klaus.readium.category.domain.model.CategoryTreeNode;
+
+import java.util.List;
+
+public interface CategoryTreeReadPort {
+
+    List<CategoryTreeNode> findAllNodes();
+}
@@ -8,8 +8,17 @@ import java.util.List;
 
 public interface ReadingProgressEventRepositoryPort {
 
-    ReadingProgressEvent save(ReadingProgressEvent event);
+    /**
+     * Grava o evento bruto e o soma ao consolidado diario na mesma transacao.
+     */
+    void record(ReadingProgressEvent event);
 
     List<DailyReadingEvolutionPoint> findDailyEvolution(LocalDate startDate, LocalDate endDate);
-}
 
+    /**
+     * Soma ao consolidado os eventos brutos que ainda nao estao nele, dia a dia, e devolve quantos dias mudaram.
+     */
+    int backfillDailyStats();
+
+    int purgeEventsBefore(LocalDate cutoff);
+}
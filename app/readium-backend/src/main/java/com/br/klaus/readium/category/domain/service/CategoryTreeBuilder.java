@@ -0,0 +1,65 @@
+package com.br.klaus.readium.category.domain.service;
+
+import com.br.klaus.readium.category.domain.model.CategoryTreeNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Monta a arvore imutavel a partir dos nos planos. Nos cujo pai nao existe sobem para a raiz;
+ * irmaos seguem sortOrder e depois o nome.
+ */
+public final class CategoryTreeBuilder {
+
+    private static final Comparator<CategoryTreeNode> SIBLING_ORDER = Comparator
+            .comparingInt(CategoryTreeNode::sortOrder)
+            .thenComparing(CategoryTreeNode::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(CategoryTreeNode::id);
+
+    private CategoryTreeBuilder() {
+    }
+
+    public static List<CategoryTreeNode> build(List<CategoryTreeNode> nodes) {
+        Set<Long> ids = new HashSet<>();
+        for (CategoryTreeNode node : nodes) {
+            ids.add(node.id());
+        }
+
+        Map<Long, List<CategoryTreeNode>> childrenByParent = new HashMap<>();
+        List<CategoryTreeNode> roots = new ArrayList<>();
+        for (CategoryTreeNode node : nodes) {
+            Long parentId = node.parentId();
+            if (parentId == null || !ids.contains(parentId) || parentId.equals(node.id())) {
+                roots.add(node);
+            } else {
+                childrenByParent.computeIfAbsent(parentId, ignored -> new ArrayList<>()).add(node);
+            }
+        }
+
+        return attach(roots, childrenByParent, new HashSet<>());
+    }
+
+    private static List<CategoryTreeNode> attach(
+            List<CategoryTreeNode> siblings,
+            Map<Long, List<CategoryTreeNode>> childrenByParent,
+            Set<Long> visited
+    ) {
+        List<CategoryTreeNode> ordered = new ArrayList<>(siblings);
+        ordered.sort(SIBLING_ORDER);
+
+        List<CategoryTreeNode> result = new ArrayList<>(ordered.size());
+        for (CategoryTreeNode node : ordered) {
+            if (!visited.add(node.id())) {
+                continue;
+            }
+            List<CategoryTreeNode> children = childrenByParent.getOrDefault(node.id(), List.of());
+            result.add(node.withChildren(attach(children, childrenByParent, visited)));
+        }
+        return List.copyOf(result);
+    }
+}
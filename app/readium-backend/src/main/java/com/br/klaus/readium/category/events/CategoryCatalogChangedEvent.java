@@ -0,0 +1,6 @@
+package com.br.klaus.readium.category.events;
+
+import java.util.Set;
+
+public record CategoryCatalogChangedEvent(Set<Long> categoryIds) {
+}
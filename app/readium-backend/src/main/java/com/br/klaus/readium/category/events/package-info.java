@@ -0,0 +1,2 @@
+@org.springframework.modulith.NamedInterface("events")
+package com.br.klaus.readium.category.events;
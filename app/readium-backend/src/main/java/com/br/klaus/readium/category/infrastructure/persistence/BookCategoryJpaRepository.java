@@ -2,7 +2,11 @@ package com.br.klaus.readium.category.infrastructure.persistence;
 
 import com.br.klaus.readium.category.domain.model.BookCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BookCategoryJpaRepository extends JpaRepository<BookCategory, Long> {
@@ -11,6 +15,64 @@ public interface BookCategoryJpaRepository extends JpaRepository<BookCategory, L
 
     long countByCategoryId(Long categoryId);
 
+    @Query("select link.bookId from BookCategory link where link.category.id = :categoryId")
+    List<Long> findBookIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("""
+            select link.bookId, link.category.id
+            from BookCategory link
+            order by link.bookId asc, link.category.id asc
+            """)
+    List<Object[]> findLinkPairs();
+
+    @Query("""
+            select link.bookId, link.category.id
+            from BookCategory link
+            where link.bookId in :bookIds
+            order by link.bookId asc, link.category.id asc
+            """)
+    List<Object[]> findLinkPairsByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query("""
+            select link.bookId, count(link)
+            from BookCategory link
+            where link.bookId in :bookIds
+              and link.category.id in :categoryIds
+            group by link.bookId
+            """)
+    List<Object[]> countLinksByBook(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("categoryIds") Collection<Long> categoryIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT OR IGNORE INTO book_category (book_id, category_id, created_at)
+            SELECT b.id, t.id, CURRENT_TIMESTAMP
+            FROM book b
+            JOIN category t ON t.id IN (:categoryIds)
+            WHERE b.id IN (:bookIds)
+            """, nativeQuery = true)
+    int insertLinks(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("categoryIds") Collection<Long> categoryIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from BookCategory link
+            where link.bookId in :bookIds
+              and link.category.id in :categoryIds
+            """)
+    int deleteLinks(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("categoryIds") Collection<Long> categoryIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from BookCategory link where link.bookId in :bookIds")
+    int deleteByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
     void deleteByBookId(Long bookId);
 
     void deleteByCategoryId(Long categoryId);
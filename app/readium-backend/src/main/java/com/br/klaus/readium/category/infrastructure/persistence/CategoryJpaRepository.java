@@ -26,4 +26,34 @@ public interface CategoryJpaRepository extends JpaRepository<Category, Long> {
             order by c.sortOrder asc, lower(c.name) asc
             """)
     List<Category> findByQuery(@Param("query") String query);
+
+    @Query("""
+            select c, count(link.id)
+            from Category c
+            left join BookCategory link on link.category = c
+            where (:query is null or :query = '' or lower(c.name) like lower(concat('%', :query, '%')))
+            group by c
+            order by c.sortOrder asc, lower(c.name) asc
+            """)
+    List<Object[]> findWithBookCountByQuery(@Param("query") String query);
+
+    @Query("""
+            select c, count(link.id)
+            from Category c
+            left join BookCategory link on link.category = c
+            where c.id in :ids
+            group by c
+            """)
+    List<Object[]> findWithBookCountByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select c, count(link.id)
+            from BookCategory own
+            join own.category c
+            left join BookCategory link on link.category = c
+            where own.bookId = :bookId
+            group by c
+            order by lower(c.name) asc
+            """)
+    List<Object[]> findWithBookCountByBookId(@Param("bookId") Long bookId);
 }
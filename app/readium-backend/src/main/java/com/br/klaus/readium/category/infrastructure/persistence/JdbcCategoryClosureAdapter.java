@@ -0,0 +1,96 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.category.domain.port.CategoryClosurePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcCategoryClosureAdapter implements CategoryClosurePort {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertLeaf(Long categoryId, Long parentId) {
+        jdbcTemplate.update(
+                "INSERT OR REPLACE INTO category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)",
+                categoryId,
+                categoryId
+        );
+        if (parentId == null) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT OR REPLACE INTO category_closure (ancestor_id, descendant_id, depth)
+                SELECT ancestor_id, ?, depth + 1
+                FROM category_closure
+                WHERE descendant_id = ?
+                """, categoryId, parentId);
+    }
+
+    @Override
+    public void moveSubtree(Long categoryId, Long newParentId) {
+        jdbcTemplate.update("""
+                DELETE FROM category_closure
+                WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?)
+                  AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?)
+                """, categoryId, categoryId);
+        if (newParentId == null) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT OR REPLACE INTO category_closure (ancestor_id, descendant_id, depth)
+                SELECT parent.ancestor_id, subtree.descendant_id, parent.depth + subtree.depth + 1
+                FROM category_closure parent
+                JOIN category_closure subtree ON subtree.ancestor_id = ?
+                WHERE parent.descendant_id = ?
+                """, categoryId, newParentId);
+    }
+
+    @Override
+    public void remove(Long categoryId) {
+        jdbcTemplate.update(
+                "DELETE FROM category_closure WHERE ancestor_id = ? OR descendant_id = ?",
+                categoryId,
+                categoryId
+        );
+    }
+
+    @Override
+    public boolean isAncestorOrSelf(Long ancestorId, Long descendantId) {
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?",
+                Integer.class,
+                ancestorId,
+                descendantId
+        );
+        return found != null && found > 0;
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM category_closure");
+        jdbcTemplate.update("""
+                INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+                WITH RECURSIVE category_tree(ancestor_id, descendant_id, depth) AS (
+                    SELECT id, id, 0
+                    FROM category
+                    UNION ALL
+                    SELECT ct.ancestor_id, c.id, ct.depth + 1
+                    FROM category_tree ct
+                    JOIN category c ON c.parent_id = ct.descendant_id
+                    WHERE ct.depth < ?
+                )
+                SELECT ancestor_id, descendant_id, MIN(depth)
+                FROM category_tree
+                GROUP BY ancestor_id, descendant_id
+                """, MAX_DEPTH);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_closure", Integer.class);
+        return rows == null ? 0 : rows;
+    }
+}
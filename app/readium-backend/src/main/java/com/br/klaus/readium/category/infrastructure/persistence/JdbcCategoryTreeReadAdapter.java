@@ -0,0 +1,53 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.category.domain.model.CategoryTreeNode;
+import com.br.klaus.readium.category.domain.port.CategoryTreeReadPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcCategoryTreeReadAdapter implements CategoryTreeReadPort {
+
+    private static final String SELECT_NODES = """
+            SELECT c.id, c.name, c.slug, c.color, c.parent_id, c.sort_order,
+                   COALESCE(direct.books, 0) AS books_count,
+                   COALESCE(subtree.books, 0) AS subtree_books_count
+            FROM category c
+            LEFT JOIN (
+                SELECT category_id, COUNT(*) AS books
+                FROM book_category
+                GROUP BY category_id
+            ) direct ON direct.category_id = c.id
+            LEFT JOIN (
+                SELECT cc.ancestor_id, COUNT(DISTINCT bc.book_id) AS books
+                FROM category_closure cc
+                JOIN book_category bc ON bc.category_id = cc.descendant_id
+                GROUP BY cc.ancestor_id
+            ) subtree ON subtree.ancestor_id = c.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CategoryTreeNode> findAllNodes() {
+        return jdbcTemplate.query(SELECT_NODES, (rs, rowNum) -> {
+            long parentId = rs.getLong("parent_id");
+            boolean root = rs.wasNull();
+            return new CategoryTreeNode(
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    rs.getString("slug"),
+                    rs.getString("color"),
+                    root ? null : parentId,
+                    rs.getInt("sort_order"),
+                    rs.getLong("books_count"),
+                    rs.getLong("subtree_books_count"),
+                    List.of()
+            );
+        });
+    }
+}
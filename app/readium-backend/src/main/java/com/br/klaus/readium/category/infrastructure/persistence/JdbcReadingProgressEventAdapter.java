@@ -0,0 +1,115 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.category.domain.model.DailyReadingEvolutionPoint;
+import com.br.klaus.readium.category.domain.model.ReadingProgressEvent;
+import com.br.klaus.readium.category.domain.port.ReadingProgressEventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Eventos de progresso e o consolidado diario {@code reading_daily_stats}. Eventos gravados por
+ * {@link #record} ja entram no consolidado ({@code rolled_up = 1}); os que vieram de antes dele ficam com
+ * {@code rolled_up = 0} ate o backfill. {@code reading_daily_book} marca os livros ja contados em cada dia.
+ * Datas sao gravadas como {@link Date}, no mesmo formato que o Hibernate usa para {@code LocalDate}.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcReadingProgressEventAdapter implements ReadingProgressEventRepositoryPort {
+
+    private static final String ADD_PROGRESS = """
+            INSERT INTO reading_daily_stats (stat_date, pages_read, books_touched, progress_updates)
+            VALUES (?, ?, ?, 1)
+            ON CONFLICT (stat_date) DO UPDATE
+            SET pages_read = pages_read + excluded.pages_read,
+                books_touched = books_touched + excluded.books_touched,
+                progress_updates = progress_updates + 1
+            """;
+
+    private static final String BACKFILL_PENDING_DAYS = """
+            INSERT INTO reading_daily_stats (stat_date, pages_read, books_touched, progress_updates)
+            SELECT e.event_date,
+                   SUM(e.pages_read_delta),
+                   COUNT(DISTINCT CASE
+                       WHEN NOT EXISTS (
+                           SELECT 1 FROM reading_daily_book b
+                           WHERE b.stat_date = e.event_date AND b.book_id = e.book_id
+                       ) THEN e.book_id
+                   END),
+                   COUNT(*)
+            FROM reading_progress_event e
+            WHERE e.rolled_up = 0
+            GROUP BY e.event_date
+            ON CONFLICT (stat_date) DO UPDATE
+            SET pages_read = pages_read + excluded.pages_read,
+                books_touched = books_touched + excluded.books_touched,
+                progress_updates = progress_updates + excluded.progress_updates
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void record(ReadingProgressEvent event) {
+        Date day = Date.valueOf(event.getEventDate());
+        LocalDateTime occurredAt = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO reading_progress_event (book_id, event_date, pages_read_delta, occurred_at, rolled_up) "
+                        + "VALUES (?, ?, ?, ?, 1)",
+                event.getBookId(),
+                day,
+                event.getPagesReadDelta(),
+                Timestamp.valueOf(occurredAt)
+        );
+        int firstTouchOfDay = jdbcTemplate.update(
+                "INSERT OR IGNORE INTO reading_daily_book (stat_date, book_id) VALUES (?, ?)",
+                day,
+                event.getBookId()
+        );
+        jdbcTemplate.update(ADD_PROGRESS, day, event.getPagesReadDelta(), firstTouchOfDay);
+    }
+
+    @Override
+    public List<DailyReadingEvolutionPoint> findDailyEvolution(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query("""
+                SELECT stat_date, pages_read, books_touched, progress_updates
+                FROM reading_daily_stats
+                WHERE stat_date BETWEEN ? AND ?
+                ORDER BY stat_date
+                """,
+                (rs, rowNum) -> new DailyReadingEvolutionPoint(
+                        rs.getDate("stat_date").toLocalDate(),
+                        rs.getLong("pages_read"),
+                        rs.getLong("books_touched"),
+                        rs.getLong("progress_updates")
+                ),
+                Date.valueOf(startDate),
+                Date.valueOf(endDate)
+        );
+    }
+
+    @Override
+    public int backfillDailyStats() {
+        int days = jdbcTemplate.update(BACKFILL_PENDING_DAYS);
+        jdbcTemplate.update("""
+                INSERT OR IGNORE INTO reading_daily_book (stat_date, book_id)
+                SELECT DISTINCT event_date, book_id
+                FROM reading_progress_event
+                WHERE rolled_up = 0
+                """);
+        jdbcTemplate.update("UPDATE reading_progress_event SET rolled_up = 1 WHERE rolled_up = 0");
+        return days;
+    }
+
+    @Override
+    public int purgeEventsBefore(LocalDate cutoff) {
+        Date day = Date.valueOf(cutoff);
+        jdbcTemplate.update("DELETE FROM reading_daily_book WHERE stat_date < ?", day);
+        return jdbcTemplate.update("DELETE FROM reading_progress_event WHERE event_date < ?", day);
+    }
+}
@@ -5,8 +5,12 @@ import com.br.klaus.readium.category.domain.port.BookCategoryRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -29,11 +33,21 @@ public class JpaBookCategoryRepositoryAdapter implements BookCategoryRepositoryP
         return repository.countByCategoryId(categoryId);
     }
 
+    @Override
+    public List<Long> findBookIdsByCategoryId(Long categoryId) {
+        return repository.findBookIdsByCategoryId(categoryId);
+    }
+
     @Override
     public void deleteByBookId(Long bookId) {
         repository.deleteByBookId(bookId);
     }
 
+    @Override
+    public int deleteByBookIds(Collection<Long> bookIds) {
+        return bookIds.isEmpty() ? 0 : repository.deleteByBookIds(bookIds);
+    }
+
     @Override
     public void deleteByCategoryId(Long categoryId) {
         repository.deleteByCategoryId(categoryId);
@@ -43,4 +57,54 @@ public class JpaBookCategoryRepositoryAdapter implements BookCategoryRepositoryP
     public void saveAll(Collection<BookCategory> links) {
         repository.saveAll(links);
     }
+
+    @Override
+    public Map<Long, List<Long>> findCategoryIdsByBook() {
+        return groupLinkPairs(repository.findLinkPairs());
+    }
+
+    @Override
+    public Map<Long, List<Long>> findCategoryIdsByBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return groupLinkPairs(repository.findLinkPairsByBookIds(bookIds));
+    }
+
+    @Override
+    public Map<Long, Long> countLinksByBook(Collection<Long> bookIds, Collection<Long> categoryIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (bookIds.isEmpty() || categoryIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : repository.countLinksByBook(bookIds, categoryIds)) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public int insertLinks(Collection<Long> bookIds, Collection<Long> categoryIds) {
+        if (bookIds.isEmpty() || categoryIds.isEmpty()) {
+            return 0;
+        }
+        return repository.insertLinks(bookIds, categoryIds);
+    }
+
+    @Override
+    public int deleteLinks(Collection<Long> bookIds, Collection<Long> categoryIds) {
+        if (bookIds.isEmpty() || categoryIds.isEmpty()) {
+            return 0;
+        }
+        return repository.deleteLinks(bookIds, categoryIds);
+    }
+
+    private static Map<Long, List<Long>> groupLinkPairs(List<Object[]> rows) {
+        Map<Long, List<Long>> linked = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            linked.computeIfAbsent(((Number) row[0]).longValue(), ignored -> new ArrayList<>())
+                    .add(((Number) row[1]).longValue());
+        }
+        return linked;
+    }
 }
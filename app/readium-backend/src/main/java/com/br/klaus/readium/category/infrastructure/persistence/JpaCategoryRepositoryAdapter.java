@@ -1,7 +1,10 @@
 package com.br.klaus.readium.category.infrastructure.persistence;
 
 import com.br.klaus.readium.category.domain.model.Category;
+import com.br.klaus.readium.category.domain.model.CategoryBookCount;
 import com.br.klaus.readium.category.domain.port.CategoryRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,12 +17,31 @@ import java.util.Optional;
 public class JpaCategoryRepositoryAdapter implements CategoryRepositoryPort {
 
     private final CategoryJpaRepository repository;
+    private final SyncChangeLogService changeLog;
 
     @Override
     public List<Category> findAll(String query) {
         return repository.findByQuery(query);
     }
 
+    @Override
+    public List<CategoryBookCount> findAllWithBookCount(String query) {
+        return toBookCounts(repository.findWithBookCountByQuery(query));
+    }
+
+    @Override
+    public List<CategoryBookCount> findAllWithBookCountById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toBookCounts(repository.findWithBookCountByIdIn(ids));
+    }
+
+    @Override
+    public List<CategoryBookCount> findWithBookCountByBookId(Long bookId) {
+        return toBookCounts(repository.findWithBookCountByBookId(bookId));
+    }
+
     @Override
     public List<Category> findByParentId(Long parentId) {
         return repository.findByParentIdOrderBySortOrderAscNameAsc(parentId);
@@ -35,6 +57,11 @@ public class JpaCategoryRepositoryAdapter implements CategoryRepositoryPort {
         return repository.findById(id);
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return repository.existsById(id);
+    }
+
     @Override
     public Optional<Category> findBySlug(String slug) {
         return repository.findBySlug(slug);
@@ -47,16 +74,28 @@ public class JpaCategoryRepositoryAdapter implements CategoryRepositoryPort {
 
     @Override
     public Category save(Category category) {
-        return repository.save(category);
+        Category saved = repository.save(category);
+        changeLog.recordUpsert(SyncEntityType.CATEGORY, saved.getId());
+        return saved;
     }
 
     @Override
     public void saveAll(Collection<Category> categories) {
-        repository.saveAll(categories);
+        List<Long> savedIds = repository.saveAll(categories).stream()
+                .map(Category::getId)
+                .toList();
+        changeLog.recordUpserts(SyncEntityType.CATEGORY, savedIds);
     }
 
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
+        changeLog.recordDelete(SyncEntityType.CATEGORY, id);
+    }
+
+    private static List<CategoryBookCount> toBookCounts(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new CategoryBookCount((Category) row[0], ((Number) row[1]).longValue()))
+                .toList();
     }
 }
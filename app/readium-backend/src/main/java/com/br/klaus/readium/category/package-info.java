@@ -3,7 +3,9 @@
         allowedDependencies = {
                 "book::api",
                 "book::events",
-                "exception"
+                "exception",
+                "persistence",
+                "sync::api"
         }
 )
 package com.br.klaus.readium.category;
@@ -0,0 +1,4 @@
+package com.br.klaus.readium.collection.api;
+
+public record ReadingCollectionCatalogEntry(Long id, String name, long bookCount) {
+}
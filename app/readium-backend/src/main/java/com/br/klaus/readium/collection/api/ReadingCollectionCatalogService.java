@@ -0,0 +1,11 @@
+package com.br.klaus.readium.collection.api;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReadingCollectionCatalogService {
+
+    List<ReadingCollectionCatalogEntry> findAllEntries();
+
+    List<ReadingCollectionCatalogEntry> findEntries(Collection<Long> collectionIds);
+}
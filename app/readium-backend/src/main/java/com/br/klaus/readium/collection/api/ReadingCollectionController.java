@@ -1,5 +1,7 @@
 package com.br.klaus.readium.collection.api;
 
+import com.br.klaus.readium.book.api.BookBulkResult;
+import com.br.klaus.readium.collection.api.dto.BulkBookCollectionsRequestDTO;
 import com.br.klaus.readium.collection.api.dto.CreateReadingCollectionRequestDTO;
 import com.br.klaus.readium.collection.api.dto.MoveReadingCollectionRequestDTO;
 import com.br.klaus.readium.collection.api.dto.ReadingCollectionResponseDTO;
@@ -7,11 +9,14 @@ import com.br.klaus.readium.collection.api.dto.UpdateBookCollectionsRequestDTO;
 import com.br.klaus.readium.collection.api.dto.UpdateReadingCollectionRequestDTO;
 import com.br.klaus.readium.collection.application.command.ReadingCollectionCommandService;
 import com.br.klaus.readium.collection.application.query.ReadingCollectionQueryService;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,11 +27,16 @@ public class ReadingCollectionController {
 
     private final ReadingCollectionCommandService commandService;
     private final ReadingCollectionQueryService queryService;
+    private final LibraryRevisionService revisions;
 
     @GetMapping("/collections")
     public ResponseEntity<List<ReadingCollectionResponseDTO>> findAll(
-            @RequestParam(required = false) String query
+            @RequestParam(required = false) String query,
+            WebRequest request
     ) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.COLLECTIONS))) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.findAll(query));
     }
 
@@ -71,4 +81,11 @@ public class ReadingCollectionController {
     ) {
         return ResponseEntity.ok(commandService.updateBookCollections(bookId, req));
     }
+
+    @PostMapping("/books/bulk/collections")
+    public ResponseEntity<BookBulkResult> bulkUpdateBookCollections(
+            @RequestHeader(value = "X-Operation-Id", required = false) String operationId,
+            @RequestBody @Valid BulkBookCollectionsRequestDTO req) {
+        return ResponseEntity.ok(commandService.bulkUpdateBookCollections(req, operationId));
+    }
 }
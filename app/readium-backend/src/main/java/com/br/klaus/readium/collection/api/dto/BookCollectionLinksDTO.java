@@ -0,0 +1,6 @@
+package com.br.klaus.readium.collection.api.dto;
+
+import java.util.List;
+
+public record BookCollectionLinksDTO(Long bookId, List<Long> collectionIds) {
+}
@@ -0,0 +1,13 @@
+package com.br.klaus.readium.collection.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BulkBookCollectionsRequestDTO(
+        @NotEmpty
+        List<Long> bookIds,
+        List<Long> addCollectionIds,
+        List<Long> removeCollectionIds
+) {
+}
@@ -0,0 +1,2 @@
+@org.springframework.modulith.NamedInterface("api")
+package com.br.klaus.readium.collection.api;
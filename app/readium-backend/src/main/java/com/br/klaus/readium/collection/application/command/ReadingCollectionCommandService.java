@@ -1,7 +1,11 @@
 package com.br.klaus.readium.collection.application.command;
 
+import com.br.klaus.readium.book.api.BookBulkIds;
+import com.br.klaus.readium.book.api.BookBulkResult;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.book.events.BookDeletedEvent;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import com.br.klaus.readium.collection.api.dto.BulkBookCollectionsRequestDTO;
 import com.br.klaus.readium.collection.api.dto.CreateReadingCollectionRequestDTO;
 import com.br.klaus.readium.collection.api.dto.MoveReadingCollectionRequestDTO;
 import com.br.klaus.readium.collection.api.dto.ReadingCollectionResponseDTO;
@@ -13,17 +17,28 @@ import com.br.klaus.readium.collection.domain.model.ReadingCollection;
 import com.br.klaus.readium.collection.domain.port.BookReadingCollectionRepositoryPort;
 import com.br.klaus.readium.collection.domain.port.ReadingCollectionRepositoryPort;
 import com.br.klaus.readium.collection.domain.service.ReadingCollectionSlugService;
+import com.br.klaus.readium.collection.events.ReadingCollectionCatalogChangedEvent;
 import com.br.klaus.readium.exception.BookNotFoundException;
 import com.br.klaus.readium.exception.CollectionNotFoundException;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.OperationIdempotencyService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
 import java.util.Set;
@@ -32,6 +47,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class ReadingCollectionCommandService {
 
+    private static final String BULK_OPERATION_SCOPE = "book-bulk-collections";
     private static final String[] COLOR_PALETTE = {
             "#2563EB", "#0EA5E9", "#14B8A6", "#22C55E",
             "#EAB308", "#F97316", "#EF4444", "#EC4899", "#8B5CF6"
@@ -43,6 +59,10 @@ public class ReadingCollectionCommandService {
     private final BookReadingCollectionRepositoryPort bookCollectionRepository;
     private final BookExistenceService bookExistenceService;
     private final ReadingCollectionQueryService queryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationIdempotencyService operationIdempotencyService;
+    private final LibraryRevisionService revisions;
+    private final SyncChangeLogService changeLog;
 
     @Transactional
     public ReadingCollectionResponseDTO create(CreateReadingCollectionRequestDTO req) {
@@ -57,6 +77,7 @@ public class ReadingCollectionCommandService {
         ReadingCollection saved = collectionRepository.save(
                 ReadingCollection.create(name, slug, description, color, icon, sortOrder, templateId)
         );
+        publishCatalogChanged(Set.of(saved.getId()));
         return queryService.toResponse(saved);
     }
 
@@ -82,6 +103,7 @@ public class ReadingCollectionCommandService {
         collection.setTemplateId(templateId);
 
         ReadingCollection saved = collectionRepository.save(collection);
+        publishCatalogChanged(Set.of(collectionId));
         return queryService.toResponse(saved);
     }
 
@@ -115,6 +137,7 @@ public class ReadingCollectionCommandService {
         }
         if (changed) {
             collectionRepository.saveAll(ordered);
+            revisions.bump(RevisionAggregate.COLLECTIONS);
         }
 
         return queryService.toResponse(moving);
@@ -131,6 +154,7 @@ public class ReadingCollectionCommandService {
         bookCollectionRepository.deleteByCollectionId(collection.getId());
         collectionRepository.deleteById(collection.getId());
         normalizeSortOrders(removedSortOrder);
+        publishCatalogChanged(Set.of(collectionId));
     }
 
     @Transactional
@@ -138,19 +162,10 @@ public class ReadingCollectionCommandService {
         requireBookExists(bookId);
 
         Set<Long> requestedCollectionIds = sanitizeCollectionIds(req.collectionIds());
-        List<ReadingCollection> collections = requestedCollectionIds.isEmpty()
-                ? List.of()
-                : collectionRepository.findAllById(requestedCollectionIds);
+        List<ReadingCollection> collections = requireAllCollectionsExist(requestedCollectionIds);
 
-        if (collections.size() != requestedCollectionIds.size()) {
-            Set<Long> foundIds = collections.stream()
-                    .map(ReadingCollection::getId)
-                    .collect(java.util.stream.Collectors.toSet());
-            List<Long> missingIds = requestedCollectionIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new CollectionNotFoundException("Colecoes nao encontradas para os IDs: " + missingIds);
-        }
+        Set<Long> affectedCollectionIds = linkedCollectionIds(bookId);
+        affectedCollectionIds.addAll(requestedCollectionIds);
 
         bookCollectionRepository.deleteByBookId(bookId);
         if (!collections.isEmpty()) {
@@ -159,14 +174,112 @@ public class ReadingCollectionCommandService {
                     .toList();
             bookCollectionRepository.saveAll(links);
         }
+        recordLinkChanges(Set.of(bookId), affectedCollectionIds);
+        publishCatalogChanged(affectedCollectionIds);
 
         return queryService.findByBookId(bookId);
     }
 
+    @Transactional
+    public BookBulkResult bulkUpdateBookCollections(BulkBookCollectionsRequestDTO req, String operationId) {
+        List<Long> bookIds = BookBulkIds.normalize(req.bookIds());
+        Set<Long> addIds = sanitizeCollectionIds(req.addCollectionIds());
+        Set<Long> removeIds = sanitizeCollectionIds(req.removeCollectionIds());
+        if (addIds.isEmpty() && removeIds.isEmpty()) {
+            throw new IllegalArgumentException("Informe colecoes para adicionar ou remover.");
+        }
+        if (!Collections.disjoint(addIds, removeIds)) {
+            throw new IllegalArgumentException("Uma colecao nao pode ser adicionada e removida na mesma operacao.");
+        }
+        Set<Long> targetIds = new LinkedHashSet<>(addIds);
+        targetIds.addAll(removeIds);
+        requireAllCollectionsExist(targetIds);
+
+        OperationIdempotencyService.OperationClaim claim = operationIdempotencyService.claim(
+                BULK_OPERATION_SCOPE,
+                operationId
+        );
+        if (!claim.shouldProcess()) {
+            return BookBulkResult.replayed(claim.operationId());
+        }
+
+        Set<Long> existingIds = bookExistenceService.findExistingIds(bookIds);
+        Set<Long> changedIds = new HashSet<>();
+        if (!addIds.isEmpty()) {
+            Map<Long, Long> linked = bookCollectionRepository.countLinksByBook(existingIds, addIds);
+            existingIds.stream()
+                    .filter(bookId -> linked.getOrDefault(bookId, 0L) < addIds.size())
+                    .forEach(changedIds::add);
+            bookCollectionRepository.insertLinks(existingIds, addIds);
+        }
+        if (!removeIds.isEmpty()) {
+            changedIds.addAll(bookCollectionRepository.countLinksByBook(existingIds, removeIds).keySet());
+            bookCollectionRepository.deleteLinks(existingIds, removeIds);
+        }
+        if (!changedIds.isEmpty()) {
+            recordLinkChanges(changedIds, targetIds);
+            publishCatalogChanged(targetIds);
+        }
+
+        return BookBulkResult.of(claim.operationId(), bookIds, existingIds, changedIds, BookBulkResult.Outcome.UPDATED);
+    }
+
     @EventListener
     @Transactional
     public void onBookDeleted(BookDeletedEvent event) {
+        Set<Long> affectedCollectionIds = linkedCollectionIds(event.id());
         bookCollectionRepository.deleteByBookId(event.id());
+        changeLog.recordUpserts(SyncEntityType.COLLECTION, affectedCollectionIds);
+        publishCatalogChanged(affectedCollectionIds);
+    }
+
+    @EventListener
+    @Transactional
+    public void onBooksDeleted(BooksDeletedEvent event) {
+        Set<Long> affectedCollectionIds = new LinkedHashSet<>();
+        bookCollectionRepository.findCollectionIdsByBooks(event.ids()).values().forEach(affectedCollectionIds::addAll);
+        bookCollectionRepository.deleteByBookIds(event.ids());
+        changeLog.recordUpserts(SyncEntityType.COLLECTION, affectedCollectionIds);
+        publishCatalogChanged(affectedCollectionIds);
+    }
+
+    private Set<Long> linkedCollectionIds(Long bookId) {
+        Set<Long> collectionIds = new LinkedHashSet<>();
+        for (BookReadingCollection link : bookCollectionRepository.findByBookId(bookId)) {
+            if (link.getCollection() != null) {
+                collectionIds.add(link.getCollection().getId());
+            }
+        }
+        return collectionIds;
+    }
+
+    private void recordLinkChanges(Collection<Long> bookIds, Set<Long> collectionIds) {
+        changeLog.recordUpserts(SyncEntityType.BOOK_COLLECTIONS, bookIds);
+        changeLog.recordUpserts(SyncEntityType.COLLECTION, collectionIds);
+    }
+
+    private void publishCatalogChanged(Set<Long> collectionIds) {
+        if (!collectionIds.isEmpty()) {
+            revisions.bump(RevisionAggregate.COLLECTIONS);
+            eventPublisher.publishEvent(new ReadingCollectionCatalogChangedEvent(Set.copyOf(collectionIds)));
+        }
+    }
+
+    private List<ReadingCollection> requireAllCollectionsExist(Set<Long> collectionIds) {
+        List<ReadingCollection> collections = collectionIds.isEmpty()
+                ? List.of()
+                : collectionRepository.findAllById(collectionIds);
+
+        if (collections.size() != collectionIds.size()) {
+            Set<Long> foundIds = collections.stream()
+                    .map(ReadingCollection::getId)
+                    .collect(java.util.stream.Collectors.toSet());
+            List<Long> missingIds = collectionIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+            throw new CollectionNotFoundException("Colecoes nao encontradas para os IDs: " + missingIds);
+        }
+        return collections;
     }
 
     private void requireBookExists(Long bookId) {
@@ -0,0 +1,46 @@
+package com.br.klaus.readium.collection.application.query;
+
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogEntry;
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogService;
+import com.br.klaus.readium.collection.domain.model.ReadingCollectionBookCount;
+import com.br.klaus.readium.collection.domain.port.ReadingCollectionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReadingCollectionCatalogServiceImpl implements ReadingCollectionCatalogService {
+
+    private final ReadingCollectionRepositoryPort collectionRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReadingCollectionCatalogEntry> findAllEntries() {
+        return collectionRepository.findAllWithBookCount(null).stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReadingCollectionCatalogEntry> findEntries(Collection<Long> collectionIds) {
+        if (collectionIds == null || collectionIds.isEmpty()) {
+            return List.of();
+        }
+        return collectionRepository.findAllWithBookCountById(collectionIds).stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    private ReadingCollectionCatalogEntry toEntry(ReadingCollectionBookCount counted) {
+        return new ReadingCollectionCatalogEntry(
+                counted.collection().getId(),
+                counted.collection().getName(),
+                counted.booksCount()
+        );
+    }
+}
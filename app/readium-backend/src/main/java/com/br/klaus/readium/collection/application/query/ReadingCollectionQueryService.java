@@ -3,8 +3,8 @@ package com.br.klaus.readium.collection.application.query;
 import com.br.klaus.readium.book.api.BookExistenceService;
 import com.br.klaus.readium.collection.api.ReadingCollectionResponseMapper;
 import com.br.klaus.readium.collection.api.dto.ReadingCollectionResponseDTO;
-import com.br.klaus.readium.collection.domain.model.BookReadingCollection;
 import com.br.klaus.readium.collection.domain.model.ReadingCollection;
+import com.br.klaus.readium.collection.domain.model.ReadingCollectionBookCount;
 import com.br.klaus.readium.collection.domain.port.BookReadingCollectionRepositoryPort;
 import com.br.klaus.readium.collection.domain.port.ReadingCollectionRepositoryPort;
 import com.br.klaus.readium.exception.BookNotFoundException;
@@ -12,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -25,9 +24,9 @@ public class ReadingCollectionQueryService {
 
     @Transactional(readOnly = true)
     public List<ReadingCollectionResponseDTO> findAll(String query) {
-        return collectionRepository.findAll(query)
+        return collectionRepository.findAllWithBookCount(query)
                 .stream()
-                .map(this::toResponse)
+                .map(ReadingCollectionQueryService::toResponse)
                 .toList();
     }
 
@@ -35,13 +34,9 @@ public class ReadingCollectionQueryService {
     public List<ReadingCollectionResponseDTO> findByBookId(Long bookId) {
         requireBookExists(bookId);
 
-        return bookCollectionRepository.findByBookId(bookId)
+        return collectionRepository.findWithBookCountByBookId(bookId)
                 .stream()
-                .map(BookReadingCollection::getCollection)
-                .sorted(Comparator
-                        .comparingInt(ReadingCollection::getSortOrder)
-                        .thenComparing(ReadingCollection::getName, String.CASE_INSENSITIVE_ORDER))
-                .map(this::toResponse)
+                .map(ReadingCollectionQueryService::toResponse)
                 .toList();
     }
 
@@ -50,6 +45,10 @@ public class ReadingCollectionQueryService {
         return ReadingCollectionResponseMapper.toResponse(collection, count);
     }
 
+    private static ReadingCollectionResponseDTO toResponse(ReadingCollectionBookCount counted) {
+        return ReadingCollectionResponseMapper.toResponse(counted.collection(), counted.booksCount());
+    }
+
     private void requireBookExists(Long bookId) {
         if (!bookExistenceService.existsById(bookId)) {
             throw new BookNotFoundException("Livro com ID " + bookId + " nao encontrado.");
@@ -0,0 +1,25 @@
+package com.br.klaus.readium.collection.application.query;
+
+import com.br.klaus.readium.collection.api.dto.BookCollectionLinksDTO;
+import com.br.klaus.readium.collection.domain.port.BookReadingCollectionRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class ReadingCollectionSnapshotContributor implements SyncSnapshotContributor {
+
+    private final ReadingCollectionQueryService queryService;
+    private final BookReadingCollectionRepositoryPort bookCollectionRepository;
+
+    @Override
+    public void writeTo(SyncSnapshotWriter writer) {
+        queryService.findAll(null).forEach(collection -> writer.write("COLLECTION", collection));
+        bookCollectionRepository.findCollectionIdsByBook().forEach((bookId, collectionIds) ->
+                writer.write("BOOK_COLLECTIONS", new BookCollectionLinksDTO(bookId, collectionIds)));
+    }
+}
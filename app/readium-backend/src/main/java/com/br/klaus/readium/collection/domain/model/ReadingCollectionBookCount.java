@@ -0,0 +1,4 @@
+package com.br.klaus.readium.collection.domain.model;
+
+public record ReadingCollectionBookCount(ReadingCollection collection, long booksCount) {
+}
@@ -4,6 +4,7 @@ import com.br.klaus.readium.collection.domain.model.BookReadingCollection;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BookReadingCollectionRepositoryPort {
 
@@ -13,8 +14,20 @@ public interface BookReadingCollectionRepositoryPort {
 
     void deleteByBookId(Long bookId);
 
+    int deleteByBookIds(Collection<Long> bookIds);
+
     void deleteByCollectionId(Long collectionId);
 
     void saveAll(Collection<BookReadingCollection> links);
+
+    Map<Long, List<Long>> findCollectionIdsByBook();
+
+    Map<Long, List<Long>> findCollectionIdsByBooks(Collection<Long> bookIds);
+
+    Map<Long, Long> countLinksByBook(Collection<Long> bookIds, Collection<Long> collectionIds);
+
+    int insertLinks(Collection<Long> bookIds, Collection<Long> collectionIds);
+
+    int deleteLinks(Collection<Long> bookIds, Collection<Long> collectionIds);
 }
 
@@ -1,6 +1,7 @@
 package com.br.klaus.readium.collection.domain.port;
 
 import com.br.klaus.readium.collection.domain.model.ReadingCollection;
+import com.br.klaus.readium.collection.domain.model.ReadingCollectionBookCount;
 
 import java.util.Collection;
 import java.util.List;
@@ -12,6 +13,12 @@ public interface ReadingCollectionRepositoryPort {
 
     List<ReadingCollection> findAllById(Collection<Long> ids);
 
+    List<ReadingCollectionBookCount> findAllWithBookCount(String query);
+
+    List<ReadingCollectionBookCount> findAllWithBookCountById(Collection<Long> ids);
+
+    List<ReadingCollectionBookCount> findWithBookCountByBookId(Long bookId);
+
     Optional<ReadingCollection> findById(Long id);
 
     Optional<ReadingCollection> findBySlug(String slug);
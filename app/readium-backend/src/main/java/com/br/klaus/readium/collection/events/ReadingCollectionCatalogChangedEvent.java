@@ -0,0 +1,6 @@
+package com.br.klaus.readium.collection.events;
+
+import java.util.Set;
+
+public record ReadingCollectionCatalogChangedEvent(Set<Long> collectionIds) {
+}
@@ -2,7 +2,11 @@ package com.br.klaus.readium.collection.infrastructure.persistence;
 
 import com.br.klaus.readium.collection.domain.model.BookReadingCollection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BookReadingCollectionJpaRepository extends JpaRepository<BookReadingCollection, Long> {
@@ -11,6 +15,61 @@ public interface BookReadingCollectionJpaRepository extends JpaRepository<BookRe
 
     long countByCollectionId(Long collectionId);
 
+    @Query("""
+            select link.bookId, link.collection.id
+            from BookReadingCollection link
+            order by link.bookId asc, link.collection.id asc
+            """)
+    List<Object[]> findLinkPairs();
+
+    @Query("""
+            select link.bookId, link.collection.id
+            from BookReadingCollection link
+            where link.bookId in :bookIds
+            order by link.bookId asc, link.collection.id asc
+            """)
+    List<Object[]> findLinkPairsByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query("""
+            select link.bookId, count(link)
+            from BookReadingCollection link
+            where link.bookId in :bookIds
+              and link.collection.id in :collectionIds
+            group by link.bookId
+            """)
+    List<Object[]> countLinksByBook(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("collectionIds") Collection<Long> collectionIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT OR IGNORE INTO book_reading_collection (book_id, collection_id, created_at)
+            SELECT b.id, t.id, CURRENT_TIMESTAMP
+            FROM book b
+            JOIN reading_collection t ON t.id IN (:collectionIds)
+            WHERE b.id IN (:bookIds)
+            """, nativeQuery = true)
+    int insertLinks(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("collectionIds") Collection<Long> collectionIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from BookReadingCollection link
+            where link.bookId in :bookIds
+              and link.collection.id in :collectionIds
+            """)
+    int deleteLinks(
+            @Param("bookIds") Collection<Long> bookIds,
+            @Param("collectionIds") Collection<Long> collectionIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from BookReadingCollection link where link.bookId in :bookIds")
+    int deleteByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
     void deleteByBookId(Long bookId);
 
     void deleteByCollectionId(Long collectionId);
@@ -5,8 +5,12 @@ import com.br.klaus.readium.collection.domain.port.BookReadingCollectionReposito
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -29,6 +33,11 @@ public class JpaBookReadingCollectionRepositoryAdapter implements BookReadingCol
         repository.deleteByBookId(bookId);
     }
 
+    @Override
+    public int deleteByBookIds(Collection<Long> bookIds) {
+        return bookIds.isEmpty() ? 0 : repository.deleteByBookIds(bookIds);
+    }
+
     @Override
     public void deleteByCollectionId(Long collectionId) {
         repository.deleteByCollectionId(collectionId);
@@ -38,5 +47,54 @@ public class JpaBookReadingCollectionRepositoryAdapter implements BookReadingCol
     public void saveAll(Collection<BookReadingCollection> links) {
         repository.saveAll(links);
     }
-}
 
+    @Override
+    public Map<Long, List<Long>> findCollectionIdsByBook() {
+        return groupLinkPairs(repository.findLinkPairs());
+    }
+
+    @Override
+    public Map<Long, List<Long>> findCollectionIdsByBooks(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return groupLinkPairs(repository.findLinkPairsByBookIds(bookIds));
+    }
+
+    @Override
+    public Map<Long, Long> countLinksByBook(Collection<Long> bookIds, Collection<Long> collectionIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (bookIds.isEmpty() || collectionIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : repository.countLinksByBook(bookIds, collectionIds)) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public int insertLinks(Collection<Long> bookIds, Collection<Long> collectionIds) {
+        if (bookIds.isEmpty() || collectionIds.isEmpty()) {
+            return 0;
+        }
+        return repository.insertLinks(bookIds, collectionIds);
+    }
+
+    @Override
+    public int deleteLinks(Collection<Long> bookIds, Collection<Long> collectionIds) {
+        if (bookIds.isEmpty() || collectionIds.isEmpty()) {
+            return 0;
+        }
+        return repository.deleteLinks(bookIds, collectionIds);
+    }
+
+    private static Map<Long, List<Long>> groupLinkPairs(List<Object[]> rows) {
+        Map<Long, List<Long>> linked = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            linked.computeIfAbsent(((Number) row[0]).longValue(), ignored -> new ArrayList<>())
+                    .add(((Number) row[1]).longValue());
+        }
+        return linked;
+    }
+}
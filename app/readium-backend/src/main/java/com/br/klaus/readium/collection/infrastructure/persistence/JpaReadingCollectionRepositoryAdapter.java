@@ -1,7 +1,10 @@
 package com.br.klaus.readium.collection.infrastructure.persistence;
 
 import com.br.klaus.readium.collection.domain.model.ReadingCollection;
+import com.br.klaus.readium.collection.domain.model.ReadingCollectionBookCount;
 import com.br.klaus.readium.collection.domain.port.ReadingCollectionRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +17,7 @@ import java.util.Optional;
 public class JpaReadingCollectionRepositoryAdapter implements ReadingCollectionRepositoryPort {
 
     private final ReadingCollectionJpaRepository repository;
+    private final SyncChangeLogService changeLog;
 
     @Override
     public List<ReadingCollection> findAll(String query) {
@@ -25,6 +29,24 @@ public class JpaReadingCollectionRepositoryAdapter implements ReadingCollectionR
         return repository.findByIdIn(ids);
     }
 
+    @Override
+    public List<ReadingCollectionBookCount> findAllWithBookCount(String query) {
+        return toBookCounts(repository.findWithBookCountByQuery(query));
+    }
+
+    @Override
+    public List<ReadingCollectionBookCount> findAllWithBookCountById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toBookCounts(repository.findWithBookCountByIdIn(ids));
+    }
+
+    @Override
+    public List<ReadingCollectionBookCount> findWithBookCountByBookId(Long bookId) {
+        return toBookCounts(repository.findWithBookCountByBookId(bookId));
+    }
+
     @Override
     public Optional<ReadingCollection> findById(Long id) {
         return repository.findById(id);
@@ -42,16 +64,28 @@ public class JpaReadingCollectionRepositoryAdapter implements ReadingCollectionR
 
     @Override
     public ReadingCollection save(ReadingCollection collection) {
-        return repository.save(collection);
+        ReadingCollection saved = repository.save(collection);
+        changeLog.recordUpsert(SyncEntityType.COLLECTION, saved.getId());
+        return saved;
     }
 
     @Override
     public void saveAll(Collection<ReadingCollection> collections) {
-        repository.saveAll(collections);
+        List<Long> savedIds = repository.saveAll(collections).stream()
+                .map(ReadingCollection::getId)
+                .toList();
+        changeLog.recordUpserts(SyncEntityType.COLLECTION, savedIds);
     }
 
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
+        changeLog.recordDelete(SyncEntityType.COLLECTION, id);
+    }
+
+    private static List<ReadingCollectionBookCount> toBookCounts(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new ReadingCollectionBookCount((ReadingCollection) row[0], ((Number) row[1]).longValue()))
+                .toList();
     }
 }
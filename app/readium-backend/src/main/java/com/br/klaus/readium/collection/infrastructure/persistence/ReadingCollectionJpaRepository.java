@@ -22,4 +22,34 @@ public interface ReadingCollectionJpaRepository extends JpaRepository<ReadingCol
             order by c.sortOrder asc, lower(c.name) asc
             """)
     List<ReadingCollection> findByQuery(@Param("query") String query);
+
+    @Query("""
+            select c, count(link.id)
+            from ReadingCollection c
+            left join BookReadingCollection link on link.collection = c
+            where (:query is null or :query = '' or lower(c.name) like lower(concat('%', :query, '%')))
+            group by c
+            order by c.sortOrder asc, lower(c.name) asc
+            """)
+    List<Object[]> findWithBookCountByQuery(@Param("query") String query);
+
+    @Query("""
+            select c, count(link.id)
+            from ReadingCollection c
+            left join BookReadingCollection link on link.collection = c
+            where c.id in :ids
+            group by c
+            """)
+    List<Object[]> findWithBookCountByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select c, count(link.id)
+            from BookReadingCollection own
+            join own.collection c
+            left join BookReadingCollection link on link.collection = c
+            where own.bookId = :bookId
+            group by c
+            order by c.sortOrder asc, lower(c.name) asc
+            """)
+    List<Object[]> findWithBookCountByBookId(@Param("bookId") Long bookId);
 }
@@ -14,14 +14,15 @@ public class AsyncExecutorConfig {
 
     @Bean(name = "ocrTaskExecutor")
     public Executor ocrTaskExecutor(
-            @Value("${app.ocr.async.core-pool-size:1}") int corePoolSize,
-            @Value("${app.ocr.async.max-pool-size:2}") int maxPoolSize,
+            @Value("${app.ocr.async.core-pool-size:0}") int corePoolSize,
+            @Value("${app.ocr.async.max-pool-size:0}") int maxPoolSize,
             @Value("${app.ocr.async.queue-capacity:8}") int queueCapacity
     ) {
+        int processors = Runtime.getRuntime().availableProcessors();
         return buildExecutor(
                 "ocr-worker-",
-                corePoolSize,
-                maxPoolSize,
+                corePoolSize > 0 ? corePoolSize : processors,
+                maxPoolSize > 0 ? maxPoolSize : processors,
                 queueCapacity,
                 new ThreadPoolExecutor.AbortPolicy()
         );
@@ -42,6 +43,49 @@ public class AsyncExecutorConfig {
         );
     }
 
+    @Bean(name = "insightsTaskExecutor")
+    public Executor insightsTaskExecutor(
+            @Value("${app.insights.async.core-pool-size:1}") int corePoolSize,
+            @Value("${app.insights.async.max-pool-size:2}") int maxPoolSize,
+            @Value("${app.insights.async.queue-capacity:16}") int queueCapacity
+    ) {
+        return buildExecutor(
+                "insights-worker-",
+                corePoolSize,
+                maxPoolSize,
+                queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Bean(name = "layoutIndexTaskExecutor")
+    public Executor layoutIndexTaskExecutor(
+            @Value("${app.search.in-book.async.max-pool-size:1}") int maxPoolSize,
+            @Value("${app.search.in-book.async.queue-capacity:16}") int queueCapacity
+    ) {
+        return buildExecutor(
+                "layout-index-worker-",
+                1,
+                maxPoolSize,
+                queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean(name = "textStoreTaskExecutor")
+    public Executor textStoreTaskExecutor(
+            @Value("${app.text-store.async.max-pool-size:1}") int maxPoolSize,
+            @Value("${app.text-store.async.queue-capacity:16}") int queueCapacity
+    ) {
+        return buildExecutor(
+                "text-store-worker-",
+                1,
+                maxPoolSize,
+                queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
     private Executor buildExecutor(
             String threadNamePrefix,
             int corePoolSize,
@@ -17,13 +17,14 @@ public class SpaRedirectFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String path = request.getRequestURI();
         boolean isApiPath = path.startsWith("/api");
+        boolean isActuatorPath = path.startsWith("/actuator");
         boolean isStaticFile = path.contains(".");
         boolean isSwaggerPath = path.startsWith("/v3/api-docs")
                 || path.startsWith("/swagger-ui")
                 || path.startsWith("/swagger-ui.html");
 
         // Delegate SPA routes to index.html, but keep API/static docs routes untouched.
-        if (!isApiPath && !isStaticFile && !isSwaggerPath) {
+        if (!isApiPath && !isActuatorPath && !isStaticFile && !isSwaggerPath) {
             request.getRequestDispatcher("/index.html").forward(request, response);
             return;
         }
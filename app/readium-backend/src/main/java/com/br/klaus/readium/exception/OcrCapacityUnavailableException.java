@@ -0,0 +1,7 @@
+package com.br.klaus.readium.exception;
+
+public class OcrCapacityUnavailableException extends StorageException {
+    public OcrCapacityUnavailableException(String message) {
+        super(message);
+    }
+}
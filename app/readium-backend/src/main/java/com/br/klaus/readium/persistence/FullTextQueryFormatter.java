@@ -0,0 +1,71 @@
+package com.br.klaus.readium.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converte texto digitado pelo usuario em expressoes MATCH do SQLite FTS5, citando cada termo para
+ * neutralizar operadores.
+ */
+public final class FullTextQueryFormatter {
+
+    private static final int MAX_TERMS = 12;
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private FullTextQueryFormatter() {
+    }
+
+    /**
+     * Termos citados em sequencia; apenas o ultimo casa como prefixo, para buscar enquanto se digita.
+     */
+    public static Optional<String> toMatchExpression(String rawQuery) {
+        return toMatchExpression(rawQuery, false);
+    }
+
+    /**
+     * Termos citados em sequencia, todos casando como prefixo.
+     */
+    public static Optional<String> toPrefixMatchExpression(String rawQuery) {
+        return toMatchExpression(rawQuery, true);
+    }
+
+    private static Optional<String> toMatchExpression(String rawQuery, boolean everyTermAsPrefix) {
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return Optional.empty();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : rawQuery.trim().split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            terms.add("\"" + token + "\"" + (everyTermAsPrefix ? "*" : ""));
+            if (terms.size() >= MAX_TERMS) {
+                break;
+            }
+        }
+
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!everyTermAsPrefix) {
+            int last = terms.size() - 1;
+            terms.set(last, terms.get(last) + "*");
+        }
+        return Optional.of(String.join(" ", terms));
+    }
+
+    public static Optional<String> toSubstringPhrase(String rawQuery) {
+        if (rawQuery == null) {
+            return Optional.empty();
+        }
+
+        String phrase = rawQuery.trim().replaceAll("\\s+", " ");
+        if (phrase.codePointCount(0, phrase.length()) < TRIGRAM_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.of("\"" + phrase.replace("\"", "\"\"") + "\"");
+    }
+}
@@ -0,0 +1,111 @@
+package com.br.klaus.readium.persistence;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Modo SINGLE_WRITER: o arquivo SQLite roda em WAL com um pool somente leitura e uma unica conexao
+ * de escrita. Transacoes {@code readOnly} vao para os leitores; o resto usa a conexao de escrita, que
+ * devolve a conexao ao pool no commit para que listeners pos-commit possam escrever em seguida.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.persistence.mode", havingValue = "SINGLE_WRITER")
+@Slf4j
+public class SqliteSingleWriterDataSourceConfig {
+
+    private static final String READER = "reader";
+    private static final String WRITER = "writer";
+
+    @Bean(name = "sqliteWriterDataSource")
+    public HikariDataSource sqliteWriterDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${app.persistence.busy-timeout-ms:5000}") int busyTimeoutMs
+    ) {
+        requireFileDatabase(url);
+        HikariConfig config = baseConfig("sqlite-writer", url, busyTimeoutMs);
+        config.setMaximumPoolSize(1);
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("synchronous", "NORMAL");
+        return new HikariDataSource(config);
+    }
+
+    @Bean(name = "sqliteReaderDataSource")
+    @DependsOn("sqliteWriterDataSource")
+    public HikariDataSource sqliteReaderDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${app.persistence.busy-timeout-ms:5000}") int busyTimeoutMs,
+            @Value("${app.persistence.reader-pool-size:4}") int readerPoolSize
+    ) {
+        HikariConfig config = baseConfig("sqlite-reader", url, busyTimeoutMs);
+        config.setMaximumPoolSize(Math.max(readerPoolSize, 1));
+        config.setConnectionInitSql("PRAGMA query_only = 1");
+        log.info("SQLite em modo SINGLE_WRITER: WAL, 1 conexao de escrita e {} de leitura.", config.getMaximumPoolSize());
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("sqliteWriterDataSource") HikariDataSource writer,
+            @Qualifier("sqliteReaderDataSource") HikariDataSource reader
+    ) {
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER : WRITER;
+            }
+        };
+        router.setTargetDataSources(Map.of(READER, reader, WRITER, writer));
+        router.setDefaultTargetDataSource(writer);
+        router.afterPropertiesSet();
+
+        // A conexao real so e escolhida no primeiro comando, quando o flag readOnly da transacao ja existe.
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(router);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        return proxy;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqliteConnectionReleaseCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    private static HikariConfig baseConfig(String poolName, String url, int busyTimeoutMs) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.addDataSourceProperty("busy_timeout", String.valueOf(Math.max(busyTimeoutMs, 0)));
+        return config;
+    }
+
+    private static void requireFileDatabase(String url) {
+        if (url == null || url.contains(":memory:") || url.contains("mode=memory")) {
+            throw new IllegalStateException(
+                    "Modo SINGLE_WRITER exige um arquivo SQLite; banco em memoria nao e compartilhado entre conexoes."
+            );
+        }
+    }
+}
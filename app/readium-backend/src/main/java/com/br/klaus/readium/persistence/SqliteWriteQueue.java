@@ -0,0 +1,213 @@
+package com.br.klaus.readium.persistence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fila de escritas pequenas. No modo SINGLE_WRITER uma unica thread consome a fila e grava varias
+ * tarefas no mesmo commit (group commit); se o lote falhar, cada tarefa e refeita em transacao propria
+ * para que so a culpada receba o erro. Nos demais modos as tarefas rodam na thread chamadora.
+ * As tarefas devem carregar e criar as entidades dentro do proprio corpo, pois podem ser reexecutadas.
+ */
+@Component
+@Slf4j
+public class SqliteWriteQueue {
+
+    private static final long POLL_TIMEOUT_MS = 250;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final TransactionTemplate joiningTransaction;
+    private final TransactionTemplate isolatedTransaction;
+    private final BlockingQueue<WriteTask<?>> queue;
+    private final int maxBatch;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public SqliteWriteQueue(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.persistence.mode:SHARED}") String mode,
+            @Value("${app.persistence.write-queue.max-batch:32}") int maxBatch,
+            @Value("${app.persistence.write-queue.capacity:1024}") int capacity
+    ) {
+        this.joiningTransaction = new TransactionTemplate(transactionManager);
+        this.isolatedTransaction = new TransactionTemplate(transactionManager);
+        this.isolatedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new LinkedBlockingQueue<>(Math.max(capacity, 1));
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.running = "SINGLE_WRITER".equalsIgnoreCase(mode);
+        this.writer = new Thread(this::drain, "sqlite-writer");
+        if (running) {
+            writer.start();
+        }
+    }
+
+    /**
+     * Executa a escrita e espera o commit. Dentro de uma transacao ativa a tarefa participa dela.
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (!running || Thread.currentThread() == writer || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joiningTransaction.execute(status -> work.get());
+        }
+        WriteTask<T> task = new WriteTask<>(work, false);
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Escrita interrompida antes de entrar na fila.", e);
+        }
+        return task.await();
+    }
+
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Agenda a escrita sem esperar o commit. Seguro para listeners pos-commit: fora do modo
+     * SINGLE_WRITER (ou com a fila cheia) roda imediatamente em transacao nova. Como ninguem espera o
+     * resultado, uma falha e apenas registrada no log.
+     */
+    public void submit(Runnable work) {
+        WriteTask<Void> task = new WriteTask<>(() -> {
+            work.run();
+            return null;
+        }, true);
+        if (running && queue.offer(task)) {
+            return;
+        }
+        try {
+            isolatedTransaction.executeWithoutResult(status -> work.run());
+        } catch (RuntimeException e) {
+            log.error("Falha em escrita agendada no SQLite; a escrita foi descartada.", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MS);
+    }
+
+    private void drain() {
+        List<WriteTask<?>> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteTask<?> first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Falha inesperada na fila de escrita do SQLite.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<WriteTask<?>> batch) {
+        if (batch.size() > 1 && commitTogether(batch)) {
+            return;
+        }
+        for (WriteTask<?> task : batch) {
+            try {
+                joiningTransaction.executeWithoutResult(status -> task.run());
+                task.complete();
+            } catch (RuntimeException | Error e) {
+                if (task.detached) {
+                    log.error("Falha em escrita agendada no SQLite; a escrita foi descartada.", e);
+                }
+                task.fail(e);
+            }
+        }
+    }
+
+    private boolean commitTogether(List<WriteTask<?>> batch) {
+        boolean[] committed = new boolean[1];
+        try {
+            joiningTransaction.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int completionStatus) {
+                        committed[0] = completionStatus == STATUS_COMMITTED;
+                    }
+                });
+                batch.forEach(WriteTask::run);
+            });
+        } catch (RuntimeException e) {
+            if (!committed[0]) {
+                log.debug("Lote de {} escrita(s) falhou; refazendo uma a uma.", batch.size(), e);
+                return false;
+            }
+            log.warn("Lote de {} escrita(s) gravado, mas um listener pos-commit falhou.", batch.size(), e);
+        }
+        batch.forEach(WriteTask::complete);
+        return true;
+    }
+
+    private static final class WriteTask<T> {
+
+        private final Supplier<T> work;
+        private final boolean detached;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+
+        private WriteTask(Supplier<T> work, boolean detached) {
+            this.work = work;
+            this.detached = detached;
+        }
+
+        private void run() {
+            result = work.get();
+        }
+
+        private void complete() {
+            future.complete(result);
+        }
+
+        private void fail(Throwable error) {
+            future.completeExceptionally(error);
+        }
+
+        private T await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.br.klaus.readium.sync.api;
+
+import com.br.klaus.readium.sync.api.dto.SyncChangeResponseDTO;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncChangeController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final SyncChangeLogService changeLogService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @GetMapping("/changes")
+    public ResponseEntity<StreamingResponseBody> findChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        SyncChangeLogService.SyncChangeBatch batch = changeLogService.findChanges(since, limit);
+
+        StreamingResponseBody body = output -> {
+            for (SyncChange change : batch.changes()) {
+                output.write(objectMapper.writeValueAsBytes(toResponse(change)));
+                output.write('\n');
+            }
+            output.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header("X-Sync-Revision", Long.toString(batch.headRevision()))
+                .header("X-Sync-Next-Since", Long.toString(batch.nextSince()))
+                .header("X-Sync-Has-More", Boolean.toString(batch.hasMore()))
+                .header("X-Sync-Reset-Required", Boolean.toString(batch.resetRequired()))
+                .body(body);
+    }
+
+    private static SyncChangeResponseDTO toResponse(SyncChange change) {
+        return new SyncChangeResponseDTO(
+                change.revision(),
+                change.entityType(),
+                change.entityId(),
+                change.bookId(),
+                change.operation().name()
+        );
+    }
+}
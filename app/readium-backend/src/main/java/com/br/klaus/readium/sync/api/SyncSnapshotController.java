@@ -0,0 +1,102 @@
+package com.br.klaus.readium.sync.api;
+
+import com.br.klaus.readium.exception.StorageException;
+import com.br.klaus.readium.sync.application.SyncSnapshotService;
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncSnapshotController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SyncSnapshotService snapshotService;
+
+    /**
+     * O arquivo ja esta gravado em gzip: clientes que aceitam gzip recebem os bytes como estao, com
+     * {@code Content-Encoding: gzip}; os demais recebem o NDJSON descompactado em fluxo.
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<Resource> snapshot(WebRequest request) {
+        SyncSnapshotFile snapshot = snapshotService.current();
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = "W/\"snapshot-v" + snapshot.format() + "-r" + snapshot.revision() + (gzip ? "-gzip" : "") + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        InputStream input;
+        try {
+            input = Files.newInputStream(snapshot.path());
+            if (!gzip) {
+                input = new GZIPInputStream(input, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Falha ao abrir snapshot de sincronizacao.", e);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header("X-Sync-Revision", Long.toString(snapshot.revision()))
+                .header("X-Sync-Snapshot-Format", Integer.toString(snapshot.format()));
+        if (gzip) {
+            response.contentLength(snapshot.sizeBytes()).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(new InputStreamResource(input));
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (name.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int index = 1; index < parts.length; index++) {
+            String parameter = parts[index].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.br.klaus.readium.sync.api.dto;
+
+public record SyncChangeResponseDTO(
+        long rev,
+        String type,
+        long id,
+        Long bookId,
+        String op
+) {
+}
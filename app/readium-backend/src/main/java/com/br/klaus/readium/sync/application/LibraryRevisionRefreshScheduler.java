@@ -0,0 +1,32 @@
+package com.br.klaus.readium.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LibraryRevisionRefreshScheduler implements SmartInitializingSingleton {
+
+    private final LibraryRevisionService revisionService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshRevisions();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.sync.revisions.refresh-ms:2000}",
+            fixedDelayString = "${app.sync.revisions.refresh-ms:2000}"
+    )
+    public void refreshRevisions() {
+        try {
+            revisionService.refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao sincronizar revisoes da biblioteca.", ex);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.port.LibraryRevisionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revisao monotonica por agregado, persistida em {@code library_revision}. Leituras usam apenas a copia
+ * em memoria, que avanca apos o commit de cada escrita local e e sincronizada periodicamente com o banco
+ * para enxergar escritas de outros processos (worker dedicado).
+ */
+@Service
+@RequiredArgsConstructor
+public class LibraryRevisionService {
+
+    private final LibraryRevisionRepositoryPort repository;
+
+    private final Map<RevisionAggregate, AtomicLong> revisions = initialRevisions();
+
+    public void bump(RevisionAggregate aggregate) {
+        long revision = repository.increment(aggregate.name());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance(aggregate, revision);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance(aggregate, revision);
+            }
+        });
+    }
+
+    public long current(RevisionAggregate aggregate) {
+        return revisions.get(aggregate).get();
+    }
+
+    public String etag(RevisionAggregate... aggregates) {
+        return etag(null, aggregates);
+    }
+
+    public String etag(String variant, RevisionAggregate... aggregates) {
+        StringBuilder value = new StringBuilder("W/\"");
+        for (int index = 0; index < aggregates.length; index++) {
+            if (index > 0) {
+                value.append('-');
+            }
+            value.append(aggregates[index].name().toLowerCase(Locale.ROOT)).append(current(aggregates[index]));
+        }
+        if (variant != null) {
+            value.append('-').append(variant);
+        }
+        return value.append('"').toString();
+    }
+
+    public void refresh() {
+        repository.findAll().forEach((name, revision) -> {
+            for (RevisionAggregate aggregate : RevisionAggregate.values()) {
+                if (aggregate.name().equals(name)) {
+                    advance(aggregate, revision);
+                }
+            }
+        });
+    }
+
+    private void advance(RevisionAggregate aggregate, long revision) {
+        revisions.get(aggregate).accumulateAndGet(revision, Math::max);
+    }
+
+    private static Map<RevisionAggregate, AtomicLong> initialRevisions() {
+        Map<RevisionAggregate, AtomicLong> initial = new EnumMap<>(RevisionAggregate.class);
+        for (RevisionAggregate aggregate : RevisionAggregate.values()) {
+            initial.put(aggregate, new AtomicLong());
+        }
+        return initial;
+    }
+}
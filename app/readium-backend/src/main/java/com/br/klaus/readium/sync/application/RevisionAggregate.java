@@ -0,0 +1,9 @@
+package com.br.klaus.readium.sync.application;
+
+public enum RevisionAggregate {
+    BOOKS,
+    CATEGORIES,
+    COLLECTIONS,
+    ANNOTATIONS,
+    TRANSLATIONS
+}
@@ -0,0 +1,38 @@
+package com.br.klaus.readium.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncChangeLogCompactionScheduler {
+
+    private final SyncChangeLogService changeLogService;
+
+    @Value("${app.sync.changes.compaction.enabled:true}")
+    private boolean compactionEnabled;
+
+    @Value("${app.sync.changes.compaction.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    @Scheduled(fixedDelayString = "${app.sync.changes.compaction.fixed-delay-ms:21600000}")
+    public void compactChangeLog() {
+        if (!compactionEnabled) {
+            return;
+        }
+
+        SyncChangeLogService.CompactionResult result = changeLogService.compact(tombstoneRetentionDays);
+        if (result.collapsed() > 0 || result.purgedTombstones() > 0) {
+            log.info(
+                    "Compactacao do registro de alteracoes removeu {} entrada(s) superada(s) e {} exclusao(oes) com mais de {} dia(s).",
+                    result.collapsed(),
+                    result.purgedTombstones(),
+                    tombstoneRetentionDays
+            );
+        }
+    }
+}
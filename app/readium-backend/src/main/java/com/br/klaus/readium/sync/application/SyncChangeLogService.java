@@ -0,0 +1,132 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.br.klaus.readium.sync.domain.port.SyncChangeLogRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Registro de alteracoes para sincronizacao incremental. Cada escrita grava uma linha na mesma transacao
+ * da mutacao; o id da linha e a revisao global que os clientes usam como cursor.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncChangeLogService {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
+    private final SyncChangeLogRepositoryPort repository;
+
+    public void recordUpsert(SyncEntityType type, Long entityId) {
+        recordUpsert(type, entityId, null);
+    }
+
+    public void recordUpsert(SyncEntityType type, Long entityId, Long bookId) {
+        if (entityId != null) {
+            repository.append(type.name(), List.of(entityId), bookId, SyncChange.Operation.UPSERT);
+        }
+    }
+
+    public void recordUpserts(SyncEntityType type, Collection<Long> entityIds) {
+        repository.append(type.name(), withoutNulls(entityIds), null, SyncChange.Operation.UPSERT);
+    }
+
+    public void recordDelete(SyncEntityType type, Long entityId) {
+        recordDelete(type, entityId, null);
+    }
+
+    public void recordDelete(SyncEntityType type, Long entityId, Long bookId) {
+        if (entityId != null) {
+            repository.append(type.name(), List.of(entityId), bookId, SyncChange.Operation.DELETE);
+        }
+    }
+
+    public void recordDeletes(SyncEntityType type, Collection<Long> entityIds) {
+        recordDeletes(type, entityIds, null);
+    }
+
+    public void recordDeletes(SyncEntityType type, Collection<Long> entityIds, Long bookId) {
+        repository.append(type.name(), withoutNulls(entityIds), bookId, SyncChange.Operation.DELETE);
+    }
+
+    @Transactional(readOnly = true)
+    public SyncChangeBatch findChanges(long since, Integer requestedLimit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Revisao invalida: " + since);
+        }
+        int limit = requestedLimit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, requestedLimit));
+
+        long headRevision = repository.headRevision();
+        if (since < repository.purgedThrough()) {
+            return new SyncChangeBatch(List.of(), headRevision, headRevision, false, true);
+        }
+
+        List<SyncChange> changes = repository.findAfter(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long nextSince = changes.isEmpty() ? Math.max(since, headRevision) : changes.get(changes.size() - 1).revision();
+        return new SyncChangeBatch(List.copyOf(changes), nextSince, headRevision, hasMore, false);
+    }
+
+    @Transactional(readOnly = true)
+    public long headRevision() {
+        return repository.headRevision();
+    }
+
+    /**
+     * Mesmo cursor de {@link #findChanges(long, Integer)}, para consumidores internos que mantem
+     * projecoes em memoria e so precisam saber quais entidades mudaram.
+     */
+    @Transactional(readOnly = true)
+    public EntityChangeBatch findEntityChanges(long since, Integer requestedLimit) {
+        SyncChangeBatch batch = findChanges(since, requestedLimit);
+        List<EntityChange> changes = batch.changes().stream()
+                .map(change -> new EntityChange(
+                        SyncEntityType.valueOf(change.entityType()),
+                        change.entityId(),
+                        change.operation() == SyncChange.Operation.DELETE
+                ))
+                .toList();
+        return new EntityChangeBatch(changes, batch.nextSince(), batch.hasMore(), batch.resetRequired());
+    }
+
+    @Transactional
+    public CompactionResult compact(long tombstoneRetentionDays) {
+        if (tombstoneRetentionDays < 1) {
+            throw new IllegalArgumentException("Retencao invalida para o registro de alteracoes. Use pelo menos 1 dia.");
+        }
+        int collapsed = repository.collapseSuperseded();
+        int purged = repository.purgeTombstonesOlderThanDays(tombstoneRetentionDays);
+        return new CompactionResult(collapsed, purged);
+    }
+
+    private static List<Long> withoutNulls(Collection<Long> entityIds) {
+        return entityIds.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    public record SyncChangeBatch(
+            List<SyncChange> changes,
+            long nextSince,
+            long headRevision,
+            boolean hasMore,
+            boolean resetRequired
+    ) {
+    }
+
+    public record EntityChange(SyncEntityType type, long entityId, boolean deleted) {
+    }
+
+    public record EntityChangeBatch(List<EntityChange> changes, long nextSince, boolean hasMore, boolean resetRequired) {
+    }
+
+    public record CompactionResult(int collapsed, int purgedTombstones) {
+    }
+}
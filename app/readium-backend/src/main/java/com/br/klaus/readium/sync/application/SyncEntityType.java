@@ -0,0 +1,11 @@
+package com.br.klaus.readium.sync.application;
+
+public enum SyncEntityType {
+    BOOK,
+    ANNOTATION,
+    TRANSLATION,
+    CATEGORY,
+    COLLECTION,
+    BOOK_CATEGORIES,
+    BOOK_COLLECTIONS
+}
@@ -0,0 +1,10 @@
+package com.br.klaus.readium.sync.application;
+
+/**
+ * Secao do snapshot de sincronizacao. Cada modulo escreve os proprios registros em lotes, dentro da
+ * transacao de leitura aberta pelo snapshot; a ordem das secoes segue {@code @Order}.
+ */
+public interface SyncSnapshotContributor {
+
+    void writeTo(SyncSnapshotWriter writer);
+}
@@ -0,0 +1,137 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+import com.br.klaus.readium.sync.domain.port.SyncChangeLogRepositoryPort;
+import com.br.klaus.readium.sync.domain.port.SyncSnapshotStorePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Snapshot completo dos metadados da biblioteca para a primeira sincronizacao de um dispositivo.
+ * O documento e gerado uma vez por revisao do registro de alteracoes, gravado compactado em disco e
+ * reaproveitado ate a revisao avancar e o arquivo passar da idade maxima; o cliente continua pelos deltas
+ * a partir da revisao do snapshot.
+ */
+@Service
+@Slf4j
+public class SyncSnapshotService {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private final SyncChangeLogRepositoryPort changeLog;
+    private final SyncSnapshotStorePort store;
+    private final List<SyncSnapshotContributor> contributors;
+    private final TransactionTemplate readTransaction;
+    private final Duration maxAge;
+    private final ReentrantLock generationLock = new ReentrantLock();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public SyncSnapshotService(
+            SyncChangeLogRepositoryPort changeLog,
+            SyncSnapshotStorePort store,
+            List<SyncSnapshotContributor> contributors,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sync.snapshot.max-age-seconds:300}") long maxAgeSeconds
+    ) {
+        this.changeLog = changeLog;
+        this.store = store;
+        this.contributors = List.copyOf(contributors);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.maxAge = Duration.ofSeconds(Math.max(maxAgeSeconds, 0));
+    }
+
+    public SyncSnapshotFile current() {
+        Optional<SyncSnapshotFile> latest = store.findLatest(FORMAT_VERSION);
+        if (latest.isPresent() && isReusable(latest.get())) {
+            return latest.get();
+        }
+
+        generationLock.lock();
+        try {
+            latest = store.findLatest(FORMAT_VERSION);
+            if (latest.isPresent() && isReusable(latest.get())) {
+                return latest.get();
+            }
+            return generate();
+        } finally {
+            generationLock.unlock();
+        }
+    }
+
+    private boolean isReusable(SyncSnapshotFile snapshot) {
+        return snapshot.createdAt().plus(maxAge).isAfter(Instant.now())
+                || snapshot.revision() >= changeLog.headRevision();
+    }
+
+    private SyncSnapshotFile generate() {
+        long startedAt = System.nanoTime();
+        SyncSnapshotFile snapshot = readTransaction.execute(status -> {
+            long revision = changeLog.headRevision();
+            return store.store(FORMAT_VERSION, revision, output -> writeDocument(revision, output));
+        });
+        log.info(
+                "Snapshot de sincronizacao gerado na revisao {} ({} bytes) em {} ms.",
+                snapshot.revision(),
+                snapshot.sizeBytes(),
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis()
+        );
+        return snapshot;
+    }
+
+    private void writeDocument(long revision, OutputStream output) throws IOException {
+        RecordWriter writer = new RecordWriter(output);
+        try {
+            writer.write("SNAPSHOT", new SnapshotHeader(FORMAT_VERSION, revision, Instant.now().toString()));
+            for (SyncSnapshotContributor contributor : contributors) {
+                contributor.writeTo(writer);
+            }
+            writer.write("END", new SnapshotTrailer(writer.records));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public record SnapshotHeader(int format, long revision, String generatedAt) {
+    }
+
+    public record SnapshotTrailer(long records) {
+    }
+
+    private record SnapshotRecord(String type, Object data) {
+    }
+
+    private final class RecordWriter implements SyncSnapshotWriter {
+
+        private final OutputStream output;
+        private long records;
+
+        private RecordWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(String type, Object data) {
+            try {
+                output.write(objectMapper.writeValueAsBytes(new SnapshotRecord(type, data)));
+                output.write('\n');
+                records++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.br.klaus.readium.sync.application;
+
+public interface SyncSnapshotWriter {
+
+    void write(String type, Object data);
+}
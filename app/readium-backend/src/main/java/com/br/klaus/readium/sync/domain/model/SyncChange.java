@@ -0,0 +1,9 @@
+package com.br.klaus.readium.sync.domain.model;
+
+public record SyncChange(long revision, String entityType, long entityId, Long bookId, Operation operation) {
+
+    public enum Operation {
+        UPSERT,
+        DELETE
+    }
+}
@@ -0,0 +1,7 @@
+package com.br.klaus.readium.sync.domain.model;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public record SyncSnapshotFile(int format, long revision, Path path, long sizeBytes, Instant createdAt) {
+}
@@ -0,0 +1,10 @@
+package com.br.klaus.readium.sync.domain.port;
+
+import java.util.Map;
+
+public interface LibraryRevisionRepositoryPort {
+
+    long increment(String aggregate);
+
+    Map<String, Long> findAll();
+}
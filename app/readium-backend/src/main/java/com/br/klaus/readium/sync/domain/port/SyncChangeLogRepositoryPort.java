@@ -0,0 +1,21 @@
+package com.br.klaus.readium.sync.domain.port;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SyncChangeLogRepositoryPort {
+
+    void append(String entityType, Collection<Long> entityIds, Long bookId, SyncChange.Operation operation);
+
+    List<SyncChange> findAfter(long revision, int limit);
+
+    long headRevision();
+
+    long purgedThrough();
+
+    int collapseSuperseded();
+
+    int purgeTombstonesOlderThanDays(long retentionDays);
+}
@@ -0,0 +1,20 @@
+package com.br.klaus.readium.sync.domain.port;
+
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public interface SyncSnapshotStorePort {
+
+    Optional<SyncSnapshotFile> findLatest(int format);
+
+    SyncSnapshotFile store(int format, long revision, SnapshotContent content);
+
+    @FunctionalInterface
+    interface SnapshotContent {
+
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
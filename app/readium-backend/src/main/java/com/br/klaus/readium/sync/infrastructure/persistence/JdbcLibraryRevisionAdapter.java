@@ -0,0 +1,45 @@
+package com.br.klaus.readium.sync.infrastructure.persistence;
+
+import com.br.klaus.readium.sync.domain.port.LibraryRevisionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcLibraryRevisionAdapter implements LibraryRevisionRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long increment(String aggregate) {
+        jdbcTemplate.update("""
+                INSERT INTO library_revision (aggregate, revision, updated_at)
+                VALUES (?, 1, CURRENT_TIMESTAMP)
+                ON CONFLICT (aggregate) DO UPDATE
+                SET revision = revision + 1,
+                    updated_at = CURRENT_TIMESTAMP
+                """, aggregate);
+        Long revision = jdbcTemplate.queryForObject(
+                "SELECT revision FROM library_revision WHERE aggregate = ?",
+                Long.class,
+                aggregate
+        );
+        return revision == null ? 0L : revision;
+    }
+
+    @Override
+    public Map<String, Long> findAll() {
+        Map<String, Long> revisions = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT aggregate, revision FROM library_revision",
+                rs -> {
+                    revisions.put(rs.getString("aggregate"), rs.getLong("revision"));
+                }
+        );
+        return revisions;
+    }
+}
@@ -0,0 +1,108 @@
+package com.br.klaus.readium.sync.infrastructure.persistence;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.br.klaus.readium.sync.domain.port.SyncChangeLogRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcSyncChangeLogAdapter implements SyncChangeLogRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(String entityType, Collection<Long> entityIds, Long bookId, SyncChange.Operation operation) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO sync_change_log (entity_type, entity_id, book_id, operation, changed_at)
+                VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+                """,
+                entityIds,
+                entityIds.size(),
+                (statement, entityId) -> {
+                    statement.setString(1, entityType);
+                    statement.setLong(2, entityId);
+                    statement.setObject(3, bookId);
+                    statement.setString(4, operation.name());
+                }
+        );
+    }
+
+    @Override
+    public List<SyncChange> findAfter(long revision, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, entity_type, entity_id, book_id, operation
+                FROM sync_change_log
+                WHERE id > ?
+                ORDER BY id
+                LIMIT ?
+                """, (rs, rowNum) -> {
+            long bookId = rs.getLong("book_id");
+            boolean withoutBook = rs.wasNull();
+            return new SyncChange(
+                    rs.getLong("id"),
+                    rs.getString("entity_type"),
+                    rs.getLong("entity_id"),
+                    withoutBook ? null : bookId,
+                    SyncChange.Operation.valueOf(rs.getString("operation"))
+            );
+        }, revision, limit);
+    }
+
+    @Override
+    public long headRevision() {
+        Long head = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM sync_change_log", Long.class);
+        return Math.max(head == null ? 0L : head, purgedThrough());
+    }
+
+    @Override
+    public long purgedThrough() {
+        Long purged = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(purged_through), 0) FROM sync_change_log_state",
+                Long.class
+        );
+        return purged == null ? 0L : purged;
+    }
+
+    @Override
+    public int collapseSuperseded() {
+        return jdbcTemplate.update("""
+                DELETE FROM sync_change_log
+                WHERE id NOT IN (
+                    SELECT MAX(id)
+                    FROM sync_change_log
+                    GROUP BY entity_type, entity_id
+                )
+                """);
+    }
+
+    @Override
+    public int purgeTombstonesOlderThanDays(long retentionDays) {
+        Long purgedThrough = jdbcTemplate.queryForObject("""
+                SELECT MAX(id)
+                FROM sync_change_log
+                WHERE operation = 'DELETE'
+                  AND changed_at < datetime('now', '-' || ? || ' days')
+                """, Long.class, retentionDays);
+        if (purgedThrough == null) {
+            return 0;
+        }
+        jdbcTemplate.update("""
+                UPDATE sync_change_log_state
+                SET purged_through = MAX(purged_through, ?)
+                WHERE id = 1
+                """, purgedThrough);
+        return jdbcTemplate.update(
+                "DELETE FROM sync_change_log WHERE operation = 'DELETE' AND id <= ?",
+                purgedThrough
+        );
+    }
+}
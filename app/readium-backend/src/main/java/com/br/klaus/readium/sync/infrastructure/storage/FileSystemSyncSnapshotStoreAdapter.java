@@ -0,0 +1,140 @@
+package com.br.klaus.readium.sync.infrastructure.storage;
+
+import com.br.klaus.readium.exception.StorageException;
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+import com.br.klaus.readium.sync.domain.port.SyncSnapshotStorePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@Slf4j
+public class FileSystemSyncSnapshotStoreAdapter implements SyncSnapshotStorePort {
+
+    private static final Pattern FILE_NAME = Pattern.compile("snapshot-v(\\d+)-r(\\d+)\\.ndjson\\.gz");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Duration supersededRetention;
+
+    public FileSystemSyncSnapshotStoreAdapter(
+            @Value("${app.storage.path:data/books}") String storagePath,
+            @Value("${app.sync.snapshot.superseded-retention-seconds:600}") long supersededRetentionSeconds
+    ) {
+        this.root = Paths.get(storagePath).resolve("sync-snapshots").normalize().toAbsolutePath();
+        this.supersededRetention = Duration.ofSeconds(Math.max(supersededRetentionSeconds, 0));
+    }
+
+    @Override
+    public Optional<SyncSnapshotFile> findLatest(int format) {
+        if (!Files.isDirectory(root)) {
+            return Optional.empty();
+        }
+        SyncSnapshotFile latest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, "snapshot-v" + format + "-r*.ndjson.gz")) {
+            for (Path file : files) {
+                SyncSnapshotFile candidate = describe(file);
+                if (candidate != null && (latest == null || candidate.revision() > latest.revision())) {
+                    latest = candidate;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao listar snapshots de sincronizacao em {}.", root, e);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    @Override
+    public SyncSnapshotFile store(int format, long revision, SnapshotContent content) {
+        Path file = root.resolve("snapshot-v" + format + "-r" + revision + ".ndjson.gz");
+        Path temporary = root.resolve(UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(root);
+            try (OutputStream output = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE),
+                    BUFFER_SIZE
+            )) {
+                content.writeTo(output);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteExpiredSuperseded(file);
+            SyncSnapshotFile stored = describe(file);
+            if (stored == null) {
+                throw new StorageException("Snapshot de sincronizacao nao encontrado apos gravacao: " + file);
+            }
+            return stored;
+        } catch (IOException e) {
+            throw new StorageException("Falha ao gravar snapshot de sincronizacao em " + file, e);
+        } finally {
+            deleteQuietly(temporary);
+        }
+    }
+
+    private SyncSnapshotFile describe(Path file) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches() || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return new SyncSnapshotFile(
+                Integer.parseInt(matcher.group(1)),
+                Long.parseLong(matcher.group(2)),
+                file,
+                Files.size(file),
+                Files.getLastModifiedTime(file).toInstant()
+        );
+    }
+
+    /**
+     * Um snapshot substituido continua em disco por {@code superseded-retention-seconds}, contados a partir
+     * da gravacao do snapshot seguinte, para que downloads iniciados antes da troca terminem de ler o arquivo.
+     */
+    private void deleteExpiredSuperseded(Path keep) throws IOException {
+        List<SyncSnapshotFile> snapshots = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root)) {
+            for (Path file : files) {
+                SyncSnapshotFile snapshot = describe(file);
+                if (snapshot != null) {
+                    snapshots.add(snapshot);
+                }
+            }
+        }
+        snapshots.sort(Comparator.comparing(SyncSnapshotFile::createdAt).thenComparingLong(SyncSnapshotFile::revision));
+
+        Instant expiredBefore = Instant.now().minus(supersededRetention);
+        for (int index = 0; index < snapshots.size() - 1; index++) {
+            SyncSnapshotFile snapshot = snapshots.get(index);
+            Instant supersededAt = snapshots.get(index + 1).createdAt();
+            if (!snapshot.path().equals(keep) && !supersededAt.isAfter(expiredBefore)) {
+                deleteQuietly(snapshot.path());
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Nao foi possivel remover {}.", file, e);
+        }
+    }
+}
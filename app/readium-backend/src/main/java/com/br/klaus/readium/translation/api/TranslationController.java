@@ -6,11 +6,14 @@ import com.br.klaus.readium.translation.api.dto.AutoTranslationRequestDTO;
 import com.br.klaus.readium.translation.api.dto.AutoTranslationResponseDTO;
 import com.br.klaus.readium.translation.api.dto.TranslationRequestDTO;
 import com.br.klaus.readium.translation.api.dto.TranslationResponseDTO;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +24,7 @@ public class TranslationController {
 
     private final TranslationCommandService commandService;
     private final TranslationQueryService queryService;
+    private final LibraryRevisionService revisions;
 
     @PostMapping("/translations")
     public ResponseEntity<TranslationResponseDTO> create(@RequestBody @Valid TranslationRequestDTO req) {
@@ -34,7 +38,10 @@ public class TranslationController {
     }
 
     @GetMapping("/books/{bookId}/translations")
-    public ResponseEntity<List<TranslationResponseDTO>> findByBook(@PathVariable Long bookId) {
+    public ResponseEntity<List<TranslationResponseDTO>> findByBook(@PathVariable Long bookId, WebRequest request) {
+        if (request.checkNotModified(revisions.etag(RevisionAggregate.TRANSLATIONS))) {
+            return null;
+        }
         return ResponseEntity.ok(queryService.findByBookId(bookId));
     }
 }
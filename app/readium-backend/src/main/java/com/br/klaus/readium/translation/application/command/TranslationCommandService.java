@@ -1,6 +1,8 @@
 package com.br.klaus.readium.translation.application.command;
 
 import com.br.klaus.readium.config.CacheNames;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.RevisionAggregate;
 import com.br.klaus.readium.translation.domain.model.Translation;
 import com.br.klaus.readium.translation.api.TranslationResponseMapper;
 import com.br.klaus.readium.translation.domain.port.TranslationRepositoryPort;
@@ -19,6 +21,7 @@ import java.util.Optional;
 public class TranslationCommandService {
 
     private final TranslationRepositoryPort repository;
+    private final LibraryRevisionService revisions;
 
     @Transactional
     @Caching(evict = {
@@ -44,6 +47,7 @@ public class TranslationCommandService {
         }
 
         repository.save(translation);
+        revisions.bump(RevisionAggregate.TRANSLATIONS);
         return TranslationResponseMapper.toResponse(translation);
     }
 
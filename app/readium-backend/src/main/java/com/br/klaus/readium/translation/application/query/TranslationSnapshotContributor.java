@@ -0,0 +1,35 @@
+package com.br.klaus.readium.translation.application.query;
+
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotWriter;
+import com.br.klaus.readium.translation.api.TranslationResponseMapper;
+import com.br.klaus.readium.translation.domain.model.Translation;
+import com.br.klaus.readium.translation.domain.port.TranslationRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(50)
+@RequiredArgsConstructor
+public class TranslationSnapshotContributor implements SyncSnapshotContributor {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TranslationRepositoryPort repository;
+
+    @Override
+    public void writeTo(SyncSnapshotWriter writer) {
+        long afterId = 0;
+        List<Translation> batch;
+        do {
+            batch = repository.findAfterId(afterId, BATCH_SIZE);
+            for (Translation translation : batch) {
+                writer.write("TRANSLATION", TranslationResponseMapper.toResponse(translation));
+                afterId = translation.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
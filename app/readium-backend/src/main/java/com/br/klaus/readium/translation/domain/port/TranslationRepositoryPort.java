@@ -16,4 +16,6 @@ public interface TranslationRepositoryPort {
     Optional<Translation> findByBookIdIsNullAndOriginalText(String originalText);
 
     Translation save(Translation translation);
+
+    List<Translation> findAfterId(long afterId, int limit);
 }
@@ -2,7 +2,10 @@ package com.br.klaus.readium.translation.infrastructure.persistence;
 
 import com.br.klaus.readium.translation.domain.model.Translation;
 import com.br.klaus.readium.translation.domain.port.TranslationRepositoryPort;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.application.SyncEntityType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -13,6 +16,7 @@ import java.util.Optional;
 public class JpaTranslationRepositoryAdapter implements TranslationRepositoryPort {
 
     private final TranslationJpaRepository repository;
+    private final SyncChangeLogService changeLog;
 
     @Override
     public List<Translation> findByBookId(Long bookId) {
@@ -36,6 +40,13 @@ public class JpaTranslationRepositoryAdapter implements TranslationRepositoryPor
 
     @Override
     public Translation save(Translation translation) {
-        return repository.save(translation);
+        Translation saved = repository.save(translation);
+        changeLog.recordUpsert(SyncEntityType.TRANSLATION, saved.getId(), saved.getBookId());
+        return saved;
+    }
+
+    @Override
+    public List<Translation> findAfterId(long afterId, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, Math.max(limit, 1)));
     }
 }
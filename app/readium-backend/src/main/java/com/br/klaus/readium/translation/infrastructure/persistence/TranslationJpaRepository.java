@@ -1,6 +1,7 @@
 package com.br.klaus.readium.translation.infrastructure.persistence;
 
 import com.br.klaus.readium.translation.domain.model.Translation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,4 +16,6 @@ public interface TranslationJpaRepository extends JpaRepository<Translation, Lon
     Optional<Translation> findByBookIdAndOriginalText(Long bookId, String originalText);
 
     Optional<Translation> findByBookIdIsNullAndOriginalText(String originalText);
+
+    List<Translation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
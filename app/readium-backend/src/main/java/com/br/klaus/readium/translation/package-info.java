@@ -1,7 +1,8 @@
 @org.springframework.modulith.ApplicationModule(
         displayName = "Translations",
         allowedDependencies = {
-                "exception"
+                "exception",
+                "sync::api"
         }
 )
 package com.br.klaus.readium.translation;
@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+final class SqliteMigrationSupport {
+
+    private SqliteMigrationSupport() {
+    }
+
+    static boolean tableExists(Context context, String table) throws Exception {
+        try (PreparedStatement statement = context.getConnection().prepareStatement(
+                "SELECT COUNT(1) FROM sqlite_master WHERE type = 'table' AND name = ?"
+        )) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    static boolean columnExists(Context context, String table, String column) throws Exception {
+        try (PreparedStatement statement = context.getConnection().prepareStatement(
+                "SELECT COUNT(1) FROM pragma_table_info(?) WHERE name = ?"
+        )) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    static void addColumnIfMissing(Context context, String table, String column, String definition) throws Exception {
+        if (!tableExists(context, table) || columnExists(context, table, column)) {
+            return;
+        }
+        execute(context, "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+    }
+
+    static void execute(Context context, String sql) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
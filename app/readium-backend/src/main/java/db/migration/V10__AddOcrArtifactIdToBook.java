@@ -0,0 +1,12 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V10__AddOcrArtifactIdToBook extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ocr_artifact_id", "BIGINT");
+    }
+}
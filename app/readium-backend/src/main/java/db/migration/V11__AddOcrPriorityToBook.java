@@ -0,0 +1,20 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V11__AddOcrPriorityToBook extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!SqliteMigrationSupport.tableExists(context, "book")) {
+            return;
+        }
+
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ocr_priority", "VARCHAR(16)");
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_ocr_backlog ON book (ocr_status, ocr_priority, ocr_score)"
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V12__AddOcrLeaseToBook extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!SqliteMigrationSupport.tableExists(context, "book")) {
+            return;
+        }
+
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ocr_lease_owner", "VARCHAR(128)");
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ocr_heartbeat_at", "TIMESTAMP");
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_ocr_lease ON book (ocr_status, ocr_heartbeat_at)"
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V13__AddIngestLeaseToBook extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!SqliteMigrationSupport.tableExists(context, "book")) {
+            return;
+        }
+
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ingest_status", "VARCHAR(16)");
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ingest_lease_owner", "VARCHAR(128)");
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "ingest_lease_expires_at", "TIMESTAMP");
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_ingest_queue ON book (ingest_status, ingest_lease_expires_at)"
+        );
+    }
+}
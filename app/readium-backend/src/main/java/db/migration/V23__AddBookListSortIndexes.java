@@ -0,0 +1,54 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Indices de cobertura das ordenacoes da estante (ultima leitura, progresso e paginas restantes). Sao
+ * indices sobre expressoes, que o mapeamento JPA nao declara; cada expressao repete a chave usada por
+ * {@code JdbcBookListReadAdapter}. Tambem preenche {@code last_read_at} a partir do historico de progresso.
+ */
+public class V23__AddBookListSortIndexes extends BaseJavaMigration {
+
+    private static final String LIST_COLUMNS =
+            "id, title, author, pages, last_read_page, book_format, book_status, has_cover";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!SqliteMigrationSupport.tableExists(context, "book")) {
+            return;
+        }
+
+        SqliteMigrationSupport.addColumnIfMissing(context, "book", "last_read_at", "TIMESTAMP");
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_recent_read ON book "
+                        + "((COALESCE(last_read_at, 0)), " + LIST_COLUMNS + ", last_read_at)"
+        );
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_progress ON book "
+                        + "(((CASE WHEN pages > 0 THEN COALESCE(last_read_page, 0) * 1.0 / pages ELSE 0 END)), "
+                        + LIST_COLUMNS + ")"
+        );
+        SqliteMigrationSupport.execute(
+                context,
+                "CREATE INDEX IF NOT EXISTS idx_book_remaining_pages ON book "
+                        + "(((CASE WHEN pages > 0 THEN MAX(pages - COALESCE(last_read_page, 0), 0) ELSE 2147483647 END)), "
+                        + LIST_COLUMNS + ")"
+        );
+
+        if (SqliteMigrationSupport.tableExists(context, "reading_progress_event")) {
+            SqliteMigrationSupport.execute(context, """
+                    UPDATE book
+                    SET last_read_at = (
+                        SELECT MAX(e.occurred_at)
+                        FROM reading_progress_event e
+                        WHERE e.book_id = book.id
+                    )
+                    WHERE last_read_at IS NULL
+                      AND EXISTS (SELECT 1 FROM reading_progress_event e WHERE e.book_id = book.id)
+                    """);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+CREATE VIRTUAL TABLE IF NOT EXISTS book_page_fts USING fts5(
+    content,
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+CREATE TABLE IF NOT EXISTS book_content_index (
+    book_id BIGINT PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    source_path VARCHAR(1024),
+    pages_indexed INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_content_index_status ON book_content_index (status);
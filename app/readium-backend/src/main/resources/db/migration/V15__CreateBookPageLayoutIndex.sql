@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS book_page_layout (
+    book_id BIGINT NOT NULL,
+    page INTEGER NOT NULL,
+    text TEXT NOT NULL,
+    glyph_boxes BLOB,
+    PRIMARY KEY (book_id, page)
+);
+
+CREATE TABLE IF NOT EXISTS book_page_layout_state (
+    book_id BIGINT PRIMARY KEY,
+    source_path VARCHAR(1024) NOT NULL,
+    pages_indexed INTEGER NOT NULL DEFAULT 0,
+    complete BOOLEAN NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,5 @@
+CREATE VIRTUAL TABLE IF NOT EXISTS book_search_fts USING fts5(
+    title,
+    author,
+    tokenize = 'trigram remove_diacritics 1'
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS book_text_signature (
+    book_id BIGINT PRIMARY KEY,
+    text_layer VARCHAR(64) NOT NULL,
+    shingle_count INTEGER NOT NULL,
+    minhash BLOB NOT NULL,
+    revision INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_text_signature_revision ON book_text_signature (revision);
@@ -0,0 +1,5 @@
+CREATE VIRTUAL TABLE IF NOT EXISTS annotation_fts USING fts5(
+    selected_text,
+    note,
+    tokenize = 'unicode61 remove_diacritics 2'
+);
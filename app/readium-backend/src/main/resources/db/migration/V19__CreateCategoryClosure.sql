@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON category_closure (descendant_id, depth);
+
+INSERT OR IGNORE INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE category_tree(ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0
+    FROM category
+    UNION ALL
+    SELECT ct.ancestor_id, c.id, ct.depth + 1
+    FROM category_tree ct
+    JOIN category c ON c.parent_id = ct.descendant_id
+    WHERE ct.depth < 64
+)
+SELECT ancestor_id, descendant_id, MIN(depth)
+FROM category_tree
+GROUP BY ancestor_id, descendant_id;
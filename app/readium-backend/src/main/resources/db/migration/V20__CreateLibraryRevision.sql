@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS library_revision (
+    aggregate VARCHAR(32) NOT NULL PRIMARY KEY,
+    revision BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
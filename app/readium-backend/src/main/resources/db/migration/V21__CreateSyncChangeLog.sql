@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS sync_change_log (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    entity_type VARCHAR(24) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    book_id BIGINT,
+    operation VARCHAR(8) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_change_log_entity ON sync_change_log (entity_type, entity_id);
+
+CREATE TABLE IF NOT EXISTS sync_change_log_state (
+    id INTEGER NOT NULL PRIMARY KEY CHECK (id = 1),
+    purged_through BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT OR IGNORE INTO sync_change_log_state (id, purged_through) VALUES (1, 0);
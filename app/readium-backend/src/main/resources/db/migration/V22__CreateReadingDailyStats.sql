@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS reading_daily_stats (
+    stat_date DATE NOT NULL PRIMARY KEY,
+    pages_read BIGINT NOT NULL DEFAULT 0,
+    books_touched BIGINT NOT NULL DEFAULT 0,
+    progress_updates BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS reading_daily_book (
+    stat_date DATE NOT NULL,
+    book_id BIGINT NOT NULL,
+    PRIMARY KEY (stat_date, book_id)
+) WITHOUT ROWID;
@@ -0,0 +1 @@
+ALTER TABLE book_content_index ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
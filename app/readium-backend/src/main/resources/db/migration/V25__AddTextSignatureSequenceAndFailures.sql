@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS book_text_signature_sequence (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    revision INTEGER NOT NULL
+);
+
+INSERT OR IGNORE INTO book_text_signature_sequence (id, revision)
+SELECT 1, COALESCE(MAX(revision), 0) FROM book_text_signature;
+
+CREATE TABLE IF NOT EXISTS book_text_signature_failure (
+    book_id BIGINT PRIMARY KEY,
+    attempts INTEGER NOT NULL,
+    failed_at TIMESTAMP NOT NULL
+);
+
+INSERT OR IGNORE INTO book_text_signature_failure (book_id, attempts, failed_at)
+SELECT book_id, 1, CURRENT_TIMESTAMP FROM book_text_signature WHERE shingle_count = 0;
+
+DELETE FROM book_text_signature WHERE shingle_count = 0;
@@ -0,0 +1,2 @@
+DROP INDEX IF EXISTS idx_book_status;
+DROP INDEX IF EXISTS idx_book_title;
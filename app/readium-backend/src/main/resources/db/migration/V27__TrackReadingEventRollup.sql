@@ -0,0 +1,11 @@
+ALTER TABLE reading_progress_event ADD COLUMN rolled_up BOOLEAN NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_reading_progress_event_pending_rollup
+    ON reading_progress_event (event_date)
+    WHERE rolled_up = 0;
+
+DELETE FROM reading_daily_book
+WHERE stat_date IN (SELECT event_date FROM reading_progress_event);
+
+DELETE FROM reading_daily_stats
+WHERE stat_date IN (SELECT event_date FROM reading_progress_event);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS ocr_artifact (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    file_hash VARCHAR(64) NOT NULL,
+    engine VARCHAR(32) NOT NULL,
+    languages VARCHAR(120) NOT NULL,
+    engine_version VARCHAR(64) NOT NULL,
+    artifact_path VARCHAR(1024),
+    score DOUBLE,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_used_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_ocr_artifact_key UNIQUE (file_hash, engine, languages, engine_version)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ocr_artifact_unreferenced ON ocr_artifact (ref_count, last_used_at);
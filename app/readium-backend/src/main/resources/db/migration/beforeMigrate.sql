@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS book (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    version BIGINT,
+    title VARCHAR(255),
+    author VARCHAR(255),
+    pages INTEGER,
+    last_read_page INTEGER,
+    last_read_at TIMESTAMP,
+    cover_path VARCHAR(255),
+    has_cover BOOLEAN NOT NULL DEFAULT 0,
+    file_path VARCHAR(255),
+    file_hash VARCHAR(64),
+    ocr_file_path VARCHAR(255),
+    ocr_artifact_id BIGINT,
+    book_format VARCHAR(255),
+    book_status VARCHAR(255),
+    ocr_status VARCHAR(255),
+    ocr_priority VARCHAR(16),
+    ocr_score DOUBLE,
+    ocr_updated_at TIMESTAMP,
+    ocr_lease_owner VARCHAR(128),
+    ocr_heartbeat_at TIMESTAMP,
+    ingest_status VARCHAR(16),
+    ingest_lease_owner VARCHAR(128),
+    ingest_lease_expires_at TIMESTAMP
+);
@@ -0,0 +1,184 @@
+package com.br.klaus.readium.autocomplete.application;
+
+import com.br.klaus.readium.autocomplete.domain.model.Suggestion;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionType;
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.book.api.BookInsightsDataService;
+import com.br.klaus.readium.category.api.CategoryCatalogEntry;
+import com.br.klaus.readium.category.api.CategoryCatalogService;
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogEntry;
+import com.br.klaus.readium.collection.api.ReadingCollectionCatalogService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AutocompleteServiceTests {
+
+    private final FakeBooks books = new FakeBooks();
+    private final FakeCategories categories = new FakeCategories();
+    private final FakeCollections collections = new FakeCollections();
+    private final AutocompleteService service = new AutocompleteService(books, categories, collections);
+
+    @Test
+    void shouldFindLessPopularTypeWhenOthersDominatePrefix() {
+        for (long id = 1; id <= 20; id++) {
+            books.put(book(id, "Ficcao volume " + id, "Autor " + id, "READING"));
+        }
+        categories.put(new CategoryCatalogEntry(100L, "Ficcao cientifica", 0));
+        collections.put(new ReadingCollectionCatalogEntry(200L, "Ficcao para ferias", 0));
+        service.rebuildAll();
+
+        assertEquals(List.of("Ficcao cientifica"), labels(service.suggest("fic", 1, EnumSet.of(SuggestionType.CATEGORY))));
+        assertEquals(
+                List.of("Ficcao cientifica", "Ficcao para ferias"),
+                labels(service.suggest("fic", 5, EnumSet.of(SuggestionType.CATEGORY, SuggestionType.COLLECTION)))
+        );
+        assertEquals(3, service.suggest("fic", 3, EnumSet.of(SuggestionType.BOOK)).size());
+    }
+
+    @Test
+    void shouldFilterPendingChangesByType() {
+        service.rebuildAll();
+        books.put(book(1L, "Duna", "Frank Herbert", "TO_READ"));
+        categories.put(new CategoryCatalogEntry(10L, "Distopia", 3));
+        service.refreshBook(1L);
+        service.refreshCategories(List.of(10L));
+
+        assertEquals(List.of("Distopia", "Duna"), labels(service.suggest("d", 5, EnumSet.allOf(SuggestionType.class))));
+        assertEquals(List.of("Duna"), labels(service.suggest("d", 5, EnumSet.of(SuggestionType.BOOK))));
+
+        assertEquals(3, service.compact());
+        assertEquals(List.of("Duna"), labels(service.suggest("d", 5, EnumSet.of(SuggestionType.BOOK))));
+        assertEquals(0, service.compact());
+    }
+
+    @Test
+    void shouldKeepUpdatesMadeWhileRebuildIsLoading() {
+        books.put(book(1L, "Titulo antigo", "Autora", "TO_READ"));
+        books.put(book(2L, "Livro removido", "Autora", "TO_READ"));
+        categories.put(new CategoryCatalogEntry(10L, "Categoria antiga", 1));
+        service.rebuildAll();
+
+        books.duringLoad = () -> {
+            Map<Long, BookInsightSnapshot> stale = new TreeMap<>(books.byId);
+            books.put(book(1L, "Titulo novo", "Autora", "TO_READ"));
+            service.refreshBook(1L);
+            books.byId.remove(2L);
+            service.removeBook(2L);
+            categories.put(new CategoryCatalogEntry(10L, "Categoria nova", 1));
+            service.refreshCategories(List.of(10L));
+            return new ArrayList<>(stale.values());
+        };
+        categories.duringLoad = () -> List.of(new CategoryCatalogEntry(10L, "Categoria antiga", 1));
+        service.rebuildAll();
+
+        assertEquals(List.of("Titulo novo"), labels(service.suggest("titulo", 5, EnumSet.allOf(SuggestionType.class))));
+        assertEquals(List.of(), labels(service.suggest("livro rem", 5, EnumSet.allOf(SuggestionType.class))));
+        assertEquals(List.of("Categoria nova"), labels(service.suggest("categoria", 5, EnumSet.allOf(SuggestionType.class))));
+        assertEquals(List.of("Autora"), labels(service.suggest("autora", 5, EnumSet.of(SuggestionType.AUTHOR))));
+        assertEquals(1.0, service.suggest("autora", 1, EnumSet.of(SuggestionType.AUTHOR)).get(0).popularity(), 1e-9);
+    }
+
+    @Test
+    void shouldRankByActivityAndDropBooksWithoutReplacingIndex() {
+        books.put(book(1L, "Historia do Brasil", "A", "TO_READ"));
+        books.put(book(2L, "Historia da Arte", "B", "TO_READ"));
+        service.rebuildAll();
+
+        service.recordBookActivity(2L);
+        service.recordBookActivity(2L);
+        assertEquals(
+                List.of("Historia da Arte", "Historia do Brasil"),
+                labels(service.suggest("hist", 5, EnumSet.of(SuggestionType.BOOK)))
+        );
+        assertEquals(0, service.compact());
+
+        service.removeBook(2L);
+        assertEquals(List.of("Historia do Brasil"), labels(service.suggest("hist", 5, EnumSet.of(SuggestionType.BOOK))));
+    }
+
+    private static BookInsightSnapshot book(Long id, String title, String author, String status) {
+        return new BookInsightSnapshot(id, title, author, 100, 0, "PDF", status, null, "DONE");
+    }
+
+    private static List<String> labels(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::label).toList();
+    }
+
+    private interface Loader<T> {
+        List<T> load();
+    }
+
+    private static final class FakeBooks implements BookInsightsDataService {
+
+        private final Map<Long, BookInsightSnapshot> byId = new TreeMap<>();
+        private Loader<BookInsightSnapshot> duringLoad;
+
+        private void put(BookInsightSnapshot book) {
+            byId.put(book.id(), book);
+        }
+
+        @Override
+        public List<BookInsightSnapshot> findAllSnapshots() {
+            return duringLoad != null ? duringLoad.load() : new ArrayList<>(byId.values());
+        }
+
+        @Override
+        public List<BookInsightSnapshot> findSnapshots(Collection<Long> bookIds) {
+            return bookIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public Optional<BookInsightSnapshot> findSnapshot(Long bookId) {
+            return Optional.ofNullable(byId.get(bookId));
+        }
+    }
+
+    private static final class FakeCategories implements CategoryCatalogService {
+
+        private final Map<Long, CategoryCatalogEntry> byId = new TreeMap<>();
+        private Loader<CategoryCatalogEntry> duringLoad;
+
+        private void put(CategoryCatalogEntry category) {
+            byId.put(category.id(), category);
+        }
+
+        @Override
+        public List<CategoryCatalogEntry> findAllEntries() {
+            return duringLoad != null ? duringLoad.load() : new ArrayList<>(byId.values());
+        }
+
+        @Override
+        public List<CategoryCatalogEntry> findEntries(Collection<Long> categoryIds) {
+            return categoryIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+    }
+
+    private static final class FakeCollections implements ReadingCollectionCatalogService {
+
+        private final Map<Long, ReadingCollectionCatalogEntry> byId = new TreeMap<>();
+
+        private void put(ReadingCollectionCatalogEntry collection) {
+            byId.put(collection.id(), collection);
+        }
+
+        @Override
+        public List<ReadingCollectionCatalogEntry> findAllEntries() {
+            return new ArrayList<>(byId.values());
+        }
+
+        @Override
+        public List<ReadingCollectionCatalogEntry> findEntries(Collection<Long> collectionIds) {
+            return collectionIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.br.klaus.readium.autocomplete.domain.service;
+
+import com.br.klaus.readium.autocomplete.domain.model.Suggestion;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionKey;
+import com.br.klaus.readium.autocomplete.domain.model.SuggestionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixSuggestionIndexTests {
+
+    private static Suggestion book(long id, String title, double popularity) {
+        return new Suggestion(SuggestionKey.of(SuggestionType.BOOK, id), id, title, popularity);
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+
+    @Test
+    void shouldMatchWordPrefixesIgnoringAccentsAndRankByPopularity() {
+        PrefixSuggestionIndex index = PrefixSuggestionIndex.build(List.of(
+                book(1, "Memórias Póstumas de Brás Cubas", 2),
+                book(2, "Dom Casmurro", 5),
+                book(3, "Memorial de Aires", 9)
+        ));
+
+        assertEquals(List.of(3L, 1L), ids(index.search("mem", 10, key -> false)));
+        assertEquals(List.of(1L), ids(index.search("bras c", 10, key -> false)));
+        assertEquals(List.of(2L), ids(index.search("casm", 10, key -> false)));
+        assertTrue(index.search("urro", 10, key -> false).isEmpty());
+    }
+
+    @Test
+    void shouldApplyPopularityUpdatesAndRemovalsWithoutRebuilding() {
+        PrefixSuggestionIndex index = PrefixSuggestionIndex.build(List.of(
+                book(1, "O Cortiço", 1),
+                book(2, "O Corvo", 2)
+        ));
+
+        index.updatePopularity(SuggestionKey.of(SuggestionType.BOOK, 1L), 10);
+        assertEquals(List.of(1L, 2L), ids(index.search("cor", 10, key -> false)));
+
+        index.remove(SuggestionKey.of(SuggestionType.BOOK, 1L));
+        assertEquals(List.of(2L), ids(index.search("cor", 10, key -> false)));
+    }
+
+    @Test
+    void shouldReturnEachEntryOnceAndHonourExclusions() {
+        PrefixSuggestionIndex index = PrefixSuggestionIndex.build(List.of(
+                book(1, "Casa casa casa", 1),
+                book(2, "Casa Grande", 3)
+        ));
+
+        assertEquals(List.of(2L, 1L), ids(index.search("casa", 10, key -> false)));
+        assertEquals(List.of(1L), ids(index.search("casa", 10, key -> key.ref().equals("2"))));
+    }
+}
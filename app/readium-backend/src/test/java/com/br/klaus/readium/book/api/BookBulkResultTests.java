@@ -0,0 +1,54 @@
+package com.br.klaus.readium.book.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookBulkResultTests {
+
+    @Test
+    void shouldReportOutcomePerBookInRequestOrder() {
+        BookBulkResult result = BookBulkResult.of(
+                "op-1",
+                List.of(3L, 1L, 2L),
+                Set.of(1L, 3L),
+                Set.of(3L),
+                BookBulkResult.Outcome.UPDATED
+        );
+
+        assertEquals(3, result.requested());
+        assertEquals(1, result.changed());
+        assertEquals(List.of(
+                new BookBulkResult.Item(3L, BookBulkResult.Outcome.UPDATED),
+                new BookBulkResult.Item(1L, BookBulkResult.Outcome.UNCHANGED),
+                new BookBulkResult.Item(2L, BookBulkResult.Outcome.NOT_FOUND)
+        ), result.items());
+    }
+
+    @Test
+    void shouldReturnEmptyItemsForReplayedOperation() {
+        BookBulkResult result = BookBulkResult.replayed("op-1");
+
+        assertTrue(result.replayed());
+        assertTrue(result.items().isEmpty());
+    }
+
+    @Test
+    void shouldDeduplicateAndDropInvalidIds() {
+        assertEquals(List.of(5L, 2L), BookBulkIds.normalize(Arrays.asList(5L, null, 2L, -1L, 5L)));
+    }
+
+    @Test
+    void shouldRejectEmptyOrOversizedBatches() {
+        assertThrows(IllegalArgumentException.class, () -> BookBulkIds.normalize(List.of(0L)));
+        List<Long> tooMany = LongStream.rangeClosed(1, BookBulkIds.MAX_BOOKS + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class, () -> BookBulkIds.normalize(tooMany));
+    }
+}
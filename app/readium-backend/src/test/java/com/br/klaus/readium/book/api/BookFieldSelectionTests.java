@@ -0,0 +1,41 @@
+package com.br.klaus.readium.book.api;
+
+import com.br.klaus.readium.book.api.dto.BookResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookFieldSelectionTests {
+
+    private static final BookResponseDTO BOOK = new BookResponseDTO(
+            7L, "Dom Casmurro", "Machado de Assis", 256, 12, "PDF", "READING", "/api/books/7/cover"
+    );
+
+    @Test
+    void shouldKeepOnlyRequestedFieldsInCanonicalOrder() {
+        BookFieldSelection selection = BookFieldSelection.parse(" coverUrl, id ,title,");
+
+        Map<String, Object> sparse = selection.apply(BOOK);
+
+        assertFalse(selection.isAll());
+        assertEquals(List.of("id", "title", "coverUrl"), List.copyOf(sparse.keySet()));
+        assertEquals(7L, sparse.get("id"));
+    }
+
+    @Test
+    void shouldSelectEverythingWhenFieldsAreMissing() {
+        assertTrue(BookFieldSelection.parse(null).isAll());
+        assertTrue(BookFieldSelection.parse("  ").isAll());
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        assertThrows(IllegalArgumentException.class, () -> BookFieldSelection.parse("id,ocrDetails"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.br.klaus.readium.book.application.command;
+
+import com.br.klaus.readium.book.api.BookBulkResult;
+import com.br.klaus.readium.book.api.dto.BulkBookDeleteRequestDTO;
+import com.br.klaus.readium.book.api.dto.BulkBookStatusRequestDTO;
+import com.br.klaus.readium.book.application.support.BookResourceReleaseService;
+import com.br.klaus.readium.book.application.support.InMemoryBookRepository;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.events.BooksDeletedEvent;
+import com.br.klaus.readium.sync.application.OperationIdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookBulkCommandServiceTests {
+
+    private final List<Collection<Long>> statusUpdates = new ArrayList<>();
+    private final List<List<Long>> releasedBatches = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+
+    private InMemoryBookRepository repository;
+    private BookBulkCommandService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBookRepository() {
+            @Override
+            public int updateStatus(Collection<Long> ids, Book.BookStatus status) {
+                statusUpdates.add(Set.copyOf(ids));
+                return super.updateStatus(ids, status);
+            }
+        };
+        BookResourceReleaseService releaseService = new BookResourceReleaseService(null, null, null, null, null) {
+            @Override
+            public void releaseAll(Collection<Book> books) {
+                releasedBatches.add(books.stream().map(Book::getId).toList());
+            }
+        };
+        service = new BookBulkCommandService(
+                repository,
+                releaseService,
+                new OperationIdempotencyService(null),
+                events::add
+        );
+    }
+
+    @Test
+    void shouldDeleteExistingBooksWithOneReleaseAndOneEvent() {
+        long first = book(Book.BookStatus.TO_READ);
+        long second = book(Book.BookStatus.READ);
+        long kept = book(Book.BookStatus.READING);
+
+        BookBulkResult result = service.delete(new BulkBookDeleteRequestDTO(List.of(first, 999L, second)), null);
+
+        assertEquals(2, result.changed());
+        assertEquals(
+                List.of(BookBulkResult.Outcome.DELETED, BookBulkResult.Outcome.NOT_FOUND, BookBulkResult.Outcome.DELETED),
+                result.items().stream().map(BookBulkResult.Item::outcome).toList()
+        );
+        assertEquals(1, releasedBatches.size());
+        assertEquals(Set.of(first, second), new HashSet<>(releasedBatches.get(0)));
+        assertEquals(1, events.size());
+        assertEquals(Set.of(first, second), new HashSet<>(((BooksDeletedEvent) events.get(0)).ids()));
+        assertEquals(List.of(kept), repository.findAll().stream().map(Book::getId).toList());
+    }
+
+    @Test
+    void shouldNotReleaseOrPublishWhenNoBookExists() {
+        BookBulkResult result = service.delete(new BulkBookDeleteRequestDTO(List.of(7L, 8L)), null);
+
+        assertEquals(0, result.changed());
+        assertTrue(releasedBatches.isEmpty());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void shouldUpdateOnlyBooksWhoseStatusChanges() {
+        long toRead = book(Book.BookStatus.TO_READ);
+        long alreadyRead = book(Book.BookStatus.READ);
+        long reading = book(Book.BookStatus.READING);
+
+        BookBulkResult result = service.changeStatus(
+                new BulkBookStatusRequestDTO(List.of(toRead, alreadyRead, reading, 999L), "READ"),
+                null
+        );
+
+        assertEquals(List.of(Set.of(toRead, reading)), statusUpdates);
+        assertEquals(2, result.changed());
+        assertEquals(
+                List.of(
+                        BookBulkResult.Outcome.UPDATED,
+                        BookBulkResult.Outcome.UNCHANGED,
+                        BookBulkResult.Outcome.UPDATED,
+                        BookBulkResult.Outcome.NOT_FOUND
+                ),
+                result.items().stream().map(BookBulkResult.Item::outcome).toList()
+        );
+        assertTrue(repository.findAll().stream().allMatch(book -> book.getBookStatus() == Book.BookStatus.READ));
+    }
+
+    private long book(Book.BookStatus status) {
+        Book book = Book.create("Livro", "livro.pdf", "livro.pdf");
+        book.setBookStatus(status);
+        return repository.save(book).getId();
+    }
+}
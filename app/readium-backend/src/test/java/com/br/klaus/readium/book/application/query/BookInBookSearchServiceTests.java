@@ -0,0 +1,232 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.BookTextStoreService;
+import com.br.klaus.readium.book.application.support.InMemoryBookRepository;
+import com.br.klaus.readium.book.application.support.InMemoryBookTextStore;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookTextMatch;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import com.br.klaus.readium.book.domain.model.PageLayoutIndexState;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutIndexPort;
+import com.br.klaus.readium.book.domain.port.BookPageLayoutPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookInBookSearchServiceTests {
+
+    private static final List<String> PAGES = List.of("um livro aqui", "nada", "outro livro", "livro final");
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final InMemoryLayoutIndex layoutIndex = new InMemoryLayoutIndex();
+    private final ScriptedLayouts layouts = new ScriptedLayouts();
+    private final InMemoryBookTextStore textStore = new InMemoryBookTextStore();
+    private final List<Runnable> queuedBuilds = new ArrayList<>();
+    private Executor executor = queuedBuilds::add;
+    private int extractions;
+    private final BookInBookSearchService service = newService();
+
+    @Test
+    void shouldAnswerFromTextStoreWhileLayoutIndexIsBuiltInBackground() {
+        Book book = book();
+
+        List<BookTextMatch> first = search(book);
+
+        assertEquals(List.of(1, 3, 4), pages(first));
+        assertTrue(first.stream().allMatch(match -> match.rects().isEmpty()));
+        assertEquals(0, layouts.extractedPages);
+        assertEquals(1, queuedBuilds.size());
+
+        runQueuedBuilds();
+        List<BookTextMatch> indexed = search(book);
+
+        assertEquals(List.of(1, 3, 4), pages(indexed));
+        assertTrue(indexed.stream().noneMatch(match -> match.rects().isEmpty()));
+        assertTrue(queuedBuilds.isEmpty());
+        assertEquals(1, extractions);
+    }
+
+    @Test
+    void shouldScheduleOneBuildPerBookAndAllowAnotherAfterItEnds() {
+        Book book = book();
+        layouts.stopAfter = 2;
+
+        search(book);
+        search(book);
+        assertEquals(1, queuedBuilds.size());
+
+        runQueuedBuilds();
+        assertFalse(layoutIndex.findState(book.getId()).orElseThrow().complete());
+
+        List<BookTextMatch> partial = search(book);
+        assertEquals(List.of(1, 3, 4), pages(partial));
+        assertFalse(partial.get(0).rects().isEmpty());
+        assertTrue(partial.get(1).rects().isEmpty());
+        assertEquals(1, queuedBuilds.size());
+
+        layouts.stopAfter = Integer.MAX_VALUE;
+        runQueuedBuilds();
+        assertTrue(layoutIndex.findState(book.getId()).orElseThrow().complete());
+        assertEquals(List.of(1, 3), layouts.resumedFrom);
+    }
+
+    @Test
+    void shouldReleaseBookWhenBuildFails() {
+        Book book = book();
+        layouts.failure = new IllegalStateException("PDF corrompido");
+
+        search(book);
+        runQueuedBuilds();
+        assertFalse(layoutIndex.findState(book.getId()).orElseThrow().complete());
+
+        layouts.failure = null;
+        assertEquals(List.of(1, 3, 4), pages(search(book)));
+        assertEquals(1, queuedBuilds.size());
+        runQueuedBuilds();
+        assertTrue(layoutIndex.findState(book.getId()).orElseThrow().complete());
+    }
+
+    @Test
+    void shouldReleaseBookWhenBuildQueueIsFull() {
+        Book book = book();
+        executor = task -> {
+            throw new RejectedExecutionException("fila cheia");
+        };
+
+        assertEquals(List.of(1, 3, 4), pages(search(book)));
+
+        executor = queuedBuilds::add;
+        search(book);
+        assertEquals(1, queuedBuilds.size());
+    }
+
+    private Book book() {
+        Book book = new Book();
+        book.setTitle("Livro");
+        book.setFilePath("/livros/livro.pdf");
+        book.setFileHash("hash-livro");
+        return books.save(book);
+    }
+
+    private List<BookTextMatch> search(Book book) {
+        List<BookTextMatch> matches = new ArrayList<>();
+        service.stream(new BookInBookSearchService.InBookSearch(book, "livro", 50), matches::add);
+        return matches;
+    }
+
+    private BookInBookSearchService newService() {
+        BookInBookSearchService service = new BookInBookSearchService(
+                new BookLookupService(books),
+                layouts,
+                layoutIndex,
+                new BookTextStoreService(textStore, target -> {
+                    extractions++;
+                    return PAGES;
+                }, Runnable::run),
+                task -> executor.execute(task)
+        );
+        ReflectionTestUtils.setField(service, "maxHits", 500);
+        return service;
+    }
+
+    private void runQueuedBuilds() {
+        List<Runnable> builds = new ArrayList<>(queuedBuilds);
+        queuedBuilds.clear();
+        builds.forEach(Runnable::run);
+    }
+
+    private static List<Integer> pages(List<BookTextMatch> matches) {
+        return matches.stream().map(BookTextMatch::page).toList();
+    }
+
+    private static final class ScriptedLayouts implements BookPageLayoutPort {
+
+        private final List<Integer> resumedFrom = new ArrayList<>();
+        private int extractedPages;
+        private int stopAfter = Integer.MAX_VALUE;
+        private RuntimeException failure;
+
+        @Override
+        public boolean extractLayouts(Book book, int fromPage, Predicate<PageGlyphLayout> consumer) {
+            if (failure != null) {
+                throw failure;
+            }
+            resumedFrom.add(fromPage);
+            for (int page = fromPage; page <= PAGES.size(); page++) {
+                if (page > stopAfter) {
+                    return false;
+                }
+                String text = PAGES.get(page - 1);
+                float[] boxes = new float[text.length() * PageGlyphLayout.BOX_STRIDE];
+                Arrays.fill(boxes, 0.1f);
+                extractedPages++;
+                if (!consumer.test(new PageGlyphLayout(page, text, boxes))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class InMemoryLayoutIndex implements BookPageLayoutIndexPort {
+
+        private final Map<Long, PageLayoutIndexState> states = new HashMap<>();
+        private final Map<Long, TreeMap<Integer, PageGlyphLayout>> pages = new HashMap<>();
+
+        @Override
+        public Optional<PageLayoutIndexState> findState(Long bookId) {
+            return Optional.ofNullable(states.get(bookId));
+        }
+
+        @Override
+        public void reset(Long bookId, String sourcePath) {
+            states.put(bookId, new PageLayoutIndexState(sourcePath, 0, false));
+            pages.put(bookId, new TreeMap<>());
+        }
+
+        @Override
+        public void savePage(Long bookId, PageGlyphLayout layout) {
+            pages.get(bookId).put(layout.page(), layout);
+            PageLayoutIndexState state = states.get(bookId);
+            states.put(bookId, new PageLayoutIndexState(state.sourcePath(), layout.page(), false));
+        }
+
+        @Override
+        public void markComplete(Long bookId) {
+            PageLayoutIndexState state = states.get(bookId);
+            states.put(bookId, new PageLayoutIndexState(state.sourcePath(), state.pagesIndexed(), true));
+        }
+
+        @Override
+        public List<PageGlyphLayout> findPages(Long bookId, int fromPage, int limit) {
+            return pages.getOrDefault(bookId, new TreeMap<>()).tailMap(fromPage).values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public void removeBook(Long bookId) {
+            states.remove(bookId);
+            pages.remove(bookId);
+        }
+
+        @Override
+        public void removeBooks(Collection<Long> bookIds) {
+            bookIds.forEach(this::removeBook);
+        }
+    }
+}
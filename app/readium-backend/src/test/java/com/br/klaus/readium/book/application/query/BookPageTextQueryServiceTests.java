@@ -0,0 +1,42 @@
+package com.br.klaus.readium.book.application.query;
+
+import com.br.klaus.readium.book.application.support.BookLookupService;
+import com.br.klaus.readium.book.application.support.BookTextStoreService;
+import com.br.klaus.readium.book.application.support.InMemoryBookRepository;
+import com.br.klaus.readium.book.application.support.InMemoryBookTextStore;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookPageText;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookPageTextQueryServiceTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final BookPageTextQueryService service = new BookPageTextQueryService(
+            new BookLookupService(books),
+            new BookTextStoreService(new InMemoryBookTextStore(), book -> List.of("capa", "capitulo um"), queued::add)
+    );
+
+    @Test
+    void shouldAnswerOnlyAfterBackgroundExtraction() {
+        Long bookId = books.save(new Book()).getId();
+
+        assertTrue(service.getPageText(bookId, 2).isEmpty());
+        assertEquals(1, queued.size());
+
+        queued.remove(0).run();
+        Optional<BookPageText> text = service.getPageText(bookId, 2);
+
+        assertEquals(new BookPageText(bookId, 2, 2, "capitulo um"), text.orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> service.getPageText(bookId, 3));
+        assertTrue(queued.isEmpty());
+    }
+}
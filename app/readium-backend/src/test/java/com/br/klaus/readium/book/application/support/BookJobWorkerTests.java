@@ -0,0 +1,175 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookJobWorkerTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final OcrActivityTracker activityTracker = new OcrActivityTracker();
+    private final OcrWorkerIdentity identity = new OcrWorkerIdentity();
+    private final List<Runnable> ocrTasks = new ArrayList<>();
+    private final List<Runnable> ingestTasks = new ArrayList<>();
+    private final List<Long> processed = new ArrayList<>();
+
+    @Test
+    void shouldClaimInteractiveJobsUpToInFlightLimit() {
+        Long first = queued();
+        Long second = queued();
+        Long third = queued();
+        BookJobWorker worker = newWorker(2);
+
+        worker.poll();
+
+        assertEquals(2, ocrTasks.size());
+        assertLeasedByThisWorker(first);
+        assertLeasedByThisWorker(second);
+        assertEquals(Book.OcrStatus.PENDING, books.findById(third).orElseThrow().getOcrStatus());
+
+        runAll(ocrTasks);
+        worker.poll();
+
+        assertEquals(List.of(first, second), processed);
+        assertEquals(1, ocrTasks.size());
+        assertLeasedByThisWorker(third);
+    }
+
+    @Test
+    void shouldNotDispatchJobAlreadyClaimedByAnotherWorker() {
+        Long taken = queued();
+        assertTrue(books.claimOcrJob(taken, "outro-worker", LocalDateTime.now()));
+
+        newWorker(2).poll();
+
+        assertTrue(ocrTasks.isEmpty());
+        assertEquals("outro-worker", books.findById(taken).orElseThrow().getOcrLeaseOwner());
+    }
+
+    @Test
+    void shouldRespectBacklogRunningOnOtherWorkers() {
+        Long running = backlogged(5.0);
+        assertTrue(books.claimOcrJob(running, "outro-worker", LocalDateTime.now()));
+        Long waiting = backlogged(10.0);
+
+        newWorker(2).poll();
+
+        assertTrue(ocrTasks.isEmpty());
+        assertEquals(Book.OcrStatus.PENDING, books.findById(waiting).orElseThrow().getOcrStatus());
+    }
+
+    @Test
+    void shouldPauseBacklogWhileAnotherWorkerRunsInteractiveOcr() {
+        Long interactive = queued();
+        assertTrue(books.claimOcrJob(interactive, "outro-worker", LocalDateTime.now()));
+        backlogged(5.0);
+
+        newWorker(2).poll();
+
+        assertTrue(ocrTasks.isEmpty());
+    }
+
+    @Test
+    void shouldClaimBacklogWhenClusterIsIdle() {
+        Long backlog = backlogged(5.0);
+
+        newWorker(2).poll();
+
+        assertEquals(1, ocrTasks.size());
+        assertLeasedByThisWorker(backlog);
+        assertEquals(1, activityTracker.backgroundInFlight());
+        runAll(ocrTasks);
+        assertEquals(0, activityTracker.backgroundInFlight());
+    }
+
+    @Test
+    void shouldClaimIngestJobsWithLease() {
+        Book book = books.save(Book.create("Novo", "data/books/novo.pdf", "novo.pdf"));
+        BookJobWorker worker = newWorker(2);
+
+        worker.poll();
+        worker.poll();
+
+        assertEquals(1, ingestTasks.size());
+        assertEquals(identity.id(), book.getIngestLeaseOwner());
+        assertTrue(book.getIngestLeaseExpiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    private Long queued() {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        book.markIngestDone();
+        book.markOcrQueued();
+        book.setOcrUpdatedAt(LocalDateTime.now().minusHours(1).plusSeconds(books.findAll().size()));
+        return books.save(book).getId();
+    }
+
+    private Long backlogged(double score) {
+        Book book = Book.create("Digitalizado", "data/books/scan.pdf", "scan.pdf");
+        book.markIngestDone();
+        book.markOcrBacklogged(score);
+        return books.save(book).getId();
+    }
+
+    private void assertLeasedByThisWorker(Long bookId) {
+        Book book = books.findById(bookId).orElseThrow();
+        assertEquals(Book.OcrStatus.RUNNING, book.getOcrStatus());
+        assertEquals(identity.id(), book.getOcrLeaseOwner());
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        List<Runnable> pending = new ArrayList<>(tasks);
+        tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    private BookJobWorker newWorker(int maxOcrInFlight) {
+        OcrBacklogGate gate = new OcrBacklogGate(books, new IdleHost(), activityTracker);
+        ReflectionTestUtils.setField(gate, "backlogEnabled", true);
+        ReflectionTestUtils.setField(gate, "offPeakWindows", "");
+        ReflectionTestUtils.setField(gate, "maxLoadPerCore", 0.5);
+        ReflectionTestUtils.setField(gate, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(gate, "interactiveCooldownSeconds", 300L);
+
+        OcrJobProcessor processor = new OcrJobProcessor(null, null, null, null, null) {
+            @Override
+            public boolean process(Long bookId) {
+                processed.add(bookId);
+                return true;
+            }
+        };
+        BookJobWorker worker = new BookJobWorker(
+                books, processor, null, activityTracker, gate, identity, ocrTasks::add, ingestTasks::add
+        );
+        ReflectionTestUtils.setField(worker, "maxOcrInFlight", maxOcrInFlight);
+        ReflectionTestUtils.setField(worker, "maxIngestInFlight", 2);
+        ReflectionTestUtils.setField(worker, "ingestLeaseSeconds", 600L);
+        return worker;
+    }
+
+    private static final class IdleHost implements HostLoadPort {
+        @Override
+        public int availableProcessors() {
+            return 4;
+        }
+
+        @Override
+        public OptionalDouble loadAverage() {
+            return OptionalDouble.of(0.1);
+        }
+
+        @Override
+        public OptionalLong availableMemoryBytes() {
+            return OptionalLong.empty();
+        }
+    }
+}
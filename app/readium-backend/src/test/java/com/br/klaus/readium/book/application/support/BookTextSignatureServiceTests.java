@@ -0,0 +1,86 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookTextSignature;
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.book.domain.port.BookTextSignaturePort;
+import com.br.klaus.readium.exception.StorageException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookTextSignatureServiceTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final RecordingSignatures signatures = new RecordingSignatures();
+    private RuntimeException extractionFailure;
+
+    private final BookTextSignatureService service = new BookTextSignatureService(
+            books,
+            signatures,
+            new BookTextStoreService(new InMemoryBookTextStore(), book -> {
+                if (extractionFailure != null) {
+                    throw extractionFailure;
+                }
+                return List.of("um texto qualquer com palavras suficientes para formar alguns shingles de teste");
+            }, Runnable::run)
+    );
+
+    @Test
+    void shouldRecordFailureInsteadOfEmptySignatureAndRetryLater() {
+        Long bookId = books.save(new Book()).getId();
+        extractionFailure = new StorageException("Arquivo indisponivel");
+
+        assertEquals(0, service.backfillBatch(10));
+        assertTrue(signatures.saved.isEmpty());
+        assertEquals(List.of(bookId), signatures.failed);
+
+        extractionFailure = null;
+        assertEquals(1, service.backfillBatch(10));
+        assertEquals(List.of(bookId), new ArrayList<>(signatures.saved.keySet()));
+        assertTrue(signatures.saved.get(bookId).shingleCount() > 0);
+    }
+
+    private final class RecordingSignatures implements BookTextSignaturePort {
+
+        private final Map<Long, MinHashSignature> saved = new HashMap<>();
+        private final List<Long> failed = new ArrayList<>();
+
+        @Override
+        public void save(Long bookId, String textLayer, MinHashSignature signature) {
+            saved.put(bookId, signature);
+        }
+
+        @Override
+        public List<BookTextSignature> findUpdatedAfter(long revision, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Long> findBooksWithoutSignature(int limit) {
+            return books.findAll().stream().map(Book::getId).filter(id -> !saved.containsKey(id)).toList();
+        }
+
+        @Override
+        public void markFailed(Long bookId) {
+            failed.add(bookId);
+        }
+
+        @Override
+        public void removeBook(Long bookId) {
+            saved.remove(bookId);
+        }
+
+        @Override
+        public void removeBooks(Collection<Long> bookIds) {
+            bookIds.forEach(saved::remove);
+        }
+    }
+}
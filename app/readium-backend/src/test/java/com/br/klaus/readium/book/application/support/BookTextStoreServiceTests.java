@@ -0,0 +1,105 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.exception.StorageException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookTextStoreServiceTests {
+
+    private static final List<String> PAGES = List.of("primeira", "segunda");
+
+    private final InMemoryBookTextStore store = new InMemoryBookTextStore();
+    private final List<Runnable> queued = new ArrayList<>();
+    private Executor executor = queued::add;
+    private RuntimeException extractionFailure;
+    private int extractions;
+
+    private final BookTextStoreService service = new BookTextStoreService(store, book -> {
+        extractions++;
+        if (extractionFailure != null) {
+            throw extractionFailure;
+        }
+        return PAGES;
+    }, task -> executor.execute(task));
+
+    @Test
+    void shouldScheduleOneBackgroundExtractionPerLayer() {
+        Book book = book();
+
+        assertFalse(service.prepare(book));
+        assertFalse(service.prepare(book));
+        assertEquals(1, queued.size());
+        assertEquals(0, extractions);
+
+        runQueued();
+
+        assertTrue(service.prepare(book));
+        assertEquals(PAGES, service.pages(book));
+        assertEquals(1, extractions);
+
+        book.setOcrStatus(Book.OcrStatus.DONE);
+        book.setOcrFilePath("/ocr/livro.pdf");
+        book.setOcrArtifactId(7L);
+        assertFalse(service.prepare(book));
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void shouldRetryAfterFailedOrRejectedExtraction() {
+        Book book = book();
+        extractionFailure = new StorageException("PDF ilegivel");
+
+        assertFalse(service.prepare(book));
+        runQueued();
+        assertThrows(StorageException.class, () -> service.pages(book));
+        assertEquals(2, extractions);
+
+        extractionFailure = null;
+        executor = task -> {
+            throw new RejectedExecutionException("fila cheia");
+        };
+        assertFalse(service.prepare(book));
+
+        executor = queued::add;
+        assertFalse(service.prepare(book));
+        runQueued();
+        assertEquals(PAGES, service.pages(book));
+        assertEquals(3, extractions);
+    }
+
+    @Test
+    void shouldExtractInlineForSynchronousReaders() {
+        Book book = book();
+
+        assertEquals(2, service.pageCount(book));
+        assertEquals("segunda", service.pageText(book, 2).orElseThrow());
+        assertTrue(queued.isEmpty());
+        assertEquals(1, extractions);
+
+        service.remove(book);
+        assertFalse(service.prepare(book));
+    }
+
+    private static Book book() {
+        Book book = new Book();
+        book.setId(1L);
+        book.setFileHash("hash");
+        return book;
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,202 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.BookRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repositorio de livros em memoria que reproduz as condicoes das consultas JPQL do adaptador real.
+ */
+public class InMemoryBookRepository implements BookRepositoryPort {
+
+    private final Map<Long, Book> books = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public List<Book> findAll() {
+        return new ArrayList<>(books.values());
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return Optional.ofNullable(books.get(id));
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        return ids.stream().distinct().map(books::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return books.containsKey(id);
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return ids.stream().distinct().filter(books::containsKey).toList();
+    }
+
+    @Override
+    public List<Long> findIdsWithStatus(Collection<Long> ids, Book.BookStatus status) {
+        return findAllById(ids).stream().filter(book -> book.getBookStatus() == status).map(Book::getId).toList();
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> ids, Book.BookStatus status) {
+        int updated = 0;
+        for (Book book : findAllById(ids)) {
+            if (book.getBookStatus() != status) {
+                book.setBookStatus(status);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Book> findByFileHash(String fileHash) {
+        return books.values().stream().filter(book -> Objects.equals(book.getFileHash(), fileHash)).findFirst();
+    }
+
+    @Override
+    public List<Book> findOcrBacklog(int limit) {
+        return books.values().stream()
+                .filter(book -> book.getOcrStatus() == Book.OcrStatus.PENDING
+                        && book.getOcrPriority() == Book.OcrPriority.BACKGROUND)
+                .sorted(Comparator.comparing(Book::getOcrScore, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Book::getId))
+                .limit(Math.max(limit, 1))
+                .toList();
+    }
+
+    @Override
+    public long countRunningOcrJobs(Book.OcrPriority priority) {
+        return books.values().stream()
+                .filter(book -> book.getOcrStatus() == Book.OcrStatus.RUNNING && book.getOcrPriority() == priority)
+                .count();
+    }
+
+    @Override
+    public boolean existsOcrActivitySince(Book.OcrPriority priority, LocalDateTime since) {
+        return books.values().stream()
+                .anyMatch(book -> book.getOcrPriority() == priority
+                        && book.getOcrUpdatedAt() != null
+                        && !book.getOcrUpdatedAt().isBefore(since));
+    }
+
+    @Override
+    public int touchOcrHeartbeat(Long bookId, String leaseOwner, LocalDateTime heartbeatAt) {
+        Book book = books.get(bookId);
+        if (book == null || book.getOcrStatus() != Book.OcrStatus.RUNNING
+                || !Objects.equals(book.getOcrLeaseOwner(), leaseOwner)) {
+            return 0;
+        }
+        book.setOcrHeartbeatAt(heartbeatAt);
+        return 1;
+    }
+
+    @Override
+    public int failStaleOcrLeases(LocalDateTime staleBefore, String details) {
+        int failed = 0;
+        for (Book book : books.values()) {
+            if (book.getOcrStatus() == Book.OcrStatus.RUNNING
+                    && (book.getOcrHeartbeatAt() == null || book.getOcrHeartbeatAt().isBefore(staleBefore))) {
+                book.markOcrFailed(details);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public int repointOcrArtifact(Long artifactId, String ocrFilePath) {
+        int repointed = 0;
+        for (Book book : books.values()) {
+            if (Objects.equals(book.getOcrArtifactId(), artifactId)
+                    && !Objects.equals(book.getOcrFilePath(), ocrFilePath)) {
+                book.setOcrFilePath(ocrFilePath);
+                repointed++;
+            }
+        }
+        return repointed;
+    }
+
+    @Override
+    public List<Long> findOcrJobCandidateIds(Book.OcrPriority priority, int limit) {
+        return books.values().stream()
+                .filter(book -> book.getOcrStatus() == Book.OcrStatus.PENDING && book.getOcrPriority() == priority)
+                .sorted(Comparator.comparing(Book::getOcrUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Book::getId))
+                .limit(Math.max(limit, 1))
+                .map(Book::getId)
+                .toList();
+    }
+
+    @Override
+    public boolean claimOcrJob(Long bookId, String leaseOwner, LocalDateTime claimedAt) {
+        Book book = books.get(bookId);
+        if (book == null || book.getOcrStatus() != Book.OcrStatus.PENDING) {
+            return false;
+        }
+        book.markOcrRunning(leaseOwner);
+        book.setOcrHeartbeatAt(claimedAt);
+        book.setOcrUpdatedAt(claimedAt);
+        return true;
+    }
+
+    @Override
+    public List<Long> findIngestJobCandidateIds(LocalDateTime now, int limit) {
+        return books.values().stream()
+                .filter(book -> book.getIngestStatus() == Book.IngestStatus.PENDING && ingestLeaseFree(book, now))
+                .limit(Math.max(limit, 1))
+                .map(Book::getId)
+                .toList();
+    }
+
+    @Override
+    public boolean claimIngestJob(Long bookId, String leaseOwner, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        Book book = books.get(bookId);
+        if (book == null || book.getIngestStatus() != Book.IngestStatus.PENDING || !ingestLeaseFree(book, now)) {
+            return false;
+        }
+        book.setIngestLeaseOwner(leaseOwner);
+        book.setIngestLeaseExpiresAt(leaseExpiresAt);
+        return true;
+    }
+
+    @Override
+    public Book save(Book book) {
+        if (book.getId() == null) {
+            book.setId(sequence.incrementAndGet());
+        } else {
+            sequence.accumulateAndGet(book.getId(), Math::max);
+        }
+        books.put(book.getId(), book);
+        return book;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        books.remove(id);
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> ids) {
+        ids.forEach(books::remove);
+    }
+
+    private static boolean ingestLeaseFree(Book book, LocalDateTime now) {
+        return book.getIngestLeaseExpiresAt() == null || book.getIngestLeaseExpiresAt().isBefore(now);
+    }
+}
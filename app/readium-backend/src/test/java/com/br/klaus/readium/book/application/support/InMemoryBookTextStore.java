@@ -0,0 +1,48 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.port.BookTextStorePort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento de texto paginado em memoria, indexado por chave do livro e versao da camada.
+ */
+public class InMemoryBookTextStore implements BookTextStorePort {
+
+    private final Map<String, List<String>> layers = new ConcurrentHashMap<>();
+
+    @Override
+    public OptionalInt pageCount(String storeKey, String layerVersion) {
+        List<String> pages = layers.get(key(storeKey, layerVersion));
+        return pages == null ? OptionalInt.empty() : OptionalInt.of(pages.size());
+    }
+
+    @Override
+    public Optional<String> readPage(String storeKey, String layerVersion, int page) {
+        List<String> pages = layers.get(key(storeKey, layerVersion));
+        return pages == null || page < 1 || page > pages.size() ? Optional.empty() : Optional.of(pages.get(page - 1));
+    }
+
+    @Override
+    public List<String> readPages(String storeKey, String layerVersion) {
+        return layers.getOrDefault(key(storeKey, layerVersion), List.of());
+    }
+
+    @Override
+    public void write(String storeKey, String layerVersion, List<String> pages) {
+        layers.put(key(storeKey, layerVersion), List.copyOf(pages));
+    }
+
+    @Override
+    public void delete(String storeKey) {
+        layers.keySet().removeIf(key -> key.startsWith(storeKey + "/"));
+    }
+
+    private static String key(String storeKey, String layerVersion) {
+        return storeKey + "/" + layerVersion;
+    }
+}
@@ -0,0 +1,289 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrArtifact;
+import com.br.klaus.readium.book.domain.model.OcrEngineProfile;
+import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
+import com.br.klaus.readium.book.domain.port.BookStoragePort;
+import com.br.klaus.readium.book.domain.port.OcrArtifactRepositoryPort;
+import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OcrArtifactCacheServiceTests {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Test
+    void shouldReuseStoredArtifactForBookWithSameHash() {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        OcrArtifactCacheService service = newService(repository);
+
+        Book original = pdfBook(1L);
+        service.store(original, new OcrGatewayResult(null, 87.5));
+        service.release(original);
+
+        Book reuploaded = pdfBook(2L);
+        Optional<OcrGatewayResult> cached = service.applyCached(reuploaded);
+
+        assertTrue(cached.isPresent());
+        assertEquals(87.5, cached.get().score());
+        assertEquals(1, repository.refCountOf(reuploaded.getOcrArtifactId()));
+    }
+
+    @Test
+    void shouldNotCountTheSameBookTwice() {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        OcrArtifactCacheService service = newService(repository);
+
+        Book book = pdfBook(1L);
+        service.store(book, new OcrGatewayResult(null, 40.0));
+        service.applyCached(book);
+
+        assertEquals(1, repository.refCountOf(book.getOcrArtifactId()));
+    }
+
+    @Test
+    void shouldPurgeOnlyUnreferencedArtifacts() {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        OcrArtifactCacheService service = newService(repository);
+
+        Book kept = pdfBook(1L);
+        service.store(kept, new OcrGatewayResult(null, 10.0));
+        Book released = pdfBook(2L);
+        released.setFileHash("b".repeat(64));
+        service.store(released, new OcrGatewayResult(null, 20.0));
+        service.release(released);
+        repository.ageAll();
+
+        int purged = service.purgeUnreferencedOlderThanDays(1);
+
+        assertEquals(1, purged);
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void shouldAdoptWinningArtifactWhenConcurrentMissLosesTheInsert() throws IOException {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        RecordingStorage storage = new RecordingStorage();
+        OcrArtifactCacheService service = newService(repository, new InMemoryBookRepository(), storage);
+        String winnerPath = Files.createTempFile("ocr-winner", ".pdf").toString();
+        OcrArtifact winner = repository.insertConcurrently(HASH, winnerPath, 90.0);
+
+        Book loser = pdfBook(2L);
+        OcrGatewayResult stored = service.store(loser, new OcrGatewayResult("data/ocr/loser.pdf", 70.0));
+
+        assertEquals(new OcrGatewayResult(winnerPath, 90.0), stored);
+        assertEquals(winner.getId(), loser.getOcrArtifactId());
+        assertEquals(1, repository.size());
+        assertEquals(List.of("data/ocr/loser.pdf"), storage.deleted);
+    }
+
+    @Test
+    void shouldKeepExistingArtifactImmutableWhenItsFileIsPresent() throws IOException {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        RecordingStorage storage = new RecordingStorage();
+        InMemoryBookRepository books = new InMemoryBookRepository();
+        OcrArtifactCacheService service = newService(repository, books, storage);
+        String existingPath = Files.createTempFile("ocr-existing", ".pdf").toString();
+        Book first = books.save(pdfBook(1L));
+        service.store(first, new OcrGatewayResult(existingPath, 80.0));
+
+        Book second = books.save(pdfBook(2L));
+        OcrGatewayResult stored = service.store(second, new OcrGatewayResult("data/ocr/second.pdf", 60.0));
+
+        assertEquals(existingPath, stored.processedFilePath());
+        assertEquals(existingPath, repository.findById(first.getOcrArtifactId()).orElseThrow().getArtifactPath());
+        assertEquals(List.of("data/ocr/second.pdf"), storage.deleted);
+    }
+
+    @Test
+    void shouldRepointDependentBooksWhenArtifactFileWasLost() {
+        InMemoryArtifactRepository repository = new InMemoryArtifactRepository();
+        RecordingStorage storage = new RecordingStorage();
+        InMemoryBookRepository books = new InMemoryBookRepository();
+        OcrArtifactCacheService service = newService(repository, books, storage);
+        Book dependent = books.save(pdfBook(1L));
+        service.store(dependent, new OcrGatewayResult("data/ocr/lost.pdf", 80.0));
+        dependent.markOcrDone(80.0, "data/ocr/lost.pdf");
+
+        Book reprocessed = books.save(pdfBook(2L));
+        OcrGatewayResult stored = service.store(reprocessed, new OcrGatewayResult("data/ocr/fresh.pdf", 85.0));
+
+        assertEquals(new OcrGatewayResult("data/ocr/fresh.pdf", 85.0), stored);
+        assertEquals("data/ocr/fresh.pdf", dependent.getOcrFilePath());
+        assertEquals(dependent.getOcrArtifactId(), reprocessed.getOcrArtifactId());
+        assertEquals(2, repository.refCountOf(reprocessed.getOcrArtifactId()));
+        assertEquals(List.of("data/ocr/lost.pdf"), storage.deleted);
+    }
+
+    private OcrArtifactCacheService newService(InMemoryArtifactRepository repository) {
+        return newService(repository, new InMemoryBookRepository(), new RecordingStorage());
+    }
+
+    private OcrArtifactCacheService newService(
+            InMemoryArtifactRepository repository,
+            InMemoryBookRepository books,
+            RecordingStorage storage
+    ) {
+        OcrArtifactCacheService service = new OcrArtifactCacheService(repository, books, new FixedProfileGateway(), storage);
+        ReflectionTestUtils.setField(service, "cacheEnabled", true);
+        return service;
+    }
+
+    private Book pdfBook(Long id) {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        book.setId(id);
+        book.setFileHash(HASH);
+        return book;
+    }
+
+    private static final class FixedProfileGateway implements OcrGatewayPort {
+        @Override
+        public OcrGatewayResult process(Book book, Runnable onStarted) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OcrEngineProfile profile() {
+            return new OcrEngineProfile("HEURISTIC", "none", "heuristic-10");
+        }
+    }
+
+    private static final class RecordingStorage implements BookStoragePort {
+        private final List<String> deleted = new ArrayList<>();
+
+        @Override
+        public StoredFile saveWithChecksum(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String saveCover(byte[] imageBytes, String extension) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Resource load(String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String path) {
+            deleted.add(path);
+        }
+    }
+
+    private static final class InMemoryArtifactRepository implements OcrArtifactRepositoryPort {
+        private final Map<Long, OcrArtifact> artifacts = new ConcurrentHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private OcrArtifact pendingWinner;
+
+        @Override
+        public Optional<OcrArtifact> findByKey(String fileHash, String engine, String languages, String engineVersion) {
+            if (pendingWinner != null) {
+                save(pendingWinner);
+                pendingWinner = null;
+                return Optional.empty();
+            }
+            return artifacts.values().stream()
+                    .filter(artifact -> Objects.equals(artifact.getFileHash(), fileHash)
+                            && Objects.equals(artifact.getEngine(), engine)
+                            && Objects.equals(artifact.getLanguages(), languages)
+                            && Objects.equals(artifact.getEngineVersion(), engineVersion))
+                    .findFirst();
+        }
+
+        @Override
+        public Optional<OcrArtifact> findById(Long id) {
+            return Optional.ofNullable(artifacts.get(id));
+        }
+
+        @Override
+        public OcrArtifact save(OcrArtifact artifact) {
+            if (artifact.getId() == null) {
+                ReflectionTestUtils.setField(artifact, "id", sequence.incrementAndGet());
+            }
+            artifacts.put(artifact.getId(), artifact);
+            return artifact;
+        }
+
+        @Override
+        public boolean insertIfAbsent(OcrArtifact artifact) {
+            boolean conflict = findByKey(
+                    artifact.getFileHash(),
+                    artifact.getEngine(),
+                    artifact.getLanguages(),
+                    artifact.getEngineVersion()
+            ).isPresent();
+            if (!conflict) {
+                save(artifact);
+            }
+            return !conflict;
+        }
+
+        /**
+         * Simula outra transacao gravando a mesma chave entre a consulta e o insert deste servico.
+         */
+        OcrArtifact insertConcurrently(String fileHash, String artifactPath, Double score) {
+            pendingWinner = OcrArtifact.create(fileHash, new FixedProfileGateway().profile(), artifactPath, score);
+            return pendingWinner;
+        }
+
+        @Override
+        public void acquire(Long artifactId) {
+            adjust(artifactId, 1);
+        }
+
+        @Override
+        public void release(Long artifactId) {
+            adjust(artifactId, -1);
+        }
+
+        @Override
+        public List<OcrArtifact> findUnreferencedUsedBefore(LocalDateTime threshold) {
+            return new ArrayList<>(artifacts.values().stream()
+                    .filter(artifact -> artifact.getRefCount() <= 0 && artifact.getLastUsedAt().isBefore(threshold))
+                    .toList());
+        }
+
+        @Override
+        public void delete(OcrArtifact artifact) {
+            artifacts.remove(artifact.getId());
+        }
+
+        int refCountOf(Long id) {
+            return artifacts.get(id).getRefCount();
+        }
+
+        int size() {
+            return artifacts.size();
+        }
+
+        void ageAll() {
+            artifacts.values().forEach(artifact ->
+                    ReflectionTestUtils.setField(artifact, "lastUsedAt", LocalDateTime.now().minusDays(10)));
+        }
+
+        private void adjust(Long id, int delta) {
+            OcrArtifact artifact = artifacts.get(id);
+            int next = Math.max(0, artifact.getRefCount() + delta);
+            ReflectionTestUtils.setField(artifact, "refCount", next);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import com.br.klaus.readium.book.events.BookOcrRequestedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrBacklogSchedulerTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final OcrActivityTracker activityTracker = new OcrActivityTracker();
+    private final List<Object> published = new ArrayList<>();
+
+    @Test
+    void shouldDispatchLowestScoresUpToFreeSlotsWithoutReservingThem() {
+        Long worst = backlogged(5.0);
+        backlogged(40.0);
+        Long second = backlogged(20.0);
+
+        newScheduler(BookJobsMode.EMBEDDED, 2).dispatchBacklog();
+
+        assertEquals(
+                List.of(BookOcrRequestedEvent.background(worst), BookOcrRequestedEvent.background(second)),
+                published
+        );
+        assertEquals(0, activityTracker.backgroundInFlight());
+    }
+
+    @Test
+    void shouldOnlyOfferSlotsLeftByJobsAlreadyInFlight() {
+        Long worst = backlogged(5.0);
+        backlogged(20.0);
+        activityTracker.backgroundStarted();
+
+        newScheduler(BookJobsMode.EMBEDDED, 2).dispatchBacklog();
+
+        assertEquals(List.of(BookOcrRequestedEvent.background(worst)), published);
+    }
+
+    @Test
+    void shouldPauseWhileInteractiveOcrIsActive() {
+        backlogged(5.0);
+        activityTracker.interactiveStarted();
+
+        newScheduler(BookJobsMode.EMBEDDED, 2).dispatchBacklog();
+
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void shouldLeaveBacklogToDedicatedWorker() {
+        backlogged(5.0);
+
+        newScheduler(BookJobsMode.ENQUEUE_ONLY, 2).dispatchBacklog();
+
+        assertTrue(published.isEmpty());
+    }
+
+    private Long backlogged(double score) {
+        Book book = Book.create("Digitalizado", "data/books/scan.pdf", "scan.pdf");
+        book.markOcrBacklogged(score);
+        return books.save(book).getId();
+    }
+
+    private OcrBacklogScheduler newScheduler(BookJobsMode mode, int maxConcurrent) {
+        OcrBacklogGate gate = new OcrBacklogGate(books, new IdleHost(), activityTracker);
+        ReflectionTestUtils.setField(gate, "backlogEnabled", true);
+        ReflectionTestUtils.setField(gate, "offPeakWindows", "");
+        ReflectionTestUtils.setField(gate, "maxLoadPerCore", 0.5);
+        ReflectionTestUtils.setField(gate, "maxConcurrent", maxConcurrent);
+        ReflectionTestUtils.setField(gate, "interactiveCooldownSeconds", 300L);
+
+        OcrBacklogScheduler scheduler = new OcrBacklogScheduler(books, gate, published::add);
+        ReflectionTestUtils.setField(scheduler, "jobsMode", mode);
+        return scheduler;
+    }
+
+    private static final class IdleHost implements HostLoadPort {
+        @Override
+        public int availableProcessors() {
+            return 4;
+        }
+
+        @Override
+        public OptionalDouble loadAverage() {
+            return OptionalDouble.of(0.1);
+        }
+
+        @Override
+        public OptionalLong availableMemoryBytes() {
+            return OptionalLong.empty();
+        }
+    }
+}
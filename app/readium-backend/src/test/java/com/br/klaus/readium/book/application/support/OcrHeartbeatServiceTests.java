@@ -0,0 +1,91 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.persistence.SqliteWriteQueue;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrHeartbeatServiceTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+
+    private SqliteTestDatabase database;
+    private OcrHeartbeatService heartbeats;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        SqliteWriteQueue writeQueue = new SqliteWriteQueue(database.transactionManager(), "SHARED", 32, 1024);
+        heartbeats = new OcrHeartbeatService(books, new OcrWorkerIdentity(), writeQueue);
+        ReflectionTestUtils.setField(heartbeats, "heartbeatIntervalSeconds", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        heartbeats.shutdown();
+        database.close();
+    }
+
+    @Test
+    void shouldRefreshHeartbeatUntilClosed() throws InterruptedException {
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(10);
+        Book book = runningBook(heartbeats.leaseOwner(), claimedAt);
+
+        OcrHeartbeatService.Heartbeat heartbeat = heartbeats.start(book.getId());
+        awaitHeartbeatAfter(book, claimedAt);
+        heartbeat.close();
+        LocalDateTime lastBeat = book.getOcrHeartbeatAt();
+        Thread.sleep(1_500);
+
+        assertEquals(lastBeat, book.getOcrHeartbeatAt());
+    }
+
+    @Test
+    void shouldNotRefreshLeaseHeldByAnotherWorker() throws InterruptedException {
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(10);
+        Book book = runningBook("outro-worker", claimedAt);
+
+        try (OcrHeartbeatService.Heartbeat ignored = heartbeats.start(book.getId())) {
+            Thread.sleep(1_500);
+        }
+
+        assertEquals(claimedAt, book.getOcrHeartbeatAt());
+    }
+
+    @Test
+    void shouldNotReviveLeaseAlreadyFailedByWatchdog() throws InterruptedException {
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(10);
+        Book book = runningBook(heartbeats.leaseOwner(), claimedAt);
+        book.markOcrFailed("Worker de OCR parou de enviar heartbeat.");
+
+        try (OcrHeartbeatService.Heartbeat ignored = heartbeats.start(book.getId())) {
+            Thread.sleep(1_500);
+        }
+
+        assertEquals(Book.OcrStatus.FAILED, book.getOcrStatus());
+        assertEquals(claimedAt, book.getOcrHeartbeatAt());
+    }
+
+    private Book runningBook(String leaseOwner, LocalDateTime heartbeatAt) {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        book.markOcrRunning(leaseOwner);
+        book.setOcrHeartbeatAt(heartbeatAt);
+        return books.save(book);
+    }
+
+    private static void awaitHeartbeatAfter(Book book, LocalDateTime previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!book.getOcrHeartbeatAt().isAfter(previous) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(book.getOcrHeartbeatAt().isAfter(previous));
+    }
+}
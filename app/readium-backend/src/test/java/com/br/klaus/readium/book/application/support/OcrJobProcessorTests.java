@@ -0,0 +1,148 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.OcrEngineProfile;
+import com.br.klaus.readium.book.domain.model.OcrGatewayResult;
+import com.br.klaus.readium.book.domain.port.OcrGatewayPort;
+import com.br.klaus.readium.exception.OcrCapacityUnavailableException;
+import com.br.klaus.readium.exception.StorageException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrJobProcessorTests {
+
+    private static final String WORKER = "worker-a";
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final RecordingHeartbeatService heartbeats = new RecordingHeartbeatService(books);
+
+    @Test
+    void shouldKeepBookQueuedUntilGatewayObtainsSlot() {
+        Book book = queuedBook();
+        List<Book.OcrStatus> observed = new ArrayList<>();
+        OcrJobProcessor processor = newProcessor((target, onStarted) -> {
+            observed.add(target.getOcrStatus());
+            onStarted.run();
+            observed.add(target.getOcrStatus());
+            return new OcrGatewayResult(null, 92.0);
+        });
+
+        assertTrue(processor.process(book.getId()));
+
+        assertEquals(List.of(Book.OcrStatus.PENDING, Book.OcrStatus.RUNNING), observed);
+        assertEquals(Book.OcrStatus.DONE, book.getOcrStatus());
+        assertEquals(1, heartbeats.started);
+        assertEquals(0, heartbeats.active);
+    }
+
+    @Test
+    void shouldRequeueInsteadOfFailingWhenNoSlotIsAvailable() {
+        Book book = queuedBook();
+        OcrJobProcessor processor = newProcessor((target, onStarted) -> {
+            throw new OcrCapacityUnavailableException("Tempo de espera por vaga de OCR excedido.");
+        });
+
+        assertFalse(processor.process(book.getId()));
+
+        assertEquals(Book.OcrStatus.PENDING, book.getOcrStatus());
+        assertEquals(Book.OcrPriority.INTERACTIVE, book.getOcrPriority());
+        assertNull(book.getOcrLeaseOwner());
+        assertEquals(0, heartbeats.started);
+    }
+
+    @Test
+    void shouldReturnClaimedBookToQueueWhenNoSlotIsAvailable() {
+        Book book = queuedBook();
+        assertTrue(books.claimOcrJob(book.getId(), WORKER, LocalDateTime.now()));
+        OcrJobProcessor processor = newProcessor((target, onStarted) -> {
+            throw new OcrCapacityUnavailableException("Tempo de espera por vaga de OCR excedido.");
+        });
+
+        assertFalse(processor.process(book.getId()));
+
+        assertEquals(Book.OcrStatus.PENDING, book.getOcrStatus());
+        assertNull(book.getOcrLeaseOwner());
+        assertEquals(1, heartbeats.started);
+        assertEquals(0, heartbeats.active);
+        assertEquals(List.of(book.getId()), books.findOcrJobCandidateIds(Book.OcrPriority.INTERACTIVE, 10));
+    }
+
+    @Test
+    void shouldFailBookOnProcessingError() {
+        Book book = queuedBook();
+        OcrJobProcessor processor = newProcessor((target, onStarted) -> {
+            onStarted.run();
+            throw new StorageException("ocrmypdf finalizou com codigo 2");
+        });
+
+        assertTrue(processor.process(book.getId()));
+
+        assertEquals(Book.OcrStatus.FAILED, book.getOcrStatus());
+        assertEquals("OCR finalizou com erro.", book.getOcrDetails());
+        assertEquals(0, heartbeats.active);
+    }
+
+    private Book queuedBook() {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        book.markOcrQueued();
+        return books.save(book);
+    }
+
+    private OcrJobProcessor newProcessor(BiFunction<Book, Runnable, OcrGatewayResult> behavior) {
+        OcrGatewayPort gateway = new ScriptedGateway(behavior);
+        return new OcrJobProcessor(
+                books,
+                gateway,
+                new OcrArtifactCacheService(null, books, gateway, null),
+                heartbeats,
+                null
+        );
+    }
+
+    private record ScriptedGateway(BiFunction<Book, Runnable, OcrGatewayResult> behavior) implements OcrGatewayPort {
+
+        @Override
+        public OcrGatewayResult process(Book book, Runnable onStarted) {
+            return behavior.apply(book, onStarted);
+        }
+
+        @Override
+        public OcrEngineProfile profile() {
+            return new OcrEngineProfile("HEURISTIC", "none", "heuristic-10");
+        }
+    }
+
+    private static final class RecordingHeartbeatService extends OcrHeartbeatService {
+
+        private int started;
+        private int active;
+
+        private RecordingHeartbeatService(InMemoryBookRepository books) {
+            super(books, new FixedWorkerIdentity(), null);
+        }
+
+        @Override
+        public Heartbeat start(Long bookId) {
+            started++;
+            active++;
+            return () -> active--;
+        }
+    }
+
+    private static final class FixedWorkerIdentity extends OcrWorkerIdentity {
+
+        @Override
+        public String id() {
+            return WORKER;
+        }
+    }
+}
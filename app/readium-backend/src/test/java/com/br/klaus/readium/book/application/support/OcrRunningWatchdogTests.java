@@ -0,0 +1,82 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrRunningWatchdogTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final OcrRunningRecoveryService recoveryService = new OcrRunningRecoveryService(books);
+    private final OcrRunningWatchdog watchdog = new OcrRunningWatchdog(recoveryService);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recoveryService, "staleAfterSeconds", 45L);
+    }
+
+    @Test
+    void shouldFailRunningJobsWhoseHeartbeatExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        Book stale = runningBook(now.minusMinutes(2));
+        Book missingHeartbeat = runningBook(null);
+        Book fresh = runningBook(now.minusSeconds(10));
+        Book queued = newBook();
+        queued.markOcrQueued();
+        books.save(queued);
+
+        watchdog.recoverStaleRunningOcrJobs();
+
+        assertRecovered(stale);
+        assertRecovered(missingHeartbeat);
+        assertEquals(Book.OcrStatus.RUNNING, fresh.getOcrStatus());
+        assertEquals("worker-a", fresh.getOcrLeaseOwner());
+        assertEquals(Book.OcrStatus.PENDING, queued.getOcrStatus());
+    }
+
+    @Test
+    void shouldRecoverStaleBookOnRead() {
+        Book stale = runningBook(LocalDateTime.now().minusMinutes(2));
+        Book fresh = runningBook(LocalDateTime.now());
+
+        recoveryService.recoverIfStale(stale);
+        recoveryService.recoverIfStale(fresh);
+
+        assertRecovered(stale);
+        assertEquals(Book.OcrStatus.RUNNING, fresh.getOcrStatus());
+    }
+
+    @Test
+    void shouldNeverTreatHeartbeatsYoungerThanFiveSecondsAsStale() {
+        ReflectionTestUtils.setField(recoveryService, "staleAfterSeconds", 0L);
+        Book book = runningBook(LocalDateTime.now().minusSeconds(1));
+
+        watchdog.recoverStaleRunningOcrJobs();
+
+        assertEquals(Book.OcrStatus.RUNNING, book.getOcrStatus());
+    }
+
+    private Book runningBook(LocalDateTime heartbeatAt) {
+        Book book = newBook();
+        book.markOcrRunning("worker-a");
+        book.setOcrHeartbeatAt(heartbeatAt);
+        return books.save(book);
+    }
+
+    private static Book newBook() {
+        return Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+    }
+
+    private static void assertRecovered(Book book) {
+        assertEquals(Book.OcrStatus.FAILED, book.getOcrStatus());
+        assertNull(book.getOcrLeaseOwner());
+        assertTrue(book.getOcrDetails().contains("heartbeat"));
+    }
+}
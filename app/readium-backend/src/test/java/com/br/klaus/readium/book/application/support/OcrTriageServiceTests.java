@@ -0,0 +1,53 @@
+package com.br.klaus.readium.book.application.support;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrTriageServiceTests {
+
+    @Test
+    void shouldBacklogPdfWhoseTextLayerScoresBelowThreshold() {
+        Book book = Book.create("Digitalizado", "data/books/scan.pdf", "scan.pdf");
+
+        assertTrue(newService().triage(book, 12.5));
+
+        assertTrue(book.isOcrBacklogged());
+        assertEquals(12.5, book.getOcrScore());
+    }
+
+    @Test
+    void shouldLeavePdfWithGoodTextLayerUntriaged() {
+        Book book = Book.create("Nativo", "data/books/nativo.pdf", "nativo.pdf");
+
+        assertFalse(newService().triage(book, 95.0));
+
+        assertTrue(book.isOcrUntriaged());
+        assertNull(book.getOcrScore());
+    }
+
+    @Test
+    void shouldNotDemoteInteractiveRequestOrTouchEpub() {
+        Book interactive = Book.create("Pedido", "data/books/pedido.pdf", "pedido.pdf");
+        interactive.markOcrQueued();
+        Book epub = Book.create("Epub", "data/books/livro.epub", "livro.epub");
+
+        assertFalse(newService().triage(interactive, 0.0));
+        assertFalse(newService().triage(epub, 0.0));
+
+        assertEquals(Book.OcrPriority.INTERACTIVE, interactive.getOcrPriority());
+        assertNull(epub.getOcrPriority());
+    }
+
+    private OcrTriageService newService() {
+        OcrTriageService service = new OcrTriageService();
+        ReflectionTestUtils.setField(service, "triageEnabled", true);
+        ReflectionTestUtils.setField(service, "scoreThreshold", 60.0);
+        return service;
+    }
+}
@@ -0,0 +1,42 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookCursorCodecTests {
+
+    @Test
+    void shouldRoundTripCursor() {
+        String token = BookCursorCodec.encode(new BookCursor(4821L));
+
+        assertEquals(new BookCursor(4821L), BookCursorCodec.decode(token));
+    }
+
+    @Test
+    void shouldRoundTripSortedCursorWithKey() {
+        BookCursor cursor = new BookCursor(17L, BookSortMode.RECENTLY_READ, "s2026-03-01 10:00:00");
+
+        assertEquals(cursor, BookCursorCodec.decode(BookCursorCodec.encode(cursor)));
+        assertEquals(
+                new BookCursor(9L, BookSortMode.RECENTLY_ADDED, null),
+                BookCursorCodec.decode(BookCursorCodec.encode(new BookCursor(9L, BookSortMode.RECENTLY_ADDED, null)))
+        );
+    }
+
+    @Test
+    void shouldTreatBlankCursorAsFirstPage() {
+        assertNull(BookCursorCodec.decode(null));
+        assertNull(BookCursorCodec.decode(" "));
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> BookCursorCodec.decode("nao-e-um-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> BookCursorCodec.decode("djE6YWJj"));
+    }
+}
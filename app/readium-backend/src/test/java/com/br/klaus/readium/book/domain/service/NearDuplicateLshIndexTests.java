@@ -0,0 +1,83 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.book.domain.model.NearDuplicateGroup;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateLshIndexTests {
+
+    @Test
+    void shouldIgnoreCaseAccentsAndPunctuationInSignatures() {
+        MinHashSignatureCalculator calculator = new MinHashSignatureCalculator();
+
+        MinHashSignature original = calculator.compute(List.of("Memórias Póstumas de Brás Cubas, capítulo primeiro."));
+        MinHashSignature variant = calculator.compute(List.of("memorias postumas de BRAS cubas — capitulo primeiro"));
+
+        assertEquals(1.0, original.similarity(variant));
+    }
+
+    @Test
+    void shouldGroupNearDuplicatesAndLeaveUnrelatedBooksOut() {
+        List<String> book = randomPages(new Random(1), 40);
+        List<String> rescanned = withTypos(book, new Random(2));
+        List<String> unrelated = randomPages(new Random(3), 40);
+
+        MinHashSignatureCalculator calculator = new MinHashSignatureCalculator();
+        NearDuplicateLshIndex index = new NearDuplicateLshIndex(50);
+        index.put(1L, calculator.compute(book));
+        index.put(2L, calculator.compute(rescanned));
+        index.put(3L, calculator.compute(unrelated));
+
+        List<NearDuplicateGroup> groups = index.findGroups(0.6);
+
+        assertEquals(1, groups.size());
+        assertEquals(List.of(1L, 2L), groups.get(0).bookIds());
+        assertTrue(groups.get(0).maxSimilarity() >= 0.6);
+        assertTrue(index.findSimilar(3L, 0.6).isEmpty());
+    }
+
+    @Test
+    void shouldSkipBooksWithTooLittleText() {
+        MinHashSignatureCalculator calculator = new MinHashSignatureCalculator();
+        NearDuplicateLshIndex index = new NearDuplicateLshIndex(50);
+
+        index.put(1L, calculator.compute(List.of("")));
+        index.put(2L, calculator.compute(List.of("")));
+
+        assertEquals(0, index.size());
+        assertTrue(index.findGroups(0.1).isEmpty());
+    }
+
+    private static List<String> randomPages(Random random, int pages) {
+        List<String> result = new ArrayList<>(pages);
+        for (int page = 0; page < pages; page++) {
+            StringBuilder text = new StringBuilder();
+            for (int word = 0; word < 200; word++) {
+                text.append("w").append(random.nextInt(5000)).append(' ');
+            }
+            result.add(text.toString());
+        }
+        return result;
+    }
+
+    private static List<String> withTypos(List<String> pages, Random random) {
+        List<String> result = new ArrayList<>(pages.size());
+        for (String page : pages) {
+            String[] words = page.split(" ");
+            for (int index = 0; index < words.length; index++) {
+                if (random.nextInt(100) == 0) {
+                    words[index] = words[index] + "x";
+                }
+            }
+            result.add(String.join(" ", words));
+        }
+        return result;
+    }
+}
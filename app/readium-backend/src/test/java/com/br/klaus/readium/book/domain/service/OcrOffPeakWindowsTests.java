@@ -0,0 +1,43 @@
+package com.br.klaus.readium.book.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OcrOffPeakWindowsTests {
+
+    @Test
+    void shouldAllowAnyTimeWhenNoWindowIsConfigured() {
+        OcrOffPeakWindows windows = OcrOffPeakWindows.parse("");
+
+        assertTrue(windows.isUnrestricted());
+        assertTrue(windows.contains(LocalTime.NOON));
+    }
+
+    @Test
+    void shouldHandleWindowsCrossingMidnight() {
+        OcrOffPeakWindows windows = OcrOffPeakWindows.parse("22:30-06:00");
+
+        assertTrue(windows.contains(LocalTime.of(23, 0)));
+        assertTrue(windows.contains(LocalTime.of(5, 59)));
+        assertFalse(windows.contains(LocalTime.of(6, 0)));
+        assertFalse(windows.contains(LocalTime.of(12, 0)));
+    }
+
+    @Test
+    void shouldMatchAnyOfMultipleWindows() {
+        OcrOffPeakWindows windows = OcrOffPeakWindows.parse("01:00-05:00, 13:00-14:00");
+
+        assertTrue(windows.contains(LocalTime.of(13, 30)));
+        assertFalse(windows.contains(LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void shouldRejectMalformedWindow() {
+        assertThrows(IllegalArgumentException.class, () -> OcrOffPeakWindows.parse("01h-05h"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.br.klaus.readium.book.domain.service;
+
+import com.br.klaus.readium.book.domain.model.BookTextMatch;
+import com.br.klaus.readium.book.domain.model.HighlightRect;
+import com.br.klaus.readium.book.domain.model.PageGlyphLayout;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageTextMatcherTests {
+
+    @Test
+    void shouldMatchIgnoringCaseAndAccents() {
+        PageGlyphLayout layout = PageGlyphLayout.textOnly(7, "A Coração   de Capitu");
+        String needle = PageTextMatcher.normalizeQuery("  coracao DE ").orElseThrow();
+
+        List<BookTextMatch> matches = PageTextMatcher.findMatches(layout, needle, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals(7, matches.get(0).page());
+        assertEquals("A [[Coração de]] Capitu", matches.get(0).snippet());
+        assertTrue(matches.get(0).rects().isEmpty());
+    }
+
+    @Test
+    void shouldMergeGlyphBoxesIntoOneRectPerLine() {
+        String text = "ab cd";
+        float[] boxes = {
+                0.10f, 0.20f, 0.02f, 0.03f,
+                0.12f, 0.20f, 0.02f, 0.03f,
+                Float.NaN, Float.NaN, Float.NaN, Float.NaN,
+                0.10f, 0.25f, 0.02f, 0.03f,
+                0.12f, 0.25f, 0.02f, 0.03f
+        };
+        PageGlyphLayout layout = new PageGlyphLayout(1, text, boxes);
+
+        List<BookTextMatch> matches = PageTextMatcher.findMatches(layout, "ab cd", 10);
+
+        assertEquals(1, matches.size());
+        List<HighlightRect> rects = matches.get(0).rects();
+        assertEquals(2, rects.size());
+        assertEquals(0.10, rects.get(0).x(), 1e-6);
+        assertEquals(0.20, rects.get(0).y(), 1e-6);
+        assertEquals(0.04, rects.get(0).width(), 1e-6);
+        assertEquals(0.25, rects.get(1).y(), 1e-6);
+    }
+
+    @Test
+    void shouldCapMatchesPerPage() {
+        PageGlyphLayout layout = PageGlyphLayout.textOnly(2, "lua lua lua lua");
+
+        assertEquals(2, PageTextMatcher.findMatches(layout, "lua", 2).size());
+    }
+
+    @Test
+    void shouldRejectTooShortQueries() {
+        assertEquals(Optional.empty(), PageTextMatcher.normalizeQuery(" a "));
+        assertEquals(Optional.empty(), PageTextMatcher.normalizeQuery(null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.br.klaus.readium.book.events.listener;
+
+import com.br.klaus.readium.book.application.support.BookJobsMode;
+import com.br.klaus.readium.book.application.support.InMemoryBookRepository;
+import com.br.klaus.readium.book.application.support.OcrActivityTracker;
+import com.br.klaus.readium.book.application.support.OcrBacklogGate;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import com.br.klaus.readium.book.events.BookOcrRequestedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookOcrListenerTests {
+
+    private final InMemoryBookRepository books = new InMemoryBookRepository();
+    private final OcrActivityTracker activityTracker = new OcrActivityTracker();
+
+    @Test
+    void shouldHoldBackgroundSlotFromDispatchUntilJobEnds() {
+        List<Runnable> queued = new ArrayList<>();
+        BookOcrListener listener = newListener(queued::add);
+        Long bookId = books.save(Book.create("Nativo", "data/books/nativo.pdf", "nativo.pdf")).getId();
+
+        listener.handleBookOcrRequested(BookOcrRequestedEvent.background(bookId));
+        assertEquals(1, activityTracker.backgroundInFlight());
+
+        queued.forEach(Runnable::run);
+        assertEquals(0, activityTracker.backgroundInFlight());
+    }
+
+    @Test
+    void shouldReleaseBackgroundSlotWhenExecutorRejects() {
+        BookOcrListener listener = newListener(task -> {
+            throw new RejectedExecutionException("fila cheia");
+        });
+
+        listener.handleBookOcrRequested(BookOcrRequestedEvent.background(1L));
+
+        assertEquals(0, activityTracker.backgroundInFlight());
+    }
+
+    @Test
+    void shouldNotCountEventsHandledByDedicatedWorker() {
+        List<Runnable> queued = new ArrayList<>();
+        BookOcrListener listener = newListener(queued::add);
+        ReflectionTestUtils.setField(listener, "jobsMode", BookJobsMode.ENQUEUE_ONLY);
+
+        listener.handleBookOcrRequested(BookOcrRequestedEvent.background(1L));
+
+        assertEquals(0, activityTracker.backgroundInFlight());
+        assertEquals(0, queued.size());
+    }
+
+    private BookOcrListener newListener(Executor executor) {
+        OcrBacklogGate gate = new OcrBacklogGate(books, new UnknownHostLoad(), activityTracker);
+        // Os cenarios nunca chegam ao processador: o livro nao esta no backlog ou a tarefa nao executa.
+        BookOcrListener listener = new BookOcrListener(books, null, activityTracker, gate, executor);
+        ReflectionTestUtils.setField(listener, "jobsMode", BookJobsMode.EMBEDDED);
+        return listener;
+    }
+
+    private static final class UnknownHostLoad implements HostLoadPort {
+        @Override
+        public int availableProcessors() {
+            return 1;
+        }
+
+        @Override
+        public OptionalDouble loadAverage() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public OptionalLong availableMemoryBytes() {
+            return OptionalLong.empty();
+        }
+    }
+}
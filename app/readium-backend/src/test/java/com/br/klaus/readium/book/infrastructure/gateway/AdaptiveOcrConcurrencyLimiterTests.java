@@ -0,0 +1,101 @@
+package com.br.klaus.readium.book.infrastructure.gateway;
+
+import com.br.klaus.readium.book.domain.port.HostLoadPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.br.klaus.readium.exception.OcrCapacityUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveOcrConcurrencyLimiterTests {
+
+    private static final long GIGABYTE = 1024L * 1024L * 1024L;
+
+    @Test
+    void shouldScaleWithCoresOnIdleHost() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(32, 0.0, 64 * GIGABYTE));
+
+        assertEquals(16, limiter.refreshAndGetLimit());
+    }
+
+    @Test
+    void shouldLimitByAvailableMemory() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(8, 0.0, 3 * GIGABYTE / 2));
+
+        assertEquals(1, limiter.refreshAndGetLimit());
+    }
+
+    @Test
+    void shouldShrinkWhenExternalLoadIsHighButKeepMinimum() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(8, 40.0, 64 * GIGABYTE));
+
+        assertEquals(1, limiter.refreshAndGetLimit());
+    }
+
+    @Test
+    void shouldNotCountRunningJobsAsExternalLoad() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(8, 4.0, 64 * GIGABYTE));
+
+        int limit = limiter.computeLimit(8, OptionalDouble.of(4.0), OptionalLong.of(2 * GIGABYTE), 2);
+
+        assertEquals(4, limit);
+    }
+
+    @Test
+    void shouldUseStaticCeilingWhenAdaptiveIsDisabled() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(4, 100.0, 0));
+        ReflectionTestUtils.setField(limiter, "adaptive", false);
+        ReflectionTestUtils.setField(limiter, "maxJobs", 3);
+
+        assertEquals(3, limiter.refreshAndGetLimit());
+    }
+
+    @Test
+    void shouldReportMissingCapacityWhenSlotWaitTimesOut() {
+        AdaptiveOcrConcurrencyLimiter limiter = newLimiter(new FixedHostLoad(4, 0.0, 64 * GIGABYTE));
+        ReflectionTestUtils.setField(limiter, "adaptive", false);
+        ReflectionTestUtils.setField(limiter, "maxJobs", 1);
+
+        limiter.acquire(Duration.ofMillis(50));
+
+        assertThrows(OcrCapacityUnavailableException.class, () -> limiter.acquire(Duration.ofMillis(50)));
+        limiter.release();
+        limiter.acquire(Duration.ofMillis(50));
+    }
+
+    private AdaptiveOcrConcurrencyLimiter newLimiter(HostLoadPort hostLoad) {
+        AdaptiveOcrConcurrencyLimiter limiter = new AdaptiveOcrConcurrencyLimiter(hostLoad, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "adaptive", true);
+        ReflectionTestUtils.setField(limiter, "minJobs", 1);
+        ReflectionTestUtils.setField(limiter, "maxJobs", 0);
+        ReflectionTestUtils.setField(limiter, "cpusPerJob", 2);
+        ReflectionTestUtils.setField(limiter, "memoryPerJobMb", 1024L);
+        ReflectionTestUtils.setField(limiter, "maxLoadPerCore", 1.0);
+        ReflectionTestUtils.setField(limiter, "recomputeIntervalMs", 0L);
+        return limiter;
+    }
+
+    private record FixedHostLoad(int cores, double load, long availableMemory) implements HostLoadPort {
+
+        @Override
+        public int availableProcessors() {
+            return cores;
+        }
+
+        @Override
+        public OptionalDouble loadAverage() {
+            return OptionalDouble.of(load);
+        }
+
+        @Override
+        public OptionalLong availableMemoryBytes() {
+            return OptionalLong.of(availableMemory);
+        }
+    }
+}
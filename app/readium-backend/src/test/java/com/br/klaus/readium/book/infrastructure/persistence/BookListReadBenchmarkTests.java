@@ -0,0 +1,144 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara, em linhas por segundo, a leitura de linhas completas mapeadas em {@link Book} com a projecao de
+ * {@link JdbcBookListReadAdapter}, com e sem os indices de cobertura da listagem. Usa apenas JDBC sobre o
+ * banco de testes, sem contexto Spring. Execute com {@code -Dreadium.benchmarks=true}; o resultado sai no log.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "readium.benchmarks", matches = "true")
+class BookListReadBenchmarkTests {
+
+    private static final int BOOKS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int ROUNDS = 5;
+    private static final String[] STATUSES = {"TO_READ", "READING", "READ"};
+
+    private final RowMapper<Book> bookMapper = BeanPropertyRowMapper.newInstance(Book.class);
+
+    private SqliteTestDatabase database;
+    private JdbcBookListReadAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JdbcBookListReadAdapter(database.namedJdbc());
+        seedBooks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void compareFullRowsWithProjection() {
+        List<Long> expected = pagedIds(page -> database.jdbc().query(
+                "SELECT * FROM book ORDER BY id LIMIT ? OFFSET ?",
+                bookMapper,
+                PAGE_SIZE,
+                page * PAGE_SIZE
+        ).stream().map(Book::getId).toList());
+        assertEquals(BOOKS, expected.size());
+        assertEquals(expected, pagedIds(page -> projectedIds(page, Sort.by("id"), null)));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            double fullRows = rate(page -> database.jdbc().query(
+                    "SELECT * FROM book ORDER BY id LIMIT ? OFFSET ?",
+                    bookMapper,
+                    PAGE_SIZE,
+                    page * PAGE_SIZE
+            ).stream().map(Book::getId).toList());
+            double byId = rate(page -> projectedIds(page, Sort.by("id"), null));
+            double byTitle = rate(page -> projectedIds(page, Sort.by("title"), null));
+            double byStatus = rate(page -> projectedIds(page % (BOOKS / PAGE_SIZE / 3), Sort.by("id"), Book.BookStatus.READING));
+            log.info(
+                    "Rodada {}: linhas completas {} linhas/s; projecao por id {}, por titulo {}, filtrada por status {}",
+                    round, Math.round(fullRows), Math.round(byId), Math.round(byTitle), Math.round(byStatus)
+            );
+        }
+
+        database.jdbc().execute("DROP INDEX idx_book_list");
+        database.jdbc().execute("DROP INDEX idx_book_list_title");
+        database.jdbc().execute("DROP INDEX idx_book_list_status");
+        assertEquals(expected, pagedIds(page -> projectedIds(page, Sort.by("id"), null)));
+        for (int round = 0; round < ROUNDS; round++) {
+            double byId = rate(page -> projectedIds(page, Sort.by("id"), null));
+            double byTitle = rate(page -> projectedIds(page, Sort.by("title"), null));
+            log.info(
+                    "Rodada {} sem indices de listagem: projecao por id {} linhas/s, por titulo {}",
+                    round, Math.round(byId), Math.round(byTitle)
+            );
+        }
+    }
+
+    private List<Long> projectedIds(int page, Sort sort, Book.BookStatus status) {
+        return adapter.findPage(status, null, null, null, null, PageRequest.of(page, PAGE_SIZE, sort))
+                .map(BookListItem::id)
+                .getContent();
+    }
+
+    private static List<Long> pagedIds(IntFunction<List<Long>> pageReader) {
+        List<Long> ids = new ArrayList<>(BOOKS);
+        for (int page = 0; page * PAGE_SIZE < BOOKS; page++) {
+            ids.addAll(pageReader.apply(page));
+        }
+        return ids;
+    }
+
+    private static double rate(IntFunction<List<Long>> pageReader) {
+        long start = System.nanoTime();
+        int rows = pagedIds(pageReader).size();
+        assertTrue(rows > 0);
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void seedBooks() {
+        String details = "Detalhes de OCR ".repeat(120);
+        List<Object[]> batch = new ArrayList<>(1_000);
+        for (int index = 0; index < BOOKS; index++) {
+            batch.add(new Object[]{
+                    "Livro " + ((index * 7_919) % BOOKS),
+                    "Autor " + (index % 300),
+                    100 + index % 400,
+                    index % 90,
+                    "books/" + index + "/arquivo.pdf",
+                    "covers/" + index + ".jpg",
+                    "ocr/" + index + ".pdf",
+                    String.format("%064x", index),
+                    STATUSES[index % STATUSES.length],
+                    details
+            });
+            if (batch.size() == 1_000 || index == BOOKS - 1) {
+                database.jdbc().batchUpdate(
+                        "INSERT INTO book (title, author, pages, last_read_page, file_path, cover_path, ocr_file_path, "
+                                + "file_hash, book_status, ocr_details, book_format, ocr_status, has_cover, version) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PDF', 'DONE', 1, 0)",
+                        batch
+                );
+                batch.clear();
+            }
+        }
+        database.jdbc().execute("ANALYZE");
+    }
+}
@@ -0,0 +1,71 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookListSortIndexMigrationTests {
+
+    private static final List<String> SORT_INDEXES =
+            List.of("idx_book_progress", "idx_book_recent_read", "idx_book_remaining_pages");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldCreateSortIndexesOnAFreshDatabase() {
+        SingleConnectionDataSource dataSource =
+                new SingleConnectionDataSource("jdbc:sqlite:" + directory.resolve("library.db"), true);
+        LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        try {
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            assertEquals(SORT_INDEXES, sortIndexes(jdbcTemplate));
+
+            entityManagerFactory.setDataSource(dataSource);
+            entityManagerFactory.setPackagesToScan("com.br.klaus.readium");
+            entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            entityManagerFactory.setJpaPropertyMap(Map.of(
+                    "hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect",
+                    "hibernate.hbm2ddl.auto", "update",
+                    "hibernate.physical_naming_strategy",
+                    "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"
+            ));
+            entityManagerFactory.afterPropertiesSet();
+
+            assertEquals(SORT_INDEXES, sortIndexes(jdbcTemplate));
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pragma_table_info('book') WHERE name = 'ocr_details'",
+                    Integer.class
+            ));
+        } finally {
+            entityManagerFactory.destroy();
+            dataSource.destroy();
+        }
+    }
+
+    private static List<String> sortIndexes(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList(
+                "SELECT name FROM sqlite_master WHERE type = 'index' AND tbl_name = 'book' AND name IN (?, ?, ?) "
+                        + "ORDER BY name",
+                String.class,
+                SORT_INDEXES.toArray()
+        );
+    }
+}
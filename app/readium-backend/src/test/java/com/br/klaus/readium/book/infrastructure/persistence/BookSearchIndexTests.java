@@ -0,0 +1,103 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookSearchIndexTests {
+
+    private SqliteTestDatabase database;
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        index = new BookSearchIndex(database.jdbc());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldReplaceIndexedRowOnSync() {
+        Book book = book(insertBook("Dom Casmurro", "Machado de Assis"), "Dom Casmurro", "Machado de Assis");
+        index.sync(book);
+
+        book.setTitle("Memorias Postumas");
+        index.sync(book);
+
+        assertEquals(List.of(), match("casmurro"));
+        assertEquals(List.of(book.getId()), match("postumas"));
+        assertEquals(List.of(book.getId()), match("machado"));
+        assertEquals(1, indexedRows());
+    }
+
+    @Test
+    void shouldMatchIgnoringAccentsAndCase() {
+        Book book = book(insertBook("Sao Bernardo", "Graciliano Ramos"), "São Bernardo", "Graciliano Ramos");
+        index.sync(book);
+
+        assertEquals(List.of(book.getId()), match("sao bern"));
+        assertEquals(List.of(book.getId()), match("RAMOS"));
+    }
+
+    @Test
+    void shouldReconcileMissingStaleAndOrphanRows() {
+        long missing = insertBook("Vidas Secas", "Graciliano Ramos");
+        long stale = insertBook("Iracema", "Jose de Alencar");
+        long current = insertBook("O Cortico", "Aluisio Azevedo");
+        index.sync(book(stale, "Iracema", "Jose de Alencar"));
+        index.sync(book(current, "O Cortico", "Aluisio Azevedo"));
+        index.sync(book(9_999L, "Livro removido", "Autor"));
+        database.jdbc().update("UPDATE book SET title = 'Senhora' WHERE id = ?", stale);
+
+        index.reconcile();
+
+        assertEquals(List.of(missing), match("secas"));
+        assertEquals(List.of(stale), match("senhora"));
+        assertEquals(List.of(), match("iracema"));
+        assertEquals(List.of(current), match("cortico"));
+        assertEquals(List.of(), match("removido"));
+        assertEquals(3, indexedRows());
+
+        index.reconcile();
+        assertEquals(3, indexedRows());
+    }
+
+    private long insertBook(String title, String author) {
+        database.jdbc().update(
+                "INSERT INTO book (title, author, book_format, book_status, has_cover) VALUES (?, ?, 'PDF', 'TO_READ', 0)",
+                title,
+                author
+        );
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private static Book book(long id, String title, String author) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setAuthor(author);
+        return book;
+    }
+
+    private List<Long> match(String text) {
+        return database.jdbc().queryForList(
+                "SELECT rowid FROM book_search_fts WHERE book_search_fts MATCH ? ORDER BY rowid",
+                Long.class,
+                "\"" + text + "\""
+        );
+    }
+
+    private int indexedRows() {
+        return database.jdbc().queryForObject("SELECT COUNT(*) FROM book_search_fts", Integer.class);
+    }
+}
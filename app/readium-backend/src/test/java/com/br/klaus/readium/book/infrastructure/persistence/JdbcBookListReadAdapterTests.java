@@ -0,0 +1,231 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.domain.model.BookCursor;
+import com.br.klaus.readium.book.domain.model.BookListItem;
+import com.br.klaus.readium.book.domain.model.BookSortMode;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import db.migration.V23__AddBookListSortIndexes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcBookListReadAdapterTests {
+
+    private SqliteTestDatabase database;
+    private JdbcBookListReadAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JdbcBookListReadAdapter(database.namedJdbc());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldPageThroughEveryModeWithoutSkippingOrRepeatingTies() {
+        for (int index = 0; index < 60; index++) {
+            Integer pages = index % 5 == 0 ? null : 100 * (1 + index % 3);
+            int lastReadPage = (index % 4) * 50;
+            Long lastReadAt = index % 3 == 0 ? null : 1_700_000_000_000L + (index % 6) * 1_000L;
+            insertBook("Livro " + index, pages, lastReadPage, lastReadAt);
+        }
+
+        for (BookSortMode mode : BookSortMode.values()) {
+            List<Long> expected = ids(adapter.findAfter(null, null, null, null, mode, null, 1_000));
+            assertEquals(60, expected.size(), mode.name());
+
+            List<Long> paged = new ArrayList<>();
+            BookCursor cursor = null;
+            List<BookListItem> page;
+            do {
+                page = adapter.findAfter(null, null, null, null, mode, cursor, 7);
+                page.forEach(item -> paged.add(item.id()));
+                if (!page.isEmpty()) {
+                    BookListItem last = page.get(page.size() - 1);
+                    cursor = new BookCursor(last.id(), mode, last.sortKey());
+                }
+            } while (page.size() == 7);
+
+            assertEquals(expected, paged, mode.name());
+        }
+    }
+
+    @Test
+    void shouldBreakTiesByIdInTheSortDirection() {
+        long first = insertBook("A", 200, 100, null);
+        long second = insertBook("B", 200, 100, null);
+        long third = insertBook("C", 400, 200, null);
+        long ahead = insertBook("D", 200, 150, null);
+
+        assertEquals(
+                List.of(ahead, third, second, first),
+                ids(adapter.findAfter(null, null, null, null, BookSortMode.PROGRESS, null, 10))
+        );
+        assertEquals(
+                List.of(ahead, first, second, third),
+                ids(adapter.findAfter(null, null, null, null, BookSortMode.REMAINING_PAGES, null, 10))
+        );
+
+        BookListItem tied = adapter.findAfter(null, null, null, null, BookSortMode.PROGRESS, null, 2).get(1);
+        assertEquals(third, tied.id());
+        assertEquals(
+                List.of(second, first),
+                ids(adapter.findAfter(
+                        null, null, null, null, BookSortMode.PROGRESS,
+                        new BookCursor(tied.id(), BookSortMode.PROGRESS, tied.sortKey()), 10
+                ))
+        );
+    }
+
+    @Test
+    void shouldOrderUnreadAndPagelessBooksLast() {
+        long unread = insertBook("Sem leitura", 100, 0, null);
+        long pageless = insertBook("Sem paginas", null, 0, null);
+        long recent = insertBook("Recente", 100, 10, 1_700_000_100_000L);
+        long older = insertBook("Antigo", 300, 10, 1_700_000_000_000L);
+
+        assertEquals(
+                List.of(recent, older, pageless, unread),
+                ids(adapter.findAfter(null, null, null, null, BookSortMode.RECENTLY_READ, null, 10))
+        );
+        assertEquals(
+                List.of(recent, unread, older, pageless),
+                ids(adapter.findAfter(null, null, null, null, BookSortMode.REMAINING_PAGES, null, 10))
+        );
+    }
+
+    @Test
+    void shouldServeSortModesFromCoveringIndexes() {
+        Map<BookSortMode, String> indexes = Map.of(
+                BookSortMode.RECENTLY_READ, "idx_book_recent_read",
+                BookSortMode.PROGRESS, "idx_book_progress",
+                BookSortMode.REMAINING_PAGES, "idx_book_remaining_pages"
+        );
+        indexes.forEach((mode, index) -> {
+            String sortKey = switch (mode) {
+                case RECENTLY_READ -> JdbcBookListReadAdapter.LAST_READ_AT_KEY;
+                case PROGRESS -> JdbcBookListReadAdapter.PROGRESS_KEY;
+                default -> JdbcBookListReadAdapter.REMAINING_PAGES_KEY;
+            };
+            String direction = mode == BookSortMode.REMAINING_PAGES ? " ASC" : " DESC";
+            String plan = String.join(" ", database.jdbc().query(
+                    "EXPLAIN QUERY PLAN SELECT b.id, b.title, b.author, b.pages, b.last_read_page, b.book_format, "
+                            + "b.book_status, b.has_cover, " + sortKey + " AS sort_key FROM book b ORDER BY "
+                            + sortKey + direction + ", b.id" + direction + " LIMIT 20",
+                    (rs, rowNum) -> rs.getString("detail")
+            ));
+            assertTrue(plan.contains("COVERING INDEX " + index), mode + ": " + plan);
+        });
+    }
+
+    @Test
+    void shouldServeTitleSortAndStatusFilterFromCoveringIndexes() {
+        RecordingJdbcTemplate recording = new RecordingJdbcTemplate(database);
+        JdbcBookListReadAdapter recorded = new JdbcBookListReadAdapter(recording);
+
+        recorded.findPage(null, null, null, null, null, PageRequest.of(3, 20, Sort.by("title")));
+        assertTrue(recording.plan().contains("COVERING INDEX idx_book_list_title"), recording.plan());
+
+        recorded.findPage(Book.BookStatus.READING, null, null, null, null, PageRequest.of(3, 20, Sort.by("id")));
+        assertTrue(recording.plan().contains("COVERING INDEX idx_book_list_status"), recording.plan());
+
+        recorded.findAfter(Book.BookStatus.READING, null, null, null, BookSortMode.DEFAULT, null, 20);
+        assertTrue(recording.plan().contains("COVERING INDEX idx_book_list_status"), recording.plan());
+    }
+
+    @Test
+    void shouldApplyOnlyTheRequestedFilters() {
+        long reading = insertBook("Duna", 100, 10, null);
+        insertBook("Fundacao", 100, 10, null);
+        database.jdbc().update("UPDATE book SET book_status = 'READ' WHERE id <> ?", reading);
+
+        assertEquals(List.of(reading), ids(adapter.findAfter(Book.BookStatus.READING, null, null, null, null, null, 10)));
+        assertEquals(1, adapter.count(Book.BookStatus.READ, null, null, null));
+        assertEquals(2, adapter.count(null, null, null, null));
+        assertEquals(List.of(reading), ids(adapter.findPage(null, "du", null, null, null, PageRequest.of(0, 10)).getContent()));
+    }
+
+    @Test
+    void shouldBackfillLastReadAtOnceFromProgressHistory() {
+        long read = insertBook("Lido", 100, 10, null);
+        long untouched = insertBook("Intocado", 100, 0, null);
+        database.jdbc().update(
+                "INSERT INTO reading_progress_event (book_id, event_date, pages_read_delta, occurred_at) VALUES (?, ?, ?, ?)",
+                read, 0, 5, 1_700_000_000_000L
+        );
+        database.jdbc().update(
+                "INSERT INTO reading_progress_event (book_id, event_date, pages_read_delta, occurred_at) VALUES (?, ?, ?, ?)",
+                read, 0, 5, 1_700_000_500_000L
+        );
+
+        database.migrate(new V23__AddBookListSortIndexes());
+
+        assertEquals(1_700_000_500_000L, lastReadAt(read));
+        assertNull(lastReadAt(untouched));
+    }
+
+    private long insertBook(String title, Integer pages, int lastReadPage, Long lastReadAt) {
+        database.jdbc().update(
+                "INSERT INTO book (title, author, pages, last_read_page, last_read_at, book_format, book_status, has_cover) "
+                        + "VALUES (?, 'Autor', ?, ?, ?, 'PDF', 'READING', 1)",
+                title, pages, lastReadPage, lastReadAt
+        );
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private Long lastReadAt(long bookId) {
+        return database.jdbc().queryForObject("SELECT last_read_at FROM book WHERE id = ?", Long.class, bookId);
+    }
+
+    private static List<Long> ids(List<BookListItem> items) {
+        return items.stream().map(BookListItem::id).toList();
+    }
+
+    /**
+     * Guarda a ultima consulta de pagina do adaptador para inspecionar o plano escolhido pelo SQLite.
+     */
+    private static final class RecordingJdbcTemplate extends NamedParameterJdbcTemplate {
+
+        private final SqliteTestDatabase database;
+        private String lastSql;
+        private SqlParameterSource lastParams;
+
+        private RecordingJdbcTemplate(SqliteTestDatabase database) {
+            super(database.jdbc());
+            this.database = database;
+        }
+
+        @Override
+        public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+            lastSql = sql;
+            lastParams = paramSource;
+            return super.query(sql, paramSource, rowMapper);
+        }
+
+        private String plan() {
+            return String.join(" ", database.namedJdbc().query(
+                    "EXPLAIN QUERY PLAN " + lastSql,
+                    lastParams,
+                    (rs, rowNum) -> rs.getString("detail")
+            ));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcLibraryRevisionAdapter;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcSyncChangeLogAdapter;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JpaBookRepositoryAdapterJobClaimTests {
+
+    private SqliteTestDatabase database;
+    private JpaBookRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JpaBookRepositoryAdapter(
+                database.jpaRepository(BookJpaRepository.class),
+                new BookSearchIndex(database.jdbc()),
+                new LibraryRevisionService(new JdbcLibraryRevisionAdapter(database.jdbc())),
+                new SyncChangeLogService(new JdbcSyncChangeLogAdapter(database.jdbc()))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldListInteractiveCandidatesOldestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        Long newer = saveBook(book -> queue(book, now.minusMinutes(1)));
+        Long older = saveBook(book -> queue(book, now.minusMinutes(5)));
+        saveBook(book -> book.markOcrBacklogged(3.0));
+        saveBook(book -> book.markOcrRunning("worker-a"));
+
+        assertEquals(List.of(older, newer), adapter.findOcrJobCandidateIds(Book.OcrPriority.INTERACTIVE, 10));
+        assertEquals(List.of(older), adapter.findOcrJobCandidateIds(Book.OcrPriority.INTERACTIVE, 1));
+    }
+
+    @Test
+    void shouldListBacklogByLowestScore() {
+        Long readable = saveBook(book -> book.markOcrBacklogged(40.0));
+        Long scanned = saveBook(book -> book.markOcrBacklogged(2.0));
+
+        assertEquals(List.of(scanned, readable), adapter.findOcrBacklog(10).stream().map(Book::getId).toList());
+    }
+
+    @Test
+    void shouldLetOnlyOneWorkerClaimAnOcrJob() {
+        Long bookId = saveBook(book -> queue(book, LocalDateTime.now()));
+        LocalDateTime claimedAt = LocalDateTime.now();
+
+        assertTrue(database.inJpaTransaction(() -> adapter.claimOcrJob(bookId, "worker-a", claimedAt)));
+        assertFalse(database.inJpaTransaction(() -> adapter.claimOcrJob(bookId, "worker-b", claimedAt)));
+
+        Book claimed = find(bookId);
+        assertEquals(Book.OcrStatus.RUNNING, claimed.getOcrStatus());
+        assertEquals("worker-a", claimed.getOcrLeaseOwner());
+        assertTrue(adapter.findOcrJobCandidateIds(Book.OcrPriority.INTERACTIVE, 10).isEmpty());
+        assertEquals(1, adapter.countRunningOcrJobs(Book.OcrPriority.INTERACTIVE));
+        assertEquals(0, adapter.countRunningOcrJobs(Book.OcrPriority.BACKGROUND));
+    }
+
+    @Test
+    void shouldReportRecentInteractiveActivity() {
+        LocalDateTime now = LocalDateTime.now();
+        saveBook(book -> queue(book, now.minusMinutes(10)));
+
+        assertTrue(adapter.existsOcrActivitySince(Book.OcrPriority.INTERACTIVE, now.minusMinutes(15)));
+        assertFalse(adapter.existsOcrActivitySince(Book.OcrPriority.INTERACTIVE, now.minusMinutes(5)));
+        assertFalse(adapter.existsOcrActivitySince(Book.OcrPriority.BACKGROUND, now.minusMinutes(15)));
+    }
+
+    @Test
+    void shouldClaimIngestJobUntilLeaseExpires() {
+        Long bookId = saveBook(book -> {
+        });
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(List.of(bookId), adapter.findIngestJobCandidateIds(now, 10));
+        assertTrue(database.inJpaTransaction(() -> adapter.claimIngestJob(bookId, "worker-a", now, now.plusMinutes(10))));
+        assertFalse(database.inJpaTransaction(() -> adapter.claimIngestJob(bookId, "worker-b", now, now.plusMinutes(10))));
+        assertTrue(adapter.findIngestJobCandidateIds(now.plusMinutes(5), 10).isEmpty());
+
+        LocalDateTime expired = now.plusMinutes(11);
+        assertEquals(List.of(bookId), adapter.findIngestJobCandidateIds(expired, 10));
+        assertTrue(database.inJpaTransaction(
+                () -> adapter.claimIngestJob(bookId, "worker-b", expired, expired.plusMinutes(10))
+        ));
+        assertEquals("worker-b", find(bookId).getIngestLeaseOwner());
+    }
+
+    private static void queue(Book book, LocalDateTime queuedAt) {
+        book.markOcrQueued();
+        book.setOcrUpdatedAt(queuedAt);
+    }
+
+    private Long saveBook(Consumer<Book> state) {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        state.accept(book);
+        return database.inJpaTransaction(() -> adapter.save(book)).getId();
+    }
+
+    private Book find(Long bookId) {
+        return database.inJpaTransaction(() -> adapter.findById(bookId)).orElseThrow();
+    }
+}
@@ -0,0 +1,148 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcLibraryRevisionAdapter;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcSyncChangeLogAdapter;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JpaBookRepositoryAdapterOcrLeaseTests {
+
+    private static final String WORKER = "worker-a";
+    private static final String DETAILS = "Worker de OCR parou de enviar heartbeat.";
+
+    private SqliteTestDatabase database;
+    private JpaBookRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JpaBookRepositoryAdapter(
+                database.jpaRepository(BookJpaRepository.class),
+                new BookSearchIndex(database.jdbc()),
+                new LibraryRevisionService(new JdbcLibraryRevisionAdapter(database.jdbc())),
+                new SyncChangeLogService(new JdbcSyncChangeLogAdapter(database.jdbc()))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldFailOnlyRunningLeasesWithoutRecentHeartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        Long stale = saveRunning(now.minusMinutes(5));
+        Long missingHeartbeat = saveRunning(null);
+        Long fresh = saveRunning(now.minusSeconds(5));
+        Long pending = saveBook(Book::markOcrQueued);
+        long head = headRevision();
+
+        int failed = database.inJpaTransaction(() -> adapter.failStaleOcrLeases(now.minusSeconds(45), DETAILS));
+
+        assertEquals(2, failed);
+        assertFailed(stale);
+        assertFailed(missingHeartbeat);
+        assertEquals(Book.OcrStatus.RUNNING, find(fresh).getOcrStatus());
+        assertEquals(WORKER, find(fresh).getOcrLeaseOwner());
+        assertEquals(Book.OcrStatus.PENDING, find(pending).getOcrStatus());
+        assertEquals(List.of(stale, missingHeartbeat), changedBookIdsAfter(head));
+    }
+
+    @Test
+    void shouldLeaveBooksUntouchedWhenNoLeaseIsStale() {
+        LocalDateTime now = LocalDateTime.now();
+        Long fresh = saveRunning(now);
+        long head = headRevision();
+
+        int failed = database.inJpaTransaction(() -> adapter.failStaleOcrLeases(now.minusSeconds(45), DETAILS));
+
+        assertEquals(0, failed);
+        assertEquals(Book.OcrStatus.RUNNING, find(fresh).getOcrStatus());
+        assertEquals(head, headRevision());
+    }
+
+    @Test
+    void shouldRefreshHeartbeatOnlyForTheLeaseOwner() {
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).minusMinutes(1);
+        Long book = saveRunning(startedAt);
+        LocalDateTime beat = startedAt.plusSeconds(30);
+
+        assertEquals(0, (int) database.inJpaTransaction(() -> adapter.touchOcrHeartbeat(book, "worker-b", beat)));
+        assertEquals(1, (int) database.inJpaTransaction(() -> adapter.touchOcrHeartbeat(book, WORKER, beat)));
+        assertEquals(beat, find(book).getOcrHeartbeatAt());
+
+        database.inJpaTransaction(() -> adapter.failStaleOcrLeases(beat.plusSeconds(1), DETAILS));
+        assertEquals(0, (int) database.inJpaTransaction(() -> adapter.touchOcrHeartbeat(book, WORKER, beat.plusSeconds(60))));
+        assertFailed(book);
+    }
+
+    @Test
+    void shouldRecordRepointedBooksInTheChangeLog() {
+        Long repointed = saveBook(book -> book.setOcrArtifactId(7L));
+        Long current = saveBook(book -> {
+            book.setOcrArtifactId(7L);
+            book.setOcrFilePath("data/ocr/novo.pdf");
+        });
+        Long other = saveBook(book -> book.setOcrArtifactId(8L));
+        long head = headRevision();
+
+        int changed = database.inJpaTransaction(() -> adapter.repointOcrArtifact(7L, "data/ocr/novo.pdf"));
+
+        assertEquals(1, changed);
+        assertEquals("data/ocr/novo.pdf", find(repointed).getOcrFilePath());
+        assertEquals("data/ocr/novo.pdf", find(current).getOcrFilePath());
+        assertNull(find(other).getOcrFilePath());
+        assertEquals(List.of(repointed), changedBookIdsAfter(head));
+        assertEquals(0, (int) database.inJpaTransaction(() -> adapter.repointOcrArtifact(7L, "data/ocr/novo.pdf")));
+    }
+
+    private Long saveRunning(LocalDateTime heartbeatAt) {
+        return saveBook(book -> {
+            book.markOcrRunning(WORKER);
+            book.setOcrHeartbeatAt(heartbeatAt);
+        });
+    }
+
+    private Long saveBook(Consumer<Book> state) {
+        Book book = Book.create("Livro", "data/books/livro.pdf", "livro.pdf");
+        state.accept(book);
+        return database.inJpaTransaction(() -> adapter.save(book)).getId();
+    }
+
+    private void assertFailed(Long bookId) {
+        Book book = find(bookId);
+        assertEquals(Book.OcrStatus.FAILED, book.getOcrStatus());
+        assertEquals(DETAILS, book.getOcrDetails());
+        assertNull(book.getOcrLeaseOwner());
+    }
+
+    private Book find(Long bookId) {
+        return database.inJpaTransaction(() -> adapter.findById(bookId)).orElseThrow();
+    }
+
+    private long headRevision() {
+        return database.jdbc().queryForObject("SELECT COALESCE(MAX(id), 0) FROM sync_change_log", Long.class);
+    }
+
+    private List<Long> changedBookIdsAfter(long revision) {
+        return database.jdbc().queryForList(
+                "SELECT entity_id FROM sync_change_log WHERE id > ? AND entity_type = 'BOOK' ORDER BY entity_id",
+                Long.class,
+                revision
+        );
+    }
+}
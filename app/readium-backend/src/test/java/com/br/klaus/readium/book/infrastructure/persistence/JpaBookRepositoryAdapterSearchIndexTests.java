@@ -0,0 +1,68 @@
+package com.br.klaus.readium.book.infrastructure.persistence;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.sync.application.LibraryRevisionService;
+import com.br.klaus.readium.sync.application.SyncChangeLogService;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcLibraryRevisionAdapter;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcSyncChangeLogAdapter;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JpaBookRepositoryAdapterSearchIndexTests {
+
+    private SqliteTestDatabase database;
+    private JpaBookRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JpaBookRepositoryAdapter(
+                database.jpaRepository(BookJpaRepository.class),
+                new BookSearchIndex(database.jdbc()),
+                new LibraryRevisionService(new JdbcLibraryRevisionAdapter(database.jdbc())),
+                new SyncChangeLogService(new JdbcSyncChangeLogAdapter(database.jdbc()))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldIndexNewBooksAndTitleOrAuthorChangesOnly() {
+        Book created = Book.create("Dom Casmurro", "/livros/dom-casmurro.pdf", "dom-casmurro.pdf");
+        created.setAuthor("Machado de Assis");
+        Long bookId = database.inJpaTransaction(() -> adapter.save(created)).getId();
+        assertEquals(List.of(bookId), match("casmurro"));
+
+        database.jdbc().update("UPDATE book_search_fts SET title = 'marcador' WHERE rowid = ?", bookId);
+        database.inJpaTransaction(() -> {
+            Book loaded = adapter.findById(bookId).orElseThrow();
+            loaded.setLastReadPage(12);
+            return adapter.save(loaded);
+        });
+        assertEquals(List.of(bookId), match("marcador"));
+
+        Book detached = database.inJpaTransaction(() -> adapter.findById(bookId).orElseThrow());
+        detached.setAuthor("Joaquim Maria Machado de Assis");
+        database.inJpaTransaction(() -> adapter.save(detached));
+        assertEquals(List.of(), match("marcador"));
+        assertEquals(List.of(bookId), match("joaquim"));
+        assertEquals(List.of(bookId), match("casmurro"));
+    }
+
+    private List<Long> match(String text) {
+        return database.jdbc().queryForList(
+                "SELECT rowid FROM book_search_fts WHERE book_search_fts MATCH ?",
+                Long.class,
+                "\"" + text + "\""
+        );
+    }
+}
@@ -0,0 +1,157 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import com.br.klaus.readium.book.domain.model.BookContentHit;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqliteFtsBookContentIndexAdapterTests {
+
+    private SqliteTestDatabase database;
+    private SqliteFtsBookContentIndexAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new SqliteFtsBookContentIndexAdapter(database.jdbc());
+        ReflectionTestUtils.setField(adapter, "retryBaseMinutes", 15L);
+        ReflectionTestUtils.setField(adapter, "maxAttempts", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldReportExactTotalWhenCountFitsTheWindow() {
+        long bookId = insertBook("Dom Casmurro");
+        adapter.replaceBookPages(bookId, "livro.pdf", pages(45, "capitu"));
+
+        Page<BookContentHit> first = adapter.search("capitu", PageRequest.of(0, 20));
+        Page<BookContentHit> last = adapter.search("capitu", PageRequest.of(2, 20));
+
+        assertEquals(45, first.getTotalElements());
+        assertEquals(3, first.getTotalPages());
+        assertEquals(5, last.getNumberOfElements());
+        assertEquals(45, last.getTotalElements());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void shouldCapTotalAheadOfTheRequestedPage() {
+        int matches = SqliteFtsBookContentIndexAdapter.MAX_COUNTED_HITS_AHEAD + 300;
+        long bookId = insertBook("Enciclopedia");
+        adapter.replaceBookPages(bookId, "livro.pdf", pages(matches, "verbete"));
+
+        Page<BookContentHit> first = adapter.search("verbete", PageRequest.of(0, 10));
+        Page<BookContentHit> deep = adapter.search("verbete", PageRequest.of(100, 10));
+
+        assertEquals(10 + SqliteFtsBookContentIndexAdapter.MAX_COUNTED_HITS_AHEAD, first.getTotalElements());
+        assertTrue(first.hasNext());
+        assertEquals(matches, deep.getTotalElements());
+        assertTrue(deep.hasNext());
+    }
+
+    @Test
+    void shouldRetryFailedBooksWithGrowingBackoff() {
+        long done = insertBook("Indexado");
+        long failing = insertBook("Corrompido");
+        adapter.replaceBookPages(done, "ok.pdf", pages(1, "texto"));
+
+        adapter.markFailed(failing, "ruim.pdf");
+        assertTrue(adapter.findBooksPendingIndex(10).isEmpty());
+
+        ageIndexState(failing, 16);
+        assertEquals(List.of(failing), adapter.findBooksPendingIndex(10));
+
+        adapter.markFailed(failing, "ruim.pdf");
+        ageIndexState(failing, 16);
+        assertTrue(adapter.findBooksPendingIndex(10).isEmpty());
+        ageIndexState(failing, 31);
+        assertEquals(List.of(failing), adapter.findBooksPendingIndex(10));
+    }
+
+    @Test
+    void shouldStopRetryingAfterMaxAttemptsUntilReindexIsRequested() {
+        long failing = insertBook("Corrompido");
+        for (int attempt = 0; attempt < 3; attempt++) {
+            adapter.markFailed(failing, "ruim.pdf");
+        }
+        ageIndexState(failing, 24 * 60);
+        assertTrue(adapter.findBooksPendingIndex(10).isEmpty());
+
+        adapter.markPending(failing);
+        assertEquals(List.of(failing), adapter.findBooksPendingIndex(10));
+        assertEquals(0, attempts(failing));
+    }
+
+    @Test
+    void shouldServeNeverIndexedAndPendingBooksBeforeRetries() {
+        long failing = insertBook("Corrompido");
+        adapter.markFailed(failing, "ruim.pdf");
+        ageIndexState(failing, 60);
+        long fresh = insertBook("Novo");
+
+        assertEquals(List.of(fresh, failing), adapter.findBooksPendingIndex(10));
+
+        adapter.replaceBookPages(failing, "ok.pdf", pages(1, "texto"));
+        assertEquals(0, attempts(failing));
+        assertEquals(List.of(fresh), adapter.findBooksPendingIndex(10));
+    }
+
+    @Test
+    void shouldRemoveOnlyTheGivenBooksInOneCall() {
+        long first = insertBook("Primeiro");
+        long kept = insertBook("Mantido");
+        long third = insertBook("Terceiro");
+        for (long bookId : List.of(first, kept, third)) {
+            adapter.replaceBookPages(bookId, "livro.pdf", pages(3, "termo"));
+        }
+
+        adapter.removeBooks(List.of(first, third));
+
+        assertEquals(
+                List.of(kept),
+                adapter.search("termo", PageRequest.of(0, 20)).stream().map(BookContentHit::bookId).distinct().toList()
+        );
+        assertEquals(List.of(kept), database.jdbc().queryForList("SELECT book_id FROM book_content_index", Long.class));
+    }
+
+    private long insertBook(String title) {
+        database.jdbc().update("INSERT INTO book (title, author, has_cover) VALUES (?, 'Autor', 0)", title);
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private void ageIndexState(long bookId, int minutes) {
+        database.jdbc().update(
+                "UPDATE book_content_index SET updated_at = datetime('now', ?) WHERE book_id = ?",
+                "-" + minutes + " minutes",
+                bookId
+        );
+    }
+
+    private int attempts(long bookId) {
+        return database.jdbc().queryForObject(
+                "SELECT attempts FROM book_content_index WHERE book_id = ?", Integer.class, bookId
+        );
+    }
+
+    private static List<String> pages(int count, String term) {
+        List<String> pages = new ArrayList<>(Collections.nCopies(count, "pagina com " + term));
+        pages.add("pagina sem o termo");
+        return pages;
+    }
+}
@@ -0,0 +1,123 @@
+package com.br.klaus.readium.book.infrastructure.search;
+
+import com.br.klaus.readium.book.domain.model.BookTextSignature;
+import com.br.klaus.readium.book.domain.model.MinHashSignature;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqliteTextSignatureAdapterTests {
+
+    private SqliteTestDatabase database;
+    private SqliteTextSignatureAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new SqliteTextSignatureAdapter(database.jdbc());
+        ReflectionTestUtils.setField(adapter, "retryBaseMinutes", 15L);
+        ReflectionTestUtils.setField(adapter, "maxAttempts", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldNeverReuseRevisionAfterLatestSignatureIsRemoved() {
+        long first = insertBook();
+        long second = insertBook();
+        long third = insertBook();
+        adapter.save(first, "original", signature(1));
+        adapter.save(second, "original", signature(2));
+        long seen = revisions(adapter.findUpdatedAfter(0, 10)).get(1);
+
+        adapter.removeBook(second);
+        adapter.save(third, "original", signature(3));
+
+        List<BookTextSignature> changed = adapter.findUpdatedAfter(seen, 10);
+        assertEquals(1, changed.size());
+        assertEquals(third, changed.get(0).bookId());
+        assertArrayEquals(signature(3).hashes(), changed.get(0).signature().hashes());
+
+        adapter.save(first, "ocr-a1", signature(4));
+        assertEquals(List.of(third, first), adapter.findUpdatedAfter(seen, 10).stream().map(BookTextSignature::bookId).toList());
+    }
+
+    @Test
+    void shouldRetryFailedBooksWithBackoffUntilMaxAttempts() {
+        long fresh = insertBook();
+        long failed = insertBook();
+        adapter.markFailed(failed);
+
+        assertEquals(List.of(fresh), adapter.findBooksWithoutSignature(10));
+
+        ageFailure(failed, 16);
+        assertEquals(List.of(fresh, failed), adapter.findBooksWithoutSignature(10));
+
+        adapter.markFailed(failed);
+        ageFailure(failed, 16);
+        assertEquals(List.of(fresh), adapter.findBooksWithoutSignature(10));
+        ageFailure(failed, 31);
+        assertEquals(List.of(fresh, failed), adapter.findBooksWithoutSignature(10));
+
+        adapter.markFailed(failed);
+        ageFailure(failed, 10_000);
+        assertEquals(List.of(fresh), adapter.findBooksWithoutSignature(10));
+
+        adapter.save(failed, "original", signature(5));
+        assertEquals(0, failureRows());
+    }
+
+    @Test
+    void shouldRemoveSignaturesAndFailuresOfTheGivenBooks() {
+        long signed = insertBook();
+        long failed = insertBook();
+        long kept = insertBook();
+        adapter.save(signed, "original", signature(1));
+        adapter.save(kept, "original", signature(2));
+        adapter.markFailed(failed);
+
+        adapter.removeBooks(List.of(signed, failed));
+
+        assertEquals(List.of(kept), adapter.findUpdatedAfter(0, 10).stream().map(BookTextSignature::bookId).toList());
+        assertEquals(0, failureRows());
+    }
+
+    private long insertBook() {
+        database.jdbc().update("INSERT INTO book (title, book_format, book_status, has_cover) VALUES ('Livro', 'PDF', 'TO_READ', 0)");
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private void ageFailure(long bookId, int minutes) {
+        database.jdbc().update(
+                "UPDATE book_text_signature_failure SET failed_at = datetime('now', ?) WHERE book_id = ?",
+                "-" + minutes + " minutes",
+                bookId
+        );
+    }
+
+    private int failureRows() {
+        return database.jdbc().queryForObject("SELECT COUNT(*) FROM book_text_signature_failure", Integer.class);
+    }
+
+    private static List<Long> revisions(List<BookTextSignature> signatures) {
+        return signatures.stream().map(BookTextSignature::revision).toList();
+    }
+
+    private static MinHashSignature signature(int seed) {
+        int[] hashes = new int[128];
+        for (int index = 0; index < hashes.length; index++) {
+            hashes[index] = seed * 1_000 + index;
+        }
+        return new MinHashSignature(hashes, 60);
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.klaus.readium.book.infrastructure.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageTextBlockFileTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadEachPageIndependently() throws IOException {
+        Path file = tempDir.resolve("original.rtxt");
+        PageTextBlockFile.write(file, List.of("Capitulo um", "", "Memórias póstumas ".repeat(200)));
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        assertEquals(3, PageTextBlockFile.pageCount(content));
+        assertEquals("Capitulo um", PageTextBlockFile.readPage(content, 1));
+        assertEquals("", PageTextBlockFile.readPage(content, 2));
+        assertEquals("Memórias póstumas ".repeat(200), PageTextBlockFile.readPage(content, 3));
+    }
+
+    @Test
+    void shouldRejectPagesOutOfRange() throws IOException {
+        Path file = tempDir.resolve("original.rtxt");
+        PageTextBlockFile.write(file, List.of("unica"));
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> PageTextBlockFile.readPage(content, 2));
+    }
+
+    @Test
+    void shouldRejectUnknownFiles() {
+        ByteBuffer content = ByteBuffer.wrap("not a text store".getBytes());
+
+        assertThrows(IOException.class, () -> PageTextBlockFile.pageCount(content));
+    }
+}
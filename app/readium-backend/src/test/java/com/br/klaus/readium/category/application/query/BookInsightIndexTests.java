@@ -0,0 +1,95 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.category.api.dto.BookMetricsResponseDTO;
+import com.br.klaus.readium.category.api.dto.BookRecommendationResponseDTO;
+import com.br.klaus.readium.category.api.dto.SmartCollectionResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookInsightIndexTests {
+
+    private static BookInsightSnapshot book(long id, Integer pages, Integer lastReadPage, String status, String ocrStatus) {
+        return new BookInsightSnapshot(id, "Livro " + id, "Autor", pages, lastReadPage, "PDF", status, null, ocrStatus);
+    }
+
+    private static SmartCollectionResponseDTO collection(BookInsightIndex index, String id) {
+        return index.smartCollections().stream().filter(collection -> collection.id().equals(id)).findFirst().orElseThrow();
+    }
+
+    private static List<Long> previewIds(SmartCollectionResponseDTO collection) {
+        return collection.previewBooks().stream().map(BookInsightSnapshot::id).toList();
+    }
+
+    private static List<Long> recommendedIds(List<BookRecommendationResponseDTO> recommendations) {
+        return recommendations.stream().map(recommendation -> recommendation.book().id()).toList();
+    }
+
+    @Test
+    void shouldKeepMetricsAndCollectionsInSyncWithUpsertsAndRemovals() {
+        BookInsightIndex index = new BookInsightIndex();
+        index.upsert(book(1, 100, 90, "READING", "DONE"), List.of(10L));
+        index.upsert(book(2, 200, 50, "READING", "PENDING"), List.of());
+        index.upsert(book(3, 150, 0, "TO_READ", "FAILED"), List.of());
+        index.upsert(book(4, 300, 300, "READ", "DONE"), List.of(10L));
+
+        assertEquals(new BookMetricsResponseDTO(4, 1, 2, 1, 2, 2, 750, 440, 54, 25), index.metrics());
+        assertEquals(List.of(1L, 2L), previewIds(collection(index, "continue-reading")));
+        assertEquals(List.of(1L), previewIds(collection(index, "almost-finished")));
+        assertEquals(List.of(2L, 3L), previewIds(collection(index, "uncategorized")));
+        assertEquals(List.of(3L, 2L), previewIds(collection(index, "ocr-attention")));
+        assertEquals(List.of(3L), previewIds(collection(index, "quick-wins")));
+
+        index.upsert(book(2, 200, 200, "READ", "DONE"), List.of(10L));
+        index.remove(3L);
+
+        assertEquals(new BookMetricsResponseDTO(3, 0, 1, 2, 3, 0, 600, 590, 97, 67), index.metrics());
+        assertEquals(List.of(1L), previewIds(collection(index, "continue-reading")));
+        assertEquals(0, collection(index, "uncategorized").totalBooks());
+        assertEquals(0, collection(index, "ocr-attention").totalBooks());
+        assertEquals(0, collection(index, "quick-wins").totalBooks());
+    }
+
+    @Test
+    void shouldRankRecommendationsWithCategoryAffinity() {
+        BookInsightIndex index = new BookInsightIndex();
+        index.upsert(book(1, 300, 300, "READ", "DONE"), List.of(10L));
+        index.upsert(book(2, 300, 0, "TO_READ", "DONE"), List.of(10L));
+        index.upsert(book(3, 300, 0, "TO_READ", "DONE"), List.of(20L));
+
+        List<BookRecommendationResponseDTO> recommendations = index.recommendations(2);
+
+        assertEquals(List.of(2L, 3L), recommendedIds(recommendations));
+        assertEquals("Este titulo combina com categorias em que voce mais avanca.", recommendations.get(0).reason());
+        assertEquals(43.2, recommendations.get(0).score());
+        assertEquals(37.3, recommendations.get(1).score());
+
+        index.remove(1L);
+
+        assertEquals(List.of(3L, 2L), recommendedIds(index.recommendations(2)));
+    }
+
+    @Test
+    void shouldReturnSamePrefixAsFullRankingWhenPruningCandidates() {
+        Random random = new Random(42);
+        String[] statuses = {"TO_READ", "READING", "READ"};
+        String[] ocrStatuses = {"PENDING", "DONE", "FAILED"};
+        BookInsightIndex index = new BookInsightIndex();
+        for (long id = 1; id <= 400; id++) {
+            int pages = random.nextInt(700);
+            index.upsert(
+                    book(id, pages, random.nextInt(pages + 1), statuses[random.nextInt(3)], ocrStatuses[random.nextInt(3)]),
+                    random.nextBoolean() ? List.of((long) random.nextInt(8)) : List.of()
+            );
+        }
+
+        List<BookRecommendationResponseDTO> full = index.recommendations(index.size());
+        for (int limit = 1; limit <= 12; limit++) {
+            assertEquals(full.subList(0, limit), index.recommendations(limit));
+        }
+    }
+}
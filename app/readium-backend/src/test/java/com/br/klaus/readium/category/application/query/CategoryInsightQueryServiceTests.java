@@ -0,0 +1,146 @@
+package com.br.klaus.readium.category.application.query;
+
+import com.br.klaus.readium.book.api.BookInsightSnapshot;
+import com.br.klaus.readium.category.api.dto.InsightDashboardResponseDTO;
+import com.br.klaus.readium.category.api.dto.ReadingEvolutionPointResponseDTO;
+import com.br.klaus.readium.category.domain.model.DailyReadingEvolutionPoint;
+import com.br.klaus.readium.category.domain.model.ReadingProgressEvent;
+import com.br.klaus.readium.category.domain.port.ReadingProgressEventRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CategoryInsightQueryServiceTests {
+
+    private final BookInsightIndex index = new BookInsightIndex();
+    private final AtomicInteger indexReads = new AtomicInteger();
+    private final StubReadingProgressEvents events = new StubReadingProgressEvents();
+
+    private ExecutorService executor;
+    private CategoryInsightQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        index.upsert(book(1, 100, 90, "READING"), List.of(10L));
+        index.upsert(book(2, 300, 300, "READ"), List.of(10L));
+        index.upsert(book(3, 200, 0, "TO_READ"), List.of(10L));
+        index.upsert(book(4, 150, 0, "TO_READ"), List.of(20L));
+
+        BookInsightIndexService indexService = new BookInsightIndexService(null, null, null, null, null) {
+            @Override
+            BookInsightIndex current() {
+                indexReads.incrementAndGet();
+                events.indexRead.countDown();
+                return index;
+            }
+        };
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "insights-test"));
+        service = new CategoryInsightQueryService(indexService, new ReadingEvolutionQueryService(events), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldMatchTheSeparateEndpoints() {
+        InsightDashboardResponseDTO dashboard = service.getDashboard(50, 7);
+        assertEquals(1, indexReads.get());
+
+        assertEquals(service.getMetrics(), dashboard.metrics());
+        assertEquals(service.getSmartCollections(), dashboard.smartCollections());
+        assertEquals(service.getRecommendations(50), dashboard.recommendations());
+        assertEquals(new ReadingEvolutionQueryService(events).getEvolution(7), dashboard.evolution());
+
+        assertEquals(7, dashboard.evolution().size());
+        assertEquals(
+                new ReadingEvolutionPointResponseDTO(LocalDate.now().toString(), 40, 2, 3),
+                dashboard.evolution().get(6)
+        );
+        assertEquals(service.getRecommendations(null).size(), service.getDashboard(null, null).recommendations().size());
+    }
+
+    @Test
+    void shouldLoadEvolutionOnTheExecutorWhileReadingTheIndex() {
+        events.waitForIndexRead = true;
+
+        InsightDashboardResponseDTO dashboard = service.getDashboard(null, 30);
+
+        assertEquals("insights-test", events.evolutionThread.get().getName());
+        assertEquals(30, dashboard.evolution().size());
+    }
+
+    @Test
+    void shouldPropagateEvolutionFailureUnwrapped() {
+        IllegalStateException failure = new IllegalStateException("falha ao ler estatisticas");
+        events.failure = failure;
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> service.getDashboard(null, null));
+
+        assertSame(failure, thrown);
+    }
+
+    private static BookInsightSnapshot book(long id, Integer pages, Integer lastReadPage, String status) {
+        return new BookInsightSnapshot(id, "Livro " + id, "Autor", pages, lastReadPage, "PDF", status, null, "DONE");
+    }
+
+    private static final class StubReadingProgressEvents implements ReadingProgressEventRepositoryPort {
+
+        private final CountDownLatch indexRead = new CountDownLatch(1);
+        private final AtomicReference<Thread> evolutionThread = new AtomicReference<>();
+        private volatile boolean waitForIndexRead;
+        private volatile RuntimeException failure;
+
+        @Override
+        public List<DailyReadingEvolutionPoint> findDailyEvolution(LocalDate startDate, LocalDate endDate) {
+            evolutionThread.set(Thread.currentThread());
+            if (waitForIndexRead) {
+                try {
+                    if (!indexRead.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("O indice nao foi lido enquanto a evolucao carregava");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return List.of(
+                    new DailyReadingEvolutionPoint(endDate.minusDays(1), 25, 1, 2),
+                    new DailyReadingEvolutionPoint(endDate, 40, 2, 3),
+                    new DailyReadingEvolutionPoint(startDate.minusDays(1), 99, 9, 9)
+            );
+        }
+
+        @Override
+        public void record(ReadingProgressEvent event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int backfillDailyStats() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int purgeEventsBefore(LocalDate cutoff) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.br.klaus.readium.category.domain.service;
+
+import com.br.klaus.readium.category.domain.model.CategoryTreeNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CategoryTreeBuilderTests {
+
+    @Test
+    void shouldNestChildrenOrderedBySortOrderThenName() {
+        List<CategoryTreeNode> tree = CategoryTreeBuilder.build(List.of(
+                node(3L, "Zeta", 1L, 0),
+                node(1L, "Ficcao", null, 0),
+                node(2L, "alfa", 1L, 0),
+                node(4L, "Tecnicos", null, 1),
+                node(5L, "Primeiro", 1L, -1)
+        ));
+
+        assertEquals(List.of(1L, 4L), tree.stream().map(CategoryTreeNode::id).toList());
+        assertEquals(List.of(5L, 2L, 3L), tree.get(0).children().stream().map(CategoryTreeNode::id).toList());
+    }
+
+    @Test
+    void shouldPromoteOrphansToRoot() {
+        List<CategoryTreeNode> tree = CategoryTreeBuilder.build(List.of(
+                node(1L, "Ficcao", null, 0),
+                node(2L, "Perdida", 99L, 0)
+        ));
+
+        assertEquals(List.of(1L, 2L), tree.stream().map(CategoryTreeNode::id).toList());
+    }
+
+    @Test
+    void shouldReturnImmutableTree() {
+        List<CategoryTreeNode> tree = CategoryTreeBuilder.build(List.of(
+                node(1L, "Ficcao", null, 0),
+                node(2L, "Contos", 1L, 0)
+        ));
+
+        assertThrows(UnsupportedOperationException.class, () -> tree.add(node(3L, "Nova", null, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> tree.get(0).children().clear());
+    }
+
+    private static CategoryTreeNode node(Long id, String name, Long parentId, int sortOrder) {
+        return new CategoryTreeNode(id, name, "slug-" + id, "#000000", parentId, sortOrder, 0, 0, List.of());
+    }
+}
@@ -0,0 +1,162 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcCategoryClosureAdapterTests {
+
+    private SqliteTestDatabase database;
+    private JdbcCategoryClosureAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JdbcCategoryClosureAdapter(database.jdbc());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldMatchRebuildAfterInsertingLeaves() {
+        long root = create(null);
+        long child = create(root);
+        long grandchild = create(child);
+        long sibling = create(root);
+
+        assertMatchesRebuild();
+        assertTrue(adapter.isAncestorOrSelf(root, grandchild));
+        assertTrue(adapter.isAncestorOrSelf(grandchild, grandchild));
+        assertFalse(adapter.isAncestorOrSelf(sibling, grandchild));
+        assertEquals(2, depth(root, grandchild));
+    }
+
+    @Test
+    void shouldMatchRebuildAfterMovingSubtrees() {
+        long left = create(null);
+        long right = create(null);
+        long branch = create(left);
+        long leaf = create(branch);
+        long deepLeaf = create(leaf);
+
+        move(branch, right);
+        assertMatchesRebuild();
+        assertFalse(adapter.isAncestorOrSelf(left, deepLeaf));
+        assertEquals(3, depth(right, deepLeaf));
+
+        move(leaf, null);
+        assertMatchesRebuild();
+        assertFalse(adapter.isAncestorOrSelf(right, deepLeaf));
+        assertEquals(1, depth(leaf, deepLeaf));
+
+        move(right, leaf);
+        assertMatchesRebuild();
+        assertEquals(2, depth(leaf, branch));
+    }
+
+    @Test
+    void shouldMatchRebuildAfterRemovingCategoryAndReparentingChildren() {
+        long root = create(null);
+        long middle = create(root);
+        long first = create(middle);
+        long second = create(middle);
+        long nested = create(second);
+
+        delete(middle);
+
+        assertMatchesRebuild();
+        assertEquals(1, depth(root, first));
+        assertEquals(2, depth(root, nested));
+        assertEquals(0, closureRows().stream().filter(row -> row.get(0) == middle || row.get(1) == middle).count());
+    }
+
+    @Test
+    void shouldStayConsistentWithRebuildAcrossRandomOperations() {
+        Random random = new Random(42);
+        List<Long> categories = new ArrayList<>();
+        for (int step = 0; step < 400; step++) {
+            int operation = categories.size() < 5 ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                Long parent = categories.isEmpty() || random.nextInt(5) == 0
+                        ? null
+                        : categories.get(random.nextInt(categories.size()));
+                categories.add(create(parent));
+            } else if (operation == 2) {
+                long category = categories.get(random.nextInt(categories.size()));
+                Long parent = random.nextInt(5) == 0 ? null : categories.get(random.nextInt(categories.size()));
+                if (parent == null || !adapter.isAncestorOrSelf(category, parent)) {
+                    move(category, parent);
+                }
+            } else {
+                long category = categories.remove(random.nextInt(categories.size()));
+                delete(category);
+            }
+            if (step % 20 == 0) {
+                assertMatchesRebuild();
+            }
+        }
+        assertMatchesRebuild();
+    }
+
+    private long create(Long parentId) {
+        long id = database.jdbc().queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM category", Long.class);
+        database.jdbc().update(
+                "INSERT INTO category (id, name, slug, color, parent_id) VALUES (?, ?, ?, '#000000', ?)",
+                id,
+                "Categoria " + id,
+                "categoria-" + id,
+                parentId
+        );
+        adapter.insertLeaf(id, parentId);
+        return id;
+    }
+
+    private void move(long categoryId, Long parentId) {
+        database.jdbc().update("UPDATE category SET parent_id = ? WHERE id = ?", parentId, categoryId);
+        adapter.moveSubtree(categoryId, parentId);
+    }
+
+    private void delete(long categoryId) {
+        Long parentId = database.jdbc().queryForObject("SELECT parent_id FROM category WHERE id = ?", Long.class, categoryId);
+        List<Long> children = database.jdbc().queryForList("SELECT id FROM category WHERE parent_id = ?", Long.class, categoryId);
+        for (Long child : children) {
+            move(child, parentId);
+        }
+        database.jdbc().update("DELETE FROM category WHERE id = ?", categoryId);
+        adapter.remove(categoryId);
+    }
+
+    private void assertMatchesRebuild() {
+        List<List<Long>> incremental = closureRows();
+        adapter.rebuild();
+        assertEquals(closureRows(), incremental);
+    }
+
+    private List<List<Long>> closureRows() {
+        return database.jdbc().query(
+                "SELECT ancestor_id, descendant_id, depth FROM category_closure ORDER BY ancestor_id, descendant_id",
+                (rs, rowNum) -> List.of(rs.getLong("ancestor_id"), rs.getLong("descendant_id"), rs.getLong("depth"))
+        );
+    }
+
+    private long depth(long ancestorId, long descendantId) {
+        return database.jdbc().queryForObject(
+                "SELECT depth FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?",
+                Long.class,
+                ancestorId,
+                descendantId
+        );
+    }
+}
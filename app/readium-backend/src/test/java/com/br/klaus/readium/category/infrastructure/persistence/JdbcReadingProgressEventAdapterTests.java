@@ -0,0 +1,139 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.category.domain.model.DailyReadingEvolutionPoint;
+import com.br.klaus.readium.category.domain.model.ReadingProgressEvent;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JdbcReadingProgressEventAdapterTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private SqliteTestDatabase database;
+    private JdbcReadingProgressEventAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JdbcReadingProgressEventAdapter(database.jdbc());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldMatchRawAggregationWhenRecordingEvents() {
+        Random random = new Random(7);
+        for (int index = 0; index < 300; index++) {
+            record(1 + random.nextInt(6), TODAY.minusDays(random.nextInt(5)), 1 + random.nextInt(20));
+        }
+
+        assertEquals(rawAggregation(), rollup());
+        assertEquals(0, adapter.backfillDailyStats());
+    }
+
+    @Test
+    void shouldCountEachBookOncePerDay() {
+        record(1, TODAY, 5);
+        record(1, TODAY, 3);
+        record(2, TODAY, 4);
+        record(1, TODAY.minusDays(1), 2);
+
+        assertEquals(
+                List.of(
+                        new DailyReadingEvolutionPoint(TODAY.minusDays(1), 2, 1, 1),
+                        new DailyReadingEvolutionPoint(TODAY, 12, 2, 3)
+                ),
+                rollup()
+        );
+    }
+
+    @Test
+    void shouldBackfillEarlierEventsOfADayThatAlreadyHasLiveEvents() {
+        legacyEvent(1, TODAY.minusDays(2), 10);
+        legacyEvent(1, TODAY, 7);
+        legacyEvent(2, TODAY, 3);
+        record(1, TODAY, 5);
+        record(3, TODAY, 1);
+
+        assertEquals(2, adapter.backfillDailyStats());
+
+        assertEquals(rawAggregation(), rollup());
+        assertEquals(new DailyReadingEvolutionPoint(TODAY, 16, 3, 4), rollup().get(1));
+
+        assertEquals(0, adapter.backfillDailyStats());
+        record(2, TODAY, 2);
+        assertEquals(rawAggregation(), rollup());
+    }
+
+    @Test
+    void shouldKeepBackfilledDaysAfterPurgingRawEvents() {
+        legacyEvent(1, TODAY.minusDays(400), 12);
+        legacyEvent(2, TODAY.minusDays(400), 8);
+        legacyEvent(1, TODAY.minusDays(10), 4);
+        adapter.backfillDailyStats();
+        List<DailyReadingEvolutionPoint> beforePurge = rollup();
+
+        assertEquals(2, adapter.purgeEventsBefore(TODAY.minusDays(365)));
+
+        assertEquals(beforePurge, rollup());
+        assertEquals(1, count("reading_progress_event"));
+        assertEquals(1, count("reading_daily_book"));
+        assertEquals(0, adapter.backfillDailyStats());
+        assertEquals(beforePurge, rollup());
+
+        record(1, TODAY.minusDays(10), 6);
+        assertEquals(new DailyReadingEvolutionPoint(TODAY.minusDays(10), 10, 1, 2), rollup().get(1));
+    }
+
+    private void record(long bookId, LocalDate date, int pages) {
+        adapter.record(ReadingProgressEvent.create(bookId, date, pages, date.atTime(12, 0)));
+    }
+
+    private void legacyEvent(long bookId, LocalDate date, int pages) {
+        database.jdbc().update(
+                "INSERT INTO reading_progress_event (book_id, event_date, pages_read_delta, occurred_at, rolled_up) "
+                        + "VALUES (?, ?, ?, ?, 0)",
+                bookId,
+                Date.valueOf(date),
+                pages,
+                Timestamp.valueOf(date.atTime(9, 0))
+        );
+    }
+
+    private List<DailyReadingEvolutionPoint> rollup() {
+        return adapter.findDailyEvolution(TODAY.minusDays(500), TODAY);
+    }
+
+    private List<DailyReadingEvolutionPoint> rawAggregation() {
+        return database.jdbc().query("""
+                SELECT event_date, SUM(pages_read_delta) AS pages, COUNT(DISTINCT book_id) AS books, COUNT(*) AS updates
+                FROM reading_progress_event
+                GROUP BY event_date
+                ORDER BY event_date
+                """,
+                (rs, rowNum) -> new DailyReadingEvolutionPoint(
+                        rs.getDate("event_date").toLocalDate(),
+                        rs.getLong("pages"),
+                        rs.getLong("books"),
+                        rs.getLong("updates")
+                )
+        );
+    }
+
+    private int count(String table) {
+        return database.jdbc().queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.br.klaus.readium.category.infrastructure.persistence;
+
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JpaBookCategoryRepositoryAdapterTests {
+
+    private SqliteTestDatabase database;
+    private JpaBookCategoryRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JpaBookCategoryRepositoryAdapter(database.jpaRepository(BookCategoryJpaRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldReadAndDeleteLinksOfSeveralBooksAtOnce() {
+        long first = insertBook();
+        long second = insertBook();
+        long kept = insertBook();
+        long fiction = insertCategory("ficcao");
+        long history = insertCategory("historia");
+        link(first, fiction);
+        link(first, history);
+        link(second, history);
+        link(kept, fiction);
+
+        assertEquals(
+                Map.of(first, List.of(fiction, history), second, List.of(history)),
+                adapter.findCategoryIdsByBooks(List.of(first, second))
+        );
+
+        int deleted = database.inJpaTransaction(() -> adapter.deleteByBookIds(List.of(first, second)));
+
+        assertEquals(3, deleted);
+        assertEquals(
+                List.of(kept),
+                database.jdbc().queryForList("SELECT book_id FROM book_category", Long.class)
+        );
+        assertEquals(0, adapter.deleteByBookIds(List.of()));
+    }
+
+    private long insertBook() {
+        database.jdbc().update("INSERT INTO book (title, has_cover) VALUES ('Livro', 0)");
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private long insertCategory(String slug) {
+        database.jdbc().update("INSERT INTO category (name, slug, color) VALUES (?, ?, '#000000')", slug, slug);
+        return database.jdbc().queryForObject("SELECT last_insert_rowid()", Long.class);
+    }
+
+    private void link(long bookId, long categoryId) {
+        database.jdbc().update("INSERT INTO book_category (book_id, category_id) VALUES (?, ?)", bookId, categoryId);
+    }
+}
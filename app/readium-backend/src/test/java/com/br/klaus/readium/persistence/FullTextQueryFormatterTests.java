@@ -0,0 +1,57 @@
+package com.br.klaus.readium.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FullTextQueryFormatterTests {
+
+    @Test
+    void shouldQuoteTermsAndPrefixTheLastOne() {
+        Optional<String> expression = FullTextQueryFormatter.toMatchExpression("olhos de ressa");
+
+        assertEquals(Optional.of("\"olhos\" \"de\" \"ressa\"*"), expression);
+    }
+
+    @Test
+    void shouldNeutralizeFtsOperatorsFromUserInput() {
+        Optional<String> expression = FullTextQueryFormatter.toMatchExpression("capitu\" OR title:* NEAR(");
+
+        assertEquals(Optional.of("\"capitu\" \"OR\" \"title\" \"NEAR\"*"), expression);
+    }
+
+    @Test
+    void shouldRejectQueriesWithoutTerms() {
+        assertTrue(FullTextQueryFormatter.toMatchExpression("  \"*  ").isEmpty());
+        assertTrue(FullTextQueryFormatter.toMatchExpression(null).isEmpty());
+    }
+
+    @Test
+    void shouldQuoteEveryTermAsPrefix() {
+        assertEquals(
+                Optional.of("\"Capitu\"* \"olhos\"*"),
+                FullTextQueryFormatter.toPrefixMatchExpression(" Capitu, olhos!")
+        );
+        assertEquals(
+                Optional.of("\"NEAR\"* \"a\"* \"b\"*"),
+                FullTextQueryFormatter.toPrefixMatchExpression("NEAR(a \"b\")")
+        );
+        assertTrue(FullTextQueryFormatter.toPrefixMatchExpression(" -*\" ").isEmpty());
+        assertTrue(FullTextQueryFormatter.toPrefixMatchExpression(null).isEmpty());
+    }
+
+    @Test
+    void shouldBuildQuotedSubstringPhraseForTrigramSearch() {
+        assertEquals(Optional.of("\"dom casmurro\""), FullTextQueryFormatter.toSubstringPhrase("  dom   casmurro "));
+        assertEquals(Optional.of("\"say \"\"hi\"\"\""), FullTextQueryFormatter.toSubstringPhrase("say \"hi\""));
+    }
+
+    @Test
+    void shouldSkipTrigramPhraseForShortQueries() {
+        assertTrue(FullTextQueryFormatter.toSubstringPhrase("ab").isEmpty());
+        assertTrue(FullTextQueryFormatter.toSubstringPhrase(null).isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package com.br.klaus.readium.persistence;
+
+import com.br.klaus.readium.book.api.dto.BookFilterDTO;
+import com.br.klaus.readium.book.api.dto.UpdateProgressRequestDTO;
+import com.br.klaus.readium.book.application.command.BookCommandService;
+import com.br.klaus.readium.book.application.query.BookQueryService;
+import com.br.klaus.readium.book.domain.model.Book;
+import com.br.klaus.readium.book.infrastructure.persistence.BookJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede a latencia de escrita (atualizacao de progresso) com leitores concorrentes listando a estante.
+ * Execute com {@code -Dreadium.benchmarks=true}; o modo vem de {@code -Dreadium.benchmarks.persistence-mode}
+ * (padrao SINGLE_WRITER) e o resultado (p50/p99/max) sai no log.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "readium.benchmarks", matches = "true")
+class SqliteWriteLoadBenchmarkTests {
+
+    private static final int BOOKS = 2_000;
+    private static final int WRITERS = 8;
+    private static final int READERS = 8;
+    private static final int WRITES_PER_WRITER = 500;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private BookJpaRepository bookRepository;
+
+    @Autowired
+    private BookCommandService bookCommands;
+
+    @Autowired
+    private BookQueryService bookQueries;
+
+    @DynamicPropertySource
+    static void databaseFile(DynamicPropertyRegistry registry) throws IOException {
+        String path = Files.createTempFile("readium-write-load", ".db").toString();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + path);
+        registry.add(
+                "app.persistence.mode",
+                () -> System.getProperty("readium.benchmarks.persistence-mode", "SINGLE_WRITER")
+        );
+    }
+
+    @Test
+    void measureWriteLatencyUnderConcurrentReaders() throws Exception {
+        List<Long> bookIds = seedBooks();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < READERS; reader++) {
+                readers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        int page = ThreadLocalRandom.current().nextInt(BOOKS / PAGE_SIZE);
+                        bookQueries.findAll(new BookFilterDTO(null, null, null, null), null, PageRequest.of(page, PAGE_SIZE));
+                        reads.increment();
+                    }
+                }));
+            }
+
+            long start = System.nanoTime();
+            List<Future<long[]>> writers = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                writers.add(executor.submit(() -> {
+                    long[] latencies = new long[WRITES_PER_WRITER];
+                    for (int write = 0; write < WRITES_PER_WRITER; write++) {
+                        Long bookId = bookIds.get(ThreadLocalRandom.current().nextInt(bookIds.size()));
+                        UpdateProgressRequestDTO request = new UpdateProgressRequestDTO(
+                                1 + write % 300,
+                                UpdateProgressRequestDTO.ProgressUpdateMode.EXACT
+                        );
+                        long begin = System.nanoTime();
+                        bookCommands.updateProgress(bookId, request, null);
+                        latencies[write] = System.nanoTime() - begin;
+                    }
+                    return latencies;
+                }));
+            }
+
+            long[] latencies = new long[WRITERS * WRITES_PER_WRITER];
+            int offset = 0;
+            for (Future<long[]> writer : writers) {
+                long[] partial = writer.get();
+                System.arraycopy(partial, 0, latencies, offset, partial.length);
+                offset += partial.length;
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+
+            Arrays.sort(latencies);
+            assertEquals(WRITERS * WRITES_PER_WRITER, offset);
+            assertTrue(reads.sum() > 0, "Nenhuma leitura concorrente foi concluida");
+            log.info(
+                    "Escritas: {} ({}/s), p50 {} ms, p99 {} ms, max {} ms; leituras concorrentes: {} ({}/s)",
+                    latencies.length,
+                    Math.round(latencies.length / elapsedSeconds),
+                    String.format("%.2f", percentileMillis(latencies, 0.50)),
+                    String.format("%.2f", percentileMillis(latencies, 0.99)),
+                    String.format("%.2f", latencies[latencies.length - 1] / 1e6),
+                    reads.sum(),
+                    Math.round(reads.sum() / elapsedSeconds)
+            );
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> seedBooks() {
+        List<Book> batch = new ArrayList<>(BOOKS);
+        for (int index = 0; index < BOOKS; index++) {
+            Book book = Book.create("Livro " + index, "books/" + index + "/arquivo.pdf", "arquivo.pdf");
+            book.setAuthor("Autor " + (index % 300));
+            book.setPages(300);
+            book.setFileHash(String.format("%064x", index));
+            batch.add(book);
+        }
+        return bookRepository.saveAll(batch).stream().map(Book::getId).toList();
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+}
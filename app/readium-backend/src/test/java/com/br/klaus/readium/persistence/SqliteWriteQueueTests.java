@@ -0,0 +1,204 @@
+package com.br.klaus.readium.persistence;
+
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqliteWriteQueueTests {
+
+    private SqliteTestDatabase database;
+    private CountingTransactionManager transactionManager;
+    private SqliteWriteQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        database.jdbc().execute("CREATE TABLE queued_write (name TEXT NOT NULL)");
+        transactionManager = new CountingTransactionManager(database.transactionManager());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.shutdown();
+        }
+        database.close();
+    }
+
+    @Test
+    void shouldCommitQueuedWritesTogether() throws Exception {
+        queue = new SqliteWriteQueue(transactionManager, "SINGLE_WRITER", 32, 1024);
+        CountDownLatch release = blockWriter();
+        Map<String, Integer> commitsSeen = new ConcurrentHashMap<>();
+        for (int index = 0; index < 5; index++) {
+            String name = "item-" + index;
+            queue.submit(() -> {
+                commitsSeen.put(name, transactionManager.commits.get());
+                insert(name);
+            });
+        }
+
+        release.countDown();
+        queue.execute(() -> null);
+
+        assertEquals(5, rows());
+        assertEquals(1, commitsSeen.values().stream().distinct().count());
+        assertTrue(transactionManager.commits.get() <= 3);
+    }
+
+    @Test
+    void shouldRetryEachTaskWhenTheBatchFails() throws Exception {
+        queue = new SqliteWriteQueue(transactionManager, "SINGLE_WRITER", 32, 1024);
+        CountDownLatch release = blockWriter();
+        AtomicInteger firstAttempts = new AtomicInteger();
+        FutureTask<Object> first = queued(() -> {
+            firstAttempts.incrementAndGet();
+            insert("primeiro");
+            return "ok";
+        });
+        FutureTask<Object> failing = queued(() -> {
+            insert("culpado");
+            throw new IllegalStateException("falha na escrita");
+        });
+        FutureTask<Object> last = queued(() -> {
+            insert("ultimo");
+            return "ok";
+        });
+
+        release.countDown();
+
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", last.get(5, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertEquals("falha na escrita", error.getCause().getMessage());
+        assertEquals(2, firstAttempts.get());
+        assertEquals(List.of("primeiro", "ultimo"), names());
+    }
+
+    @Test
+    void shouldRunOnTheCallerThreadOutsideSingleWriterMode() {
+        queue = new SqliteWriteQueue(transactionManager, "SHARED", 32, 1024);
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        Integer result = queue.execute(() -> {
+            threads.add(Thread.currentThread());
+            insert("imediato");
+            return 1;
+        });
+        queue.submit(() -> {
+            threads.add(Thread.currentThread());
+            insert("agendado");
+        });
+        queue.submit(() -> {
+            throw new IllegalStateException("falha registrada no log");
+        });
+
+        assertEquals(1, result);
+        assertEquals(List.of(caller, caller), threads);
+        assertEquals(List.of("imediato", "agendado"), names());
+        assertThrows(IllegalStateException.class, () -> queue.run(() -> {
+            throw new IllegalStateException("falha propagada");
+        }));
+    }
+
+    @Test
+    void shouldDrainQueuedWritesOnShutdown() throws InterruptedException {
+        queue = new SqliteWriteQueue(transactionManager, "SINGLE_WRITER", 4, 1024);
+        CountDownLatch release = blockWriter();
+        for (int index = 0; index < 10; index++) {
+            String name = "item-" + index;
+            queue.submit(() -> insert(name));
+        }
+
+        release.countDown();
+        queue.shutdown();
+
+        assertEquals(10, rows());
+    }
+
+    private CountDownLatch blockWriter() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private FutureTask<Object> queued(Supplier<Object> work) throws InterruptedException {
+        FutureTask<Object> task = new FutureTask<>(() -> queue.execute(work));
+        Thread caller = new Thread(task);
+        caller.start();
+        while (caller.getState() != Thread.State.WAITING && !task.isDone()) {
+            Thread.sleep(5);
+        }
+        return task;
+    }
+
+    private void insert(String name) {
+        database.jdbc().update("INSERT INTO queued_write (name) VALUES (?)", name);
+    }
+
+    private int rows() {
+        return database.jdbc().queryForObject("SELECT COUNT(*) FROM queued_write", Integer.class);
+    }
+
+    private List<String> names() {
+        return database.jdbc().queryForList("SELECT name FROM queued_write ORDER BY rowid", String.class);
+    }
+
+    private static final class CountingTransactionManager implements PlatformTransactionManager {
+
+        private final PlatformTransactionManager delegate;
+        private final AtomicInteger commits = new AtomicInteger();
+
+        private CountingTransactionManager(PlatformTransactionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return delegate.getTransaction(definition);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            boolean newTransaction = status.isNewTransaction();
+            delegate.commit(status);
+            if (newTransaction) {
+                commits.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            delegate.rollback(status);
+        }
+    }
+}
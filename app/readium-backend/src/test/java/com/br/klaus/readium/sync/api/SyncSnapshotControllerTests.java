@@ -0,0 +1,105 @@
+package com.br.klaus.readium.sync.api;
+
+import com.br.klaus.readium.sync.application.SyncSnapshotContributor;
+import com.br.klaus.readium.sync.application.SyncSnapshotService;
+import com.br.klaus.readium.sync.infrastructure.persistence.JdbcSyncChangeLogAdapter;
+import com.br.klaus.readium.sync.infrastructure.storage.FileSystemSyncSnapshotStoreAdapter;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncSnapshotControllerTests {
+
+    @TempDir
+    Path storage;
+
+    private SqliteTestDatabase database;
+    private SyncSnapshotController controller;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        SyncSnapshotContributor books = writer -> writer.write("BOOK", Map.of("id", 1));
+        SyncSnapshotService service = new SyncSnapshotService(
+                new JdbcSyncChangeLogAdapter(database.jdbc()),
+                new FileSystemSyncSnapshotStoreAdapter(storage.toString(), 600),
+                List.of(books),
+                database.transactionManager(),
+                300
+        );
+        controller = new SyncSnapshotController(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldServeStoredGzipToClientsThatAcceptIt() throws IOException {
+        ResponseEntity<Resource> response = controller.snapshot(request("gzip, deflate, br"));
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+        try (InputStream body = new GZIPInputStream(response.getBody().getInputStream())) {
+            assertTrue(new String(body.readAllBytes(), StandardCharsets.UTF_8).contains("\"type\":\"END\""));
+        }
+    }
+
+    @Test
+    void shouldServePlainNdjsonWhenGzipIsNotAccepted() throws IOException {
+        for (String acceptEncoding : new String[]{null, "identity", "gzip;q=0, *", "br"}) {
+            ResponseEntity<Resource> response = controller.snapshot(request(acceptEncoding));
+
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+            try (InputStream body = response.getBody().getInputStream()) {
+                String lines = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(lines.startsWith("{\"type\":\"SNAPSHOT\""), acceptEncoding);
+            }
+        }
+    }
+
+    @Test
+    void shouldNegotiateGzipFromQualityValues() {
+        assertTrue(SyncSnapshotController.acceptsGzip("gzip"));
+        assertTrue(SyncSnapshotController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(SyncSnapshotController.acceptsGzip("*"));
+        assertTrue(SyncSnapshotController.acceptsGzip("x-gzip"));
+        assertFalse(SyncSnapshotController.acceptsGzip(null));
+        assertFalse(SyncSnapshotController.acceptsGzip("gzip;q=0"));
+        assertFalse(SyncSnapshotController.acceptsGzip("*;q=0"));
+        assertFalse(SyncSnapshotController.acceptsGzip("gzip;q=0, *;q=1"));
+    }
+
+    private static WebRequest request(String acceptEncoding) {
+        return (WebRequest) Proxy.newProxyInstance(
+                WebRequest.class.getClassLoader(),
+                new Class<?>[]{WebRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase((String) args[0]) ? acceptEncoding : null;
+                    case "checkNotModified" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.port.LibraryRevisionRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibraryRevisionServiceTests {
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldAdvanceImmediatelyOutsideTransaction() {
+        LibraryRevisionService service = new LibraryRevisionService(new InMemoryRepository());
+
+        service.bump(RevisionAggregate.BOOKS);
+        service.bump(RevisionAggregate.BOOKS);
+
+        assertEquals(2L, service.current(RevisionAggregate.BOOKS));
+        assertEquals(0L, service.current(RevisionAggregate.CATEGORIES));
+    }
+
+    @Test
+    void shouldAdvanceOnlyAfterCommit() {
+        LibraryRevisionService service = new LibraryRevisionService(new InMemoryRepository());
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.bump(RevisionAggregate.ANNOTATIONS);
+        assertEquals(0L, service.current(RevisionAggregate.ANNOTATIONS));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, service.current(RevisionAggregate.ANNOTATIONS));
+    }
+
+    @Test
+    void shouldBuildWeakEtagFromRevisions() {
+        InMemoryRepository repository = new InMemoryRepository();
+        repository.revisions.put("BOOKS", 12L);
+        repository.revisions.put("CATEGORIES", 4L);
+        LibraryRevisionService service = new LibraryRevisionService(repository);
+        service.refresh();
+
+        assertEquals("W/\"books12-categories4\"", service.etag(RevisionAggregate.BOOKS, RevisionAggregate.CATEGORIES));
+        assertEquals("W/\"books12-2026-01-01\"", service.etag("2026-01-01", RevisionAggregate.BOOKS));
+    }
+
+    @Test
+    void shouldNeverMoveBackwardsOnRefresh() {
+        InMemoryRepository repository = new InMemoryRepository();
+        LibraryRevisionService service = new LibraryRevisionService(repository);
+        service.bump(RevisionAggregate.TRANSLATIONS);
+        service.bump(RevisionAggregate.TRANSLATIONS);
+
+        repository.revisions.put("TRANSLATIONS", 1L);
+        repository.revisions.put("UNKNOWN", 9L);
+        service.refresh();
+
+        assertEquals(2L, service.current(RevisionAggregate.TRANSLATIONS));
+    }
+
+    private static final class InMemoryRepository implements LibraryRevisionRepositoryPort {
+        private final Map<String, Long> revisions = new HashMap<>();
+
+        @Override
+        public long increment(String aggregate) {
+            return revisions.merge(aggregate, 1L, Long::sum);
+        }
+
+        @Override
+        public Map<String, Long> findAll() {
+            return Map.copyOf(revisions);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.br.klaus.readium.sync.domain.port.SyncChangeLogRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncChangeLogServiceTests {
+
+    @Test
+    void shouldPageChangesAfterRevision() {
+        InMemoryRepository repository = new InMemoryRepository();
+        SyncChangeLogService service = new SyncChangeLogService(repository);
+        service.recordUpserts(SyncEntityType.BOOK, List.of(1L, 2L, 3L));
+        service.recordDelete(SyncEntityType.ANNOTATION, 9L, 1L);
+
+        SyncChangeLogService.SyncChangeBatch first = service.findChanges(0, 2);
+        assertEquals(2, first.changes().size());
+        assertTrue(first.hasMore());
+        assertEquals(2L, first.nextSince());
+        assertEquals(4L, first.headRevision());
+
+        SyncChangeLogService.SyncChangeBatch second = service.findChanges(first.nextSince(), 2);
+        assertFalse(second.hasMore());
+        assertEquals(4L, second.nextSince());
+        assertEquals(SyncChange.Operation.DELETE, second.changes().get(1).operation());
+        assertEquals(1L, second.changes().get(1).bookId());
+    }
+
+    @Test
+    void shouldIgnoreNullAndDuplicatedIds() {
+        InMemoryRepository repository = new InMemoryRepository();
+        SyncChangeLogService service = new SyncChangeLogService(repository);
+
+        service.recordUpserts(SyncEntityType.CATEGORY, Arrays.asList(5L, null, 5L));
+        service.recordUpsert(SyncEntityType.BOOK, null);
+
+        assertEquals(1, repository.changes.size());
+    }
+
+    @Test
+    void shouldRequireResetWhenSinceWasPurged() {
+        InMemoryRepository repository = new InMemoryRepository();
+        SyncChangeLogService service = new SyncChangeLogService(repository);
+        service.recordUpserts(SyncEntityType.BOOK, List.of(1L, 2L));
+        repository.purgedThrough = 2L;
+
+        SyncChangeLogService.SyncChangeBatch batch = service.findChanges(1, null);
+
+        assertTrue(batch.resetRequired());
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(2L, batch.nextSince());
+    }
+
+    @Test
+    void shouldRejectNegativeRevision() {
+        SyncChangeLogService service = new SyncChangeLogService(new InMemoryRepository());
+
+        assertThrows(IllegalArgumentException.class, () -> service.findChanges(-1, null));
+    }
+
+    private static final class InMemoryRepository implements SyncChangeLogRepositoryPort {
+
+        private final List<SyncChange> changes = new ArrayList<>();
+        private long purgedThrough;
+
+        @Override
+        public void append(String entityType, Collection<Long> entityIds, Long bookId, SyncChange.Operation operation) {
+            for (Long entityId : entityIds) {
+                changes.add(new SyncChange(changes.size() + 1, entityType, entityId, bookId, operation));
+            }
+        }
+
+        @Override
+        public List<SyncChange> findAfter(long revision, int limit) {
+            return changes.stream()
+                    .filter(change -> change.revision() > revision)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public long headRevision() {
+            return Math.max(changes.size(), purgedThrough);
+        }
+
+        @Override
+        public long purgedThrough() {
+            return purgedThrough;
+        }
+
+        @Override
+        public int collapseSuperseded() {
+            return 0;
+        }
+
+        @Override
+        public int purgeTombstonesOlderThanDays(long retentionDays) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.br.klaus.readium.sync.application;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+import com.br.klaus.readium.sync.domain.port.SyncChangeLogRepositoryPort;
+import com.br.klaus.readium.sync.domain.port.SyncSnapshotStorePort;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncSnapshotServiceTests {
+
+    @Test
+    void shouldWriteHeaderRecordsAndTrailer() {
+        InMemoryStore store = new InMemoryStore();
+        SyncSnapshotService service = service(new FixedChangeLog(7L), store, 0);
+
+        SyncSnapshotFile snapshot = service.current();
+
+        assertEquals(7L, snapshot.revision());
+        List<String> lines = store.content.lines().toList();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).contains("\"type\":\"SNAPSHOT\""));
+        assertTrue(lines.get(0).contains("\"revision\":7"));
+        assertEquals("{\"type\":\"BOOK\",\"data\":{\"id\":1}}", lines.get(1));
+        assertEquals("{\"type\":\"BOOK\",\"data\":{\"id\":2}}", lines.get(2));
+        assertEquals("{\"type\":\"END\",\"data\":{\"records\":3}}", lines.get(3));
+    }
+
+    @Test
+    void shouldReuseSnapshotWhileRevisionIsUnchanged() {
+        FixedChangeLog changeLog = new FixedChangeLog(3L);
+        InMemoryStore store = new InMemoryStore();
+        SyncSnapshotService service = service(changeLog, store, 0);
+
+        service.current();
+        service.current();
+        assertEquals(1, store.writes);
+
+        changeLog.head = 4L;
+        assertEquals(4L, service.current().revision());
+        assertEquals(2, store.writes);
+    }
+
+    @Test
+    void shouldReuseRecentSnapshotWithinMaxAge() {
+        FixedChangeLog changeLog = new FixedChangeLog(3L);
+        InMemoryStore store = new InMemoryStore();
+        SyncSnapshotService service = service(changeLog, store, 300);
+
+        service.current();
+        changeLog.head = 9L;
+
+        assertEquals(3L, service.current().revision());
+        assertEquals(1, store.writes);
+    }
+
+    private static SyncSnapshotService service(FixedChangeLog changeLog, InMemoryStore store, long maxAgeSeconds) {
+        SyncSnapshotContributor books = writer -> {
+            writer.write("BOOK", Map.of("id", 1));
+            writer.write("BOOK", Map.of("id", 2));
+        };
+        return new SyncSnapshotService(changeLog, store, List.of(books), new NoOpTransactionManager(), maxAgeSeconds);
+    }
+
+    private static final class InMemoryStore implements SyncSnapshotStorePort {
+
+        private SyncSnapshotFile latest;
+        private String content;
+        private int writes;
+
+        @Override
+        public Optional<SyncSnapshotFile> findLatest(int format) {
+            return Optional.ofNullable(latest);
+        }
+
+        @Override
+        public SyncSnapshotFile store(int format, long revision, SnapshotContent snapshotContent) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try {
+                snapshotContent.writeTo(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            content = output.toString(StandardCharsets.UTF_8);
+            writes++;
+            latest = new SyncSnapshotFile(format, revision, Path.of("snapshot"), output.size(), Instant.now());
+            return latest;
+        }
+    }
+
+    private static final class FixedChangeLog implements SyncChangeLogRepositoryPort {
+
+        private long head;
+
+        private FixedChangeLog(long head) {
+            this.head = head;
+        }
+
+        @Override
+        public void append(String entityType, Collection<Long> entityIds, Long bookId, SyncChange.Operation operation) {
+        }
+
+        @Override
+        public List<SyncChange> findAfter(long revision, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public long headRevision() {
+            return head;
+        }
+
+        @Override
+        public long purgedThrough() {
+            return 0;
+        }
+
+        @Override
+        public int collapseSuperseded() {
+            return 0;
+        }
+
+        @Override
+        public int purgeTombstonesOlderThanDays(long retentionDays) {
+            return 0;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
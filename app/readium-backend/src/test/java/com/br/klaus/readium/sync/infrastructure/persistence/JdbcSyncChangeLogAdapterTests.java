@@ -0,0 +1,116 @@
+package com.br.klaus.readium.sync.infrastructure.persistence;
+
+import com.br.klaus.readium.sync.domain.model.SyncChange;
+import com.br.klaus.readium.testsupport.SqliteTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JdbcSyncChangeLogAdapterTests {
+
+    private SqliteTestDatabase database;
+    private JdbcSyncChangeLogAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = SqliteTestDatabase.migrated();
+        adapter = new JdbcSyncChangeLogAdapter(database.jdbc());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldKeepOnlyTheLatestChangeOfEachEntity() {
+        adapter.append("BOOK", List.of(1L, 2L), null, SyncChange.Operation.UPSERT);
+        adapter.append("ANNOTATION", List.of(1L), 10L, SyncChange.Operation.UPSERT);
+        adapter.append("BOOK", List.of(1L), null, SyncChange.Operation.UPSERT);
+        adapter.append("ANNOTATION", List.of(1L), 10L, SyncChange.Operation.DELETE);
+        adapter.append("BOOK", List.of(2L), null, SyncChange.Operation.DELETE);
+        long head = adapter.headRevision();
+
+        assertEquals(3, adapter.collapseSuperseded());
+
+        List<SyncChange> remaining = adapter.findAfter(0, 10);
+        assertEquals(
+                List.of("BOOK:1:UPSERT", "ANNOTATION:1:DELETE", "BOOK:2:DELETE"),
+                remaining.stream().map(JdbcSyncChangeLogAdapterTests::describe).toList()
+        );
+        assertEquals(List.of(4L, 5L, 6L), remaining.stream().map(SyncChange::revision).toList());
+        assertEquals(10L, remaining.get(1).bookId());
+        assertEquals(head, adapter.headRevision());
+        assertEquals(0, adapter.collapseSuperseded());
+    }
+
+    @Test
+    void shouldReturnOnlyLaterChangesToClientsWhoseCursorFallsOnACollapsedRow() {
+        adapter.append("BOOK", List.of(1L), null, SyncChange.Operation.UPSERT);
+        adapter.append("BOOK", List.of(2L), null, SyncChange.Operation.UPSERT);
+        adapter.append("BOOK", List.of(1L), null, SyncChange.Operation.UPSERT);
+
+        adapter.collapseSuperseded();
+
+        assertEquals(List.of(2L, 3L), adapter.findAfter(0, 10).stream().map(SyncChange::revision).toList());
+        assertEquals(List.of(2L, 3L), adapter.findAfter(1, 10).stream().map(SyncChange::revision).toList());
+        assertEquals(List.of(3L), adapter.findAfter(2, 10).stream().map(SyncChange::revision).toList());
+    }
+
+    @Test
+    void shouldPurgeOnlyExpiredTombstonesAndAdvanceTheWatermark() {
+        adapter.append("BOOK", List.of(1L), null, SyncChange.Operation.DELETE);
+        adapter.append("BOOK", List.of(2L), null, SyncChange.Operation.UPSERT);
+        adapter.append("BOOK", List.of(3L), null, SyncChange.Operation.DELETE);
+        adapter.append("BOOK", List.of(4L), null, SyncChange.Operation.DELETE);
+        age(1, 40);
+        age(2, 40);
+        age(3, 31);
+        age(4, 5);
+
+        assertEquals(2, adapter.purgeTombstonesOlderThanDays(30));
+
+        assertEquals(3, adapter.purgedThrough());
+        assertEquals(
+                List.of("BOOK:2:UPSERT", "BOOK:4:DELETE"),
+                adapter.findAfter(0, 10).stream().map(JdbcSyncChangeLogAdapterTests::describe).toList()
+        );
+        assertEquals(0, adapter.purgeTombstonesOlderThanDays(30));
+        assertEquals(3, adapter.purgedThrough());
+    }
+
+    @Test
+    void shouldKeepHeadRevisionAndWatermarkWhenTheLogEmpties() {
+        adapter.append("BOOK", List.of(1L, 2L), null, SyncChange.Operation.DELETE);
+        age(1, 60);
+        age(2, 60);
+
+        assertEquals(2, adapter.purgeTombstonesOlderThanDays(30));
+
+        assertEquals(List.of(), adapter.findAfter(0, 10));
+        assertEquals(2, adapter.purgedThrough());
+        assertEquals(2, adapter.headRevision());
+
+        database.jdbc().update("UPDATE sync_change_log_state SET purged_through = 50 WHERE id = 1");
+        adapter.append("BOOK", List.of(3L), null, SyncChange.Operation.DELETE);
+        age(3, 60);
+        adapter.purgeTombstonesOlderThanDays(30);
+        assertEquals(50, adapter.purgedThrough());
+    }
+
+    private void age(long revision, int days) {
+        database.jdbc().update(
+                "UPDATE sync_change_log SET changed_at = datetime('now', ?) WHERE id = ?",
+                "-" + days + " days",
+                revision
+        );
+    }
+
+    private static String describe(SyncChange change) {
+        return change.entityType() + ":" + change.entityId() + ":" + change.operation();
+    }
+}
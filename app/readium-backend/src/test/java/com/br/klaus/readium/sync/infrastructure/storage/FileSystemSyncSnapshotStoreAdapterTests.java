@@ -0,0 +1,83 @@
+package com.br.klaus.readium.sync.infrastructure.storage;
+
+import com.br.klaus.readium.sync.domain.model.SyncSnapshotFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemSyncSnapshotStoreAdapterTests {
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void shouldKeepTheSupersededSnapshotReadableDuringTheRetention() throws IOException {
+        FileSystemSyncSnapshotStoreAdapter store = new FileSystemSyncSnapshotStoreAdapter(storage.toString(), 600);
+        SyncSnapshotFile first = store.store(1, 3, output -> output.write("r3".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream download = Files.newInputStream(first.path())) {
+            SyncSnapshotFile second = store.store(1, 5, output -> output.write("r5".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(5, store.findLatest(1).orElseThrow().revision());
+            assertEquals("r5", read(second.path()));
+            assertTrue(Files.exists(first.path()));
+            assertEquals("r3", new String(new GZIPInputStream(download).readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void shouldDeleteSnapshotsSupersededLongerThanTheRetention() throws IOException {
+        FileSystemSyncSnapshotStoreAdapter store = new FileSystemSyncSnapshotStoreAdapter(storage.toString(), 600);
+        SyncSnapshotFile oldest = store.store(1, 1, output -> output.write('a'));
+        SyncSnapshotFile previous = store.store(1, 2, output -> output.write('b'));
+        Instant now = Instant.now();
+        setCreatedAt(oldest, now.minus(Duration.ofHours(2)));
+        setCreatedAt(previous, now.minus(Duration.ofMinutes(11)));
+
+        SyncSnapshotFile current = store.store(1, 3, output -> output.write('c'));
+
+        assertFalse(Files.exists(oldest.path()));
+        assertTrue(Files.exists(previous.path()));
+        assertTrue(Files.exists(current.path()));
+
+        setCreatedAt(current, now.minus(Duration.ofMinutes(10)));
+        store.store(1, 4, output -> output.write('d'));
+
+        assertFalse(Files.exists(previous.path()));
+        assertTrue(Files.exists(current.path()));
+    }
+
+    @Test
+    void shouldDeleteSupersededSnapshotsImmediatelyWithoutRetention() throws IOException {
+        FileSystemSyncSnapshotStoreAdapter store = new FileSystemSyncSnapshotStoreAdapter(storage.toString(), 0);
+        SyncSnapshotFile previous = store.store(1, 1, output -> output.write('a'));
+        setCreatedAt(previous, Instant.now().minusSeconds(1));
+
+        store.store(1, 2, output -> output.write('b'));
+
+        assertFalse(Files.exists(previous.path()));
+    }
+
+    private static void setCreatedAt(SyncSnapshotFile snapshot, Instant createdAt) throws IOException {
+        Files.setLastModifiedTime(snapshot.path(), FileTime.from(createdAt));
+    }
+
+    private static String read(Path file) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
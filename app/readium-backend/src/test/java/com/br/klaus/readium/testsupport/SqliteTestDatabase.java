@@ -0,0 +1,176 @@
+package com.br.klaus.readium.testsupport;
+
+import com.br.klaus.readium.book.domain.model.Book;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Banco SQLite em memoria para testes de adaptadores JDBC. As tabelas vem das migracoes reais, executadas
+ * em ordem como o Flyway faria, inclusive o callback {@code beforeMigrate.sql} que cria a tabela {@code book};
+ * depois sao criados os indices do {@code @Table} da entidade, como o Hibernate faria.
+ * Repositorios Spring Data podem ser criados sobre o mesmo banco para exercitar as consultas JPQL.
+ */
+public final class SqliteTestDatabase implements AutoCloseable {
+
+    private final SingleConnectionDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+
+    private SqliteTestDatabase() {
+        this.dataSource = new SingleConnectionDataSource("jdbc:sqlite::memory:", true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public static SqliteTestDatabase migrated() {
+        SqliteTestDatabase database = new SqliteTestDatabase();
+        database.migrateAll();
+        for (Index index : Book.class.getAnnotation(Table.class).indexes()) {
+            database.jdbcTemplate.execute("CREATE " + (index.unique() ? "UNIQUE " : "") + "INDEX IF NOT EXISTS "
+                    + index.name() + " ON book (" + index.columnList() + ")");
+        }
+        return database;
+    }
+
+    private void migrateAll() {
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            ScriptUtils.executeSqlScript(
+                    dataSource.getConnection(),
+                    resolver.getResource("classpath:db/migration/beforeMigrate.sql")
+            );
+            TreeMap<Integer, String> migrations = new TreeMap<>();
+            for (Resource resource : resolver.getResources("classpath:db/migration/V*__*.*")) {
+                String name = resource.getFilename();
+                if (name != null && (name.endsWith(".sql") || (name.endsWith(".class") && !name.contains("$")))) {
+                    migrations.put(Integer.parseInt(name.substring(1, name.indexOf("__"))), name);
+                }
+            }
+            for (String name : migrations.values()) {
+                if (name.endsWith(".sql")) {
+                    migrate(name.substring(0, name.indexOf("__")));
+                } else {
+                    String className = "db.migration." + name.substring(0, name.length() - ".class".length());
+                    migrate((JavaMigration) Class.forName(className).getDeclaredConstructor().newInstance());
+                }
+            }
+        } catch (IOException | SQLException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao executar migracoes", e);
+        }
+    }
+
+    /**
+     * Executa a migracao SQL cuja versao e informada, por exemplo {@code "V19"}.
+     */
+    public SqliteTestDatabase migrate(String version) {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/" + version + "__*.sql");
+            if (scripts.length != 1) {
+                throw new IllegalArgumentException("Migracao nao encontrada: " + version);
+            }
+            Connection connection = dataSource.getConnection();
+            ScriptUtils.executeSqlScript(connection, scripts[0]);
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Falha ao executar migracao " + version, e);
+        }
+        return this;
+    }
+
+    public SqliteTestDatabase migrate(JavaMigration migration) {
+        try {
+            Connection connection = dataSource.getConnection();
+            migration.migrate(new Context() {
+                @Override
+                public Configuration getConfiguration() {
+                    return null;
+                }
+
+                @Override
+                public Connection getConnection() {
+                    return connection;
+                }
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao executar migracao " + migration.getClass().getSimpleName(), e);
+        }
+        return this;
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    public NamedParameterJdbcTemplate namedJdbc() {
+        return namedJdbcTemplate;
+    }
+
+    public PlatformTransactionManager transactionManager() {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    public <R> R jpaRepository(Class<R> repositoryType) {
+        return new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory().getObject())
+        ).getRepository(repositoryType);
+    }
+
+    /**
+     * Executa o trabalho numa transacao JPA, como fariam os metodos {@code @Transactional} dos adaptadores.
+     */
+    public <T> T inJpaTransaction(Supplier<T> work) {
+        return new TransactionTemplate(new JpaTransactionManager(entityManagerFactory().getObject()))
+                .execute(status -> work.get());
+    }
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+        if (entityManagerFactory == null) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.br.klaus.readium");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect",
+                    "hibernate.hbm2ddl.auto", "none",
+                    "hibernate.physical_naming_strategy",
+                    "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"
+            ));
+            factory.afterPropertiesSet();
+            entityManagerFactory = factory;
+        }
+        return entityManagerFactory;
+    }
+
+    @Override
+    public void close() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.destroy();
+        }
+        dataSource.destroy();
+    }
+}